@@ -5,11 +5,13 @@ import java.util.Optional;
 import org.apache.poi.ss.usermodel.Cell;
 
 import com.gh.mygreen.xlsmapper.annotation.XlsCommentOption;
+import com.gh.mygreen.xlsmapper.util.CellAnchorIndex;
 
 /**
  * セルのコメントを操作する
  * <p>シートを書き込む時に、コメントの位置やサイズを任意で指定したい時に独自の実装を指定します。</p>
  *
+ * @version 2.3
  * @since 2.1
  * @author T.TSUCHIE
  *
@@ -24,6 +26,19 @@ public interface CellCommentHandler {
      */
     Optional<String> handleLoad(Cell cell, Optional<XlsCommentOption> commentOption);
     
+    /**
+     * シート読み込み時に、索引を使用してセルのコメントを取得する。
+     * <p>標準では、索引を使用せずに{@link #handleLoad(Cell, Optional)}を呼び出します。</p>
+     * @since 2.3
+     * @param cell コメント取得対象のセル
+     * @param commentOption コメントのオプション
+     * @param anchorIndex 読み込み処理中のシートのコメントの索引。索引がない場合は、nullが渡されます。
+     * @return セルのコメント。コメントがない場合は、空を返す。
+     */
+    default Optional<String> handleLoad(Cell cell, Optional<XlsCommentOption> commentOption, CellAnchorIndex anchorIndex) {
+        return handleLoad(cell, commentOption);
+    }
+    
     /**
      * シート書き込み時にセルのコメントを設定する。
      * @param cell 書込み対象のセル
@@ -15,10 +15,12 @@ import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessor;
 import com.gh.mygreen.xlsmapper.fieldaccessor.MapCommentGetter;
 import com.gh.mygreen.xlsmapper.fieldaccessor.MapCommentSetter;
 import com.gh.mygreen.xlsmapper.util.ArgUtils;
+import com.gh.mygreen.xlsmapper.util.CellAnchorIndex;
 
 /**
  * セルのコメントを操作する。
  * 
+ * @version 2.3
  * @since 2.1
  * @author T.TSUCHIE
  *
@@ -45,7 +47,7 @@ public class CellCommentOperator {
         ArgUtils.notNull(cell, "cell");
         
         Optional<XlsCommentOption> commentOption = field.getAnnotation(XlsCommentOption.class);
-        Optional<String> commentText = resolveCommentHandler(commentOption, config).handleLoad(cell, commentOption);
+        Optional<String> commentText = handleLoad(cell, commentOption, config);
         
         // コメントが設定されているときのみ設定する
         commentText.ifPresent(comment -> commentSetter.set(beanObj, comment));
@@ -88,7 +90,7 @@ public class CellCommentOperator {
         ArgUtils.notNull(cell, "cell");
         
         Optional<XlsCommentOption> commentOption = field.getAnnotation(XlsCommentOption.class);
-        Optional<String> commentText = resolveCommentHandler(commentOption, config).handleLoad(cell, commentOption);
+        Optional<String> commentText = handleLoad(cell, commentOption, config);
         
         // コメントが設定されているときのみ設定する
         commentText.ifPresent(comment -> commentSetter.set(beanObj, comment, key));
@@ -132,7 +134,7 @@ public class CellCommentOperator {
         ArgUtils.notNull(cell, "cell");
         
         Optional<XlsCommentOption> commentOption = field.getAnnotation(XlsCommentOption.class);
-        Optional<String> commentText = resolveCommentHandler(commentOption, config).handleLoad(cell, commentOption);
+        Optional<String> commentText = handleLoad(cell, commentOption, config);
         
         // コメントが設定されているときのみ設定する
         commentText.ifPresent(comment -> commentSetter.set(beanObj, comment, index));
@@ -160,6 +162,21 @@ public class CellCommentOperator {
         
     }
     
+    /**
+     * セルのコメントを取得する。
+     * <p>読み込み処理中のシートの場合は、コメントの索引を{@link CellCommentHandler}に渡す。</p>
+     * @param cell 抽出するセル
+     * @param commentOption セルコメントのオプション
+     * @param config システム設定
+     * @return セルのコメント。コメントがない場合は、空を返す。
+     */
+    private Optional<String> handleLoad(final Cell cell, final Optional<XlsCommentOption> commentOption,
+            final Configuration config) {
+        
+        final CellAnchorIndex anchorIndex = config.getCellAnchorIndexRegistry().find(cell.getSheet()).orElse(null);
+        return resolveCommentHandler(commentOption, config).handleLoad(cell, commentOption, anchorIndex);
+    }
+    
     /**
      * {@link CellCommentHandler}の実装を取得する。
      * @param commentOption セルコメントのオプション
@@ -3,13 +3,14 @@ package com.gh.mygreen.xlsmapper;
 import java.util.Locale;
 
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Sheet;
 
 
 /**
  * セルフォーマッターのインタフェース。
  * <p>標準の実装として{@link DefaultCellFormatter}がある。
  *
- * @version 2.0
+ * @version 2.3
  * @since 0.1
  * @author T.TSUCHIE
  *
@@ -18,12 +19,26 @@ public interface CellFormatter {
 
     /**
      * キャッシュの情報の初期化と設定を行います。
+     * <p>2.3から、読み込み処理では{@link #openSession(Sheet, boolean)}を使用します。</p>
      * @param cached trueのとき、キャッシュを有効にします。
      */
     public default  void init(boolean cached) {
 
     }
 
+    /**
+     * シートの読み込み処理の間、フォーマットした値をキャッシュするセッションを開始します。
+     * <p>標準では、開始時と終了時に{@link #init(boolean)}を呼び出します。</p>
+     * @since 2.3
+     * @param sheet 読み込み対象のシート
+     * @param cached trueのとき、キャッシュを有効にします。
+     * @return 開始したセッション。
+     */
+    public default CellFormatterSession openSession(Sheet sheet, boolean cached) {
+        init(cached);
+        return () -> init(cached);
+    }
+
     /**
      * セルの値を文字列として取得する
      * @param cell 取得対象のセル
@@ -0,0 +1,30 @@
+package com.gh.mygreen.xlsmapper;
+
+import org.apache.poi.ss.usermodel.Sheet;
+
+/**
+ * シートの読み込み処理ごとに、{@link CellFormatter}でフォーマットしたセルの値をキャッシュするセッション。
+ * <p>{@link CellFormatter#openSession(Sheet, boolean)}で開始し、シートの読み込みが終了したら{@link #close()}で終了します。
+ *  キャッシュはセッションを開始したシートのインスタンスごとに保持するため、
+ *  同じ{@link CellFormatter}を複数のスレッドから使用しても、他の読み込み処理のキャッシュを破棄することはありません。
+ * </p>
+ *
+ * @since 2.3
+ * @author T.TSUCHIE
+ *
+ */
+@FunctionalInterface
+public interface CellFormatterSession extends AutoCloseable {
+
+    /**
+     * キャッシュを行わない場合のセッション。
+     */
+    public static final CellFormatterSession NONE = () -> {};
+
+    /**
+     * セッションを終了し、キャッシュを破棄します。
+     */
+    @Override
+    public void close();
+
+}
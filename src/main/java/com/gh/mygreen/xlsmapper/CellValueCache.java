@@ -0,0 +1,216 @@
+package com.gh.mygreen.xlsmapper;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import com.github.mygreen.cellformatter.CellFormatter;
+
+/**
+ * {@link DefaultCellFormatter}で、1つのシートに対してフォーマットした値をキャッシュするクラス。
+ * <p>セルの値は、行番号と列番号を1つの{@literal long}型にまとめたキーで、オープンアドレス法のハッシュテーブルに保持します。
+ *  また、書式のインデックスごとに、解決した<a href="https://github.com/mygreen/excel-cellformatter" target="_blank">excel-cellformatter</a>の
+ *  フォーマッタを保持します。</p>
+ * <p>同じシートを複数のスレッドから読み込む場合を考慮して、各メソッドは同期化しています。</p>
+ *
+ * @since 2.3
+ * @author T.TSUCHIE
+ *
+ */
+class CellValueCache {
+
+    /**
+     * 開始しているセッションの数
+     */
+    int sessionCount;
+
+    /**
+     * 最初に使用されたロケール
+     */
+    private Locale primaryLocale;
+
+    /**
+     * 最初に使用されたロケールに対する値
+     */
+    private ValueTable primaryTable;
+
+    /**
+     * その他のロケールに対する値
+     */
+    private Map<Locale, ValueTable> otherTables;
+
+    /**
+     * 書式のインデックスに対するフォーマッタ
+     */
+    private CellFormatter[] formatters = new CellFormatter[0];
+
+    /**
+     * キャッシュした値を取得します。
+     * @param row 行番号
+     * @param column 列番号
+     * @param locale ロケール
+     * @return キャッシュしていない場合は、nullを返します。
+     */
+    synchronized String get(final int row, final int column, final Locale locale) {
+        final ValueTable table = getTable(locale, false);
+        return table != null ? table.get(toKey(row, column)) : null;
+    }
+
+    /**
+     * 値をキャッシュします。
+     * @param row 行番号
+     * @param column 列番号
+     * @param locale ロケール
+     * @param value フォーマットした値
+     */
+    synchronized void put(final int row, final int column, final Locale locale, final String value) {
+        getTable(locale, true).put(toKey(row, column), value);
+    }
+
+    /**
+     * 書式のインデックスに対するフォーマッタを取得します。
+     * @param formatIndex 書式のインデックス
+     * @return 保持していない場合は、nullを返します。
+     */
+    synchronized CellFormatter getFormatter(final short formatIndex) {
+        final int index = Short.toUnsignedInt(formatIndex);
+        return index < formatters.length ? formatters[index] : null;
+    }
+
+    /**
+     * 書式のインデックスに対するフォーマッタを保持します。
+     * @param formatIndex 書式のインデックス
+     * @param formatter フォーマッタ
+     */
+    synchronized void putFormatter(final short formatIndex, final CellFormatter formatter) {
+        final int index = Short.toUnsignedInt(formatIndex);
+        if(index >= formatters.length) {
+            formatters = Arrays.copyOf(formatters, Math.max(index + 1, formatters.length * 2));
+        }
+        formatters[index] = formatter;
+    }
+
+    /**
+     * キャッシュした値を破棄します。
+     */
+    synchronized void clear() {
+        this.primaryLocale = null;
+        this.primaryTable = null;
+        this.otherTables = null;
+        this.formatters = new CellFormatter[0];
+    }
+
+    private ValueTable getTable(final Locale locale, final boolean create) {
+
+        if(primaryTable == null) {
+            if(create) {
+                this.primaryLocale = locale;
+                this.primaryTable = new ValueTable();
+            }
+            return primaryTable;
+        }
+
+        if(primaryLocale.equals(locale)) {
+            return primaryTable;
+        }
+
+        if(otherTables == null) {
+            if(!create) {
+                return null;
+            }
+            this.otherTables = new HashMap<>();
+        }
+
+        return create ? otherTables.computeIfAbsent(locale, key -> new ValueTable()) : otherTables.get(locale);
+    }
+
+    /**
+     * 行番号と列番号をまとめたキーを作成する。
+     * @param row 行番号
+     * @param column 列番号
+     * @return キー
+     */
+    private static long toKey(final int row, final int column) {
+        return ((long)row << 32) | (column & 0xFFFFFFFFL);
+    }
+
+    /**
+     * {@literal long}型のキーに対する値を保持する、オープンアドレス法（線形探索）のハッシュテーブル。
+     */
+    private static class ValueTable {
+
+        private static final int INITIAL_CAPACITY = 256;
+
+        private long[] keys = new long[INITIAL_CAPACITY];
+
+        /**
+         * キーに対する値。nullの場合は、空き。
+         */
+        private String[] values = new String[INITIAL_CAPACITY];
+
+        private int size;
+
+        String get(final long key) {
+
+            final int mask = keys.length - 1;
+            int index = hash(key) & mask;
+            while(values[index] != null) {
+                if(keys[index] == key) {
+                    return values[index];
+                }
+                index = (index + 1) & mask;
+            }
+
+            return null;
+        }
+
+        void put(final long key, final String value) {
+
+            if(value == null) {
+                return;
+            }
+
+            if((size + 1) * 2 > keys.length) {
+                resize();
+            }
+
+            final int mask = keys.length - 1;
+            int index = hash(key) & mask;
+            while(values[index] != null) {
+                if(keys[index] == key) {
+                    values[index] = value;
+                    return;
+                }
+                index = (index + 1) & mask;
+            }
+
+            keys[index] = key;
+            values[index] = value;
+            size++;
+        }
+
+        private void resize() {
+
+            final long[] oldKeys = keys;
+            final String[] oldValues = values;
+
+            this.keys = new long[oldKeys.length * 2];
+            this.values = new String[oldValues.length * 2];
+            this.size = 0;
+
+            for(int i=0; i < oldKeys.length; i++) {
+                if(oldValues[i] != null) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int hash(final long key) {
+            final long h = key * 0x9E3779B97F4A7C15L;
+            return (int)(h ^ (h >>> 32));
+        }
+
+    }
+
+}
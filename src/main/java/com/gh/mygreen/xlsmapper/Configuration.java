@@ -1,20 +1,32 @@
 package com.gh.mygreen.xlsmapper;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import com.gh.mygreen.xlsmapper.annotation.XlsColumn;
+import com.gh.mygreen.xlsmapper.annotation.XlsHorizontalRecords;
+import com.gh.mygreen.xlsmapper.annotation.XlsRecordOption;
 import com.gh.mygreen.xlsmapper.annotation.XlsSheet;
 import com.gh.mygreen.xlsmapper.cellconverter.CellConverterRegistry;
 import com.gh.mygreen.xlsmapper.expression.ExpressionLanguageJEXLImpl;
 import com.gh.mygreen.xlsmapper.fieldprocessor.FieldProcessorRegistry;
 import com.gh.mygreen.xlsmapper.localization.MessageInterpolator;
+import com.gh.mygreen.xlsmapper.streaming.StreamingWorkbookReader;
+import com.gh.mygreen.xlsmapper.util.ArgUtils;
+import com.gh.mygreen.xlsmapper.util.CellAnchorIndexRegistry;
 import com.gh.mygreen.xlsmapper.validation.SheetBindingErrors;
+import com.gh.mygreen.xlsmapper.xml.AnnotationReader;
 import com.gh.mygreen.xlsmapper.xml.bind.AnnotationMappingInfo;
 
 
 /**
  * マッピングする際の設定などを保持するクラス。
  *
- * @version 2.1
+ * @version 2.3
  * @author T.TSUCHIE
  *
  */
@@ -47,6 +59,36 @@ public class Configuration {
     /** 読み込み時にセルの値のキャッシュを行うかどうか */
     private boolean cacheCellValueOnLoad = true;
 
+    /** 読み込み時に数式を評価した結果で、数式のセルを上書きしないかどうか */
+    private boolean keepFormulaOnLoad = false;
+
+    /** 読み込み時にSAXを使用して少ないメモリで読み込むかどうか */
+    private boolean streamingLoad = false;
+
+    /** SAXを使用して読み込む際に、読み込み対象のシートのみを解析するかどうか */
+    private boolean streamingLoadTargetSheetOnly = false;
+
+    /** 複数のシートを読み込む際に、シートを並列に読み込むためのExecutor */
+    private Executor loadSheetExecutor = null;
+
+    /** 書き込み時にSXSSFを使用して少ないメモリで書き込むかどうか */
+    private boolean streamingSave = false;
+
+    /** 書き込み時にSXSSFを使用する場合の、メモリ上に保持する行数 */
+    private int streamingSaveWindowSize = SXSSFWorkbook.DEFAULT_WINDOW_SIZE;
+
+    /** 書き込み時のテンプレートのキャッシュ */
+    private WorkbookTemplateCache workbookTemplateCache = null;
+
+    /** クラスのマッピング情報のキャッシュを行うかどうか */
+    private boolean cacheMappingPlan = true;
+
+    /** クラスのマッピング情報のキャッシュ */
+    private final Map<Class<?>, SheetMappingPlan> mappingPlanCache = new ConcurrentHashMap<>();
+
+    /** XMLで定義したアノテーション情報を提供するクラスのキャッシュ */
+    private volatile AnnotationReader annotationReader;
+
     /** POIのセルの値のフォーマッター */
     private CellFormatter cellFormatter = new DefaultCellFormatter();
 
@@ -71,6 +113,9 @@ public class Configuration {
     /** セルコメントを操作するクラス */
     private CellCommentOperator commentOperator = new CellCommentOperator();
 
+    /** 読み込み処理中のシートのコメントとハイパーリンクの索引 */
+    private final CellAnchorIndexRegistry cellAnchorIndexRegistry = new CellAnchorIndexRegistry();
+
     /** Beanに対するアノテーションのマッピング情報 */
     private AnnotationMappingInfo annotationMapping = null;
     
@@ -84,6 +129,70 @@ public class Configuration {
         return (P) beanFactory.create(clazz);
     }
 
+    /**
+     * シートにマッピングするクラスの解析結果を取得します。
+     * <p>{@link #isCacheMappingPlan()}がtrueの場合、クラスごとに1度だけ解析を行いキャッシュします。</p>
+     * <p>キャッシュは、{@link #setAnnotationMapping(AnnotationMappingInfo)}、{@link #setFieldProcessorRegistry(FieldProcessorRegistry)}、
+     *  {@link #setBeanFactory(BeanFactory)}を呼び出したときにクリアされます。
+     *  それ以外の方法でマッピング情報を変更した場合は、{@link #clearMappingPlanCache()}を呼び出してください。</p>
+     *
+     * @since 2.3
+     * @param beanClass シートにマッピングするクラス
+     * @return クラスの解析結果
+     * @throws IllegalArgumentException {@literal beanClass == null}
+     * @throws AnnotationInvalidException アノテーションの定義が不正な場合
+     */
+    public SheetMappingPlan getMappingPlan(final Class<?> beanClass) {
+        ArgUtils.notNull(beanClass, "beanClass");
+
+        if(!isCacheMappingPlan()) {
+            return createMappingPlan(beanClass);
+        }
+
+        return mappingPlanCache.computeIfAbsent(beanClass, this::createMappingPlan);
+    }
+
+    private SheetMappingPlan createMappingPlan(final Class<?> beanClass) {
+        return new SheetMappingPlanFactory(getAnnotationReader(), this).create(beanClass);
+    }
+
+    /**
+     * アノテーションの情報を提供するクラスを取得します。
+     * <p>{@link #isCacheMappingPlan()}がtrueの場合、XMLで定義したアノテーションを組み立てた結果を
+     *  複数回の読み込み／書き込みで共有するため、同じインスタンスを返します。</p>
+     *
+     * @since 2.3
+     * @return アノテーションの情報を提供するクラス
+     */
+    public AnnotationReader getAnnotationReader() {
+
+        if(!isCacheMappingPlan()) {
+            return new AnnotationReader(annotationMapping);
+        }
+
+        AnnotationReader reader = annotationReader;
+        if(reader == null) {
+            reader = new AnnotationReader(annotationMapping);
+            this.annotationReader = reader;
+        }
+
+        return reader;
+    }
+
+    /**
+     * クラスのマッピング情報のキャッシュをクリアします。
+     * <p>{@link CellConverterRegistry}にキャッシュしている{@link com.gh.mygreen.xlsmapper.cellconverter.CellConverter}や、
+     *  {@link #getAnnotationReader()}で組み立てたアノテーションもクリアします。</p>
+     * @since 2.3
+     */
+    public void clearMappingPlanCache() {
+        this.mappingPlanCache.clear();
+        this.annotationReader = null;
+        if(converterRegistry != null) {
+            converterRegistry.clearConverterCache();
+        }
+    }
+
     /**
      * シートが見つからなくても無視するかどうか。
      * @return 初期値は、'false'です。
@@ -265,6 +374,214 @@ public class Configuration {
         return this;
     }
 
+    /**
+     * 読み込み時に数式を評価した結果で、数式のセルを上書きしないかどうか。
+     * <p>falseの場合、数式のセルは評価した結果の値で上書きされます。</p>
+     * <p>trueの場合、数式は残したまま、評価した結果の値をセルにキャッシュします。
+     *  上書きしないため、他の数式から参照されている場合でも評価結果を再利用できます。</p>
+     * @since 2.3
+     * @return 初期値は、'false'です。
+     */
+    public boolean isKeepFormulaOnLoad() {
+        return keepFormulaOnLoad;
+    }
+
+    /**
+     * 読み込み時に数式を評価した結果で、数式のセルを上書きしないかどうか設定します。
+     * <p>falseの場合、数式のセルは評価した結果の値で上書きされます。</p>
+     * <p>trueの場合、数式は残したまま、評価した結果の値をセルにキャッシュします。
+     *  上書きしないため、他の数式から参照されている場合でも評価結果を再利用できます。</p>
+     * @since 2.3
+     * @param keepFormulaOnLoad trueのとき、数式のセルを上書きしません。
+     * @return 自身のインスタンス
+     */
+    public Configuration setKeepFormulaOnLoad(boolean keepFormulaOnLoad) {
+        this.keepFormulaOnLoad = keepFormulaOnLoad;
+        return this;
+    }
+
+    /**
+     * 読み込み時にSAXを使用して、少ないメモリでワークブックを読み込むかどうか。
+     * <p>trueの場合、{@link StreamingWorkbookReader}を使用して読み込みます。
+     *  セルのコメントやハイパーリンクが読み込まれないなどの制約があるため、詳細は{@link StreamingWorkbookReader}を参照してください。</p>
+     * <p>シートのXMLをDOMとして保持しない分のメモリを削減しますが、読み込んだシートの全ての行はメモリ上に保持するため、
+     *  メモリ使用量は行数に比例します。読み込み中に保持する行数に上限はありません。</p>
+     * @since 2.3
+     * @return 初期値は、'false'です。
+     */
+    public boolean isStreamingLoad() {
+        return streamingLoad;
+    }
+
+    /**
+     * 読み込み時にSAXを使用して、少ないメモリでワークブックを読み込むかどうか設定します。
+     * <p>trueの場合、{@link StreamingWorkbookReader}を使用して読み込みます。
+     *  セルのコメントやハイパーリンクが読み込まれないなどの制約があるため、詳細は{@link StreamingWorkbookReader}を参照してください。</p>
+     * <p>シートのXMLをDOMとして保持しない分のメモリを削減しますが、読み込んだシートの全ての行はメモリ上に保持するため、
+     *  メモリ使用量は行数に比例します。読み込み中に保持する行数に上限はありません。
+     *  メモリ使用量をさらに抑える場合は、{@link #setStreamingLoadTargetSheetOnly(boolean)}で解析するシートを限定してください。</p>
+     * @since 2.3
+     * @param streamingLoad trueのとき、SAXを使用して読み込みます。
+     * @return 自身のインスタンス
+     */
+    public Configuration setStreamingLoad(boolean streamingLoad) {
+        this.streamingLoad = streamingLoad;
+        return this;
+    }
+
+    /**
+     * SAXを使用して読み込む際に、読み込み対象のシートのみを解析するかどうか。
+     * <p>trueの場合、{@link #isStreamingLoad()}がtrueのときに、アノテーション{@link XlsSheet}の条件に一致するシートのみ
+     *  セルの値を読み込みます。それ以外のシートは空のシートとして扱います。</p>
+     * <p>独自の{@link SheetFinder}で、アノテーションの条件とは異なるシートを参照する場合は、falseを設定してください。</p>
+     * @since 2.3
+     * @return 初期値は、'false'です。
+     */
+    public boolean isStreamingLoadTargetSheetOnly() {
+        return streamingLoadTargetSheetOnly;
+    }
+
+    /**
+     * SAXを使用して読み込む際に、読み込み対象のシートのみを解析するかどうか設定します。
+     * <p>多数のシートを持つワークブックから一部のシートのみを読み込む場合に、読み込み時間とメモリ使用量を削減できます。</p>
+     * @since 2.3
+     * @param streamingLoadTargetSheetOnly trueのとき、読み込み対象のシートのみを解析します。
+     * @return 自身のインスタンス
+     */
+    public Configuration setStreamingLoadTargetSheetOnly(boolean streamingLoadTargetSheetOnly) {
+        this.streamingLoadTargetSheetOnly = streamingLoadTargetSheetOnly;
+        return this;
+    }
+
+    /**
+     * 複数のシートを読み込む際に、シートを並列に読み込むための{@link Executor}を取得します。
+     * <p>設定されている場合、{@link XlsLoader#loadMultipleDetail(java.io.InputStream, Class)}などで、
+     *  シートごとのマッピングを並列に実行します。マッピング結果は、シートの順番で返します。</p>
+     * <p>同じワークブックのシートを複数のスレッドから読み込むため、
+     *  独自に登録した{@link com.gh.mygreen.xlsmapper.cellconverter.CellConverter}や{@link CellFormatter}などは、スレッドセーフである必要があります。</p>
+     * <p>数式のセルは、全てのシートで共有する1つの{@link org.apache.poi.ss.usermodel.FormulaEvaluator}で排他制御して評価するため、
+     *  数式のセルが多い場合は、並列に読み込む効果が小さくなります。</p>
+     * @since 2.3
+     * @return 設定されていない場合は、空を返す。その場合、シートは順番に読み込みます。
+     */
+    public Optional<Executor> getLoadSheetExecutor() {
+        return Optional.ofNullable(loadSheetExecutor);
+    }
+
+    /**
+     * 複数のシートを読み込む際に、シートを並列に読み込むための{@link Executor}を設定します。
+     * <p>{@link java.util.concurrent.ForkJoinPool#commonPool()}や、スレッドプール、仮想スレッドによる{@link Executor}などを指定します。</p>
+     * @since 2.3
+     * @param loadSheetExecutor シートを読み込むExecutor。nullの場合は、シートを順番に読み込みます。
+     * @return 自身のインスタンス
+     */
+    public Configuration setLoadSheetExecutor(Executor loadSheetExecutor) {
+        this.loadSheetExecutor = loadSheetExecutor;
+        return this;
+    }
+
+    /**
+     * 書き込み時に{@link SXSSFWorkbook}を使用して、少ないメモリで表のレコードを書き込むかどうか。
+     * <p>trueの場合、アノテーション{@link XlsHorizontalRecords}の表のレコードは、全ての処理が終わった後に、
+     *  ストリーミング形式で表の末尾へ順に追加します。
+     *  ただし、テンプレートファイルがExcel2007以降の形式（.xlsx）の場合のみ有効です。</p>
+     * <p>ストリーミング形式で書き込む場合、次の制約があります。</p>
+     * <ul>
+     *   <li>1つのシートにつき、表は1つのみで、シートの最も下に配置されている必要があります。
+     *     表のデータ行の開始位置より下にあるテンプレートの行は削除されます。</li>
+     *   <li>レコードは常に行を追加して書き込むため、{@link XlsRecordOption}の指定は無視されます。
+     *     書式は、テンプレートのデータ行の1行目のものを使用します。</li>
+     *   <li>行の挿入を行わないため、入力規則、名前の定義、結合の補正は行いません。
+     *     そのため、{@link #isCorrectCellDataValidationOnSave()}、{@link #isCorrectNameRangeOnSave()}の設定は無視されます。</li>
+     *   <li>{@link XlsColumn#merged()}によるセルの結合、セルのコメントの書き込みは行いません。</li>
+     *   <li>{@literal @XlsMapColumns}、{@literal @XlsArrayColumns}、{@literal @XlsNestedRecords}を持つレコードはサポートしていません。</li>
+     *   <li>レコードの{@literal @XlsPostSave}のメソッドは、シートの{@literal @XlsPostSave}のメソッドの後に、レコードの書き込みごとに実行されます。</li>
+     * </ul>
+     * @since 2.3
+     * @return 初期値は、'false'です。
+     */
+    public boolean isStreamingSave() {
+        return streamingSave;
+    }
+
+    /**
+     * 書き込み時に{@link SXSSFWorkbook}を使用して、少ないメモリで表のレコードを書き込むかどうか設定します。
+     * <p>制約の詳細は、{@link #isStreamingSave()}を参照してください。</p>
+     * @since 2.3
+     * @param streamingSave trueのとき、ストリーミング形式で書き込みます。
+     * @return 自身のインスタンス
+     */
+    public Configuration setStreamingSave(boolean streamingSave) {
+        this.streamingSave = streamingSave;
+        return this;
+    }
+
+    /**
+     * 書き込み時に{@link SXSSFWorkbook}を使用する場合の、メモリ上に保持する行数を取得します。
+     * @since 2.3
+     * @return 初期値は、{@link SXSSFWorkbook#DEFAULT_WINDOW_SIZE}(100)です。
+     */
+    public int getStreamingSaveWindowSize() {
+        return streamingSaveWindowSize;
+    }
+
+    /**
+     * 書き込み時に{@link SXSSFWorkbook}を使用する場合の、メモリ上に保持する行数を設定します。
+     * @since 2.3
+     * @param streamingSaveWindowSize メモリ上に保持する行数。1以上の値を指定します。
+     * @return 自身のインスタンス
+     * @throws IllegalArgumentException {@literal streamingSaveWindowSize < 1}
+     */
+    public Configuration setStreamingSaveWindowSize(int streamingSaveWindowSize) {
+        ArgUtils.notMin(streamingSaveWindowSize, 1, "streamingSaveWindowSize");
+        this.streamingSaveWindowSize = streamingSaveWindowSize;
+        return this;
+    }
+
+    /**
+     * 書き込み時のテンプレートのキャッシュを取得します。
+     * <p>設定されている場合、{@link XlsSaver}は、テンプレートのファイルをキャッシュから読み込みます。</p>
+     * @since 2.3
+     * @return 設定されていない場合は、空を返す。その場合、書き込みごとにテンプレートのファイルを読み込みます。
+     */
+    public Optional<WorkbookTemplateCache> getWorkbookTemplateCache() {
+        return Optional.ofNullable(workbookTemplateCache);
+    }
+
+    /**
+     * 書き込み時のテンプレートのキャッシュを設定します。
+     * <p>同じテンプレートのファイルから繰り返し書き込む場合に、書き込みごとのテンプレートの読み込み処理を軽減できます。</p>
+     * @since 2.3
+     * @param workbookTemplateCache テンプレートのキャッシュ。nullの場合は、キャッシュを使用しません。
+     * @return 自身のインスタンス
+     */
+    public Configuration setWorkbookTemplateCache(WorkbookTemplateCache workbookTemplateCache) {
+        this.workbookTemplateCache = workbookTemplateCache;
+        return this;
+    }
+
+    /**
+     * シートにマッピングするクラスの解析結果をキャッシュするかどうか。
+     * @since 2.3
+     * @return 初期値は、'true'です。
+     */
+    public boolean isCacheMappingPlan() {
+        return cacheMappingPlan;
+    }
+
+    /**
+     * シートにマッピングするクラスの解析結果をキャッシュするかどうか設定します。
+     * <p>アノテーションのマッピング情報を動的に変更する場合などは、falseを設定します。</p>
+     * @since 2.3
+     * @param cacheMappingPlan trueのときキャッシュを行います。
+     * @return 自身のインスタンス
+     */
+    public Configuration setCacheMappingPlan(boolean cacheMappingPlan) {
+        this.cacheMappingPlan = cacheMappingPlan;
+        clearMappingPlanCache();
+        return this;
+    }
+
     /**
      * POIのセルのフォーマッターを取得します。
      * @return セルのフォーマッタ。
@@ -315,6 +632,7 @@ public class Configuration {
      */
     public Configuration setFieldProcessorRegistry(FieldProcessorRegistry fieldProcessorRegistry) {
         this.fieldProcessorRegistry = fieldProcessorRegistry;
+        clearMappingPlanCache();
         return this;
     }
 
@@ -324,6 +642,7 @@ public class Configuration {
      */
     public Configuration setBeanFactory(BeanFactory<Class<?>, Object> beanFactory) {
         this.beanFactory = beanFactory;
+        clearMappingPlanCache();
         return this;
     }
 
@@ -416,6 +735,7 @@ public class Configuration {
      */
     public void setAnnotationMapping(AnnotationMappingInfo annotationMapping) {
         this.annotationMapping = annotationMapping;
+        clearMappingPlanCache();
     }
 
     /**
@@ -438,4 +758,14 @@ public class Configuration {
         return this;
     }
 
+    /**
+     * 読み込み処理中のシートの、コメントとハイパーリンクの索引を管理するクラスを取得します。
+     * <p>索引は、このインスタンスを使用して読み込んでいるシートに対してのみ保持します。</p>
+     * @since 2.3
+     * @return 索引を管理するクラス
+     */
+    public CellAnchorIndexRegistry getCellAnchorIndexRegistry() {
+        return cellAnchorIndexRegistry;
+    }
+
 }
@@ -20,11 +20,13 @@ import org.slf4j.LoggerFactory;
 
 import com.gh.mygreen.xlsmapper.annotation.XlsCommentOption;
 import com.gh.mygreen.xlsmapper.util.ArgUtils;
+import com.gh.mygreen.xlsmapper.util.CellAnchorIndex;
 import com.gh.mygreen.xlsmapper.util.CellPosition;
 
 /**
  * {@link CellCommentHandler}の標準の実装。
  *
+ * @version 2.3
  * @since 2.1
  * @author T.TSUCHIE
  *
@@ -59,8 +61,22 @@ public class DefaultCellCommentHandler implements CellCommentHandler {
     
     @Override
     public Optional<String> handleLoad(final Cell cell, Optional<XlsCommentOption> commentOption) {
+        return handleLoad(cell, commentOption, null);
+    }
+    
+    /**
+     * {@inheritDoc}
+     * <p>このクラスを継承している場合は、オーバーライドした{@link #handleLoad(Cell, Optional)}の処理を優先するため、索引を使用しません。</p>
+     */
+    @Override
+    public Optional<String> handleLoad(final Cell cell, final Optional<XlsCommentOption> commentOption,
+            final CellAnchorIndex anchorIndex) {
+        
+        if(anchorIndex != null && getClass() != DefaultCellCommentHandler.class) {
+            return handleLoad(cell, commentOption);
+        }
         
-        Comment comment = getMergedCellComment(cell);
+        Comment comment = getMergedCellComment(cell, anchorIndex);
         if(comment == null) {
             return Optional.empty();
         }
@@ -72,15 +88,21 @@ public class DefaultCellCommentHandler implements CellCommentHandler {
     /**
      * 結合を考慮したセルのコメントを取得する。
      * @param cell 元となるセル。
+     * @param anchorIndex コメントの索引。nullの場合は、シートの結合情報を走査して取得する。
      * @return コメント。コメントが設定されていなければ、nullを返す。
      */
-    private Comment getMergedCellComment(final Cell cell) {
+    private Comment getMergedCellComment(final Cell cell, final CellAnchorIndex anchorIndex) {
+        
+        final Sheet sheet = cell.getSheet();
+        if(anchorIndex != null && anchorIndex.getSheet() == sheet) {
+            return anchorIndex.getMergedCellComment(cell.getRowIndex(), cell.getColumnIndex());
+        }
+        
         Comment comment = cell.getCellComment();
         if(comment != null) {
             return comment;
         }
         
-        final Sheet sheet = cell.getSheet();
         final int size = sheet.getNumMergedRegions();
         
         for(int i=0; i < size; i++) {
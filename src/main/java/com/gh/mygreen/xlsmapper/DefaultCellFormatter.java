@@ -3,8 +3,11 @@ package com.gh.mygreen.xlsmapper;
 import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Sheet;
 
 import com.github.mygreen.cellformatter.FormatterResolver;
 import com.github.mygreen.cellformatter.POICell;
@@ -14,8 +17,10 @@ import com.github.mygreen.cellformatter.POICellFormatter;
 /**
  * 標準のセルフォーマッター。
  * 書式をフォーマットするライブラリ、<a href="https://github.com/mygreen/excel-cellformatter" target="_blank">excel-cellformatter</a>を利用する。
+ * <p>フォーマットした値は、{@link #openSession(Sheet, boolean)}で開始したセッションの間、シートのインスタンスごとにキャッシュします。
+ *  そのため、1つのインスタンスを複数のスレッドで共有できます。</p>
  *
- * @version 2.0
+ * @version 2.3
  * @since 0.5
  * @author T.TSUCHIE
  *
@@ -28,9 +33,9 @@ public class DefaultCellFormatter implements CellFormatter {
     private boolean cached;
 
     /**
-     * 値のキャッシュ
+     * セッションを開始したシートに対する値のキャッシュ
      */
-    private Map<String, String> cacheData = new ConcurrentHashMap<>();
+    private final Map<Sheet, CellValueCache> cacheData = new ConcurrentHashMap<>();
 
     private POICellFormatter poiCellFormatter = new POICellFormatter();
 
@@ -40,6 +45,31 @@ public class DefaultCellFormatter implements CellFormatter {
         clearCacheData();
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>同じシートに対して複数のセッションを開始した場合は、キャッシュを共有し、全てのセッションが終了したときに破棄します。</p>
+     */
+    @Override
+    public CellFormatterSession openSession(final Sheet sheet, final boolean cached) {
+
+        if(!cached) {
+            return CellFormatterSession.NONE;
+        }
+
+        cacheData.compute(sheet, (key, cache) -> {
+            final CellValueCache current = (cache != null) ? cache : new CellValueCache();
+            current.sessionCount++;
+            return current;
+        });
+
+        final AtomicBoolean closed = new AtomicBoolean(false);
+        return () -> {
+            if(closed.compareAndSet(false, true)) {
+                cacheData.computeIfPresent(sheet, (key, cache) -> --cache.sessionCount > 0 ? cache : null);
+            }
+        };
+    }
+
     @Override
     public String format(final Cell cell) {
         return format(cell, Locale.getDefault());
@@ -48,33 +78,70 @@ public class DefaultCellFormatter implements CellFormatter {
     @Override
     public String format(final Cell cell, final Locale locale) {
 
-        if(isCached()) {
-            final String cachedKey = createKey(cell, locale);
-            return cacheData.computeIfAbsent(cachedKey, key -> poiCellFormatter.formatAsString(cell, locale));
+        final CellValueCache cache = (cell != null && !cacheData.isEmpty()) ? cacheData.get(cell.getSheet()) : null;
+        if(cache == null) {
+            return poiCellFormatter.formatAsString(cell, locale);
+        }
 
-        } else {
+        String value = cache.get(cell.getRowIndex(), cell.getColumnIndex(), locale);
+        if(value == null) {
+            value = formatWithCache(cell, locale, cache);
+            cache.put(cell.getRowIndex(), cell.getColumnIndex(), locale, value);
+        }
+
+        return value;
+    }
+
+    /**
+     * 書式に対するフォーマッタをキャッシュしてフォーマットする。
+     * <p>{@link POICellFormatter}と同様に、文字列、数値、ブール型のセルは書式に対するフォーマッタでフォーマットする。
+     *  その他のセルは、{@link POICellFormatter}でフォーマットする。</p>
+     * @param cell フォーマット対象のセル
+     * @param locale ロケール
+     * @param cache シートのキャッシュ
+     * @return フォーマットした文字列
+     */
+    private String formatWithCache(final Cell cell, final Locale locale, final CellValueCache cache) {
+
+        final CellType cellType = cell.getCellType();
+        if(cellType != CellType.STRING && cellType != CellType.NUMERIC && cellType != CellType.BOOLEAN) {
             return poiCellFormatter.formatAsString(cell, locale);
         }
+
+        final POICell poiCell = new POICell(cell);
+        final short formatIndex = poiCell.getFormatIndex();
+
+        com.github.mygreen.cellformatter.CellFormatter formatter = cache.getFormatter(formatIndex);
+        if(formatter == null) {
+            formatter = resolveFormatter(formatIndex, poiCell.getFormatPattern());
+            cache.putFormatter(formatIndex, formatter);
+        }
+
+        return formatter.format(poiCell, locale).getText();
     }
 
     /**
-     * キャッシュのキーを作成する。
-     * @param cell
-     * @param locale
-     * @return
+     * 書式に対するフォーマッタを取得する。
+     * @param formatIndex 書式のインデックス
+     * @param formatPattern 書式
+     * @return フォーマッタ
      */
-    private String createKey(final Cell cell, final Locale locale) {
+    private com.github.mygreen.cellformatter.CellFormatter resolveFormatter(final short formatIndex, final String formatPattern) {
 
-        if(cell == null) {
-            return "empty_cell_value";
+        final FormatterResolver formatterResolver = poiCellFormatter.getFormatterResolver();
+        if(formatterResolver.canResolve(formatIndex)) {
+            return formatterResolver.getFormatter(formatIndex);
+
+        } else if(formatterResolver.canResolve(formatPattern)) {
+            return formatterResolver.getFormatter(formatPattern);
         }
 
-        StringBuilder sb = new StringBuilder();
-        sb.append(":sheet=").append(cell.getSheet().getSheetName());
-        sb.append(":address=").append(cell.getAddress().formatAsString());
-        sb.append(":locale=").append(locale.toString());
+        final com.github.mygreen.cellformatter.CellFormatter formatter = formatterResolver.createFormatter(formatPattern);
+        if(poiCellFormatter.isCache()) {
+            formatterResolver.registerFormatter(formatPattern, formatter);
+        }
 
-        return sb.toString();
+        return formatter;
     }
 
     /**
@@ -95,6 +162,7 @@ public class DefaultCellFormatter implements CellFormatter {
 
     /**
      * 値をキャッシュするかどうか。
+     * <p>2.3から、キャッシュの有無は{@link #openSession(Sheet, boolean)}で指定します。</p>
      * @return trueのときキャッシュする。
      */
     public boolean isCached() {
@@ -111,9 +179,10 @@ public class DefaultCellFormatter implements CellFormatter {
 
     /**
      * キャッシュをクリアします。
+     * <p>開始しているセッションは終了せず、キャッシュした値のみを破棄します。</p>
      */
     public void clearCacheData() {
-        this.cacheData.clear();
+        this.cacheData.values().forEach(CellValueCache::clear);
     }
 
     @Override
@@ -4,9 +4,14 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.FormulaEvaluator;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
 
 import com.gh.mygreen.xlsmapper.cellconverter.TypeBindException;
 import com.gh.mygreen.xlsmapper.util.CellPosition;
+import com.gh.mygreen.xlsmapper.util.MergedRegionIndex;
+import com.gh.mygreen.xlsmapper.util.SheetLabelIndex;
 import com.gh.mygreen.xlsmapper.validation.SheetBindingErrors;
 import com.gh.mygreen.xlsmapper.xml.AnnotationReader;
 
@@ -23,6 +28,14 @@ public class LoadingWorkObject {
     
     private SheetBindingErrors<?> errors;
     
+    private SheetLabelIndex labelIndex;
+    
+    private MergedRegionIndex mergedRegionIndex;
+    
+    private Workbook evaluatorWorkbook;
+    
+    private FormulaEvaluator formulaEvaluator;
+    
     public AnnotationReader getAnnoReader() {
         return annoReader;
     }
@@ -47,6 +60,72 @@ public class LoadingWorkObject {
         this.errors = errors;
     }
     
+    /**
+     * ラベルを検索するためのセルの位置の索引を取得します。
+     * <p>索引はシートごとに1度だけ作成し、処理中は使い回します。</p>
+     * @since 2.3
+     * @param sheet 処理対象のシート
+     * @param config システム設定
+     * @return セルの位置の索引
+     */
+    public SheetLabelIndex getLabelIndex(final Sheet sheet, final Configuration config) {
+        if(labelIndex == null || labelIndex.getSheet() != sheet) {
+            this.labelIndex = new SheetLabelIndex(sheet, config);
+        }
+        return labelIndex;
+    }
+    
+    /**
+     * セルの位置の索引を破棄します。
+     * <p>シートの行や列の挿入・削除を行った場合に呼び出し、次回参照時に索引を作り直します。</p>
+     * @since 2.3
+     */
+    public void clearLabelIndex() {
+        this.labelIndex = null;
+    }
+    
+    /**
+     * セルの結合情報の索引を取得します。
+     * <p>索引はシートごとに1度だけ作成し、処理中は使い回します。</p>
+     * @since 2.3
+     * @param sheet 処理対象のシート
+     * @return 結合情報の索引
+     */
+    public MergedRegionIndex getMergedRegionIndex(final Sheet sheet) {
+        if(mergedRegionIndex == null || mergedRegionIndex.getSheet() != sheet) {
+            this.mergedRegionIndex = new MergedRegionIndex(sheet);
+        }
+        return mergedRegionIndex;
+    }
+    
+    /**
+     * 数式を評価する{@link FormulaEvaluator}を取得します。
+     * <p>ワークブックごとに1度だけ作成し、処理中は使い回します。
+     *  そのため、評価結果のキャッシュを、複数の数式のセルの評価で共有できます。</p>
+     * @since 2.3
+     * @param workbook 処理対象のワークブック
+     * @return 数式を評価するインスタンス
+     */
+    public FormulaEvaluator getFormulaEvaluator(final Workbook workbook) {
+        if(formulaEvaluator == null || evaluatorWorkbook != workbook) {
+            this.formulaEvaluator = workbook.getCreationHelper().createFormulaEvaluator();
+            this.evaluatorWorkbook = workbook;
+        }
+        return formulaEvaluator;
+    }
+    
+    /**
+     * 数式を評価する{@link FormulaEvaluator}を設定します。
+     * <p>シートを並列に読み込む場合に、同じワークブックのシート間でインスタンスを共有するために使用します。</p>
+     * @since 2.3
+     * @param workbook 処理対象のワークブック
+     * @param formulaEvaluator 数式を評価するインスタンス
+     */
+    public void setFormulaEvaluator(final Workbook workbook, final FormulaEvaluator formulaEvaluator) {
+        this.formulaEvaluator = formulaEvaluator;
+        this.evaluatorWorkbook = workbook;
+    }
+    
     /**
      * 型変換エラーを追加します。
      * @param bindException 型変換エラー
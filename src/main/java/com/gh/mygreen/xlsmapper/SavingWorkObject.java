@@ -4,9 +4,16 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
 
+import com.gh.mygreen.xlsmapper.cellconverter.CellStyleCache;
 import com.gh.mygreen.xlsmapper.cellconverter.TypeBindException;
+import com.gh.mygreen.xlsmapper.fieldprocessor.StreamingRecordsWriter;
+import com.gh.mygreen.xlsmapper.fieldprocessor.impl.RecordOperationCorrector;
 import com.gh.mygreen.xlsmapper.util.CellPosition;
+import com.gh.mygreen.xlsmapper.util.MergedRegionIndex;
+import com.gh.mygreen.xlsmapper.util.SheetLabelIndex;
 import com.gh.mygreen.xlsmapper.validation.SheetBindingErrors;
 import com.gh.mygreen.xlsmapper.xml.AnnotationReader;
 
@@ -20,8 +27,18 @@ public class SavingWorkObject {
     
     private final List<NeedProcess> needPostProcesses = new ArrayList<>();
     
+    private final List<StreamingRecordsWriter> streamingRecordsWriters = new ArrayList<>();
+    
+    private final RecordOperationCorrector recordOperationCorrector = new RecordOperationCorrector();
+    
     private SheetBindingErrors<?> errors;
     
+    private SheetLabelIndex labelIndex;
+    
+    private MergedRegionIndex mergedRegionIndex;
+    
+    private CellStyleCache cellStyleCache;
+    
     public AnnotationReader getAnnoReader() {
         return annoReader;
     }
@@ -38,6 +55,34 @@ public class SavingWorkObject {
         return needPostProcesses;
     }
     
+    /**
+     * ストリーミング形式でレコードを書き込む処理を追加します。
+     * @since 2.3
+     * @param writer レコードを書き込む処理
+     */
+    public void addStreamingRecordsWriter(StreamingRecordsWriter writer) {
+        this.streamingRecordsWriters.add(writer);
+    }
+    
+    /**
+     * ストリーミング形式でレコードを書き込む処理を取得します。
+     * @since 2.3
+     * @return 登録された順番のリスト
+     */
+    public List<StreamingRecordsWriter> getStreamingRecordsWriters() {
+        return streamingRecordsWriters;
+    }
+    
+    /**
+     * レコードの操作による、入力規則と名前の定義の範囲の修正を取得します。
+     * <p>表の処理で操作を登録し、シートの処理の最後にまとめて修正します。</p>
+     * @since 2.3
+     * @return 入力規則と名前の定義の範囲の修正
+     */
+    public RecordOperationCorrector getRecordOperationCorrector() {
+        return recordOperationCorrector;
+    }
+    
     public SheetBindingErrors<?> getErrors() {
         return errors;
     }
@@ -46,6 +91,67 @@ public class SavingWorkObject {
         this.errors = errors;
     }
     
+    /**
+     * ラベルを検索するためのセルの位置の索引を取得します。
+     * <p>索引はシートごとに1度だけ作成し、処理中は使い回します。</p>
+     * @since 2.3
+     * @param sheet 処理対象のシート
+     * @param config システム設定
+     * @return セルの位置の索引
+     */
+    public SheetLabelIndex getLabelIndex(final Sheet sheet, final Configuration config) {
+        if(labelIndex == null || labelIndex.getSheet() != sheet) {
+            this.labelIndex = new SheetLabelIndex(sheet, config);
+        }
+        return labelIndex;
+    }
+    
+    /**
+     * セルの位置の索引を破棄します。
+     * <p>シートの行や列の挿入・削除を行った場合に呼び出し、次回参照時に索引を作り直します。</p>
+     * @since 2.3
+     */
+    public void clearLabelIndex() {
+        this.labelIndex = null;
+    }
+    
+    /**
+     * セルの結合情報の索引を取得します。
+     * <p>索引はシートごとに1度だけ作成し、処理中は使い回します。</p>
+     * @since 2.3
+     * @param sheet 処理対象のシート
+     * @return 結合情報の索引
+     */
+    public MergedRegionIndex getMergedRegionIndex(final Sheet sheet) {
+        if(mergedRegionIndex == null || mergedRegionIndex.getSheet() != sheet) {
+            this.mergedRegionIndex = new MergedRegionIndex(sheet);
+        }
+        return mergedRegionIndex;
+    }
+    
+    /**
+     * セルの結合情報の索引を破棄します。
+     * <p>セルの結合・解除や、行や列の挿入・削除を行った場合に呼び出し、次回参照時に索引を作り直します。</p>
+     * @since 2.3
+     */
+    public void clearMergedRegionIndex() {
+        this.mergedRegionIndex = null;
+    }
+    
+    /**
+     * 書き込み時に作成したセルのスタイルのキャッシュを取得します。
+     * <p>キャッシュは処理中のみ保持し、同じ変更を行うセル間でスタイルを共有します。</p>
+     * @since 2.3
+     * @param workbook 処理対象のワークブック
+     * @return セルのスタイルのキャッシュ
+     */
+    public CellStyleCache getCellStyleCache(final Workbook workbook) {
+        if(cellStyleCache == null || cellStyleCache.getWorkbook() != workbook) {
+            this.cellStyleCache = new CellStyleCache(workbook);
+        }
+        return cellStyleCache;
+    }
+    
     /**
      * 型変換エラーを追加します。
      * @param bindException 型変換エラー
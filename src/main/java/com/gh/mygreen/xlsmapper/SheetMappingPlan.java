@@ -0,0 +1,231 @@
+package com.gh.mygreen.xlsmapper;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessorProxy;
+import com.gh.mygreen.xlsmapper.util.ArgUtils;
+import com.gh.mygreen.xlsmapper.xml.AnnotationReader;
+
+/**
+ * シートにマッピングするクラスの解析結果を保持するクラス。
+ * <p>アノテーションの読み込みや{@link FieldAccessorProxy}の組み立てを、クラスごとに1度だけ行うために使用します。</p>
+ * <p>インスタンスは{@link SheetMappingPlanFactory}から作成し、{@link Configuration}でキャッシュします。
+ *  作成後は変更されないため、複数のスレッドから参照できます。</p>
+ *
+ * @since 2.3
+ * @author T.TSUCHIE
+ *
+ */
+public class SheetMappingPlan {
+
+    /**
+     * マッピング対象のクラス
+     */
+    private final Class<?> beanClass;
+
+    /**
+     * 処理順に並び替え済みのフィールド情報
+     */
+    final List<FieldAccessorProxy> accessorProxies;
+
+    /**
+     * リスナークラスの情報
+     */
+    final List<ListenerMethods> listeners;
+
+    /**
+     * クラスに定義された PreLoad用のメソッド
+     */
+    final List<Method> preLoadMethods;
+
+    /**
+     * クラスに定義された PostLoad用のメソッド
+     */
+    final List<Method> postLoadMethods;
+
+    /**
+     * クラスに定義された PreSave用のメソッド
+     */
+    final List<Method> preSaveMethods;
+
+    /**
+     * クラスに定義された PostSave用のメソッド
+     */
+    final List<Method> postSaveMethods;
+
+    SheetMappingPlan(final Class<?> beanClass, final List<FieldAccessorProxy> accessorProxies,
+            final List<ListenerMethods> listeners,
+            final List<Method> preLoadMethods, final List<Method> postLoadMethods,
+            final List<Method> preSaveMethods, final List<Method> postSaveMethods) {
+
+        this.beanClass = beanClass;
+        this.accessorProxies = Collections.unmodifiableList(accessorProxies);
+        this.listeners = Collections.unmodifiableList(listeners);
+        this.preLoadMethods = Collections.unmodifiableList(preLoadMethods);
+        this.postLoadMethods = Collections.unmodifiableList(postLoadMethods);
+        this.preSaveMethods = Collections.unmodifiableList(preSaveMethods);
+        this.postSaveMethods = Collections.unmodifiableList(postSaveMethods);
+    }
+
+    /**
+     * マッピング対象のクラスを取得します。
+     * @return マッピング対象のクラス
+     */
+    public Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    /**
+     * 処理順に並び替え済みのフィールド情報を取得します。
+     * @return 変更不可なリスト
+     */
+    public List<FieldAccessorProxy> getAccessorProxies() {
+        return accessorProxies;
+    }
+
+    /**
+     * アノテーション{@link com.gh.mygreen.xlsmapper.annotation.XlsListener}で指定されたリスナークラスの情報を取得します。
+     * @return 変更不可なリスト
+     */
+    public List<ListenerMethods> getListeners() {
+        return listeners;
+    }
+
+    /**
+     * クラスに定義されたアノテーション{@link com.gh.mygreen.xlsmapper.annotation.XlsPreLoad}が付与されたメソッドを取得します。
+     * @return 変更不可なリスト
+     */
+    public List<Method> getPreLoadMethods() {
+        return preLoadMethods;
+    }
+
+    /**
+     * クラスに定義されたアノテーション{@link com.gh.mygreen.xlsmapper.annotation.XlsPostLoad}が付与されたメソッドを取得します。
+     * @return 変更不可なリスト
+     */
+    public List<Method> getPostLoadMethods() {
+        return postLoadMethods;
+    }
+
+    /**
+     * クラスに定義されたアノテーション{@link com.gh.mygreen.xlsmapper.annotation.XlsPreSave}が付与されたメソッドを取得します。
+     * @return 変更不可なリスト
+     */
+    public List<Method> getPreSaveMethods() {
+        return preSaveMethods;
+    }
+
+    /**
+     * クラスに定義されたアノテーション{@link com.gh.mygreen.xlsmapper.annotation.XlsPostSave}が付与されたメソッドを取得します。
+     * @return 変更不可なリスト
+     */
+    public List<Method> getPostSaveMethods() {
+        return postSaveMethods;
+    }
+
+    /**
+     * リスナークラスとそのコールバック用のメソッドを保持します。
+     * <p>リスナークラスのインスタンスは状態を持つ可能性があるため、保持しません。</p>
+     * <p>{@link Configuration#createBean(Class)}でサブクラスやプロキシのインスタンスが作成された場合は、
+     *  {@link #resolve(Object)}で実際のクラスから抽出し直したメソッドを使用します。</p>
+     *
+     */
+    public static class ListenerMethods {
+
+        private final AnnotationReader annoReader;
+
+        private final Class<?> listenerClass;
+
+        final List<Method> preLoadMethods;
+
+        final List<Method> postLoadMethods;
+
+        final List<Method> preSaveMethods;
+
+        final List<Method> postSaveMethods;
+
+        /**
+         * インスタンスの実際のクラスごとに抽出したメソッドのキャッシュ
+         */
+        private final Map<Class<?>, ListenerMethods> runtimeMethods = new ConcurrentHashMap<>();
+
+        ListenerMethods(final AnnotationReader annoReader, final Class<?> listenerClass,
+                final List<Method> preLoadMethods, final List<Method> postLoadMethods,
+                final List<Method> preSaveMethods, final List<Method> postSaveMethods) {
+            ArgUtils.notNull(annoReader, "annoReader");
+            ArgUtils.notNull(listenerClass, "listenerClass");
+
+            this.annoReader = annoReader;
+            this.listenerClass = listenerClass;
+            this.preLoadMethods = Collections.unmodifiableList(preLoadMethods);
+            this.postLoadMethods = Collections.unmodifiableList(postLoadMethods);
+            this.preSaveMethods = Collections.unmodifiableList(preSaveMethods);
+            this.postSaveMethods = Collections.unmodifiableList(postSaveMethods);
+        }
+
+        /**
+         * アノテーション{@link com.gh.mygreen.xlsmapper.annotation.XlsListener}で指定されたリスナークラスを取得します。
+         * @return リスナークラス
+         */
+        public Class<?> getListenerClass() {
+            return listenerClass;
+        }
+
+        /**
+         * インスタンスの実際のクラスに対するコールバック用のメソッドの情報を取得します。
+         * <p>インスタンスのクラスが{@link #getListenerClass()}と異なる場合は、そのクラスの public メソッドから抽出し直します。</p>
+         * @param listenerObj リスナークラスのインスタンス
+         * @return インスタンスのクラスに対する情報
+         * @throws IllegalArgumentException {@literal listenerObj == null.}
+         */
+        public ListenerMethods resolve(final Object listenerObj) {
+            ArgUtils.notNull(listenerObj, "listenerObj");
+
+            final Class<?> runtimeClass = listenerObj.getClass();
+            if(runtimeClass.equals(listenerClass)) {
+                return this;
+            }
+
+            return runtimeMethods.computeIfAbsent(runtimeClass,
+                    key -> SheetMappingPlanFactory.createListenerMethods(annoReader, key));
+        }
+
+        /**
+         * リスナークラスに定義されたアノテーション{@link com.gh.mygreen.xlsmapper.annotation.XlsPreLoad}が付与されたメソッドを取得します。
+         * @return 変更不可なリスト
+         */
+        public List<Method> getPreLoadMethods() {
+            return preLoadMethods;
+        }
+
+        /**
+         * リスナークラスに定義されたアノテーション{@link com.gh.mygreen.xlsmapper.annotation.XlsPostLoad}が付与されたメソッドを取得します。
+         * @return 変更不可なリスト
+         */
+        public List<Method> getPostLoadMethods() {
+            return postLoadMethods;
+        }
+
+        /**
+         * リスナークラスに定義されたアノテーション{@link com.gh.mygreen.xlsmapper.annotation.XlsPreSave}が付与されたメソッドを取得します。
+         * @return 変更不可なリスト
+         */
+        public List<Method> getPreSaveMethods() {
+            return preSaveMethods;
+        }
+
+        /**
+         * リスナークラスに定義されたアノテーション{@link com.gh.mygreen.xlsmapper.annotation.XlsPostSave}が付与されたメソッドを取得します。
+         * @return 変更不可なリスト
+         */
+        public List<Method> getPostSaveMethods() {
+            return postSaveMethods;
+        }
+
+    }
+
+}
@@ -0,0 +1,214 @@
+package com.gh.mygreen.xlsmapper;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.gh.mygreen.xlsmapper.annotation.XlsFieldProcessor;
+import com.gh.mygreen.xlsmapper.annotation.XlsListener;
+import com.gh.mygreen.xlsmapper.annotation.XlsPostLoad;
+import com.gh.mygreen.xlsmapper.annotation.XlsPostSave;
+import com.gh.mygreen.xlsmapper.annotation.XlsPreLoad;
+import com.gh.mygreen.xlsmapper.annotation.XlsPreSave;
+import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessor;
+import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessorFactory;
+import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessorProxy;
+import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessorProxyComparator;
+import com.gh.mygreen.xlsmapper.fieldprocessor.FieldProcessor;
+import com.gh.mygreen.xlsmapper.localization.MessageBuilder;
+import com.gh.mygreen.xlsmapper.util.ArgUtils;
+import com.gh.mygreen.xlsmapper.util.ClassUtils;
+import com.gh.mygreen.xlsmapper.xml.AnnotationReader;
+
+/**
+ * {@link SheetMappingPlan}のインスタンスを作成するファクトリクラス。
+ *
+ * @since 2.3
+ * @author T.TSUCHIE
+ *
+ */
+public class SheetMappingPlanFactory {
+
+    private final AnnotationReader annoReader;
+
+    private final Configuration config;
+
+    /**
+     * コンストラクタ
+     * @param annoReader XMLで定義したアノテーション情報を提供するクラス。
+     * @param config システム設定
+     * @throws IllegalArgumentException {@literal annoReader == null or config == null.}
+     */
+    public SheetMappingPlanFactory(final AnnotationReader annoReader, final Configuration config) {
+        ArgUtils.notNull(annoReader, "annoReader");
+        ArgUtils.notNull(config, "config");
+
+        this.annoReader = annoReader;
+        this.config = config;
+    }
+
+    /**
+     * シートにマッピングするクラスを元に、{@link SheetMappingPlan}のインスタンスを組み立てる。
+     *
+     * @param beanClass シートにマッピングするクラス
+     * @return {@link SheetMappingPlan}のインスタンス
+     * @throws IllegalArgumentException {@literal beanClass == null}
+     * @throws AnnotationInvalidException アノテーションに対する{@link FieldProcessor}が見つからない場合
+     */
+    public SheetMappingPlan create(final Class<?> beanClass) {
+
+        ArgUtils.notNull(beanClass, "beanClass");
+
+        final FieldAccessorFactory adpterFactory = new FieldAccessorFactory(annoReader);
+
+        final List<FieldAccessorProxy> accessorProxies = new ArrayList<>();
+        final List<Method> preLoadMethods = new ArrayList<>();
+        final List<Method> postLoadMethods = new ArrayList<>();
+        final List<Method> preSaveMethods = new ArrayList<>();
+        final List<Method> postSaveMethods = new ArrayList<>();
+
+        // public メソッドの処理
+        for(Method method : beanClass.getMethods()) {
+            method.setAccessible(true);
+
+            if(annoReader.hasAnnotation(method, XlsPreLoad.class)) {
+                preLoadMethods.add(method);
+            }
+
+            if(annoReader.hasAnnotation(method, XlsPreSave.class)) {
+                preSaveMethods.add(method);
+            }
+
+            for(Annotation anno : annoReader.getAnnotations(method)) {
+                final XlsFieldProcessor annoFieldProcessor = anno.annotationType().getAnnotation(XlsFieldProcessor.class);
+                if(ClassUtils.isAccessorMethod(method) && annoFieldProcessor != null) {
+                    final FieldProcessor<?> processor = getProcessor(anno, annoFieldProcessor);
+                    final FieldAccessor accessor = adpterFactory.create(method);
+                    final FieldAccessorProxy accessorProxy = new FieldAccessorProxy(anno, processor, accessor);
+                    if(!accessorProxies.contains(accessorProxy)) {
+                        accessorProxies.add(accessorProxy);
+                    }
+                }
+
+                if(anno instanceof XlsPostLoad) {
+                    postLoadMethods.add(method);
+                }
+
+                if(anno instanceof XlsPostSave) {
+                    postSaveMethods.add(method);
+                }
+            }
+        }
+
+        // フィールドの処理
+        for(Field field : beanClass.getDeclaredFields()) {
+            field.setAccessible(true);
+
+            for(Annotation anno : annoReader.getAnnotations(field)) {
+                final XlsFieldProcessor annoFieldProcessor = anno.annotationType().getAnnotation(XlsFieldProcessor.class);
+                if(annoFieldProcessor != null) {
+                    final FieldProcessor<?> processor = getProcessor(anno, annoFieldProcessor);
+                    final FieldAccessor accessor = adpterFactory.create(field);
+                    final FieldAccessorProxy accessorProxy = new FieldAccessorProxy(anno, processor, accessor);
+                    if(!accessorProxies.contains(accessorProxy)) {
+                        accessorProxies.add(accessorProxy);
+                    }
+                }
+            }
+        }
+
+        // 処理順に並び替えておく
+        Collections.sort(accessorProxies, new FieldAccessorProxyComparator());
+
+        return new SheetMappingPlan(beanClass, accessorProxies, createListenerMethods(beanClass),
+                preLoadMethods, postLoadMethods, preSaveMethods, postSaveMethods);
+
+    }
+
+    /**
+     * アノテーションに対する{@link FieldProcessor}を取得する。
+     * @param anno 処理対象のアノテーション
+     * @param annoFieldProcessor アノテーションに付与されている{@link XlsFieldProcessor}
+     * @return {@link FieldProcessor}のインスタンス
+     * @throws AnnotationInvalidException {@link FieldProcessor}が見つからない場合
+     */
+    private FieldProcessor<?> getProcessor(final Annotation anno, final XlsFieldProcessor annoFieldProcessor) {
+
+        // 登録済みのFieldProcessorの取得
+        FieldProcessor<?> processor = config.getFieldProcessorRegistry().getProcessor(anno.annotationType());
+
+        // アノテーションに指定されているFieldProcessorの場合
+        if(processor == null && annoFieldProcessor.value().length > 0) {
+            processor = config.createBean(annoFieldProcessor.value()[0]);
+        }
+
+        if(processor == null) {
+            // FieldProcessorが見つからない場合
+            throw new AnnotationInvalidException(anno, MessageBuilder.create("anno.XlsFieldProcessor.notResolve")
+                    .varWithAnno("anno", anno.annotationType())
+                    .format());
+        }
+
+        return processor;
+    }
+
+    /**
+     * リスナークラスに定義されているコールバックメソッドの抽出
+     * @param beanClass シートにマッピングするクラス
+     * @return リスナークラスの情報
+     */
+    private List<SheetMappingPlan.ListenerMethods> createListenerMethods(final Class<?> beanClass) {
+
+        final List<SheetMappingPlan.ListenerMethods> listeners = new ArrayList<>();
+
+        final XlsListener listenerAnno = annoReader.getAnnotation(beanClass, XlsListener.class);
+        if(listenerAnno == null) {
+            return listeners;
+        }
+
+        for(Class<?> listenerClass : listenerAnno.value()) {
+            listeners.add(createListenerMethods(annoReader, listenerClass));
+        }
+
+        return listeners;
+    }
+
+    /**
+     * リスナークラスに定義されているコールバックメソッドの抽出
+     * @param annoReader XMLで定義したアノテーション情報を提供するクラス。
+     * @param listenerClass リスナークラス
+     * @return リスナークラスの情報
+     */
+    static SheetMappingPlan.ListenerMethods createListenerMethods(final AnnotationReader annoReader, final Class<?> listenerClass) {
+
+        final List<Method> preLoadMethods = new ArrayList<>();
+        final List<Method> postLoadMethods = new ArrayList<>();
+        final List<Method> preSaveMethods = new ArrayList<>();
+        final List<Method> postSaveMethods = new ArrayList<>();
+
+        for(Method method : listenerClass.getMethods()) {
+            if(annoReader.hasAnnotation(method, XlsPreLoad.class)) {
+                preLoadMethods.add(method);
+            }
+
+            if(annoReader.hasAnnotation(method, XlsPostLoad.class)) {
+                postLoadMethods.add(method);
+            }
+
+            if(annoReader.hasAnnotation(method, XlsPreSave.class)) {
+                preSaveMethods.add(method);
+            }
+
+            if(annoReader.hasAnnotation(method, XlsPostSave.class)) {
+                postSaveMethods.add(method);
+            }
+        }
+
+        return new SheetMappingPlan.ListenerMethods(annoReader, listenerClass,
+                preLoadMethods, postLoadMethods, preSaveMethods, postSaveMethods);
+    }
+
+}
@@ -0,0 +1,423 @@
+package com.gh.mygreen.xlsmapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Constructor;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.apache.commons.compress.archivers.zip.ZipArchiveEntry;
+import org.apache.poi.openxml4j.exceptions.InvalidFormatException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.openxml4j.opc.ZipPackage;
+import org.apache.poi.openxml4j.util.ZipEntrySource;
+import org.apache.poi.poifs.filesystem.FileMagic;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.gh.mygreen.xlsmapper.util.ArgUtils;
+import com.gh.mygreen.xlsmapper.util.LruCache;
+
+/**
+ * 書き込み時のテンプレートのファイルを保持し、同じテンプレートから繰り返し書き込む際の読み込み処理を軽減するキャッシュ。
+ * <p>テンプレートは、ファイルの内容のハッシュ値をキーとして保持するため、同じ内容のファイルであれば読み込み元によらず共有します。</p>
+ * <p>POIのワークブックは書き込みにより変更されるため、ワークブック自体は共有せずに、書き込みごとに保持している内容から作成します。
+ *  Excel2007以降の形式（.xlsx）の場合は、ZIPを展開した状態で保持するため、書き込みごとのZIPの展開を省略できます。
+ *  ただし、展開したエントリからワークブックを作成するPOIのコンストラクタを参照できない環境では、ファイルの内容のまま保持します。</p>
+ * <p>保持するテンプレートの合計のバイト数の上限を超えた場合は、最も長く使用されていないテンプレートを破棄します。</p>
+ * <p>{@link #register(String, InputStream)}でIDを指定して登録したテンプレートは、ハッシュ値の計算を省略して、
+ *  {@link #createWorkbook(String)}で直接参照できます。登録したテンプレートは、上限による破棄の対象外です。</p>
+ *
+ * @since 2.3
+ * @author T.TSUCHIE
+ *
+ */
+public class WorkbookTemplateCache {
+
+    /**
+     * 保持するテンプレートの合計のバイト数の上限の初期値（64MB）
+     */
+    public static final long DEFAULT_MAX_BYTES = 64L * 1024L * 1024L;
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkbookTemplateCache.class);
+
+    /**
+     * 展開済みのZIPのエントリから{@link ZipPackage}を作成するコンストラクタ。
+     * <p>最初に参照したときに取得し、取得できない場合は空とします。</p>
+     */
+    private static volatile Optional<Constructor<ZipPackage>> zipPackageConstructor;
+
+    /**
+     * ファイルの内容のハッシュ値をキーとしたテンプレート
+     */
+    private final LruCache<String, Template> templates;
+
+    /**
+     * IDを指定して登録したテンプレート
+     */
+    private final Map<String, Template> registeredTemplates = new ConcurrentHashMap<>();
+
+    /**
+     * 保持するテンプレートの合計のバイト数の上限が{@value #DEFAULT_MAX_BYTES}バイトのインスタンスを作成します。
+     */
+    public WorkbookTemplateCache() {
+        this(DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * 保持するテンプレートの合計のバイト数の上限を指定してインスタンスを作成します。
+     * <p>バイト数は、展開後のZIPのエントリの合計で計算します。上限を単独で超えるテンプレートは保持しません。</p>
+     * @param maxBytes 保持するテンプレートの合計のバイト数の上限
+     * @throws IllegalArgumentException {@literal maxBytes < 1}
+     */
+    public WorkbookTemplateCache(final long maxBytes) {
+        this.templates = new LruCache<>(maxBytes, Template::getByteSize);
+    }
+
+    /**
+     * テンプレートのファイルから、書き込み用のワークブックを作成します。
+     * <p>同じ内容のテンプレートを保持している場合は、保持している内容から作成します。</p>
+     *
+     * @param templateXlsIn 雛形となるExcelファイルの入力
+     * @return 書き込み用のワークブック。他の書き込み処理とは共有しません。
+     * @throws IllegalArgumentException {@literal templateXlsIn == null}
+     * @throws IOException テンプレートのファイルの読み込みに失敗した場合
+     */
+    public Workbook createWorkbook(final InputStream templateXlsIn) throws IOException {
+        ArgUtils.notNull(templateXlsIn, "templateXlsIn");
+
+        final byte[] data = toByteArray(templateXlsIn);
+
+        final Template template;
+        try {
+            template = templates.computeIfAbsent(digest(data), key -> {
+                try {
+                    return Template.of(data);
+                } catch(IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+        } catch(UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        return template.createWorkbook();
+    }
+
+    /**
+     * IDを指定してテンプレートを登録します。
+     * <p>同じIDのテンプレートを登録済みの場合は、上書きします。</p>
+     *
+     * @param id テンプレートのID
+     * @param templateXlsIn 雛形となるExcelファイルの入力
+     * @throws IllegalArgumentException {@literal id is empty or templateXlsIn == null}
+     * @throws IOException テンプレートのファイルの読み込みに失敗した場合
+     */
+    public void register(final String id, final InputStream templateXlsIn) throws IOException {
+        ArgUtils.notEmpty(id, "id");
+        ArgUtils.notNull(templateXlsIn, "templateXlsIn");
+
+        registeredTemplates.put(id, Template.of(toByteArray(templateXlsIn)));
+    }
+
+    /**
+     * 登録したテンプレートを破棄します。
+     * @param id テンプレートのID
+     * @return 登録されていた場合、trueを返します。
+     */
+    public boolean unregister(final String id) {
+        return id != null && registeredTemplates.remove(id) != null;
+    }
+
+    /**
+     * IDを指定してテンプレートを登録しているかどうか。
+     * @param id テンプレートのID
+     * @return 登録している場合、trueを返します。
+     */
+    public boolean isRegistered(final String id) {
+        return id != null && registeredTemplates.containsKey(id);
+    }
+
+    /**
+     * 登録したテンプレートから、書き込み用のワークブックを作成します。
+     *
+     * @param id {@link #register(String, InputStream)}で指定したテンプレートのID
+     * @return 書き込み用のワークブック。他の書き込み処理とは共有しません。
+     * @throws IllegalArgumentException {@literal id is empty or テンプレートが登録されていない場合}
+     * @throws IOException ワークブックの作成に失敗した場合
+     */
+    public Workbook createWorkbook(final String id) throws IOException {
+        ArgUtils.notEmpty(id, "id");
+
+        final Template template = registeredTemplates.get(id);
+        if(template == null) {
+            throw new IllegalArgumentException(String.format("not registered template id '%s'.", id));
+        }
+
+        return template.createWorkbook();
+    }
+
+    /**
+     * 保持しているテンプレートの件数を取得します。
+     * @return 保持しているテンプレートの件数。IDを指定して登録したテンプレートも含みます。
+     */
+    public int size() {
+        return templates.size() + registeredTemplates.size();
+    }
+
+    /**
+     * ファイルの内容をキーとして保持しているテンプレートの合計のバイト数を取得します。
+     * @return 保持しているテンプレートの合計のバイト数
+     */
+    public long getByteSize() {
+        return templates.getTotalWeight();
+    }
+
+    /**
+     * 保持しているテンプレートを全て破棄します。
+     * <p>IDを指定して登録したテンプレートも破棄します。</p>
+     */
+    public void clear() {
+        templates.clear();
+        registeredTemplates.clear();
+    }
+
+    /**
+     * 入力ストリームの内容を全て読み込む。
+     * @param in 入力ストリーム
+     * @return 読み込んだ内容
+     * @throws IOException 読み込みに失敗した場合
+     */
+    private static byte[] toByteArray(final InputStream in) throws IOException {
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[8192];
+        int length;
+        while((length = in.read(buffer)) != -1) {
+            out.write(buffer, 0, length);
+        }
+
+        return out.toByteArray();
+    }
+
+    /**
+     * 展開済みのZIPのエントリから{@link ZipPackage}を作成するコンストラクタを取得する。
+     * <p>POIのバージョンや実行環境により、コンストラクタを参照できない場合は空を返します。</p>
+     * @return コンストラクタ
+     */
+    private static Optional<Constructor<ZipPackage>> getZipPackageConstructor() {
+
+        Optional<Constructor<ZipPackage>> constructor = zipPackageConstructor;
+        if(constructor != null) {
+            return constructor;
+        }
+
+        try {
+            final Constructor<ZipPackage> found = ZipPackage.class.getDeclaredConstructor(ZipEntrySource.class, PackageAccess.class);
+            found.setAccessible(true);
+            constructor = Optional.of(found);
+
+        } catch(ReflectiveOperationException | RuntimeException e) {
+            logger.warn("fail access to ZipPackage's constructor. xlsx templates are kept without expanding zip entries.", e);
+            constructor = Optional.empty();
+        }
+
+        zipPackageConstructor = constructor;
+        return constructor;
+    }
+
+    /**
+     * ファイルの内容のハッシュ値を計算する。
+     * @param data ファイルの内容
+     * @return 16進数表記のハッシュ値
+     */
+    private static String digest(final byte[] data) {
+
+        final byte[] hash;
+        try {
+            hash = MessageDigest.getInstance("SHA-256").digest(data);
+        } catch(NoSuchAlgorithmException e) {
+            throw new IllegalStateException("not support SHA-256.", e);
+        }
+
+        final StringBuilder sb = new StringBuilder(hash.length * 2);
+        for(byte b : hash) {
+            sb.append(String.format("%02x", b));
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * 保持するテンプレートの内容。
+     * <p>作成後は変更しないため、複数のスレッドから参照できます。</p>
+     */
+    private static class Template {
+
+        /**
+         * Excel2003以前の形式（.xls）の場合のファイルの内容
+         */
+        private final byte[] data;
+
+        /**
+         * Excel2007以降の形式（.xlsx）の場合の、展開したZIPのエントリ
+         */
+        private final Map<String, byte[]> entries;
+
+        private Template(final byte[] data, final Map<String, byte[]> entries) {
+            this.data = data;
+            this.entries = entries;
+        }
+
+        /**
+         * ファイルの内容からテンプレートを作成する。
+         * @param data ファイルの内容
+         * @return テンプレート
+         * @throws IOException ZIPの展開に失敗した場合
+         */
+        static Template of(final byte[] data) throws IOException {
+
+            // ZIPのエントリからワークブックを作成できない場合は、ファイルの内容のまま保持する
+            if(FileMagic.valueOf(data) != FileMagic.OOXML || !getZipPackageConstructor().isPresent()) {
+                return new Template(data, null);
+            }
+
+            final Map<String, byte[]> entries = new LinkedHashMap<>();
+            try(ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(data))) {
+                ZipEntry entry;
+                while((entry = in.getNextEntry()) != null) {
+                    if(!entry.isDirectory()) {
+                        entries.put(entry.getName(), toByteArray(in));
+                    }
+                }
+            }
+
+            return new Template(null, Collections.unmodifiableMap(entries));
+        }
+
+        /**
+         * 保持している内容のバイト数を取得する。
+         * @return ファイルの内容、または展開したZIPのエントリの合計のバイト数
+         */
+        long getByteSize() {
+            if(entries == null) {
+                return data.length;
+            }
+
+            long size = 0L;
+            for(byte[] entry : entries.values()) {
+                size += entry.length;
+            }
+            return size;
+        }
+
+        /**
+         * 書き込み用のワークブックを作成する。
+         * @return 新たに作成したワークブック
+         * @throws IOException ワークブックの作成に失敗した場合
+         */
+        Workbook createWorkbook() throws IOException {
+
+            if(entries == null) {
+                return WorkbookFactory.create(new ByteArrayInputStream(data));
+            }
+
+            try {
+                // OPCPackage#open(ZipEntrySource)は読み込み専用となるため、書き込み可能なパッケージを直接作成する
+                final OPCPackage pkg = getZipPackageConstructor().get()
+                        .newInstance(new TemplateZipEntrySource(entries), PackageAccess.READ_WRITE);
+                pkg.getParts();
+                return new XSSFWorkbook(pkg);
+
+            } catch(InvalidFormatException | ReflectiveOperationException | RuntimeException e) {
+                throw new IOException("fail create workbook from template.", e);
+            }
+        }
+
+    }
+
+    /**
+     * 展開済みのZIPのエントリを、{@link OPCPackage}に提供するクラス。
+     * <p>エントリの内容は共有し、ワークブックごとにインスタンスを作成する。</p>
+     */
+    private static class TemplateZipEntrySource implements ZipEntrySource {
+
+        private final Map<String, byte[]> entries;
+
+        private final Map<String, ZipArchiveEntry> archiveEntries = new LinkedHashMap<>();
+
+        private boolean closed;
+
+        TemplateZipEntrySource(final Map<String, byte[]> entries) {
+            this.entries = entries;
+            for(Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                final ZipArchiveEntry archiveEntry = new ZipArchiveEntry(entry.getKey());
+                archiveEntry.setSize(entry.getValue().length);
+                archiveEntries.put(entry.getKey(), archiveEntry);
+            }
+        }
+
+        @Override
+        public Enumeration<? extends ZipArchiveEntry> getEntries() {
+            final List<ZipArchiveEntry> list = new ArrayList<>(archiveEntries.values());
+            return Collections.enumeration(list);
+        }
+
+        @Override
+        public ZipArchiveEntry getEntry(final String path) {
+            final ZipArchiveEntry entry = archiveEntries.get(path);
+            if(entry != null) {
+                return entry;
+            }
+
+            // ZIPのエントリ名は、大文字・小文字を区別しない
+            for(ZipArchiveEntry item : archiveEntries.values()) {
+                if(item.getName().equalsIgnoreCase(path)) {
+                    return item;
+                }
+            }
+
+            return null;
+        }
+
+        @Override
+        public InputStream getInputStream(final ZipArchiveEntry entry) throws IOException {
+            final byte[] data = entries.get(entry.getName());
+            if(data == null) {
+                throw new IOException(String.format("not found zip entry '%s'.", entry.getName()));
+            }
+
+            return new ByteArrayInputStream(data);
+        }
+
+        @Override
+        public void close() {
+            this.closed = true;
+        }
+
+        @Override
+        public boolean isClosed() {
+            return closed;
+        }
+
+    }
+
+}
@@ -2,34 +2,42 @@ package com.gh.mygreen.xlsmapper;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.lang.annotation.Annotation;
 import java.lang.reflect.Array;
-import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
-
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.poi.ss.usermodel.FormulaEvaluator;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.usermodel.WorkbookFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.gh.mygreen.xlsmapper.annotation.XlsFieldProcessor;
-import com.gh.mygreen.xlsmapper.annotation.XlsListener;
-import com.gh.mygreen.xlsmapper.annotation.XlsPostLoad;
-import com.gh.mygreen.xlsmapper.annotation.XlsPreLoad;
+import com.gh.mygreen.xlsmapper.annotation.XlsHorizontalRecords;
 import com.gh.mygreen.xlsmapper.annotation.XlsSheet;
-import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessor;
-import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessorFactory;
 import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessorProxy;
-import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessorProxyComparator;
-import com.gh.mygreen.xlsmapper.fieldprocessor.FieldProcessor;
 import com.gh.mygreen.xlsmapper.fieldprocessor.ProcessCase;
+import com.gh.mygreen.xlsmapper.fieldprocessor.impl.HorizontalRecordsProcessor;
 import com.gh.mygreen.xlsmapper.localization.MessageBuilder;
+import com.gh.mygreen.xlsmapper.streaming.SheetFilter;
+import com.gh.mygreen.xlsmapper.streaming.StreamingWorkbookReader;
 import com.gh.mygreen.xlsmapper.util.ArgUtils;
-import com.gh.mygreen.xlsmapper.util.ClassUtils;
+import com.gh.mygreen.xlsmapper.util.CellAnchorIndex;
 import com.gh.mygreen.xlsmapper.util.Utils;
 import com.gh.mygreen.xlsmapper.validation.MultipleSheetBindingErrors;
 import com.gh.mygreen.xlsmapper.validation.SheetBindingErrors;
@@ -39,7 +47,7 @@ import com.gh.mygreen.xlsmapper.xml.AnnotationReader;
 /**
  * ExcelのシートをJavaBeanにマッピングするクラス。
  *
- * @version 2.0
+ * @version 2.3
  * @author T.TSUCHIE
  *
  */
@@ -104,7 +112,7 @@ public class XlsLoader {
         ArgUtils.notNull(xlsIn, "xlsIn");
         ArgUtils.notNull(clazz, "clazz");
 
-        final AnnotationReader annoReader = new AnnotationReader(configuration.getAnnotationMapping().orElse(null));
+        final AnnotationReader annoReader = configuration.getAnnotationReader();
 
         final XlsSheet sheetAnno = annoReader.getAnnotation(clazz, XlsSheet.class);
         if(sheetAnno == null) {
@@ -116,7 +124,7 @@ public class XlsLoader {
 
         Workbook book = null;
         try {
-            book = WorkbookFactory.create(xlsIn);
+            book = openWorkbook(xlsIn, sheetAnno);
 
         } finally {
             if(book != null) {
@@ -126,7 +134,7 @@ public class XlsLoader {
 
         try {
             final Sheet[] xlsSheet = configuration.getSheetFinder().findForLoading(book, sheetAnno, annoReader, clazz);
-            return loadSheet(xlsSheet[0], clazz, annoReader);
+            return loadSheet(xlsSheet[0], clazz, annoReader, null);
 
         } catch(SheetNotFoundException e) {
             if(configuration.isIgnoreSheetNotFound()){
@@ -179,7 +187,7 @@ public class XlsLoader {
         ArgUtils.notNull(xlsIn, "xlsIn");
         ArgUtils.notNull(clazz, "clazz");
 
-        final AnnotationReader annoReader = new AnnotationReader(configuration.getAnnotationMapping().orElse(null));
+        final AnnotationReader annoReader = configuration.getAnnotationReader();
 
         final XlsSheet sheetAnno = annoReader.getAnnotation(clazz, XlsSheet.class);
         if(sheetAnno == null) {
@@ -193,7 +201,7 @@ public class XlsLoader {
 
         Workbook book = null;
         try {
-            book = WorkbookFactory.create(xlsIn);
+            book = openWorkbook(xlsIn, sheetAnno);
 
         } finally {
             if(book != null) {
@@ -201,13 +209,14 @@ public class XlsLoader {
             }
         }
 
+        final List<Function<FormulaEvaluator, SheetBindingErrors<P>>> tasks = new ArrayList<>();
         if(sheetAnno.number() == -1 && sheetAnno.name().isEmpty() && sheetAnno.regex().isEmpty()) {
             // 読み込むシートの条件が指定されていない場合、全て読み込む
             int sheetNum = book.getNumberOfSheets();
             for(int i=0; i < sheetNum; i++) {
                 final Sheet sheet = book.getSheetAt(i);
 
-                multipleResult.addBindingErrors(loadSheet(sheet, clazz, annoReader));
+                tasks.add(evaluator -> loadSheet(sheet, clazz, annoReader, evaluator));
 
             }
 
@@ -216,7 +225,7 @@ public class XlsLoader {
             try {
                 final Sheet[] xlsSheet = configuration.getSheetFinder().findForLoading(book, sheetAnno, annoReader, clazz);
                 for(Sheet sheet : xlsSheet) {
-                    multipleResult.addBindingErrors(loadSheet(sheet, clazz, annoReader));
+                    tasks.add(evaluator -> loadSheet(sheet, clazz, annoReader, evaluator));
 
                 }
 
@@ -230,6 +239,10 @@ public class XlsLoader {
 
         }
 
+        for(SheetBindingErrors<P> errors : loadSheets(book, tasks)) {
+            multipleResult.addBindingErrors(errors);
+        }
+
         return multipleResult;
     }
 
@@ -273,13 +286,14 @@ public class XlsLoader {
         ArgUtils.notNull(xlsIn, "xlsIn");
         ArgUtils.notEmpty(classes, "classes");
 
-        final AnnotationReader annoReader = new AnnotationReader(configuration.getAnnotationMapping().orElse(null));
+        final AnnotationReader annoReader = configuration.getAnnotationReader();
 
         final MultipleSheetBindingErrors<Object> multipleStore = new MultipleSheetBindingErrors<>();
+        final List<Function<FormulaEvaluator, SheetBindingErrors<Object>>> tasks = new ArrayList<>();
 
         Workbook book = null;
         try {
-            book = WorkbookFactory.create(xlsIn);
+            book = openWorkbook(xlsIn, getSheetAnnotations(classes));
 
         } finally {
             if(book != null) {
@@ -299,7 +313,7 @@ public class XlsLoader {
             try {
                 final Sheet[] xlsSheet = configuration.getSheetFinder().findForLoading(book, sheetAnno, annoReader, clazz);
                 for(Sheet sheet : xlsSheet) {
-                    multipleStore.addBindingErrors(loadSheet(sheet, (Class)clazz, annoReader));
+                    tasks.add(evaluator -> loadSheet(sheet, (Class)clazz, annoReader, evaluator));
 
                 }
 
@@ -312,25 +326,163 @@ public class XlsLoader {
 
         }
 
+        for(SheetBindingErrors<Object> errors : loadSheets(book, tasks)) {
+            multipleStore.addBindingErrors(errors);
+        }
+
         return multipleStore;
     }
 
     /**
-     * シートを読み込み、任意のクラスにマッピングする。
-     * @param sheet シート情報
-     * @param clazz マッピング先のクラスタイプ。
-     * @param annoReader
-     * @return シートのマッピング情報
-     * @throws XlsMapperException
+     * 複数のシートの読み込み処理を実行する。
+     * <p>{@link Configuration#getLoadSheetExecutor()}が設定されている場合は、並列に実行します。
+     *  その場合、数式を評価する{@link FormulaEvaluator}を全てのシートで共有し、評価処理の排他制御に使用します。</p>
+     * @param book 読み込み対象のワークブック
+     * @param tasks シートの読み込み処理。引数は共有する数式を評価するインスタンスで、並列に実行しない場合は{@literal null}。
+     * @return 読み込み処理の順番に並んだ、シートのマッピング情報
+     * @throws XlsMapperException マッピングに失敗した場合
+     */
+    private <P> List<SheetBindingErrors<P>> loadSheets(final Workbook book,
+            final List<Function<FormulaEvaluator, SheetBindingErrors<P>>> tasks) throws XlsMapperException {
+
+        final Optional<Executor> executor = configuration.getLoadSheetExecutor();
+        if(!executor.isPresent() || tasks.size() <= 1) {
+            return tasks.stream()
+                    .map(task -> task.apply(null))
+                    .collect(Collectors.toList());
+        }
+
+        // シート間で参照する数式の評価結果を、ワークブックではなくこのインスタンスで排他制御する
+        final FormulaEvaluator evaluator = book.getCreationHelper().createFormulaEvaluator();
+
+        final List<CompletableFuture<SheetBindingErrors<P>>> futures = tasks.stream()
+                .map(task -> CompletableFuture.supplyAsync(() -> task.apply(evaluator), executor.get()))
+                .collect(Collectors.toList());
+
+        final List<SheetBindingErrors<P>> results = new ArrayList<>(futures.size());
+        for(CompletableFuture<SheetBindingErrors<P>> future : futures) {
+            try {
+                results.add(future.join());
+
+            } catch(CompletionException e) {
+                // 読み込み処理でスローされた例外をそのままスローする
+                final Throwable cause = e.getCause();
+                if(cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if(cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw e;
+            }
+        }
+
+        return results;
+    }
+
+    /**
+     * Excelファイルの1シートの表を、レコード単位で読み込みます。
+     * <p>アノテーション{@link XlsHorizontalRecords}が付与されたフィールドの表を、1レコードずつ読み込む{@link Stream}を返します。
+     *  読み込んだレコードは保持しないため、大量のレコードを少ないメモリで処理できます。</p>
+     * <p>返却した{@link Stream}は、try-with-resources文などで閉じてください。
+     *  最後のレコードまで読み込んだ場合や、読み込みに失敗した場合は、閉じなくても読み込み中に保持している情報を破棄します。</p>
+     * <p>シートのその他のフィールドや、シートのクラスに定義された{@literal @XlsPreLoad/@XlsPostLoad}のメソッドは処理しません。</p>
      *
+     * @since 2.3
+     * @param <R> レコードのクラスタイプ
+     * @param xlsIn 読み込み元のExcelファイルのストリーム。
+     * @param clazz シートをマッピングするクラスタイプ。
+     * @param fieldName 表をマッピングするフィールド名。
+     * @return レコードの{@link Stream}。
+     *         {@link Configuration#isIgnoreSheetNotFound()}の値がtrueで、シートが見つからない場合、空の{@link Stream}を返します。
+     * @throws IllegalArgumentException {@literal xlsIn == null or clazz == null or fieldName is empty}
+     * @throws IllegalArgumentException 指定したフィールドにアノテーション{@link XlsHorizontalRecords}が付与されていない場合
+     * @throws XlsMapperException Excelファイルのマッピングに失敗した場合
+     * @throws IOException ファイルの読み込みに失敗した場合
      */
-    private <P> SheetBindingErrors<P> loadSheet(final Sheet sheet, final Class<P> clazz, final AnnotationReader annoReader)
-            throws XlsMapperException {
+    public <R> Stream<R> streamRecords(final InputStream xlsIn, final Class<?> clazz, final String fieldName)
+            throws XlsMapperException, IOException {
 
-        // 値の読み込み対象のJavaBeanオブジェクトの作成
-        final P beanObj = configuration.createBean(clazz);
+        return this.<R>streamRecordsDetail(xlsIn, clazz, fieldName)
+                .map(SheetBindingErrors::getTarget);
+    }
 
-        final SheetBindingErrors<P> errors =  configuration.getBindingErrorsFactory().create(beanObj);
+    /**
+     * Excelファイルの1シートの表を、レコード単位で読み込みます。
+     * <p>アノテーション{@link XlsHorizontalRecords}が付与されたフィールドの表を、1レコードずつ読み込む{@link Stream}を返します。
+     *  読み込んだレコードは保持しないため、大量のレコードを少ないメモリで処理できます。</p>
+     * <p>エラー情報はレコードごとに作成し、レコードのインスタンスをエラー情報の対象({@link SheetBindingErrors#getTarget()})とします。
+     *  レコードに定義された{@literal @XlsPostLoad}のメソッドは、レコードを読み込むたびに実行します。</p>
+     * <p>返却した{@link Stream}は、try-with-resources文などで閉じてください。
+     *  最後のレコードまで読み込んだ場合や、読み込みに失敗した場合は、閉じなくても読み込み中に保持している情報を破棄します。</p>
+     * <p>シートのその他のフィールドや、シートのクラスに定義された{@literal @XlsPreLoad/@XlsPostLoad}のメソッドは処理しません。</p>
+     *
+     * @since 2.3
+     * @param <R> レコードのクラスタイプ
+     * @param xlsIn 読み込み元のExcelファイルのストリーム。
+     * @param clazz シートをマッピングするクラスタイプ。
+     * @param fieldName 表をマッピングするフィールド名。
+     * @return レコードごとのマッピングの詳細情報の{@link Stream}。
+     *         {@link Configuration#isIgnoreSheetNotFound()}の値がtrueで、シートが見つからない場合、空の{@link Stream}を返します。
+     * @throws IllegalArgumentException {@literal xlsIn == null or clazz == null or fieldName is empty}
+     * @throws IllegalArgumentException 指定したフィールドにアノテーション{@link XlsHorizontalRecords}が付与されていない場合
+     * @throws XlsMapperException Excelファイルのマッピングに失敗した場合
+     * @throws IOException ファイルの読み込みに失敗した場合
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public <R> Stream<SheetBindingErrors<R>> streamRecordsDetail(final InputStream xlsIn, final Class<?> clazz, final String fieldName)
+            throws XlsMapperException, IOException {
+
+        ArgUtils.notNull(xlsIn, "xlsIn");
+        ArgUtils.notNull(clazz, "clazz");
+        ArgUtils.notEmpty(fieldName, "fieldName");
+
+        final AnnotationReader annoReader = configuration.getAnnotationReader();
+
+        final XlsSheet sheetAnno = annoReader.getAnnotation(clazz, XlsSheet.class);
+        if(sheetAnno == null) {
+            throw new AnnotationInvalidException(sheetAnno, MessageBuilder.create("anno.notFound")
+                    .varWithClass("property", clazz)
+                    .varWithAnno("anno", XlsSheet.class)
+                    .format());
+        }
+
+        // 表をマッピングするフィールドの取得
+        final SheetMappingPlan plan = configuration.getMappingPlan(clazz);
+        final FieldAccessorProxy accessorProxy = plan.getAccessorProxies().stream()
+                .filter(p -> p.getField().getName().equals(fieldName))
+                .filter(p -> p.getAnnotation() instanceof XlsHorizontalRecords)
+                .filter(p -> p.getProcessor() instanceof HorizontalRecordsProcessor)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(String.format("not found field '%s' with @XlsHorizontalRecords in '%s'.",
+                        fieldName, clazz.getName())));
+
+        Workbook book = null;
+        try {
+            book = openWorkbook(xlsIn, sheetAnno);
+
+        } finally {
+            if(book != null) {
+                book.close();
+            }
+        }
+
+        final Sheet sheet;
+        try {
+            sheet = configuration.getSheetFinder().findForLoading(book, sheetAnno, annoReader, clazz)[0];
+
+        } catch(SheetNotFoundException e) {
+            if(configuration.isIgnoreSheetNotFound()){
+                logger.warn(MessageBuilder.create("log.skipNotFoundSheet").format(), e);
+                return Stream.empty();
+
+            } else {
+                throw e;
+            }
+        }
+
+        final Object beanObj = configuration.createBean(clazz);
+
+        final SheetBindingErrors<?> errors = configuration.getBindingErrorsFactory().create(beanObj);
         errors.setSheetName(sheet.getSheetName());
         errors.setSheetIndex(sheet.getWorkbook().getSheetIndex(sheet));
 
@@ -338,129 +490,175 @@ public class XlsLoader {
         work.setAnnoReader(annoReader);
         work.setErrors(errors);
 
-        // セルのキャッシュ情報の初期化
-        configuration.getCellFormatter().init(configuration.isCacheCellValueOnLoad());
+        // セルの値のキャッシュと、コメント・ハイパーリンクの索引は、最後のレコードまで読み込むか、Streamを閉じるまで保持する
+        final CellFormatterSession session = configuration.getCellFormatter().openSession(sheet, configuration.isCacheCellValueOnLoad());
+        final CellAnchorIndex.Session anchorSession = configuration.getCellAnchorIndexRegistry().open(sheet);
 
-        final FieldAccessorFactory adpterFactory = new FieldAccessorFactory(annoReader);
+        final Iterator<SheetBindingErrors<R>> itr;
+        try {
+            itr = (Iterator)((HorizontalRecordsProcessor)accessorProxy.getProcessor())
+                    .iterateRecords(sheet, beanObj, (XlsHorizontalRecords)accessorProxy.getAnnotation(), accessorProxy.getField(),
+                            configuration, work);
+
+        } catch(RuntimeException e) {
+            anchorSession.close();
+            session.close();
+            throw e;
+        }
 
-        // リスナークラスの@PreLoad用メソッドの実行
-        final XlsListener listenerAnno = annoReader.getAnnotation(beanObj.getClass(), XlsListener.class);
-        if(listenerAnno != null) {
-            for(Class<?> listenerClass : listenerAnno.value()) {
-                final Object listenerObj = configuration.createBean(listenerClass);
-
-                for(Method method : listenerObj.getClass().getMethods()) {
-                    if(annoReader.hasAnnotation(method, XlsPreLoad.class)) {
-                        Utils.invokeNeedProcessMethod(listenerObj, method, beanObj, sheet, configuration, work.getErrors(), ProcessCase.Load);
-                    }
-                }
-            }
+        final Runnable closeSessions = () -> {
+            anchorSession.close();
+            session.close();
+        };
 
-        }
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new SessionClosingIterator<>(itr, closeSessions),
+                        Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(closeSessions);
 
-        // @PreLoad用のメソッドの実行
-        for(Method method : clazz.getMethods()) {
+    }
 
-            if(annoReader.hasAnnotation(method, XlsPreLoad.class)) {
-                Utils.invokeNeedProcessMethod(beanObj, method, beanObj, sheet, configuration, work.getErrors(), ProcessCase.Load);
-            }
+    /**
+     * ワークブックを読み込む。
+     * <p>{@link Configuration#isStreamingLoad()}の値がtrueの場合、SAXを使用して読み込みます。
+     *  さらに、{@link Configuration#isStreamingLoadTargetSheetOnly()}の値がtrueの場合、読み込み対象のシートのみを解析します。</p>
+     *
+     * @param xlsIn 読み込み元のExcelファイルのストリーム。
+     * @param sheetAnnos 読み込み対象のシートの条件
+     * @return ワークブック
+     * @throws IOException ファイルの読み込みに失敗した場合
+     */
+    private Workbook openWorkbook(final InputStream xlsIn, final XlsSheet... sheetAnnos) throws IOException {
+
+        if(configuration.isStreamingLoad()) {
+            final SheetFilter sheetFilter = configuration.isStreamingLoadTargetSheetOnly()
+                    ? createSheetFilter(sheetAnnos) : SheetFilter.ALL;
+            return new StreamingWorkbookReader().read(xlsIn, sheetFilter);
         }
 
-        final List<FieldAccessorProxy> accessorProxies = new ArrayList<>();
-
-        // public メソッドの処理
-        for(Method method : clazz.getMethods()) {
-            method.setAccessible(true);
-            for(Annotation anno : annoReader.getAnnotations(method)) {
-                final XlsFieldProcessor annoFieldProcessor = anno.annotationType().getAnnotation(XlsFieldProcessor.class);
-                if(ClassUtils.isAccessorMethod(method) && annoFieldProcessor != null) {
-                    // 登録済みのFieldProcessorの取得
-                    FieldProcessor<?> processor = configuration.getFieldProcessorRegistry().getProcessor(anno.annotationType());
-
-                    // アノテーションに指定されているFieldProcessorの場合
-                    if(processor == null && annoFieldProcessor.value().length > 0) {
-                        processor = configuration.createBean(annoFieldProcessor.value()[0]);
-
-                    }
-
-                    if(processor != null) {
-                        final FieldAccessor accessor = adpterFactory.create(method);
-                        final FieldAccessorProxy accessorProxy = new FieldAccessorProxy(anno, processor, accessor);
-                        if(!accessorProxies.contains(accessorProxy)) {
-                            accessorProxies.add(accessorProxy);
-                        }
-
-                    } else {
-                        // FieldProcessorが見つからない場合
-                        throw new AnnotationInvalidException(anno, MessageBuilder.create("anno.XlsFieldProcessor.notResolve")
-                                .varWithAnno("anno", anno.annotationType())
-                                .format());
-                    }
+        return WorkbookFactory.create(xlsIn);
+    }
 
-                }
+    /**
+     * アノテーション{@link XlsSheet}の条件に一致するシートを判定する{@link SheetFilter}を作成する。
+     * <p>{@link SheetFinder#findForLoading(Workbook, XlsSheet, AnnotationReader, Class)}と同じ条件で判定します。</p>
+     *
+     * @param sheetAnnos 読み込み対象のシートの条件
+     * @return いずれかの条件に一致するシートを判定する{@link SheetFilter}
+     */
+    private SheetFilter createSheetFilter(final XlsSheet... sheetAnnos) {
 
-                if(anno instanceof XlsPostLoad) {
-                    work.addNeedPostProcess(new NeedProcess(beanObj, beanObj, method));
-                }
-            }
+        final List<SheetFilter> filters = new ArrayList<>();
+        for(XlsSheet sheetAnno : sheetAnnos) {
+            if(!sheetAnno.name().isEmpty()) {
+                // Workbook#getSheet(String)と同じく、大文字・小文字を区別しない
+                filters.add((sheetIndex, sheetName) -> sheetName.equalsIgnoreCase(sheetAnno.name()));
 
-        }
+            } else if(sheetAnno.number() >= 0) {
+                filters.add((sheetIndex, sheetName) -> sheetIndex == sheetAnno.number());
+
+            } else if(!sheetAnno.regex().isEmpty()) {
+                final Pattern pattern = Pattern.compile(sheetAnno.regex());
+                filters.add((sheetIndex, sheetName) -> pattern.matcher(sheetName).matches());
 
-        // フィールドの処理
-        for(Field field : clazz.getDeclaredFields()) {
+            } else {
+                // 条件が指定されていない場合は、全てのシートが対象
+                return SheetFilter.ALL;
+            }
+        }
 
-            field.setAccessible(true);
-            for(Annotation anno : annoReader.getAnnotations(field)) {
+        return (sheetIndex, sheetName) -> filters.stream()
+                .anyMatch(filter -> filter.accept(sheetIndex, sheetName));
+    }
 
-                final XlsFieldProcessor annoFieldProcessor = anno.annotationType().getAnnotation(XlsFieldProcessor.class);
-                if(annoFieldProcessor != null) {
+    /**
+     * クラスに付与されているアノテーション{@link XlsSheet}を取得する。
+     * @param classes マッピング先のクラスタイプの配列。
+     * @return アノテーション{@link XlsSheet}の配列。付与されていないクラスは除外します。
+     */
+    private XlsSheet[] getSheetAnnotations(final Class<?>[] classes) {
+        return Arrays.stream(classes)
+                .map(clazz -> clazz.getAnnotation(XlsSheet.class))
+                .filter(Objects::nonNull)
+                .toArray(XlsSheet[]::new);
+    }
 
-                    // 登録済みのFieldProcessorの取得
-                    FieldProcessor<?> processor = configuration.getFieldProcessorRegistry().getProcessor(anno.annotationType());
+    /**
+     * シートを読み込み、任意のクラスにマッピングする。
+     * @param sheet シート情報
+     * @param clazz マッピング先のクラスタイプ。
+     * @param annoReader
+     * @param evaluator シート間で共有する数式を評価するインスタンス。共有しない場合は{@literal null}。
+     * @return シートのマッピング情報
+     * @throws XlsMapperException
+     *
+     */
+    private <P> SheetBindingErrors<P> loadSheet(final Sheet sheet, final Class<P> clazz, final AnnotationReader annoReader,
+            final FormulaEvaluator evaluator) throws XlsMapperException {
 
-                    // アノテーションに指定されているFieldProcessorの場合
-                    if(processor == null && annoFieldProcessor.value().length > 0) {
-                        processor = configuration.createBean(annoFieldProcessor.value()[0]);
+        // セルの値のキャッシュと、コメント・ハイパーリンクの索引は、シートの読み込み処理ごとに保持する
+        try(CellFormatterSession session = configuration.getCellFormatter().openSession(sheet, configuration.isCacheCellValueOnLoad());
+                CellAnchorIndex.Session anchorSession = configuration.getCellAnchorIndexRegistry().open(sheet)) {
+            return mapSheet(sheet, clazz, annoReader, evaluator);
+        }
+    }
 
-                    }
+    /**
+     * シートの値を、任意のクラスにマッピングする。
+     * @param sheet シート情報
+     * @param clazz マッピング先のクラスタイプ。
+     * @param annoReader
+     * @param evaluator シート間で共有する数式を評価するインスタンス。共有しない場合は{@literal null}。
+     * @return シートのマッピング情報
+     * @throws XlsMapperException
+     */
+    private <P> SheetBindingErrors<P> mapSheet(final Sheet sheet, final Class<P> clazz, final AnnotationReader annoReader,
+            final FormulaEvaluator evaluator) throws XlsMapperException {
 
-                    if(processor != null) {
-                        final FieldAccessor accessor = adpterFactory.create(field);
-                        final FieldAccessorProxy accessorProxy = new FieldAccessorProxy(anno, processor, accessor);
-                        if(!accessorProxies.contains(accessorProxy)) {
-                            accessorProxies.add(accessorProxy);
-                        }
+        // 値の読み込み対象のJavaBeanオブジェクトの作成
+        final P beanObj = configuration.createBean(clazz);
 
-                    } else {
-                        // FieldProcessorが見つからない場合
-                        throw new AnnotationInvalidException(anno, MessageBuilder.create("anno.XlsFieldProcessor.notResolve")
-                                .varWithAnno("anno", anno.annotationType())
-                                .format());
-                    }
+        final SheetBindingErrors<P> errors =  configuration.getBindingErrorsFactory().create(beanObj);
+        errors.setSheetName(sheet.getSheetName());
+        errors.setSheetIndex(sheet.getWorkbook().getSheetIndex(sheet));
 
-                }
+        final LoadingWorkObject work = new LoadingWorkObject();
+        work.setAnnoReader(annoReader);
+        work.setErrors(errors);
+        if(evaluator != null) {
+            work.setFormulaEvaluator(sheet.getWorkbook(), evaluator);
+        }
 
+        // クラスの解析結果の取得
+        final SheetMappingPlan plan = configuration.getMappingPlan(clazz);
 
+        // リスナークラスの@PreLoad用メソッドの実行
+        for(SheetMappingPlan.ListenerMethods listener : plan.getListeners()) {
+            final Object listenerObj = configuration.createBean(listener.getListenerClass());
+            for(Method method : listener.resolve(listenerObj).getPreLoadMethods()) {
+                Utils.invokeNeedProcessMethod(listenerObj, method, beanObj, sheet, configuration, work.getErrors(), ProcessCase.Load);
             }
         }
 
-        // 順番を並び替えて保存処理を実行する
-        Collections.sort(accessorProxies, new FieldAccessorProxyComparator());
-        for(FieldAccessorProxy accessorProxy : accessorProxies) {
+        // @PreLoad用のメソッドの実行
+        for(Method method : plan.getPreLoadMethods()) {
+            Utils.invokeNeedProcessMethod(beanObj, method, beanObj, sheet, configuration, work.getErrors(), ProcessCase.Load);
+        }
+
+        for(Method method : plan.getPostLoadMethods()) {
+            work.addNeedPostProcess(new NeedProcess(beanObj, beanObj, method));
+        }
+
+        // 並び替え済みの順番で読み込み処理を実行する
+        for(FieldAccessorProxy accessorProxy : plan.getAccessorProxies()) {
             accessorProxy.loadProcess(sheet, beanObj, configuration, work);
         }
 
         // リスナークラスの@PostLoadの取得
-        if(listenerAnno != null) {
-            for(Class<?> listenerClass : listenerAnno.value()) {
-                Object listenerObj = configuration.createBean(listenerClass);
-                for(Method method : listenerObj.getClass().getMethods()) {
-                    if(annoReader.hasAnnotation(method, XlsPostLoad.class)) {
-                        work.addNeedPostProcess(new NeedProcess(beanObj, listenerObj, method));
-                    }
-                }
+        for(SheetMappingPlan.ListenerMethods listener : plan.getListeners()) {
+            final Object listenerObj = configuration.createBean(listener.getListenerClass());
+            for(Method method : listener.resolve(listenerObj).getPostLoadMethods()) {
+                work.addNeedPostProcess(new NeedProcess(beanObj, listenerObj, method));
             }
-
         }
 
         //@PostLoadが付与されているメソッドの実行
@@ -468,9 +666,6 @@ public class XlsLoader {
             Utils.invokeNeedProcessMethod(need.getProcess(), need.getMethod(), need.getTarget(), sheet, configuration, work.getErrors(), ProcessCase.Load);
         }
 
-        // セルのキャッシュ情報の初期化
-        configuration.getCellFormatter().init(configuration.isCacheCellValueOnLoad());
-
         return errors;
     }
 
@@ -490,4 +685,49 @@ public class XlsLoader {
         this.configuration = configuration;
     }
 
+    /**
+     * 最後の要素まで読み込んだ場合や、読み込みに失敗した場合に、セッションを終了する{@link Iterator}。
+     * <p>{@link Stream}を閉じずに最後まで処理した場合でも、シートに対する情報を保持し続けないようにします。</p>
+     *
+     * @param <E> 要素のタイプ
+     */
+    private static class SessionClosingIterator<E> implements Iterator<E> {
+
+        private final Iterator<E> delegate;
+
+        private final Runnable closeSessions;
+
+        SessionClosingIterator(final Iterator<E> delegate, final Runnable closeSessions) {
+            this.delegate = delegate;
+            this.closeSessions = closeSessions;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                final boolean hasNext = delegate.hasNext();
+                if(!hasNext) {
+                    closeSessions.run();
+                }
+                return hasNext;
+
+            } catch(RuntimeException e) {
+                closeSessions.run();
+                throw e;
+            }
+        }
+
+        @Override
+        public E next() {
+            try {
+                return delegate.next();
+
+            } catch(RuntimeException e) {
+                closeSessions.run();
+                throw e;
+            }
+        }
+
+    }
+
 }
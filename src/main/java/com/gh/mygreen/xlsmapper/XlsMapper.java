@@ -3,6 +3,7 @@ package com.gh.mygreen.xlsmapper;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.stream.Stream;
 
 import com.gh.mygreen.xlsmapper.annotation.XlsColumn;
 import com.gh.mygreen.xlsmapper.annotation.XlsDateTimeConverter;
@@ -161,7 +162,7 @@ import com.gh.mygreen.xlsmapper.validation.SheetBindingErrors;
  *     );
  * </code></pre>
  *
- * @version 2.0
+ * @version 2.3
  * @author T.TSUCHIE
  *
  */
@@ -318,6 +319,48 @@ public class XlsMapper {
         return loader.loadMultipleDetail(xlsIn, classes);
     }
 
+    /**
+     * Excelファイルの1シートの表を、レコード単位で読み込みます。
+     * <p>読み込んだレコードは保持しないため、大量のレコードを少ないメモリで処理できます。</p>
+     * <p>返却した{@link Stream}は、try-with-resources文などで閉じてください。</p>
+     *
+     * @since 2.3
+     * @param <R> レコードのクラスタイプ
+     * @param xlsIn 読み込み元のExcelファイルのストリーム。
+     * @param clazz シートをマッピングするクラスタイプ。
+     * @param fieldName 表をマッピングするフィールド名。
+     * @return レコードの{@link Stream}。
+     * @throws IllegalArgumentException {@literal xlsIn == null or clazz == null or fieldName is empty}
+     * @throws XlsMapperException Excelファイルのマッピングに失敗した場合
+     * @throws IOException ファイルの読み込みに失敗した場合
+     * @see XlsLoader#streamRecords(InputStream, Class, String)
+     */
+    public <R> Stream<R> streamRecords(final InputStream xlsIn, final Class<?> clazz, final String fieldName)
+            throws XlsMapperException, IOException {
+        return loader.streamRecords(xlsIn, clazz, fieldName);
+    }
+
+    /**
+     * Excelファイルの1シートの表を、レコード単位で読み込みます。
+     * <p>エラー情報はレコードごとに作成します。</p>
+     * <p>返却した{@link Stream}は、try-with-resources文などで閉じてください。</p>
+     *
+     * @since 2.3
+     * @param <R> レコードのクラスタイプ
+     * @param xlsIn 読み込み元のExcelファイルのストリーム。
+     * @param clazz シートをマッピングするクラスタイプ。
+     * @param fieldName 表をマッピングするフィールド名。
+     * @return レコードごとのマッピング結果の{@link Stream}。
+     * @throws IllegalArgumentException {@literal xlsIn == null or clazz == null or fieldName is empty}
+     * @throws XlsMapperException Excelファイルのマッピングに失敗した場合
+     * @throws IOException ファイルの読み込みに失敗した場合
+     * @see XlsLoader#streamRecordsDetail(InputStream, Class, String)
+     */
+    public <R> Stream<SheetBindingErrors<R>> streamRecordsDetail(final InputStream xlsIn, final Class<?> clazz, final String fieldName)
+            throws XlsMapperException, IOException {
+        return loader.streamRecordsDetail(xlsIn, clazz, fieldName);
+    }
+
     /**
      * JavaのオブジェクトをExeclファイルに出力する。
      * <p>出力するファイルは、引数で指定した雛形となるテンプレート用のExcelファイルをもとに出力する。</p>
@@ -333,6 +376,23 @@ public class XlsMapper {
         saver.save(templateXlsIn, xlsOut, beanObj);
     }
 
+    /**
+     * JavaのオブジェクトをExeclファイルに出力する。
+     * <p>出力するファイルは、{@link WorkbookTemplateCache#register(String, InputStream)}で登録したテンプレートをもとに出力する。</p>
+     *
+     * @since 2.3
+     * @param templateId {@link Configuration#getWorkbookTemplateCache()}に登録したテンプレートのID
+     * @param xlsOut 出力先のストリーム
+     * @param beanObj 書き込むBeanオブジェクト
+     * @throws IllegalArgumentException {@literal templateId is empty or xlsOut == null or beanObj == null}
+     * @throws IllegalStateException テンプレートのキャッシュが設定されていない、またはテンプレートが登録されていない場合
+     * @throws XlsMapperException マッピングに失敗した場合
+     * @throws IOException ワークブックの作成やファイルの出力に失敗した場合
+     */
+    public void save(final String templateId, final OutputStream xlsOut, final Object beanObj) throws XlsMapperException, IOException {
+        saver.save(templateId, xlsOut, beanObj);
+    }
+
     /**
      * JavaのオブジェクトをExeclファイルに出力する。
      * <p>出力するファイルは、引数で指定した雛形となるテンプレート用のExcelファイルをもとに出力する。</p>
@@ -351,6 +411,26 @@ public class XlsMapper {
         return saver.saveDetail(templateXlsIn, xlsOut, beanObjs);
     }
 
+    /**
+     * JavaのオブジェクトをExeclファイルに出力する。
+     * <p>出力するファイルは、{@link WorkbookTemplateCache#register(String, InputStream)}で登録したテンプレートをもとに出力する。</p>
+     *
+     * @since 2.3
+     * @param <P> マッピング対象のクラスタイプ
+     * @param templateId {@link Configuration#getWorkbookTemplateCache()}に登録したテンプレートのID
+     * @param xlsOut 出力先のストリーム
+     * @param beanObj 書き込むBeanオブジェクト
+     * @return マッピング結果。
+     *         {@link Configuration#isIgnoreSheetNotFound()}の値がtrueで、シートが見つからない場合、nullを返します。
+     * @throws IllegalArgumentException {@literal templateId is empty or xlsOut == null or beanObj == null}
+     * @throws IllegalStateException テンプレートのキャッシュが設定されていない、またはテンプレートが登録されていない場合
+     * @throws XlsMapperException マッピングに失敗した場合
+     * @throws IOException ワークブックの作成やファイルの出力に失敗した場合
+     */
+    public <P> SheetBindingErrors<P> saveDetail(final String templateId, final OutputStream xlsOut, final P beanObj) throws XlsMapperException, IOException {
+        return saver.saveDetail(templateId, xlsOut, beanObj);
+    }
+
     /**
      * 複数のオブジェクトをそれぞれのシートへ保存する。
      * @param templateXlsIn 雛形となるExcelファイルの入力
@@ -365,6 +445,21 @@ public class XlsMapper {
         saver.saveMultiple(templateXlsIn, xlsOut, beanObj);
     }
 
+    /**
+     * 複数のオブジェクトを、登録したテンプレートのそれぞれのシートへ保存する。
+     * @since 2.3
+     * @param templateId {@link Configuration#getWorkbookTemplateCache()}に登録したテンプレートのID
+     * @param xlsOut xlsOut 出力先のストリーム
+     * @param beanObjs 書き込むオブジェクトの配列。
+     * @throws IllegalArgumentException {@literal templateId is empty or xlsOut == null or beanObjs == null}
+     * @throws IllegalStateException テンプレートのキャッシュが設定されていない、またはテンプレートが登録されていない場合
+     * @throws XlsMapperException マッピングに失敗した場合
+     * @throws IOException ワークブックの作成やファイルの出力に失敗した場合
+     */
+    public void saveMultiple(final String templateId, final OutputStream xlsOut, final Object[] beanObjs) throws XlsMapperException, IOException {
+        saver.saveMultiple(templateId, xlsOut, beanObjs);
+    }
+
     /**
      * 複数のオブジェクトをそれぞれのシートへ保存する。
      * @param templateXlsIn 雛形となるExcelファイルの入力
@@ -381,4 +476,21 @@ public class XlsMapper {
         return saver.saveMultipleDetail(templateXlsIn, xlsOut, beanObjs);
     }
 
+    /**
+     * 複数のオブジェクトを、登録したテンプレートのそれぞれのシートへ保存する。
+     * @since 2.3
+     * @param templateId {@link Configuration#getWorkbookTemplateCache()}に登録したテンプレートのID
+     * @param xlsOut xlsOut 出力先のストリーム
+     * @param beanObjs 書き込むオブジェクトの配列。
+     * @return マッピング結果。
+     *         {@link Configuration#isIgnoreSheetNotFound()}の値がtrueで、シートが見つからない場合、結果に含まれません。
+     * @throws IllegalArgumentException {@literal templateId is empty or xlsOut == null or beanObjs == null}
+     * @throws IllegalStateException テンプレートのキャッシュが設定されていない、またはテンプレートが登録されていない場合
+     * @throws XlsMapperException マッピングに失敗した場合
+     * @throws IOException ワークブックの作成やファイルの出力に失敗した場合
+     */
+    public MultipleSheetBindingErrors<Object> saveMultipleDetail(final String templateId, final OutputStream xlsOut, final Object[] beanObjs) throws XlsMapperException, IOException {
+        return saver.saveMultipleDetail(templateId, xlsOut, beanObjs);
+    }
+
 }
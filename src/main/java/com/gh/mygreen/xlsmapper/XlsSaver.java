@@ -3,33 +3,25 @@ package com.gh.mygreen.xlsmapper;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.lang.annotation.Annotation;
-import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.gh.mygreen.xlsmapper.annotation.XlsFieldProcessor;
-import com.gh.mygreen.xlsmapper.annotation.XlsListener;
-import com.gh.mygreen.xlsmapper.annotation.XlsPostSave;
-import com.gh.mygreen.xlsmapper.annotation.XlsPreSave;
 import com.gh.mygreen.xlsmapper.annotation.XlsSheet;
-import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessor;
-import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessorFactory;
 import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessorProxy;
-import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessorProxyComparator;
-import com.gh.mygreen.xlsmapper.fieldprocessor.FieldProcessor;
 import com.gh.mygreen.xlsmapper.fieldprocessor.ProcessCase;
+import com.gh.mygreen.xlsmapper.fieldprocessor.StreamingRecordsWriter;
 import com.gh.mygreen.xlsmapper.localization.MessageBuilder;
 import com.gh.mygreen.xlsmapper.util.ArgUtils;
-import com.gh.mygreen.xlsmapper.util.ClassUtils;
 import com.gh.mygreen.xlsmapper.util.Utils;
 import com.gh.mygreen.xlsmapper.validation.MultipleSheetBindingErrors;
 import com.gh.mygreen.xlsmapper.validation.SheetBindingErrors;
@@ -39,7 +31,7 @@ import com.gh.mygreen.xlsmapper.xml.AnnotationReader;
 /**
  * JavaBeanをExcelのシートにマッピングし出力するクラス。
  *
- * @version 2.0
+ * @version 2.3
  * @author T.TSUCHIE
  *
  */
@@ -81,6 +73,25 @@ public class XlsSaver {
         saveDetail(templateXlsIn, xlsOut, beanObj);
     }
 
+    /**
+     * JavaのオブジェクトをExeclファイルに出力する。
+     * <p>出力するファイルは、{@link WorkbookTemplateCache#register(String, InputStream)}で登録したテンプレートをもとに出力する。</p>
+     *
+     * @since 2.3
+     * @param templateId {@link Configuration#getWorkbookTemplateCache()}に登録したテンプレートのID
+     * @param xlsOut 出力先のストリーム
+     * @param beanObj 書き込むBeanオブジェクト
+     * @throws IllegalArgumentException {@literal templateId is empty or xlsOut == null or beanObj == null}
+     * @throws IllegalStateException テンプレートのキャッシュが設定されていない、またはテンプレートが登録されていない場合
+     * @throws XlsMapperException マッピングに失敗した場合
+     * @throws IOException ワークブックの作成やファイルの出力に失敗した場合
+     */
+    public void save(final String templateId, final OutputStream xlsOut, final Object beanObj)
+            throws XlsMapperException, IOException {
+
+        saveDetail(templateId, xlsOut, beanObj);
+    }
+
     /**
      * JavaのオブジェクトをExeclファイルに出力する。
      * <p>出力するファイルは、引数で指定した雛形となるテンプレート用のExcelファイルをもとに出力する。</p>
@@ -99,13 +110,47 @@ public class XlsSaver {
             throws XlsMapperException, IOException {
 
         ArgUtils.notNull(templateXlsIn, "templateXlsIn");
+
+        return saveDetail(() -> openTemplate(templateXlsIn), xlsOut, beanObj);
+    }
+
+    /**
+     * JavaのオブジェクトをExeclファイルに出力する。
+     * <p>出力するファイルは、{@link WorkbookTemplateCache#register(String, InputStream)}で登録したテンプレートをもとに出力する。</p>
+     *
+     * @since 2.3
+     * @param <P> マッピング対象のクラスタイプ
+     * @param templateId {@link Configuration#getWorkbookTemplateCache()}に登録したテンプレートのID
+     * @param xlsOut 出力先のストリーム
+     * @param beanObj 書き込むBeanオブジェクト
+     * @return マッピング結果。
+     *         {@link Configuration#isIgnoreSheetNotFound()}の値がtrueで、シートが見つからない場合、nullを返します。
+     * @throws IllegalArgumentException {@literal templateId is empty or xlsOut == null or beanObj == null}
+     * @throws IllegalStateException テンプレートのキャッシュが設定されていない、またはテンプレートが登録されていない場合
+     * @throws XlsMapperException マッピングに失敗した場合
+     * @throws IOException ワークブックの作成やファイルの出力に失敗した場合
+     */
+    public <P> SheetBindingErrors<P> saveDetail(final String templateId, final OutputStream xlsOut, final P beanObj)
+            throws XlsMapperException, IOException {
+
+        ArgUtils.notEmpty(templateId, "templateId");
+
+        return saveDetail(() -> openTemplate(templateId), xlsOut, beanObj);
+    }
+
+    private <P> SheetBindingErrors<P> saveDetail(final TemplateOpener templateOpener, final OutputStream xlsOut, final P beanObj)
+            throws XlsMapperException, IOException {
+
         ArgUtils.notNull(xlsOut, "xlsOut");
         ArgUtils.notNull(beanObj, "beanObj");
 
 
-        final AnnotationReader annoReader = new AnnotationReader(configuration.getAnnotationMapping().orElse(null));
+        final AnnotationReader annoReader = configuration.getAnnotationReader();
+
+        // ストリーミング形式でレコードを書き込む処理
+        final List<StreamingRecordsWriter> streamingWriters = new ArrayList<>();
 
-        try(Workbook book = WorkbookFactory.create(templateXlsIn)) {
+        try(Workbook book = templateOpener.open()) {
 
             final Class<?> clazz = beanObj.getClass();
             final XlsSheet sheetAnno = clazz.getAnnotation(XlsSheet.class);
@@ -120,7 +165,7 @@ public class XlsSaver {
             final SheetBindingErrors<P> bindingResult;
             try {
                 final Sheet[] xlsSheet = configuration.getSheetFinder().findForSaving(book, sheetAnno, annoReader, beanObj);
-                bindingResult = saveSheet(xlsSheet[0], beanObj, annoReader);
+                bindingResult = saveSheet(xlsSheet[0], beanObj, annoReader, streamingWriters);
     
             } catch(SheetNotFoundException e) {
                 if(configuration.isIgnoreSheetNotFound()){
@@ -132,11 +177,7 @@ public class XlsSaver {
                 }
             }
     
-            if(configuration.isFormulaRecalcurationOnSave()) {
-                book.setForceFormulaRecalculation(true);
-            }
-    
-            book.write(xlsOut);
+            writeWorkbook(book, streamingWriters, xlsOut);
     
             return bindingResult;
             
@@ -159,6 +200,23 @@ public class XlsSaver {
         saveMultipleDetail(templateXlsIn, xlsOut, beanObjs);
     }
 
+    /**
+     * 複数のオブジェクトを、登録したテンプレートのそれぞれのシートへ保存する。
+     * @since 2.3
+     * @param templateId {@link Configuration#getWorkbookTemplateCache()}に登録したテンプレートのID
+     * @param xlsOut xlsOut 出力先のストリーム
+     * @param beanObjs 書き込むオブジェクトの配列。
+     * @throws IllegalArgumentException {@literal templateId is empty or xlsOut == null or beanObjs == null}
+     * @throws IllegalStateException テンプレートのキャッシュが設定されていない、またはテンプレートが登録されていない場合
+     * @throws XlsMapperException マッピングに失敗した場合
+     * @throws IOException ワークブックの作成やファイルの出力に失敗した場合
+     */
+    public void saveMultiple(final String templateId, final OutputStream xlsOut, final Object[] beanObjs)
+            throws XlsMapperException, IOException {
+
+        saveMultipleDetail(templateId, xlsOut, beanObjs);
+    }
+
     /**
      * 複数のオブジェクトをそれぞれのシートへ保存する。
      * @param templateXlsIn 雛形となるExcelファイルの入力
@@ -174,14 +232,45 @@ public class XlsSaver {
             throws XlsMapperException, IOException {
 
         ArgUtils.notNull(templateXlsIn, "templateXlsIn");
+
+        return saveMultipleDetail(() -> openTemplate(templateXlsIn), xlsOut, beanObjs);
+    }
+
+    /**
+     * 複数のオブジェクトを、登録したテンプレートのそれぞれのシートへ保存する。
+     * @since 2.3
+     * @param templateId {@link Configuration#getWorkbookTemplateCache()}に登録したテンプレートのID
+     * @param xlsOut xlsOut 出力先のストリーム
+     * @param beanObjs 書き込むオブジェクトの配列。
+     * @return マッピング結果。
+     *         {@link Configuration#isIgnoreSheetNotFound()}の値がtrueで、シートが見つからない場合、結果に含まれません。
+     * @throws IllegalArgumentException {@literal templateId is empty or xlsOut == null or beanObjs == null}
+     * @throws IllegalStateException テンプレートのキャッシュが設定されていない、またはテンプレートが登録されていない場合
+     * @throws XlsMapperException マッピングに失敗した場合
+     * @throws IOException ワークブックの作成やファイルの出力に失敗した場合
+     */
+    public MultipleSheetBindingErrors<Object> saveMultipleDetail(final String templateId, final OutputStream xlsOut, final Object[] beanObjs)
+            throws XlsMapperException, IOException {
+
+        ArgUtils.notEmpty(templateId, "templateId");
+
+        return saveMultipleDetail(() -> openTemplate(templateId), xlsOut, beanObjs);
+    }
+
+    private MultipleSheetBindingErrors<Object> saveMultipleDetail(final TemplateOpener templateOpener, final OutputStream xlsOut, final Object[] beanObjs)
+            throws XlsMapperException, IOException {
+
         ArgUtils.notNull(xlsOut, "xlsOut");
         ArgUtils.notEmpty(beanObjs, "beanObjs");
 
-        final AnnotationReader annoReader = new AnnotationReader(configuration.getAnnotationMapping().orElse(null));
+        final AnnotationReader annoReader = configuration.getAnnotationReader();
 
         final MultipleSheetBindingErrors<Object> multipleResult = new MultipleSheetBindingErrors<>();
 
-        try(Workbook book = WorkbookFactory.create(templateXlsIn)) {
+        // ストリーミング形式でレコードを書き込む処理
+        final List<StreamingRecordsWriter> streamingWriters = new ArrayList<>();
+
+        try(Workbook book = templateOpener.open()) {
 
             for(int i=0; i < beanObjs.length; i++) {
                 final Object beanObj = beanObjs[i];
@@ -197,7 +286,7 @@ public class XlsSaver {
     
                 try {
                     final Sheet[] xlsSheet = configuration.getSheetFinder().findForSaving(book, sheetAnno, annoReader, beanObj);
-                    multipleResult.addBindingErrors(saveSheet(xlsSheet[0], beanObj, annoReader));
+                    multipleResult.addBindingErrors(saveSheet(xlsSheet[0], beanObj, annoReader, streamingWriters));
     
                 } catch(SheetNotFoundException e) {
                     if(configuration.isIgnoreSheetNotFound()){
@@ -209,11 +298,7 @@ public class XlsSaver {
                 }
             }
     
-            if(configuration.isFormulaRecalcurationOnSave()) {
-                book.setForceFormulaRecalculation(true);
-            }
-    
-            book.write(xlsOut);
+            writeWorkbook(book, streamingWriters, xlsOut);
     
             return multipleResult;
             
@@ -222,151 +307,148 @@ public class XlsSaver {
     }
 
     /**
-     * 任意のクラスのオブジェクトを、Excelシートにマッピングする。
-     * @param sheet
-     * @param beanObj
-     * @param configuration
-     * @param work
-     * @throws XlsMapperException
+     * テンプレートのファイルを読み込む。
+     * <p>{@link Configuration#getWorkbookTemplateCache()}が設定されている場合は、キャッシュから読み込みます。</p>
+     *
+     * @param templateXlsIn 雛形となるExcelファイルの入力
+     * @return 書き込み用のワークブック
+     * @throws IOException テンプレｰトのファイルの読み込みに失敗した場合
      */
-    private <P> SheetBindingErrors<P> saveSheet(final Sheet sheet, final P beanObj, final AnnotationReader annoReader)
-            throws XlsMapperException {
-
-        final Class<?> clazz = beanObj.getClass();
-
-        final SheetBindingErrors<P> errors =  configuration.getBindingErrorsFactory().create(beanObj);
-        errors.setSheetName(sheet.getSheetName());
-        errors.setSheetIndex(sheet.getWorkbook().getSheetIndex(sheet));
-
-        final SavingWorkObject work = new SavingWorkObject();
-        work.setAnnoReader(annoReader);
-        work.setErrors(errors);
-
-        // セルのキャッシュ情報の初期化
-        configuration.getCellFormatter().init(false);
-
-        final FieldAccessorFactory adpterFactory = new FieldAccessorFactory(annoReader);
-
-        // リスナークラスの@PreSave用メソッドの実行
-        final XlsListener listenerAnno = annoReader.getAnnotation(beanObj.getClass(), XlsListener.class);
-        if(listenerAnno != null) {
-            for(Class<?> listenerClass : listenerAnno.value()) {
-                final Object listenerObj = configuration.createBean(listenerClass);
-
-                for(Method method : listenerObj.getClass().getMethods()) {
-                    if(annoReader.hasAnnotation(method, XlsPreSave.class)) {
-                        Utils.invokeNeedProcessMethod(listenerObj, method, beanObj, sheet, configuration, work.getErrors(), ProcessCase.Save);
-                    }
-                }
-            }
+    private Workbook openTemplate(final InputStream templateXlsIn) throws IOException {
 
+        final Optional<WorkbookTemplateCache> templateCache = configuration.getWorkbookTemplateCache();
+        if(templateCache.isPresent()) {
+            return templateCache.get().createWorkbook(templateXlsIn);
         }
 
-        // @PreSave用のメソッドの取得と実行
-        for(Method method : clazz.getMethods()) {
+        return WorkbookFactory.create(templateXlsIn);
+    }
 
-            final XlsPreSave preProcessAnno = annoReader.getAnnotation(method, XlsPreSave.class);
-            if(preProcessAnno != null) {
-                Utils.invokeNeedProcessMethod(beanObj, method, beanObj, sheet, configuration, work.getErrors(), ProcessCase.Save);
-            }
-        }
+    /**
+     * {@link Configuration#getWorkbookTemplateCache()}に登録したテンプレートを読み込む。
+     *
+     * @param templateId テンプレートのID
+     * @return 書き込み用のワークブック
+     * @throws IllegalStateException テンプレートのキャッシュが設定されていない、またはテンプレートが登録されていない場合
+     * @throws IOException ワークブックの作成に失敗した場合
+     */
+    private Workbook openTemplate(final String templateId) throws IOException {
 
-        final List<FieldAccessorProxy> accessorProxies = new ArrayList<>();
+        final WorkbookTemplateCache templateCache = configuration.getWorkbookTemplateCache()
+                .orElseThrow(() -> new IllegalStateException("not set WorkbookTemplateCache in Configuration."));
+        if(!templateCache.isRegistered(templateId)) {
+            throw new IllegalStateException(String.format("not registered template id '%s'.", templateId));
+        }
 
-        // public メソッドの処理
-        for(Method method : clazz.getMethods()) {
-            method.setAccessible(true);
+        return templateCache.createWorkbook(templateId);
+    }
 
-            for(Annotation anno : annoReader.getAnnotations(method)) {
+    /**
+     * 書き込み用のワークブックを開く処理。
+     */
+    @FunctionalInterface
+    private static interface TemplateOpener {
 
-                final XlsFieldProcessor annoFieldProcessor = anno.annotationType().getAnnotation(XlsFieldProcessor.class);
-                if(ClassUtils.isAccessorMethod(method) && annoFieldProcessor != null) {
+        Workbook open() throws IOException;
 
-                    // 登録済みのFieldProcessorの取得
-                    FieldProcessor<?> processor = configuration.getFieldProcessorRegistry().getProcessor(anno.annotationType());
+    }
 
-                    // アノテーションに指定されているFieldProcessorの場合
-                    if(processor == null && annoFieldProcessor.value().length > 0) {
-                        processor = configuration.createBean(annoFieldProcessor.value()[0]);
+    /**
+     * ワークブックを出力する。
+     * <p>ストリーミング形式でレコードを書き込む処理がある場合は、{@link SXSSFWorkbook}に変換して、レコードを追加してから出力します。</p>
+     *
+     * @param book 出力するワークブック
+     * @param streamingWriters ストリーミング形式でレコードを書き込む処理
+     * @param xlsOut 出力先のストリーム
+     * @throws XlsMapperException レコードの書き込みに失敗した場合
+     * @throws IOException ファイルの出力に失敗した場合
+     */
+    private void writeWorkbook(final Workbook book, final List<StreamingRecordsWriter> streamingWriters, final OutputStream xlsOut)
+            throws XlsMapperException, IOException {
 
-                    }
+        if(streamingWriters.isEmpty()) {
+            if(configuration.isFormulaRecalcurationOnSave()) {
+                book.setForceFormulaRecalculation(true);
+            }
 
-                    if(processor != null) {
-                        final FieldAccessor accessor = adpterFactory.create(method);
+            book.write(xlsOut);
+            return;
+        }
 
-                        final FieldAccessorProxy accessorProxy = new FieldAccessorProxy(anno, processor, accessor);
-                        if(!accessorProxies.contains(accessorProxy)) {
-                            accessorProxies.add(accessorProxy);
-                        }
+        final SXSSFWorkbook streamingBook = new SXSSFWorkbook((XSSFWorkbook)book, configuration.getStreamingSaveWindowSize());
+        try {
+            for(StreamingRecordsWriter writer : streamingWriters) {
+                writer.write(streamingBook.getSheet(writer.getSheetName()));
+            }
 
-                    } else {
-                        // FieldProcessorが見つからない場合
-                        throw new AnnotationInvalidException(anno, MessageBuilder.create("anno.XlsFieldProcessor.notResolve")
-                                .varWithAnno("anno", anno.annotationType())
-                                .format());
-                    }
+            if(configuration.isFormulaRecalcurationOnSave()) {
+                streamingBook.setForceFormulaRecalculation(true);
+            }
 
-                }
+            streamingBook.write(xlsOut);
 
-                if(anno instanceof XlsPostSave) {
-                    work.addNeedPostProcess(new NeedProcess(beanObj, beanObj, method));
-                }
-            }
+        } finally {
+            // 一時ファイルの削除
+            streamingBook.dispose();
         }
 
-        // フィールドの処理
-        for(Field field : clazz.getDeclaredFields()) {
-
-            field.setAccessible(true);
-            final FieldAccessor accessor = adpterFactory.create(field);
+    }
 
-            for(Annotation anno : annoReader.getAnnotations(field)) {
+    /**
+     * 任意のクラスのオブジェクトを、Excelシートにマッピングする。
+     * @param sheet
+     * @param beanObj
+     * @param configuration
+     * @param streamingWriters ストリーミング形式でレコードを書き込む処理の格納先
+     * @throws XlsMapperException
+     */
+    private <P> SheetBindingErrors<P> saveSheet(final Sheet sheet, final P beanObj, final AnnotationReader annoReader,
+            final List<StreamingRecordsWriter> streamingWriters) throws XlsMapperException {
 
-                final XlsFieldProcessor annoFieldProcessor = anno.annotationType().getAnnotation(XlsFieldProcessor.class);
-                if(annoFieldProcessor != null) {
-                    // 登録済みのFieldProcessorの取得
-                    FieldProcessor<?> processor = configuration.getFieldProcessorRegistry().getProcessor(anno.annotationType());
+        final Class<?> clazz = beanObj.getClass();
 
-                    // アノテーションに指定されているFieldProcessorの場合
-                    if(processor == null && annoFieldProcessor.value().length > 0) {
-                        processor = configuration.createBean(annoFieldProcessor.value()[0]);
-                    }
+        final SheetBindingErrors<P> errors =  configuration.getBindingErrorsFactory().create(beanObj);
+        errors.setSheetName(sheet.getSheetName());
+        errors.setSheetIndex(sheet.getWorkbook().getSheetIndex(sheet));
 
-                    if(processor != null) {
-                        final FieldAccessorProxy accessorProxy = new FieldAccessorProxy(anno, processor, accessor);
-                        if(!accessorProxies.contains(accessorProxy)) {
-                            accessorProxies.add(accessorProxy);
-                        }
+        final SavingWorkObject work = new SavingWorkObject();
+        work.setAnnoReader(annoReader);
+        work.setErrors(errors);
 
-                    } else {
-                        // FieldProcessorが見つからない場合
-                        throw new AnnotationInvalidException(anno, MessageBuilder.create("anno.XlsFieldProcessor.notResolve")
-                                .varWithAnno("anno", anno.annotationType())
-                                .format());
-                    }
+        // クラスの解析結果の取得
+        final SheetMappingPlan plan = configuration.getMappingPlan(clazz);
 
-                }
+        // リスナークラスの@PreSave用メソッドの実行
+        for(SheetMappingPlan.ListenerMethods listener : plan.getListeners()) {
+            final Object listenerObj = configuration.createBean(listener.getListenerClass());
+            for(Method method : listener.resolve(listenerObj).getPreSaveMethods()) {
+                Utils.invokeNeedProcessMethod(listenerObj, method, beanObj, sheet, configuration, work.getErrors(), ProcessCase.Save);
             }
+        }
 
+        // @PreSave用のメソッドの実行
+        for(Method method : plan.getPreSaveMethods()) {
+            Utils.invokeNeedProcessMethod(beanObj, method, beanObj, sheet, configuration, work.getErrors(), ProcessCase.Save);
         }
 
-        // 順番を並び替えて保存処理を実行する
-        Collections.sort(accessorProxies, new FieldAccessorProxyComparator());
-        for(FieldAccessorProxy accessorProxy : accessorProxies) {
+        for(Method method : plan.getPostSaveMethods()) {
+            work.addNeedPostProcess(new NeedProcess(beanObj, beanObj, method));
+        }
+
+        // 並び替え済みの順番で保存処理を実行する
+        for(FieldAccessorProxy accessorProxy : plan.getAccessorProxies()) {
             accessorProxy.saveProcess(sheet, beanObj, configuration, work);
         }
 
+        // レコードの操作による入力規則と名前の定義の範囲は、全ての表の処理後にまとめて修正する
+        work.getRecordOperationCorrector().correct(sheet, configuration);
+
         // リスナークラスの@PostSaveの取得
-        if(listenerAnno != null) {
-            for(Class<?> listenerClass : listenerAnno.value()) {
-                final Object listenerObj = configuration.createBean(listenerClass);
-                for(Method method : listenerObj.getClass().getMethods()) {
-                    if(annoReader.hasAnnotation(method, XlsPostSave.class)) {
-                        work.addNeedPostProcess(new NeedProcess(beanObj, listenerObj, method));
-                    }
-                }
+        for(SheetMappingPlan.ListenerMethods listener : plan.getListeners()) {
+            final Object listenerObj = configuration.createBean(listener.getListenerClass());
+            for(Method method : listener.resolve(listenerObj).getPostSaveMethods()) {
+                work.addNeedPostProcess(new NeedProcess(beanObj, listenerObj, method));
             }
-
         }
 
         //@PostSaveが付与されているメソッドの実行
@@ -374,6 +456,8 @@ public class XlsSaver {
             Utils.invokeNeedProcessMethod(need.getProcess(), need.getMethod(), need.getTarget(), sheet, configuration, work.getErrors(), ProcessCase.Save);
         }
 
+        streamingWriters.addAll(work.getStreamingRecordsWriters());
+
         return errors;
 
     }
@@ -29,7 +29,7 @@ import com.gh.mygreen.xlsmapper.validation.fieldvalidation.FieldFormatter;
  * {@link CellConverter}を実装するときのベースとなる抽象クラス。
  * 通常は、このクラスを継承して{@link CellConverter}を実装します。
  *
- * @version 2.0
+ * @version 2.3
  * @author T.TSUCHIE
  *
  */
@@ -97,6 +97,40 @@ public abstract class BaseCellConverter<T> implements CellConverter<T>, FieldFor
 
     @Override
     public T toObject(final Cell cell) throws XlsMapperException {
+        return toObject(cell, null);
+    }
+
+    @Override
+    public T toObject(final Cell cell, final FormulaEvaluator evaluator) throws XlsMapperException {
+
+        if(!cell.getCellType().equals(CellType.FORMULA)) {
+            return convertCell(cell, Optional.empty());
+        }
+
+        final FormulaEvaluator formulaEvaluator;
+        if(evaluator != null) {
+            formulaEvaluator = evaluator;
+        } else {
+            final Workbook workbook = cell.getSheet().getWorkbook();
+            final CreationHelper helper = workbook.getCreationHelper();
+            formulaEvaluator = helper.createFormulaEvaluator();
+        }
+
+        // 数式のセルは、他のシートのセルを参照して評価し、評価結果をセルに書き込むため、
+        // シートを並列に読み込む場合を考慮して、フォーマットから変換までを評価するインスタンスで排他制御する
+        synchronized(formulaEvaluator) {
+            return convertCell(cell, Optional.of(formulaEvaluator));
+        }
+    }
+
+    /**
+     * セルをJavaのオブジェクト型に変換します。
+     * @param cell 変換対象のセル
+     * @param formulaEvaluator 数式のセルの場合、評価するインスタンス
+     * @return 変換した値
+     * @throws XlsMapperException 変換に失敗した場合
+     */
+    private T convertCell(final Cell cell, final Optional<FormulaEvaluator> formulaEvaluator) throws XlsMapperException {
 
         final ProcessCase processCase = ProcessCase.Load;
         final String formattedValue = Utils.trim(configuration.getCellFormatter().format(cell), trimmed);
@@ -108,12 +142,14 @@ public abstract class BaseCellConverter<T> implements CellConverter<T>, FieldFor
 
         // 数式のセルの場合、予め評価しておく
         final Cell evaluatedCell;
-        if(cell.getCellType().equals(CellType.FORMULA)) {
-            final Workbook workbook = cell.getSheet().getWorkbook();
-            final CreationHelper helper = workbook.getCreationHelper();
-            final FormulaEvaluator evaluator = helper.createFormulaEvaluator();
-
-            evaluatedCell = evaluator.evaluateInCell(cell);
+        if(formulaEvaluator.isPresent()) {
+            if(configuration.isKeepFormulaOnLoad()) {
+                // 数式は残したまま、評価結果をセルにキャッシュする
+                formulaEvaluator.get().evaluateFormulaCell(cell);
+                evaluatedCell = cell;
+            } else {
+                evaluatedCell = formulaEvaluator.get().evaluateInCell(cell);
+            }
         } else {
             evaluatedCell = cell;
         }
@@ -123,7 +159,8 @@ public abstract class BaseCellConverter<T> implements CellConverter<T>, FieldFor
 
     /**
      * セルをJavaのオブジェクト型に変換します。
-     * @param evaluatedCell 数式を評価済みのセル
+     * @param evaluatedCell 数式を評価済みのセル。
+     *        {@link Configuration#isKeepFormulaOnLoad()}がtrueの場合は、評価結果をキャッシュした数式のセルとなる。
      * @param formattedValue フォーマット済みのセルの値。トリミングなど適用済み。
      * @return 変換した値を返す。
      * @throws TypeBindException 変換に失敗した場合
@@ -197,11 +234,29 @@ public abstract class BaseCellConverter<T> implements CellConverter<T>, FieldFor
 
     @Override
     public Cell toCell(final T targetValue, final Object targetBean, final Sheet sheet, final CellPosition address) throws XlsMapperException {
+        final Cell cell = POIUtils.getCell(sheet, address);
+        return toCell(targetValue, targetBean, cell, new CellStyleProxy(cell));
+    }
 
-        final ProcessCase processCase = ProcessCase.Save;
+    @Override
+    public Cell toCell(final T targetValue, final Object targetBean, final Sheet sheet, final CellPosition address,
+            final CellStyleCache styleCache) throws XlsMapperException {
         final Cell cell = POIUtils.getCell(sheet, address);
+        return toCell(targetValue, targetBean, cell, new CellStyleProxy(cell, styleCache));
+    }
 
-        final CellStyleProxy cellStyle = new CellStyleProxy(cell);
+    /**
+     * シート書き込み時のJavaオブジェクト {@literal =>} Excel Cellに変換する。
+     * @param targetValue 書き込み対象のオブジェクト。
+     * @param targetBean 書き込み対象のフィールドが設定されているJavaBeanオブジェクト。
+     * @param cell 書き込み先のセル
+     * @param cellStyle 書き込み先のセルのスタイル
+     * @return 書き込んだセル
+     * @throws XlsMapperException 変換に失敗した場合
+     */
+    private Cell toCell(final T targetValue, final Object targetBean, final Cell cell, final CellStyleProxy cellStyle) throws XlsMapperException {
+
+        final ProcessCase processCase = ProcessCase.Save;
 
         // セルの制御の設定
         if(shrinktToFit) {
@@ -231,7 +286,7 @@ public abstract class BaseCellConverter<T> implements CellConverter<T>, FieldFor
         }
 
         // 各書式に沿った値の設定
-        setupCell(cell, Optional.ofNullable(cellValue));
+        setupCell(cell, Optional.ofNullable(cellValue), cellStyle);
 
         // 数式の設定
         formulaHandler.ifPresent(handler -> {
@@ -286,6 +341,20 @@ public abstract class BaseCellConverter<T> implements CellConverter<T>, FieldFor
      */
     protected abstract void setupCell(Cell cell, Optional<T> cellValue) throws TypeBindException;
 
+    /**
+     * 書き込み時のセルに値と書式を設定します。
+     * <p>書式を変更する場合は、指定したセルのスタイルを使用します。
+     *  標準の実装では、{@link #setupCell(Cell, Optional)}を呼び出します。</p>
+     * @since 2.3
+     * @param cell 設定対象のセル
+     * @param cellValue 設定対象の値。
+     * @param cellStyle 設定対象のセルのスタイル
+     * @throws TypeBindException 変換に失敗した場合
+     */
+    protected void setupCell(final Cell cell, final Optional<T> cellValue, final CellStyleProxy cellStyle) throws TypeBindException {
+        setupCell(cell, cellValue);
+    }
+
     /**
      * フィールド情報を取得します。
      * @return フィールド情報
@@ -1,6 +1,7 @@
 package com.gh.mygreen.xlsmapper.cellconverter;
 
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.FormulaEvaluator;
 import org.apache.poi.ss.usermodel.Sheet;
 
 import com.gh.mygreen.xlsmapper.XlsMapperException;
@@ -9,7 +10,7 @@ import com.gh.mygreen.xlsmapper.util.CellPosition;
 /**
  * ExcelのCellの値とJavaオブジェクトを相互に変換するインタフェース。
  *
- * @version 2.0
+ * @version 2.3
  * @author T.TSUCHIE
  * @param <T> 変換対象のJavaのオブジェクトのタイプ
  */
@@ -23,6 +24,21 @@ public interface CellConverter<T> {
      */
     T toObject(Cell cell) throws XlsMapperException;
     
+    /**
+     * シート読み込み時のExcel Cell {@literal =>} Javaオブジェクトに変換する。
+     * <p>数式のセルを評価する際に、指定した{@link FormulaEvaluator}を使用します。
+     *  同じワークブックの変換で共有することで、数式の評価結果のキャッシュを再利用できます。</p>
+     * <p>標準の実装では、{@link #toObject(Cell)}を呼び出します。</p>
+     * @since 2.3
+     * @param cell 読み込み対象のセル
+     * @param evaluator 数式を評価するインスタンス。nullの場合は、必要に応じて作成します。
+     * @return 変換したJavaオブジェクト
+     * @throws XlsMapperException 変換に失敗した場合
+     */
+    default T toObject(Cell cell, FormulaEvaluator evaluator) throws XlsMapperException {
+        return toObject(cell);
+    }
+    
     /**
      * シート書き込み時のJavaオブジェクト {@literal =>} Excel Cellに変換する。
      * @param targetValue 書き込み対象のオブジェクト。
@@ -35,4 +51,22 @@ public interface CellConverter<T> {
     Cell toCell(T targetValue, Object targetBean, Sheet sheet, CellPosition address)
             throws XlsMapperException;
     
+    /**
+     * シート書き込み時のJavaオブジェクト {@literal =>} Excel Cellに変換する。
+     * <p>セルのスタイルを変更する際に、指定した{@link CellStyleCache}で作成済みのスタイルを再利用します。</p>
+     * <p>標準の実装では、{@link #toCell(Object, Object, Sheet, CellPosition)}を呼び出します。</p>
+     * @since 2.3
+     * @param targetValue 書き込み対象のオブジェクト。
+     * @param targetBean 書き込み対象のフィールドが設定されているJavaBeanオブジェクト。
+     * @param sheet 書き込み先のシート
+     * @param address 書き込み先のセルのアドレス
+     * @param styleCache 作成したスタイルのキャッシュ
+     * @return 書き込んだセル
+     * @throws XlsMapperException 変換に失敗した場合
+     */
+    default Cell toCell(T targetValue, Object targetBean, Sheet sheet, CellPosition address, CellStyleCache styleCache)
+            throws XlsMapperException {
+        return toCell(targetValue, targetBean, sheet, address);
+    }
+    
 }
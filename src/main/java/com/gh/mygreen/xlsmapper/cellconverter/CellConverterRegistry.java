@@ -12,9 +12,12 @@ import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
+import com.gh.mygreen.xlsmapper.Configuration;
 import com.gh.mygreen.xlsmapper.cellconverter.impl.ArrayCellConverterFactory;
 import com.gh.mygreen.xlsmapper.cellconverter.impl.BigDecimalCellConverterFactory;
 import com.gh.mygreen.xlsmapper.cellconverter.impl.BigIntegerCellConverterFactory;
@@ -40,6 +43,7 @@ import com.gh.mygreen.xlsmapper.cellconverter.impl.SqlTimeCellConverterFactory;
 import com.gh.mygreen.xlsmapper.cellconverter.impl.SqlTimestampCellConverterFactory;
 import com.gh.mygreen.xlsmapper.cellconverter.impl.StringCellConverterFactory;
 import com.gh.mygreen.xlsmapper.cellconverter.impl.URICellConverterFactory;
+import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessor;
 import com.gh.mygreen.xlsmapper.util.ArgUtils;
 
 
@@ -47,7 +51,7 @@ import com.gh.mygreen.xlsmapper.util.ArgUtils;
  * ExcelのCell {@literal <=>} Javaオブジェクト の相互変換をする{@link CellConverter}を管理するクラス。
  * 独自の{@link CellConverter}を登録したりする場合は、このクラスを経由する。
  * 
- * @version 1.0
+ * @version 2.3
  * @author T.TSUCHIE
  *
  */
@@ -60,6 +64,13 @@ public class CellConverterRegistry {
      */
     private Map<Class<?>, CellConverterFactory<?>> converterFactoryMap;
     
+    /**
+     * 組み立てた{@link CellConverter}のキャッシュ情報
+     * ・key = 設定情報、フィールド、変換対象のクラスタイプの組み合わせ
+     * ・value = Converterクラスのインスタンス。
+     */
+    private final Map<ConverterKey, CellConverter<?>> converterCache = new ConcurrentHashMap<>();
+    
     public CellConverterRegistry() {
         init();
     }
@@ -76,6 +87,8 @@ public class CellConverterRegistry {
             converterFactoryMap.clear();
         }
         
+        clearConverterCache();
+        
         registerConverter(Boolean.class, new BooleanCellConverterFactory());
         registerConverter(boolean.class, new BooleanCellConverterFactory());
         
@@ -164,6 +177,103 @@ public class CellConverterRegistry {
         ArgUtils.notNull(converterFactory, "converterFactory");
         
         converterFactoryMap.put(clazz, converterFactory);
+        
+        // 登録済みのFactoryで組み立てたConverterを使用しないようにする
+        clearConverterCache();
+    }
+    
+    /**
+     * フィールドに対する{@link CellConverter}を取得します。
+     * <p>{@link Configuration#isCacheMappingPlan()}がtrueの場合、設定情報とフィールドとクラスタイプの組み合わせごとに
+     *  組み立てたインスタンスをキャッシュします。</p>
+     * <p>キャッシュは、{@link #registerConverter(Class, CellConverterFactory)}や{@link #clearConverterCache()}を呼び出したときにクリアされます。</p>
+     * 
+     * @since 2.3
+     * @param accessor フィールド情報
+     * @param targetType 変換対象のクラスタイプ
+     * @param config システム設定
+     * @param creator キャッシュしていない場合に、{@link CellConverter}を組み立てる処理
+     * @return {@link CellConverter}のインスタンス
+     * @throws IllegalArgumentException {@literal accessor == null or targetType == null or config == null or creator == null.}
+     */
+    public CellConverter<?> getCellConverter(final FieldAccessor accessor, final Class<?> targetType, final Configuration config,
+            final Supplier<CellConverter<?>> creator) {
+        
+        ArgUtils.notNull(accessor, "accessor");
+        ArgUtils.notNull(targetType, "targetType");
+        ArgUtils.notNull(config, "config");
+        ArgUtils.notNull(creator, "creator");
+        
+        if(!config.isCacheMappingPlan()) {
+            return creator.get();
+        }
+        
+        final ConverterKey key = new ConverterKey(config, accessor.getNameWithClass(), targetType);
+        CellConverter<?> converter = converterCache.get(key);
+        if(converter == null) {
+            // Converterの組み立て中に、他のConverterを取得する場合があるため、computeIfAbsentは使用しない
+            converter = creator.get();
+            final CellConverter<?> existing = converterCache.putIfAbsent(key, converter);
+            if(existing != null) {
+                converter = existing;
+            }
+        }
+        
+        return converter;
+    }
+    
+    /**
+     * 組み立てた{@link CellConverter}のキャッシュをクリアします。
+     * <p>{@link CellConverterFactory}の設定を変更したときなどに呼び出します。</p>
+     * @since 2.3
+     */
+    public void clearConverterCache() {
+        converterCache.clear();
+    }
+    
+    /**
+     * {@link CellConverter}のキャッシュのキー
+     *
+     * @since 2.3
+     */
+    private static class ConverterKey {
+        
+        /**
+         * 設定情報。インスタンスが同じかで比較する。
+         */
+        private final Configuration config;
+        
+        private final String nameWithClass;
+        
+        private final Class<?> targetType;
+        
+        private ConverterKey(final Configuration config, final String nameWithClass, final Class<?> targetType) {
+            this.config = config;
+            this.nameWithClass = nameWithClass;
+            this.targetType = targetType;
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(config), nameWithClass, targetType);
+        }
+        
+        @Override
+        public boolean equals(final Object obj) {
+            if(this == obj) {
+                return true;
+            }
+            
+            if(!(obj instanceof ConverterKey)) {
+                return false;
+            }
+            
+            final ConverterKey other = (ConverterKey) obj;
+            return config == other.config
+                    && nameWithClass.equals(other.nameWithClass)
+                    && targetType.equals(other.targetType);
+        }
+        
     }
     
 }
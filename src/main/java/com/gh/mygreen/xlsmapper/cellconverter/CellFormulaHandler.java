@@ -16,6 +16,8 @@ import com.gh.mygreen.xlsmapper.Configuration;
 import com.gh.mygreen.xlsmapper.XlsMapperException;
 import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessor;
 import com.gh.mygreen.xlsmapper.localization.MessageBuilder;
+import com.gh.mygreen.xlsmapper.localization.MessageInterpolator;
+import com.gh.mygreen.xlsmapper.localization.MessageTemplate;
 import com.gh.mygreen.xlsmapper.util.ArgUtils;
 import com.gh.mygreen.xlsmapper.util.CellPosition;
 import com.gh.mygreen.xlsmapper.util.Utils;
@@ -23,6 +25,7 @@ import com.gh.mygreen.xlsmapper.util.Utils;
 /**
  * セルの数式を処理する
  *
+ * @version 2.3
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -34,6 +37,12 @@ public class CellFormulaHandler {
      */
     private Optional<String> formula = Optional.empty();
     
+    /**
+     * 解析済みの数式のキャッシュ。
+     * <p>レコードごとに数式を解析しないように、最初に組み立てるときに解析する。</p>
+     */
+    private volatile MessageTemplate formulaTemplate;
+    
     /**
      * 数式を取得するメソッドを指定している場合
      */
@@ -123,7 +132,7 @@ public class CellFormulaHandler {
             vars.put("targetBean", targetBean);
             vars.put("cell", cell);
             
-            return config.getFormulaFormatter().interpolate(formula.get(), vars);
+            return getFormulaTemplate(config).format(vars);
             
         } else if(method.isPresent()) {
             
@@ -173,6 +182,25 @@ public class CellFormulaHandler {
         
     }
     
+    /**
+     * 解析済みの数式を取得する。
+     * <p>システム設定の数式のフォーマッタが変更されている場合は、再度解析する。</p>
+     * @param config システム情報設定
+     * @return 解析済みの数式
+     */
+    private MessageTemplate getFormulaTemplate(final Configuration config) {
+        
+        final MessageInterpolator formulaFormatter = config.getFormulaFormatter();
+        
+        MessageTemplate template = formulaTemplate;
+        if(template == null || template.getInterpolator() != formulaFormatter) {
+            template = formulaFormatter.compile(formula.get());
+            this.formulaTemplate = template;
+        }
+        
+        return template;
+    }
+    
     /**
      * セルの値が設定済みの時に、数式の設定を優先するかどうか。
      */
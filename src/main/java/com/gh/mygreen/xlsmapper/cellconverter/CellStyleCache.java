@@ -0,0 +1,68 @@
+package com.gh.mygreen.xlsmapper.cellconverter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Workbook;
+
+import com.gh.mygreen.xlsmapper.util.ArgUtils;
+
+/**
+ * {@link CellStyleProxy}で作成したスタイルのキャッシュ。
+ * <p>元のスタイルと変更内容をキーにして、作成したスタイルを保持します。
+ *  1回の書き込み処理の間のみ使用し、同じ変更を行うセル間でスタイルを共有します。</p>
+ * <p>スレッドセーフではないため、複数のスレッドから使用しないでください。</p>
+ *
+ * @since 2.3
+ * @author T.TSUCHIE
+ *
+ */
+public class CellStyleCache {
+
+    private final Workbook workbook;
+
+    /**
+     * キーは元のスタイルのインデックスと変更内容、値は作成したスタイル。
+     */
+    private final Map<String, CellStyle> styles = new HashMap<>();
+
+    /**
+     * ワークブックを指定してインスタンスを作成する。
+     * @param workbook スタイルを作成するワークブック
+     * @throws IllegalArgumentException {@literal workbook is null.}
+     */
+    public CellStyleCache(final Workbook workbook) {
+        ArgUtils.notNull(workbook, "workbook");
+        this.workbook = workbook;
+    }
+
+    /**
+     * スタイルを作成するワークブックを取得します。
+     * @return ワークブック
+     */
+    public Workbook getWorkbook() {
+        return workbook;
+    }
+
+    /**
+     * 元のスタイルに変更を加えたスタイルを取得します。
+     * <p>作成済みでない場合は、元のスタイルをコピーして変更を加えたスタイルを作成します。</p>
+     * @param source 元のスタイル
+     * @param modification 変更内容を表す文字列。キャッシュのキーとして使用する。
+     * @param modifier スタイルを変更する処理
+     * @return 変更を加えたスタイル
+     */
+    CellStyle getOrCreate(final CellStyle source, final String modification, final Consumer<CellStyle> modifier) {
+
+        final String key = Short.toUnsignedInt(source.getIndex()) + ":" + modification;
+        return styles.computeIfAbsent(key, k -> {
+            final CellStyle style = workbook.createCellStyle();
+            style.cloneStyleFrom(source);
+            modifier.accept(style);
+            return style;
+        });
+    }
+
+}
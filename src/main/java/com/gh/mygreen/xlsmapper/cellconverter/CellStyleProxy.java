@@ -1,5 +1,7 @@
 package com.gh.mygreen.xlsmapper.cellconverter;
 
+import java.util.function.Consumer;
+
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.HorizontalAlignment;
@@ -13,7 +15,11 @@ import com.gh.mygreen.xlsmapper.util.Utils;
 /**
  * セルのスタイルを管理するクラス。
  * <p>既存のものを異なる設定をするならば、新しくする。</p>
+ * <p>{@link CellStyleCache}を指定した場合、新しく作成したスタイルは、元のスタイルと変更内容をキーにしてキャッシュし、
+ *  同じ変更を行うセル間で共有します。
+ * </p>
  *
+ * @version 2.3
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -22,6 +28,11 @@ public class CellStyleProxy {
 
     private final Cell cell;
 
+    /**
+     * 作成したスタイルのキャッシュ。キャッシュしない場合はnull。
+     */
+    private final CellStyleCache styleCache;
+
     /**
      * 既にスタイルを新しくしたかどうか。
      */
@@ -29,6 +40,7 @@ public class CellStyleProxy {
 
     /**
      * セルを指定してインスタンスを作成する。
+     * <p>作成したスタイルは、他のセルと共有しません。</p>
      * @param cell 管理対象のセル
      * @throws IllegalArgumentException {@literal cell is null.}
      */
@@ -36,21 +48,53 @@ public class CellStyleProxy {
         ArgUtils.notNull(cell, "cell");
 
         this.cell = cell;
+        this.styleCache = null;
         this.updated = false;
     }
 
-    private void cloneStyle() {
-        if(updated) {
-            // 既に更新済みの場合
-            return;
+    /**
+     * セルとスタイルのキャッシュを指定してインスタンスを作成する。
+     * @since 2.3
+     * @param cell 管理対象のセル
+     * @param styleCache 作成したスタイルのキャッシュ
+     * @throws IllegalArgumentException {@literal cell is null or styleCache is null.}
+     * @throws IllegalArgumentException キャッシュのワークブックが、セルのワークブックと異なる場合。
+     */
+    public CellStyleProxy(final Cell cell, final CellStyleCache styleCache) {
+        ArgUtils.notNull(cell, "cell");
+        ArgUtils.notNull(styleCache, "styleCache");
+
+        if(styleCache.getWorkbook() != cell.getSheet().getWorkbook()) {
+            throw new IllegalArgumentException("styleCache should be created for the workbook of the cell.");
         }
 
-        CellStyle style = cell.getSheet().getWorkbook().createCellStyle();
-        style.cloneStyleFrom(cell.getCellStyle());
-        cell.setCellStyle(style);
+        this.cell = cell;
+        this.styleCache = styleCache;
+        this.updated = false;
+    }
+
+    /**
+     * 現在のスタイルを元に、変更を加えたスタイルをセルに設定する。
+     * <p>キャッシュを指定した場合、同じスタイルに同じ変更を加えたスタイルを作成済みであれば、それを再利用する。</p>
+     * @param modification 変更内容を表す文字列。キャッシュのキーとして使用する。
+     * @param modifier スタイルを変更する処理
+     */
+    private void updateStyle(final String modification, final Consumer<CellStyle> modifier) {
+
+        if(styleCache == null) {
+            // キャッシュしない場合は、セルごとにスタイルを作成する
+            if(!updated) {
+                final CellStyle style = cell.getSheet().getWorkbook().createCellStyle();
+                style.cloneStyleFrom(cell.getCellStyle());
+                cell.setCellStyle(style);
+                this.updated = true;
+            }
+
+            modifier.accept(cell.getCellStyle());
+            return;
+        }
 
-        // 更新フラグをtrueにする
-        this.updated = true;
+        cell.setCellStyle(styleCache.getOrCreate(cell.getCellStyle(), modification, modifier));
     }
 
     /**
@@ -69,9 +113,10 @@ public class CellStyleProxy {
             return;
         }
 
-        cloneStyle();
-        cell.getCellStyle().setShrinkToFit(false);
-        cell.getCellStyle().setWrapText(true);
+        updateStyle("wrapText", style -> {
+            style.setShrinkToFit(false);
+            style.setWrapText(true);
+        });
     }
 
     /**
@@ -83,9 +128,10 @@ public class CellStyleProxy {
             return;
         }
 
-        cloneStyle();
-        cell.getCellStyle().setWrapText(false);
-        cell.getCellStyle().setShrinkToFit(true);
+        updateStyle("shrinkToFit", style -> {
+            style.setWrapText(false);
+            style.setShrinkToFit(true);
+        });
     }
 
     /**
@@ -99,8 +145,7 @@ public class CellStyleProxy {
             return;
         }
 
-        cloneStyle();
-        cell.getCellStyle().setIndention(indent);
+        updateStyle("indent=" + indent, style -> style.setIndention(indent));
 
     }
 
@@ -115,8 +160,7 @@ public class CellStyleProxy {
             return;
         }
 
-        cloneStyle();
-        cell.getCellStyle().setAlignment(align);
+        updateStyle("align=" + align.name(), style -> style.setAlignment(align));
     }
 
     /**
@@ -130,8 +174,7 @@ public class CellStyleProxy {
             return;
         }
 
-        cloneStyle();
-        cell.getCellStyle().setVerticalAlignment(align);
+        updateStyle("verticalAlign=" + align.name(), style -> style.setVerticalAlignment(align));
     }
 
     /**
@@ -146,8 +189,8 @@ public class CellStyleProxy {
             return;
         }
 
-        cloneStyle();
-        cell.getCellStyle().setDataFormat(POIUtils.getDataFormatIndex(cell.getSheet(), pattern));
+        updateStyle("dataFormat=" + pattern,
+                style -> style.setDataFormat(POIUtils.getDataFormatIndex(cell.getSheet(), pattern)));
 
     }
 
@@ -19,7 +19,7 @@ import com.gh.mygreen.xlsmapper.util.Utils;
  * 日時型のConverterの抽象クラス。
  * <p>{@link Date}を継承している<code>javax.sql.Time/Date/Timestamp</code>はこのクラスを継承して作成します。</p>
  *
- * @version 2.0
+ * @version 2.3
  * @author T.TSUCHIE
  *
  */
@@ -44,7 +44,7 @@ public abstract class AbstractDateCellConverter<T extends Date> extends BaseCell
     @Override
     protected T parseCell(final Cell evaluatedCell, final String formattedValue) throws TypeBindException {
 
-        if(evaluatedCell.getCellType().equals(CellType.NUMERIC)) {
+        if(POIUtils.getEvaluatedCellType(evaluatedCell).equals(CellType.NUMERIC)) {
             return convertTypeValue(evaluatedCell.getDateCellValue());
 
         } else if(!formattedValue.isEmpty()) {
@@ -63,9 +63,13 @@ public abstract class AbstractDateCellConverter<T extends Date> extends BaseCell
 
     @Override
     protected void setupCell(final Cell cell, final Optional<T> cellValue) throws TypeBindException {
+        setupCell(cell, cellValue, new CellStyleProxy(cell));
+    }
+
+    @Override
+    protected void setupCell(final Cell cell, final Optional<T> cellValue, final CellStyleProxy cellStyle) throws TypeBindException {
 
         // 書式を設定する
-        final CellStyleProxy cellStyle = new CellStyleProxy(cell);
         cellStyle.setDataFormat(settingExcelPattern.orElse(null), defaultExcelPattern, getConfiguration().getCellFormatter());
 
         if(cellValue.isPresent()) {
@@ -24,6 +24,7 @@ import com.gh.mygreen.xlsmapper.util.Utils;
 /**
  * {@link Date}または、その子クラスに対する{@link CellConverterFactory}のベースクラス。
  *
+ * @version 2.3
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -54,14 +55,14 @@ public abstract class AbstractDateCellConverterFactory<T extends Date> extends C
     protected TextFormatter<T> createTextFormatter(final FieldAccessor field, final Configuration config) {
 
         final Optional<XlsDateTimeConverter> converterAnno = field.getAnnotation(XlsDateTimeConverter.class);
-        DateFormat formatter = createFormatter(converterAnno);
+        final ThreadLocalFormat<DateFormat> formatter = new ThreadLocalFormat<>(createFormatter(converterAnno));
 
         return new TextFormatter<T>() {
 
             @Override
             public T parse(final String text) {
                 try {
-                    return parseString(formatter, text);
+                    return parseString(formatter.get(), text);
 
                 } catch(ParseException e) {
                     final Map<String, Object> vars = new HashMap<>();
@@ -74,7 +75,7 @@ public abstract class AbstractDateCellConverterFactory<T extends Date> extends C
 
             @Override
             public String format(final T value) {
-                return formatter.format(value);
+                return formatter.get().format(value);
             }
         };
 
@@ -94,29 +95,28 @@ public abstract class AbstractDateCellConverterFactory<T extends Date> extends C
 
     /**
      * アノテーションを元に日時のフォーマッタを作成する。
+     * <p>同じ書式のフォーマッタはキャッシュしておき、複製したインスタンスを返す。</p>
      * @param converterAnno アノテーション
      * @return 日時のフォーマッタ
      */
     protected DateFormat createFormatter(final Optional<XlsDateTimeConverter> converterAnno) {
 
         final boolean lenient = converterAnno.map(a -> a.lenient()).orElse(false);
-        if(!converterAnno.isPresent()) {
-            SimpleDateFormat formatter = new SimpleDateFormat(getDefaultJavaPattern());
-            formatter.setLenient(lenient);
-            return formatter;
-        }
-
         final String pattern = getJavaPattern(converterAnno);
 
-        final Locale locale = Utils.getLocale(converterAnno.get().locale());
-        final TimeZone timeZone = converterAnno.get().timezone().isEmpty() ? TimeZone.getDefault()
-                : TimeZone.getTimeZone(converterAnno.get().timezone());
+        final Locale locale = converterAnno.map(a -> Utils.getLocale(a.locale())).orElse(Locale.getDefault(Locale.Category.FORMAT));
+        final TimeZone timeZone = converterAnno.map(a -> a.timezone()).filter(tz -> !tz.isEmpty())
+                .map(TimeZone::getTimeZone)
+                .orElse(TimeZone.getDefault());
 
-        final SimpleDateFormat formatter = new SimpleDateFormat(pattern, locale);
-        formatter.setLenient(lenient);
-        formatter.setTimeZone(timeZone);
+        final SimpleDateFormat formatter = FormatterCache.get(SimpleDateFormat.class, () -> {
+            final SimpleDateFormat format = new SimpleDateFormat(pattern, locale);
+            format.setLenient(lenient);
+            format.setTimeZone(timeZone);
+            return format;
+        }, pattern, locale, timeZone.getID(), lenient);
 
-        return formatter;
+        return (DateFormat) formatter.clone();
     }
 
     private String getJavaPattern(final Optional<XlsDateTimeConverter> converterAnno) {
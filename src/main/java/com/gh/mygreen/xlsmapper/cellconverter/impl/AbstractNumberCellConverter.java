@@ -13,6 +13,7 @@ import com.gh.mygreen.xlsmapper.cellconverter.CellStyleProxy;
 import com.gh.mygreen.xlsmapper.cellconverter.TypeBindException;
 import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessor;
 import com.gh.mygreen.xlsmapper.textformatter.TextParseException;
+import com.gh.mygreen.xlsmapper.util.POIUtils;
 import com.gh.mygreen.xlsmapper.util.Utils;
 
 
@@ -20,7 +21,7 @@ import com.gh.mygreen.xlsmapper.util.Utils;
  * 数値型のConverterの抽象クラス。
  * <p>数値型のConverterは、基本的にこのクラスを継承して作成する。</p>
  *
- * @version 2.0
+ * @version 2.3
  * @author T.TSUCHIE
  *
  */
@@ -44,7 +45,7 @@ public abstract class AbstractNumberCellConverter<T extends Number> extends Base
     @Override
     protected T parseCell(final Cell evaluatedCell, final String formattedValue) throws TypeBindException {
 
-        if(evaluatedCell.getCellType().equals(CellType.NUMERIC)) {
+        if(POIUtils.getEvaluatedCellType(evaluatedCell).equals(CellType.NUMERIC)) {
             try {
                 return convertTypeValue(new BigDecimal(evaluatedCell.getNumericCellValue(), mathContext));
 
@@ -86,9 +87,13 @@ public abstract class AbstractNumberCellConverter<T extends Number> extends Base
 
     @Override
     protected void setupCell(final Cell cell, final Optional<T> cellValue) throws TypeBindException {
+        setupCell(cell, cellValue, new CellStyleProxy(cell));
+    }
+
+    @Override
+    protected void setupCell(final Cell cell, final Optional<T> cellValue, final CellStyleProxy cellStyle) throws TypeBindException {
 
         // 書式を設定する
-        final CellStyleProxy cellStyle = new CellStyleProxy(cell);
 
         excelPattern.ifPresent(pattern -> {
             cellStyle.setDataFormat(pattern, getConfiguration().getCellFormatter());
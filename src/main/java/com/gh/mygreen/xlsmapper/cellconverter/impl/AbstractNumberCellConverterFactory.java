@@ -27,6 +27,7 @@ import com.gh.mygreen.xlsmapper.util.Utils;
 /**
  * 数値型のCellConverterを作成するためのベースクラス。
  *
+ * @version 2.3
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -62,7 +63,7 @@ public abstract class AbstractNumberCellConverterFactory<T extends Number> exten
         final MathContext mathContext = createMathContext(convertAnno);
         
         if(numberFormat.isPresent()) {
-            final NumberFormat fromatter = numberFormat.get();
+            final ThreadLocalFormat<NumberFormat> fromatter = new ThreadLocalFormat<>(numberFormat.get());
             
             // 書式が指定されている場合
             return new TextFormatter<T>() {
@@ -70,7 +71,7 @@ public abstract class AbstractNumberCellConverterFactory<T extends Number> exten
                 @Override
                 public T parse(final String text) {
                     ParsePosition position = new ParsePosition(0);
-                    BigDecimal number = (BigDecimal) fromatter.parse(text, position);
+                    BigDecimal number = (BigDecimal) fromatter.get().parse(text, position);
                     
                     if(position.getIndex() != text.length()) {
                         throw new TextParseException(text, field.getType());
@@ -91,7 +92,7 @@ public abstract class AbstractNumberCellConverterFactory<T extends Number> exten
                 
                 @Override
                 public String format(final T value) {
-                    return fromatter.format(value);
+                    return fromatter.get().format(value);
                 }
                 
             };
@@ -135,6 +136,7 @@ public abstract class AbstractNumberCellConverterFactory<T extends Number> exten
     
     /**
      * アノテーションから数値のフォーマッタを取得する。
+     * <p>同じ書式のフォーマッタはキャッシュしておき、複製したインスタンスを返す。</p>
      * @param convertAnno 引数がnull(アノテーションが設定されていない場合)は、nullを返す。
      * @return アノテーションに書式が設定されていない場合は空を返す。
      */
@@ -145,24 +147,41 @@ public abstract class AbstractNumberCellConverterFactory<T extends Number> exten
         }
         
         final Optional<String> javaPattern = getJavaPattern(convertAnno);
+        final String currencyCode = convertAnno.get().currency();
+        if(!javaPattern.isPresent() && currencyCode.isEmpty()) {
+            return Optional.empty();
+        }
+        
         final Locale locale = Utils.getLocale(convertAnno.get().locale());
+        final DecimalFormat formatter = FormatterCache.get(DecimalFormat.class,
+                () -> createDecimalFormat(javaPattern, locale, currencyCode),
+                javaPattern.orElse(null), locale, currencyCode);
+        
+        return Optional.of((NumberFormat) formatter.clone());
+        
+    }
+    
+    /**
+     * 書式を元に、数値のフォーマッタを作成する。
+     * @param javaPattern 書式。空の場合は、通貨の書式とする。
+     * @param locale ロケール
+     * @param currencyCode 通貨コード。指定しない場合は空文字。
+     * @return 数値のフォーマッタ
+     */
+    private DecimalFormat createDecimalFormat(final Optional<String> javaPattern, final Locale locale, final String currencyCode) {
+        
         final DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
-        final Optional<Currency> currency = convertAnno.get().currency().isEmpty() ? Optional.empty()
-                : Optional.of(Currency.getInstance(convertAnno.get().currency()));
+        final Optional<Currency> currency = currencyCode.isEmpty() ? Optional.empty()
+                : Optional.of(Currency.getInstance(currencyCode));
         
         if(!javaPattern.isPresent()) {
-            if(!convertAnno.get().currency().isEmpty()) {
-                // 通貨の場合
-                DecimalFormat formatter = (DecimalFormat)NumberFormat.getCurrencyInstance(locale);
-                formatter.setParseBigDecimal(true);
-                formatter.setDecimalFormatSymbols(symbols);
-                currency.ifPresent(c -> formatter.setCurrency(c));
-                
-                return Optional.of(formatter);
-                
-            } else {
-                return Optional.empty();
-            }
+            // 通貨の場合
+            DecimalFormat formatter = (DecimalFormat)NumberFormat.getCurrencyInstance(locale);
+            formatter.setParseBigDecimal(true);
+            formatter.setDecimalFormatSymbols(symbols);
+            currency.ifPresent(c -> formatter.setCurrency(c));
+            
+            return formatter;
         }
         
         final DecimalFormat formatter = new DecimalFormat(javaPattern.get(), symbols);
@@ -171,7 +190,7 @@ public abstract class AbstractNumberCellConverterFactory<T extends Number> exten
         formatter.setParseBigDecimal(true);
         currency.ifPresent(c -> formatter.setCurrency(c));
         
-        return Optional.of(formatter);
+        return formatter;
         
     }
     
@@ -21,6 +21,7 @@ import com.gh.mygreen.xlsmapper.util.Utils;
  * JSR-310 'Date and Time API' の{@link TemporalAccessor}のテンプレートクラス。
  * <p>基本的に、{@link TemporalAccessor}のサブクラスのビルダは、このクラスを継承して作成する。</p>
  *
+ * @version 2.3
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -46,7 +47,7 @@ public abstract class AbstractTemporalCellConverter<T extends TemporalAccessor &
     @Override
     protected T parseCell(final Cell evaluatedCell, final String formattedValue) throws TypeBindException {
 
-        if(evaluatedCell.getCellType().equals(CellType.NUMERIC)) {
+        if(POIUtils.getEvaluatedCellType(evaluatedCell).equals(CellType.NUMERIC)) {
             return convertFromDate(evaluatedCell.getDateCellValue());
 
         } else if(!formattedValue.isEmpty()) {
@@ -65,9 +66,13 @@ public abstract class AbstractTemporalCellConverter<T extends TemporalAccessor &
 
     @Override
     protected void setupCell(final Cell cell, final Optional<T> cellValue) throws TypeBindException {
+        setupCell(cell, cellValue, new CellStyleProxy(cell));
+    }
+
+    @Override
+    protected void setupCell(final Cell cell, final Optional<T> cellValue, final CellStyleProxy cellStyle) throws TypeBindException {
 
         // 書式を設定する
-        final CellStyleProxy cellStyle = new CellStyleProxy(cell);
         cellStyle.setDataFormat(settingExcelPattern.orElse(null), defaultExcelPattern, getConfiguration().getCellFormatter());
 
         if(cellValue.isPresent()) {
@@ -26,6 +26,7 @@ import com.gh.mygreen.xlsmapper.util.Utils;
 /**
  * {@link TemporalAccessor}の子クラスに対する{@link CellConverterFactory}のベースクラス。
  *
+ * @version 2.3
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -92,22 +93,23 @@ public abstract class AbstractTemporalCellConverterFactory<T extends TemporalAcc
         final boolean lenient = converterAnno.map(a -> a.lenient()).orElse(false);
         final ResolverStyle style = lenient ? ResolverStyle.LENIENT : ResolverStyle.STRICT;
         if(!converterAnno.isPresent()) {
-            return DateTimeFormatter.ofPattern(getDefaultJavaPattern())
-                    .withResolverStyle(style);
+            final String pattern = getDefaultJavaPattern();
+            final Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+            return FormatterCache.get(DateTimeFormatter.class,
+                    () -> DateTimeFormatter.ofPattern(pattern, locale).withResolverStyle(style),
+                    pattern, locale, style);
         }
 
-        String pattern = converterAnno.get().javaPattern();
-        if(pattern.isEmpty()) {
-            pattern = getDefaultJavaPattern();
-        }
+        final String pattern = getJavaPattern(converterAnno);
 
         final Locale locale = Utils.getLocale(converterAnno.get().locale());
         final ZoneId zone = converterAnno.get().timezone().isEmpty() ? ZoneId.systemDefault()
                 : TimeZone.getTimeZone(converterAnno.get().timezone()).toZoneId();
 
-        return DateTimeFormatter.ofPattern(pattern, locale)
-                .withResolverStyle(style)
-                .withZone(zone);
+        // DateTimeFormatterは不変なため、キャッシュしたインスタンスをそのまま共有する
+        return FormatterCache.get(DateTimeFormatter.class,
+                () -> DateTimeFormatter.ofPattern(pattern, locale).withResolverStyle(style).withZone(zone),
+                pattern, locale, style, zone);
 
     }
 
@@ -16,10 +16,12 @@ import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessor;
 import com.gh.mygreen.xlsmapper.textformatter.BooleanFormatter;
 import com.gh.mygreen.xlsmapper.textformatter.TextFormatter;
 import com.gh.mygreen.xlsmapper.textformatter.TextParseException;
+import com.gh.mygreen.xlsmapper.util.POIUtils;
 
 /**
  * {@link boolean}/{@link Boolean}型を処理する{@link CellConverter}を作成するためのファクトリクラス。
  *
+ * @version 2.3
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -63,7 +65,7 @@ public class BooleanCellConverterFactory extends CellConverterFactorySupport<Boo
         @Override
         protected Boolean parseCell(final Cell evaluatedCell, final String formattedValue) throws TypeBindException {
             
-            if(evaluatedCell.getCellType().equals(CellType.BOOLEAN)) {
+            if(POIUtils.getEvaluatedCellType(evaluatedCell).equals(CellType.BOOLEAN)) {
                 return evaluatedCell.getBooleanCellValue();
                 
             } else if(!formattedValue.isEmpty()) {
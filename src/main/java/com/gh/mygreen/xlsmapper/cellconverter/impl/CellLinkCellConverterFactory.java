@@ -18,12 +18,14 @@ import com.gh.mygreen.xlsmapper.cellconverter.TypeBindException;
 import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessor;
 import com.gh.mygreen.xlsmapper.textformatter.TextFormatter;
 import com.gh.mygreen.xlsmapper.textformatter.TextParseException;
+import com.gh.mygreen.xlsmapper.util.CellAnchorIndex;
 import com.gh.mygreen.xlsmapper.util.POIUtils;
 import com.gh.mygreen.xlsmapper.util.Utils;
 
 /**
  * {@link CellLink}型を処理する{@link CellConverter}を作成するためのファクトリクラス。
  *
+ * @version 2.3
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -75,7 +77,10 @@ public class CellLinkCellConverterFactory extends CellConverterFactorySupport<Ce
             
             final Optional<XlsTrim> trimAnno = getField().getAnnotation(XlsTrim.class);
             
-            final Hyperlink hyperlink = POIUtils.getHyperlink(evaluatedCell);
+            // 読み込み処理中のシートは、索引からハイパーリンクを取得する
+            final CellAnchorIndex anchorIndex = configuration.getCellAnchorIndexRegistry()
+                    .find(evaluatedCell.getSheet()).orElse(null);
+            final Hyperlink hyperlink = POIUtils.getHyperlink(evaluatedCell, anchorIndex);
             if(hyperlink != null) {
                 // リンクが設定されているセルは、リンクの内容を値とする
                 final String address = Utils.trim(hyperlink.getAddress(), trimAnno);
@@ -0,0 +1,48 @@
+package com.gh.mygreen.xlsmapper.cellconverter.impl;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.gh.mygreen.xlsmapper.util.LruCache;
+
+/**
+ * 書式のパターンやロケールなどの組み合わせごとに、作成したフォーマッタをキャッシュするクラス。
+ * <p>{@link com.gh.mygreen.xlsmapper.cellconverter.CellConverterFactory}でCellConverterを作成するたびに、同じ書式のフォーマッタを組み立てないようにするために使用します。</p>
+ * <p>{@link java.text.Format}のように変更可能なフォーマッタをキャッシュした場合は、取得したインスタンスを変更せずに、
+ *  {@link ThreadLocalFormat}などで複製して使用する必要があります。</p>
+ *
+ * @since 2.3
+ * @author T.TSUCHIE
+ *
+ */
+class FormatterCache {
+
+    /**
+     * キャッシュする件数の上限
+     */
+    private static final int CACHE_SIZE = 512;
+
+    private static final LruCache<List<Object>, Object> CACHE = new LruCache<>(CACHE_SIZE);
+
+    private FormatterCache() {
+        // インスタンスは作成しない
+    }
+
+    /**
+     * キーに対するフォーマッタを取得します。キャッシュしていない場合は、作成してキャッシュします。
+     * @param <F> フォーマッタのタイプ
+     * @param formatterType フォーマッタのタイプ
+     * @param supplier フォーマッタを作成する処理
+     * @param keys フォーマッタを作成する条件。パターン、ロケールなど。
+     * @return キャッシュしたフォーマッタ
+     */
+    static <F> F get(final Class<F> formatterType, final Supplier<F> supplier, final Object... keys) {
+
+        final Object[] cacheKey = Arrays.copyOf(keys, keys.length + 1);
+        cacheKey[keys.length] = formatterType;
+
+        return formatterType.cast(CACHE.computeIfAbsent(Arrays.asList(cacheKey), key -> supplier.get()));
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.gh.mygreen.xlsmapper.cellconverter.impl;
+
+import java.text.Format;
+
+/**
+ * スレッドセーフではない{@link Format}を、スレッドごとに複製して使用するためのクラス。
+ * <p>{@link java.text.SimpleDateFormat}や{@link java.text.DecimalFormat}を使用するCellConverterを、
+ *  複数のスレッドから共有できるようにするために使用します。</p>
+ *
+ * @since 2.3
+ * @author T.TSUCHIE
+ *
+ * @param <F> フォーマットのタイプ
+ */
+class ThreadLocalFormat<F extends Format> {
+
+    /**
+     * 複製元のフォーマット
+     */
+    private final F prototype;
+
+    private final ThreadLocal<F> formats;
+
+    /**
+     * コンストラクタ
+     * @param prototype 複製元のフォーマット。インスタンスは変更しません。
+     */
+    ThreadLocalFormat(final F prototype) {
+        this.prototype = prototype;
+        this.formats = ThreadLocal.withInitial(this::copyPrototype);
+    }
+
+    @SuppressWarnings("unchecked")
+    private F copyPrototype() {
+        return (F) prototype.clone();
+    }
+
+    /**
+     * 現在のスレッドで使用するフォーマットを取得します。
+     * @return 現在のスレッド用に複製したフォーマット
+     */
+    F get() {
+        return formats.get();
+    }
+
+}
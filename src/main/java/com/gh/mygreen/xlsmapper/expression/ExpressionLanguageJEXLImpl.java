@@ -15,6 +15,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.gh.mygreen.xlsmapper.util.ArgUtils;
+import com.gh.mygreen.xlsmapper.util.LruCache;
 import com.gh.mygreen.xlsmapper.util.Utils;
 
 /**
@@ -76,6 +77,11 @@ public class ExpressionLanguageJEXLImpl implements ExpressionLanguage {
     
     private final JexlEngine jexlEngine;
     
+    /**
+     * 式に対する解析済みの式のキャッシュ
+     */
+    private final LruCache<String, JexlExpression> expressionCache = new LruCache<>(CACHE_SIZE);
+    
     /**
      * デフォルトのコンストラクタ。
      * <p>パーミッションによる制限を実施する。
@@ -151,7 +157,7 @@ public class ExpressionLanguageJEXLImpl implements ExpressionLanguage {
         }
         
         try {
-            JexlExpression expr = jexlEngine.createExpression(expression);
+            JexlExpression expr = expressionCache.computeIfAbsent(expression, jexlEngine::createExpression);
             return expr.evaluate(new MapContext((Map<String, Object>) values));
             
         } catch(Exception ex) {
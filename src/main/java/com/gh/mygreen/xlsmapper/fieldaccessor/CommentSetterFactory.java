@@ -8,6 +8,7 @@ import java.lang.reflect.ParameterizedType;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -139,6 +140,7 @@ public class CommentSetterFactory {
         try {
             final Method method = beanClass.getDeclaredMethod(commentMethodName, String.class);
             method.setAccessible(true);
+            final Optional<BiConsumer<Object, Object>> setterFunction = MethodAccessorFactory.createSetter(method);
             
             return Optional.of(new CommentSetter() {
                 
@@ -149,9 +151,13 @@ public class CommentSetterFactory {
                     ArgUtils.notEmpty(comment, "comment");
                     
                     try {
-                        method.invoke(beanObj, comment);
+                        if(setterFunction.isPresent()) {
+                            setterFunction.get().accept(beanObj, comment);
+                        } else {
+                            method.invoke(beanObj, comment);
+                        }
                         
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                    } catch (IllegalAccessException | InvocationTargetException | RuntimeException e) {
                         throw new RuntimeException("fail access comments field.", e);
                     }
                     
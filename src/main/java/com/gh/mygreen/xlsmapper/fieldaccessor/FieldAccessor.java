@@ -8,6 +8,8 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import com.gh.mygreen.xlsmapper.annotation.XlsArrayColumns;
 import com.gh.mygreen.xlsmapper.annotation.XlsMapColumns;
@@ -18,7 +20,7 @@ import com.gh.mygreen.xlsmapper.util.CellPosition;
  * メソッド（setter/getter）とフィールドのアクセスを吸収するクラス。
  * <p>インスタンスは、{@link FieldAccessorFactory}から作成します。</p>
  *
- * @version 2.1
+ * @version 2.3
  * @author T.TSUCHIE
  *
  */
@@ -53,6 +55,20 @@ public class FieldAccessor {
      * Setterメソッド
      */
     Optional<Method> targetSetter = Optional.empty();
+
+    /**
+     * Getterメソッドを呼び出す関数。
+     * <p>作成できない場合は空となり、リフレクションで呼び出します。</p>
+     * @since 2.3
+     */
+    Optional<Function<Object, Object>> getterFunction = Optional.empty();
+
+    /**
+     * Setterメソッドを呼び出す関数。
+     * <p>作成できない場合は空となり、リフレクションで呼び出します。</p>
+     * @since 2.3
+     */
+    Optional<BiConsumer<Object, Object>> setterFunction = Optional.empty();
     
     /**
      * フィールドのタイプがListや配列の時の要素のクラスタイプ
@@ -199,7 +215,14 @@ public class FieldAccessor {
         
         ArgUtils.notNull(targetObj, "targetObj");
         
-        if(targetGetter.isPresent()) {
+        if(getterFunction.isPresent()) {
+            try {
+                return getterFunction.get().apply(targetObj);
+            } catch (RuntimeException e) {
+                throw new FieldAccessException(this, "fail getter value", e);
+            }
+            
+        } else if(targetGetter.isPresent()) {
             try {
                 return targetGetter.get().invoke(targetObj);
             } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
@@ -231,7 +254,14 @@ public class FieldAccessor {
     public void setValue(final Object targetObj, final Object value) {
         ArgUtils.notNull(targetObj, "targetObj");
         
-        if(targetSetter.isPresent()) {
+        if(setterFunction.isPresent()) {
+            try {
+                setterFunction.get().accept(targetObj, value);
+            } catch (RuntimeException e) {
+                throw new FieldAccessException(this, "fail setter value", e);
+            }
+            
+        } else if(targetSetter.isPresent()) {
             try {
                 targetSetter.get().invoke(targetObj, value);
             } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
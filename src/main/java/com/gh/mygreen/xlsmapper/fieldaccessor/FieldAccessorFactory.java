@@ -25,7 +25,7 @@ import com.gh.mygreen.xlsmapper.xml.AnnotationReader;
 /**
  * {@link FieldAccessor}のインスタンスを作成するクラス。
  *
- * @version 2.1
+ * @version 2.3
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -320,6 +320,7 @@ public class FieldAccessorFactory {
     private void setupWithGetter(final FieldAccessor accessor, final Method method) {
 
         accessor.targetGetter = Optional.of(method);
+        accessor.getterFunction = MethodAccessorFactory.createGetter(method);
 
         final Annotation[] annos = annoReader.getAnnotations(method);
         for(Annotation anno : annos) {
@@ -345,6 +346,7 @@ public class FieldAccessorFactory {
     private void setupWithSetter(final FieldAccessor accessor, final Method method) {
 
         accessor.targetSetter = Optional.of(method);
+        accessor.setterFunction = MethodAccessorFactory.createSetter(method);
 
         final Annotation[] annos = annoReader.getAnnotations(method);
         for(Annotation anno : annos) {
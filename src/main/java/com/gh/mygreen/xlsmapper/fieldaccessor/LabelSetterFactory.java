@@ -8,6 +8,7 @@ import java.lang.reflect.ParameterizedType;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -139,6 +140,7 @@ public class LabelSetterFactory {
         try {
             final Method method = beanClass.getDeclaredMethod(labelMethodName, String.class);
             method.setAccessible(true);
+            final Optional<BiConsumer<Object, Object>> setterFunction = MethodAccessorFactory.createSetter(method);
             
             return Optional.of(new LabelSetter() {
                 
@@ -149,9 +151,13 @@ public class LabelSetterFactory {
                     ArgUtils.notEmpty(label, "label");
                     
                     try {
-                        method.invoke(beanObj, label);
+                        if(setterFunction.isPresent()) {
+                            setterFunction.get().accept(beanObj, label);
+                        } else {
+                            method.invoke(beanObj, label);
+                        }
                         
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                    } catch (IllegalAccessException | InvocationTargetException | RuntimeException e) {
                         throw new RuntimeException("fail access labels field.", e);
                     }
                     
@@ -0,0 +1,151 @@
+package com.gh.mygreen.xlsmapper.fieldaccessor;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * getter/setterメソッドを呼び出す関数を、{@link LambdaMetafactory}を使用して作成するクラス。
+ * <p>{@link Method#invoke(Object, Object...)}による呼び出しよりも高速なため、
+ *  レコードなど、同じプロパティに繰り返しアクセスする場合のオーバーヘッドを抑えます。</p>
+ * <p>publicなクラスのpublicなメソッドで、このクラスのクラスローダーから参照できる場合のみ作成します。
+ *  作成できない場合は空を返すため、呼び出し側ではリフレクションによるアクセスにフォールバックします。</p>
+ *
+ * @since 2.3
+ * @author T.TSUCHIE
+ *
+ */
+class MethodAccessorFactory {
+
+    private static final Logger log = LoggerFactory.getLogger(MethodAccessorFactory.class);
+
+    private MethodAccessorFactory() {
+    }
+
+    /**
+     * getterメソッドを呼び出す関数を作成します。
+     * @param method getterメソッド
+     * @return 作成できない場合は空を返します。
+     */
+    @SuppressWarnings("unchecked")
+    static Optional<Function<Object, Object>> createGetter(final Method method) {
+
+        if(method.getParameterCount() != 0 || !isAccessible(method)) {
+            return Optional.empty();
+        }
+
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            final MethodHandle handle = lookup.unreflect(method);
+
+            final CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+                    MethodType.methodType(Function.class),
+                    MethodType.methodType(Object.class, Object.class),
+                    handle,
+                    MethodType.methodType(method.getReturnType(), method.getDeclaringClass()).wrap());
+
+            return Optional.of((Function<Object, Object>) site.getTarget().invoke());
+
+        } catch(Throwable e) {
+            log.debug("fail create getter function with LambdaMetafactory. method={}, cause={}", method, e.toString());
+            return Optional.empty();
+        }
+
+    }
+
+    /**
+     * setterメソッドを呼び出す関数を作成します。
+     * @param method setterメソッド
+     * @return 作成できない場合は空を返します。
+     */
+    @SuppressWarnings("unchecked")
+    static Optional<BiConsumer<Object, Object>> createSetter(final Method method) {
+
+        if(method.getParameterCount() != 1 || !isAccessible(method)) {
+            return Optional.empty();
+        }
+
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            final MethodHandle handle = lookup.unreflect(method);
+
+            // プリミティブ型の引数は、ラッパークラスからアンボクシングする
+            final Class<?> valueType = MethodType.methodType(method.getParameterTypes()[0]).wrap().returnType();
+
+            final CallSite site = LambdaMetafactory.metafactory(lookup, "accept",
+                    MethodType.methodType(BiConsumer.class),
+                    MethodType.methodType(void.class, Object.class, Object.class),
+                    handle,
+                    MethodType.methodType(void.class, method.getDeclaringClass(), valueType));
+
+            return Optional.of((BiConsumer<Object, Object>) site.getTarget().invoke());
+
+        } catch(Throwable e) {
+            log.debug("fail create setter function with LambdaMetafactory. method={}, cause={}", method, e.toString());
+            return Optional.empty();
+        }
+
+    }
+
+    /**
+     * このクラスから、メソッドを直接呼び出せるかどうか判定します。
+     * @param method 判定対象のメソッド
+     * @return trueの場合、呼び出せます。
+     */
+    private static boolean isAccessible(final Method method) {
+
+        final int modifiers = method.getModifiers();
+        if(Modifier.isStatic(modifiers) || !Modifier.isPublic(modifiers)) {
+            return false;
+        }
+
+        if(!isAccessible(method.getDeclaringClass()) || !isAccessible(method.getReturnType())) {
+            return false;
+        }
+
+        for(Class<?> parameterType : method.getParameterTypes()) {
+            if(!isAccessible(parameterType)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * このクラスから、クラスを参照できるかどうか判定します。
+     * @param type 判定対象のクラス
+     * @return trueの場合、参照できます。
+     */
+    private static boolean isAccessible(final Class<?> type) {
+
+        if(type.isPrimitive()) {
+            return true;
+
+        } else if(type.isArray()) {
+            return isAccessible(type.getComponentType());
+
+        } else if(!Modifier.isPublic(type.getModifiers())) {
+            return false;
+        }
+
+        // 作成した関数は、このクラスのクラスローダーから参照するため、同じクラスが見えること
+        try {
+            return Class.forName(type.getName(), false, MethodAccessorFactory.class.getClassLoader()) == type;
+
+        } catch(ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+}
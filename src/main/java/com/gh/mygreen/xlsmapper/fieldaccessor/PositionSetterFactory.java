@@ -8,6 +8,7 @@ import java.lang.reflect.ParameterizedType;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -191,6 +192,7 @@ public class PositionSetterFactory {
         try {
             final Method method = beanClass.getDeclaredMethod(positionMethodName, CellPosition.class);
             method.setAccessible(true);
+            final Optional<BiConsumer<Object, Object>> setterFunction = MethodAccessorFactory.createSetter(method);
             
             return Optional.of(new PositionSetter() {
                 
@@ -201,9 +203,13 @@ public class PositionSetterFactory {
                     ArgUtils.notNull(position, "position");
                     
                     try {
-                        method.invoke(beanObj, position);
+                        if(setterFunction.isPresent()) {
+                            setterFunction.get().accept(beanObj, position);
+                        } else {
+                            method.invoke(beanObj, position);
+                        }
                         
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                    } catch (IllegalAccessException | InvocationTargetException | RuntimeException e) {
                         throw new RuntimeException("fail access position field.", e);
                     }
                     
@@ -217,6 +223,7 @@ public class PositionSetterFactory {
         try {
             final Method method = beanClass.getDeclaredMethod(positionMethodName, Point.class);
             method.setAccessible(true);
+            final Optional<BiConsumer<Object, Object>> setterFunction = MethodAccessorFactory.createSetter(method);
             
             return Optional.of(new PositionSetter() {
                 
@@ -225,9 +232,13 @@ public class PositionSetterFactory {
                 public void set(final Object beanObj, final CellPosition position) {
                     
                     try {
-                        method.invoke(beanObj, position.toPoint());
+                        if(setterFunction.isPresent()) {
+                            setterFunction.get().accept(beanObj, position.toPoint());
+                        } else {
+                            method.invoke(beanObj, position.toPoint());
+                        }
                         
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                    } catch (IllegalAccessException | InvocationTargetException | RuntimeException e) {
                         throw new RuntimeException("fail access position field.", e);
                     }
                     
@@ -241,6 +252,7 @@ public class PositionSetterFactory {
         try {
             final Method method = beanClass.getDeclaredMethod(positionMethodName, org.apache.poi.ss.util.CellAddress.class);
             method.setAccessible(true);
+            final Optional<BiConsumer<Object, Object>> setterFunction = MethodAccessorFactory.createSetter(method);
             
             return Optional.of(new PositionSetter() {
                 
@@ -251,9 +263,13 @@ public class PositionSetterFactory {
                     ArgUtils.notNull(position, "position");
                     
                     try {
-                        method.invoke(beanObj, position.toCellAddress());
+                        if(setterFunction.isPresent()) {
+                            setterFunction.get().accept(beanObj, position.toCellAddress());
+                        } else {
+                            method.invoke(beanObj, position.toCellAddress());
+                        }
                         
-                    } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                    } catch (IllegalAccessException | InvocationTargetException | RuntimeException e) {
                         throw new RuntimeException("fail access position field.", e);
                     }
                     
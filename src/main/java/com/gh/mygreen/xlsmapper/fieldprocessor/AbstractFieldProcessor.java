@@ -6,6 +6,7 @@ import com.gh.mygreen.xlsmapper.Configuration;
 import com.gh.mygreen.xlsmapper.annotation.XlsConverter;
 import com.gh.mygreen.xlsmapper.cellconverter.CellConverter;
 import com.gh.mygreen.xlsmapper.cellconverter.CellConverterFactory;
+import com.gh.mygreen.xlsmapper.cellconverter.CellConverterRegistry;
 import com.gh.mygreen.xlsmapper.cellconverter.ConversionException;
 import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessor;
 import com.gh.mygreen.xlsmapper.localization.MessageBuilder;
@@ -16,7 +17,7 @@ import com.gh.mygreen.xlsmapper.localization.MessageBuilder;
  * <p>通常はこのクラスを継承して作成します。</p>
  *
  * @param <A> サポートするアノテーション
- * @version 2.0
+ * @version 2.3
  * @author T.TSUCHIE
  *
  */
@@ -38,6 +39,7 @@ public abstract class AbstractFieldProcessor<A extends Annotation> implements Fi
     /**
      * 指定したタイプに対する{@link CellConverter}を取得します。
      * <p>アノテーション「{@link XlsConverter}」が付与されている場合、そちらの設定値を優先します。</p>
+     * <p>組み立てたインスタンスは、{@link CellConverterRegistry}にキャッシュされます。</p>
      *
      * @param accessor フィールド情報
      * @param config システム情報設定。
@@ -46,21 +48,7 @@ public abstract class AbstractFieldProcessor<A extends Annotation> implements Fi
      */
     protected CellConverter<?> getCellConverter(final FieldAccessor accessor, final Configuration config) throws ConversionException {
 
-        final CellConverter<?> converter;
-
-        if(accessor.hasAnnotation(XlsConverter.class)) {
-            XlsConverter converterAnno = accessor.getAnnotationNullable(XlsConverter.class);
-            converter = config.createBean(converterAnno.value()).create(accessor, config);
-
-        } else {
-            CellConverterFactory<?> converterFactory = config.getConverterRegistry().getConverterFactory(accessor.getType());
-            if(converterFactory == null) {
-                throw newNotFoundCellConverterExpcetion(accessor.getType());
-            }
-            converter = converterFactory.create(accessor, config);
-        }
-
-        return converter;
+        return getCellConverter(accessor.getType(), accessor, config);
     }
 
     /**
@@ -76,6 +64,22 @@ public abstract class AbstractFieldProcessor<A extends Annotation> implements Fi
     protected CellConverter<?> getCellConverter(final Class<?> componentType, final FieldAccessor accessor, final Configuration config)
             throws ConversionException {
 
+        return config.getConverterRegistry().getCellConverter(accessor, componentType, config,
+                () -> createCellConverter(componentType, accessor, config));
+    }
+
+    /**
+     * 指定したタイプに対する{@link CellConverter}を組み立てます。
+     *
+     * @param componentType 変換対象のクラスタイプ
+     * @param accessor フィールド情報
+     * @param config システム情報設定。
+     * @return {@link CellConverter}のインスタンス
+     * @throws ConversionException {@link CellConverter}が見つからない場合。
+     */
+    private CellConverter<?> createCellConverter(final Class<?> componentType, final FieldAccessor accessor, final Configuration config)
+            throws ConversionException {
+
         final CellConverter<?> converter;
 
         if(accessor.hasAnnotation(XlsConverter.class)) {
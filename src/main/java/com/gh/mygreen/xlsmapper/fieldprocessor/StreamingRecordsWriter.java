@@ -0,0 +1,35 @@
+package com.gh.mygreen.xlsmapper.fieldprocessor;
+
+import org.apache.poi.ss.usermodel.Sheet;
+
+import com.gh.mygreen.xlsmapper.Configuration;
+import com.gh.mygreen.xlsmapper.XlsMapperException;
+
+/**
+ * 表のレコードを、ストリーミング形式（{@link org.apache.poi.xssf.streaming.SXSSFWorkbook}）で書き込むためのインタフェース。
+ * <p>{@link Configuration#isStreamingSave()}がtrueの場合、表を処理する{@link FieldProcessor}は、
+ *  レコードを書き込む代わりに、このインタフェースのインスタンスを登録します。
+ *  全てのシートの処理が終わった後に、{@link com.gh.mygreen.xlsmapper.XlsSaver}から呼び出されます。
+ * </p>
+ *
+ * @since 2.3
+ * @author T.TSUCHIE
+ *
+ */
+public interface StreamingRecordsWriter {
+
+    /**
+     * 書き込み先のシート名を取得します。
+     * @return シート名
+     */
+    String getSheetName();
+
+    /**
+     * レコードを書き込みます。
+     * <p>レコードは、行の順番に追加していきます。</p>
+     * @param sheet 書き込み先の{@link org.apache.poi.xssf.streaming.SXSSFSheet}
+     * @throws XlsMapperException 書き込みに失敗した場合
+     */
+    void write(Sheet sheet) throws XlsMapperException;
+
+}
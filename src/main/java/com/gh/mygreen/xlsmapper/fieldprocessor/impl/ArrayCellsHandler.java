@@ -28,7 +28,7 @@ import com.gh.mygreen.xlsmapper.util.Utils;
 /**
  * 配列やリスト形式の要素を処理するためのクラス。
  * 
- * @version 2.1
+ * @version 2.3
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -134,7 +134,7 @@ public class ArrayCellsHandler {
             for(int i=0; i < annoProxy.size(); i++) {
 
                 final CellPosition cellAddress = CellPosition.of(row, column);
-                final Cell cell = POIUtils.getCell(sheet, cellAddress);
+                final Cell cell = POIUtils.getCellForRead(sheet, cellAddress);
 
                 field.setArrayPosition(beansObj, cellAddress, i);
 
@@ -148,7 +148,7 @@ public class ArrayCellsHandler {
 
 
                 try {
-                    final Object value = converter.toObject(cell);
+                    final Object value = converter.toObject(cell, work.getFormulaEvaluator(sheet.getWorkbook()));
                     result.add(value);
 
                 } catch(TypeBindException e) {
@@ -163,7 +163,7 @@ public class ArrayCellsHandler {
 
                 if(annoProxy.elementMerged()) {
                     // 結合を考慮する場合
-                    final CellRangeAddress mergedRegion = POIUtils.getMergedRegion(sheet, row, column);
+                    final CellRangeAddress mergedRegion = work.getMergedRegionIndex(sheet).getMergedRegion(row, column);
                     if(mergedRegion != null) {
                         column += POIUtils.getColumnSize(mergedRegion);
                     } else {
@@ -182,7 +182,7 @@ public class ArrayCellsHandler {
             for(int i=0; i < annoProxy.size(); i++) {
 
                 final CellPosition cellAddress = CellPosition.of(row, column);
-                final Cell cell = POIUtils.getCell(sheet, cellAddress);
+                final Cell cell = POIUtils.getCellForRead(sheet, cellAddress);
 
                 field.setArrayPosition(beansObj, cellAddress, i);
 
@@ -195,7 +195,7 @@ public class ArrayCellsHandler {
                     config.getCommentOperator().loadArrayCellComment(setter, cell, beansObj, comemntIndex, field, config));
 
                 try {
-                    final Object value = converter.toObject(cell);
+                    final Object value = converter.toObject(cell, work.getFormulaEvaluator(sheet.getWorkbook()));
                     result.add(value);
 
                 } catch(TypeBindException e) {
@@ -209,7 +209,7 @@ public class ArrayCellsHandler {
                 }
 
                 if(annoProxy.elementMerged()) {
-                    CellRangeAddress mergedRegion = POIUtils.getMergedRegion(sheet, row, column);
+                    CellRangeAddress mergedRegion = work.getMergedRegionIndex(sheet).getMergedRegion(row, column);
                     if(mergedRegion != null) {
                         // 結合を考慮する場合
                         row += POIUtils.getRowSize(mergedRegion);
@@ -295,7 +295,7 @@ public class ArrayCellsHandler {
                 if(i < dataList.size()) {
                     final Object elementValue = dataList.get(i);
                     try {
-                        converter.toCell(elementValue, beansObj, sheet, cellAddress);
+                        converter.toCell(elementValue, beansObj, sheet, cellAddress, work.getCellStyleCache(sheet.getWorkbook()));
 
                     } catch(TypeBindException e) {
                         work.addTypeBindError(e, cellAddress, field.getName(), label);
@@ -362,7 +362,7 @@ public class ArrayCellsHandler {
                 if(i < dataList.size()) {
                     final Object elementValue = dataList.get(i);
                     try {
-                        converter.toCell(elementValue, beansObj, sheet, cellAddress);
+                        converter.toCell(elementValue, beansObj, sheet, cellAddress, work.getCellStyleCache(sheet.getWorkbook()));
 
                     } catch(TypeBindException e) {
                         work.addTypeBindError(e, cellAddress, field.getName(), label);
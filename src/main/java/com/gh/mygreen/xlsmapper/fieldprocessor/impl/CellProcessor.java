@@ -23,7 +23,7 @@ import com.gh.mygreen.xlsmapper.validation.fieldvalidation.FieldFormatter;
 /**
  * アノテーション {@link XlsCell} を処理するクラスです。
  *
- * @version 2.1
+ * @version 2.3
  * @author Naoki Takezoe
  * @author T.TSUCHIE
  */
@@ -45,7 +45,7 @@ public class CellProcessor extends AbstractFieldProcessor<XlsCell> {
         final CellPosition cellAddress = getCellPosition(accessor, anno);
         accessor.setPosition(beansObj, cellAddress);
         
-        final Cell xlsCell = POIUtils.getCell(sheet, cellAddress);
+        final Cell xlsCell = POIUtils.getCellForRead(sheet, cellAddress);
 
         accessor.getCommentSetter().ifPresent(setter -> 
                 config.getCommentOperator().loadCellComment(setter, xlsCell, beansObj, accessor, config));
@@ -56,7 +56,7 @@ public class CellProcessor extends AbstractFieldProcessor<XlsCell> {
         }
 
         try {
-            final Object value = converter.toObject(xlsCell);
+            final Object value = converter.toObject(xlsCell, work.getFormulaEvaluator(sheet.getWorkbook()));
             accessor.setValue(beansObj, value);
 
         } catch(TypeBindException e) {
@@ -141,7 +141,7 @@ public class CellProcessor extends AbstractFieldProcessor<XlsCell> {
         }
 
         try {
-            converter.toCell(accessor.getValue(targetObj), targetObj, sheet, cellAddress);
+            converter.toCell(accessor.getValue(targetObj), targetObj, sheet, cellAddress, work.getCellStyleCache(sheet.getWorkbook()));
 
         } catch(TypeBindException e) {
             work.addTypeBindError(e, cellAddress, accessor.getName(), null);
@@ -45,7 +45,7 @@ public class CommentProcessor extends AbstractFieldProcessor<XlsComment> {
         final CellPosition cellAddress = getCellPosition(accessor, anno);
         accessor.setPosition(beansObj, cellAddress);
         
-        final Cell xlsCell = POIUtils.getCell(sheet, cellAddress);
+        final Cell xlsCell = POIUtils.getCellForRead(sheet, cellAddress);
         
         config.getCommentOperator().loadCellComment(
                 (targetObj, comment) -> accessor.setValue(targetObj, comment),
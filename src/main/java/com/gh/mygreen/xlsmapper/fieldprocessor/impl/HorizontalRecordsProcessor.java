@@ -6,27 +6,28 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import org.apache.poi.ss.usermodel.BorderStyle;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
-import org.apache.poi.ss.usermodel.DataValidation;
-import org.apache.poi.ss.usermodel.Name;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.ss.util.AreaReference;
 import org.apache.poi.ss.util.CellRangeAddress;
-import org.apache.poi.ss.util.CellRangeAddressList;
-import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -61,12 +62,15 @@ import com.gh.mygreen.xlsmapper.fieldprocessor.RecordHeader;
 import com.gh.mygreen.xlsmapper.fieldprocessor.RecordMethodCache;
 import com.gh.mygreen.xlsmapper.fieldprocessor.RecordMethodFacatory;
 import com.gh.mygreen.xlsmapper.fieldprocessor.RecordsProcessorUtil;
+import com.gh.mygreen.xlsmapper.fieldprocessor.StreamingRecordsWriter;
 import com.gh.mygreen.xlsmapper.localization.MessageBuilder;
 import com.gh.mygreen.xlsmapper.util.CellFinder;
 import com.gh.mygreen.xlsmapper.util.CellPosition;
 import com.gh.mygreen.xlsmapper.util.FieldAccessorUtils;
 import com.gh.mygreen.xlsmapper.util.POIUtils;
+import com.gh.mygreen.xlsmapper.util.SheetLabelIndex;
 import com.gh.mygreen.xlsmapper.util.Utils;
+import com.gh.mygreen.xlsmapper.validation.SheetBindingErrors;
 import com.gh.mygreen.xlsmapper.validation.fieldvalidation.FieldFormatter;
 import com.gh.mygreen.xlsmapper.xml.AnnotationReadException;
 import com.gh.mygreen.xlsmapper.xml.AnnotationReader;
@@ -75,7 +79,7 @@ import com.gh.mygreen.xlsmapper.xml.AnnotationReader;
 /**
  * アノテーション{@link XlsHorizontalRecords}を処理するクラス。
  *
- * @version 2.1
+ * @version 2.3
  * @author Naoki Takezoe
  * @author T.TSUCHIE
  *
@@ -144,17 +148,106 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
     private List<?> loadRecords(final Sheet sheet, final Object beansObj, final XlsHorizontalRecords anno, final FieldAccessor accessor,
             final Class<?> recordClass, final Configuration config, final LoadingWorkObject work) throws XlsMapperException {
 
+        final Optional<RecordsTable> table = findRecordsTable(sheet, beansObj, anno, accessor, recordClass, config, work);
+        if(!table.isPresent()) {
+            return null;
+        }
+
+        return loadRecords(sheet, table.get().headers, anno, table.get().startPosition, 0, accessor, recordClass, config, work);
+
+    }
+
+    /**
+     * レコードを1件ずつ読み込む{@link Iterator}を作成します。
+     * <p>読み込んだレコードは保持しないため、大量のレコードを少ないメモリで処理できます。</p>
+     * <p>エラー情報はレコードごとに作成し、レコードのインスタンスをエラー情報の対象({@link SheetBindingErrors#getTarget()})とします。
+     *  また、レコードに定義されている{@literal @XlsPostLoad}のメソッドは、レコードを読み込むたびに実行します。
+     * </p>
+     *
+     * @since 2.3
+     * @param sheet シート情報
+     * @param beansObj シートをマッピングするオブジェクト
+     * @param anno アノテーション
+     * @param accessor レコードをマッピングするフィールド
+     * @param config システム設定
+     * @param work 読み込み処理中で持ち回すオブジェクト
+     * @return レコードごとのエラー情報の{@link Iterator}。表が見つからない場合は、空の{@link Iterator}を返します。
+     * @throws AnnotationInvalidException フィールドのクラスタイプがサポートしていない場合
+     * @throws XlsMapperException 表の読み込みに失敗した場合
+     */
+    public Iterator<SheetBindingErrors<Object>> iterateRecords(final Sheet sheet, final Object beansObj, final XlsHorizontalRecords anno,
+            final FieldAccessor accessor, final Configuration config, final LoadingWorkObject work) throws XlsMapperException {
+
+        final Class<?> clazz = accessor.getType();
+        if(!Collection.class.isAssignableFrom(clazz) && !clazz.isArray()) {
+            throw new AnnotationInvalidException(anno, MessageBuilder.create("anno.notSupportType")
+                    .var("property", accessor.getNameWithClass())
+                    .varWithAnno("anno", XlsHorizontalRecords.class)
+                    .varWithClass("actualType", clazz)
+                    .var("expectedType", "Collection(List/Set) or Array")
+                    .format());
+        }
+
+        Class<?> recordClass = anno.recordClass();
+        if(recordClass == Object.class) {
+            recordClass = accessor.getComponentType();
+        }
+
+        final Optional<RecordsTable> table = findRecordsTable(sheet, beansObj, anno, accessor, recordClass, config, work);
+        if(!table.isPresent()) {
+            return Collections.emptyIterator();
+        }
+
+        final RecordLoader loader = new RecordLoader(sheet, table.get().headers, anno, table.get().startPosition, 0,
+                accessor, recordClass, config, work, true);
+
+        return new Iterator<SheetBindingErrors<Object>>() {
+
+            private SheetBindingErrors<Object> next;
+
+            @Override
+            public boolean hasNext() {
+                if(next == null && loader.loadNext() != null) {
+                    next = loader.getRecordErrors();
+                }
+                return next != null;
+            }
+
+            @Override
+            public SheetBindingErrors<Object> next() {
+                if(!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                final SheetBindingErrors<Object> current = next;
+                next = null;
+                return current;
+            }
+        };
+
+    }
+
+    /**
+     * 表の見出しとデータ行の開始位置を取得する。
+     * @return 表が見つからない場合は空を返す。
+     */
+    private Optional<RecordsTable> findRecordsTable(final Sheet sheet, final Object beansObj, final XlsHorizontalRecords anno,
+            final FieldAccessor accessor, final Class<?> recordClass, final Configuration config, final LoadingWorkObject work)
+                    throws XlsMapperException {
+
         RecordsProcessorUtil.checkLoadingNestedRecordClass(recordClass, accessor, work.getAnnoReader());
 
         // get table starting position
-        final Optional<CellPosition> initPosition = getHeaderPosition(sheet, anno, accessor, config);
+        final Optional<CellPosition> initPosition = getHeaderPosition(sheet, anno, accessor, config, work.getLabelIndex(sheet, config));
         if(!initPosition.isPresent()) {
-            return null;
+            return Optional.empty();
         }
 
         // ラベルの設定
         if(Utils.isNotEmpty(anno.tableLabel())) {
-            final Optional<Cell> tableLabelCell = CellFinder.query(sheet, anno.tableLabel(), config).findOptional();
+            final Optional<Cell> tableLabelCell = CellFinder.query(sheet, anno.tableLabel(), config)
+                    .labelIndex(work.getLabelIndex(sheet, config))
+                    .findOptional();
             tableLabelCell.ifPresent(c -> {
                 final String label = POIUtils.getCellContents(c, config.getCellFormatter());
                 accessor.setLabel(beansObj, label);
@@ -173,10 +266,10 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
         int rangeCount = 1;
         while(true) {
             try {
-                Cell cell = POIUtils.getCell(sheet, hColumn, hRow);
+                Cell cell = POIUtils.getCellForRead(sheet, hColumn, hRow);
 
                 while(POIUtils.isEmptyCellContents(cell, config.getCellFormatter()) && rangeCount < anno.range()) {
-                    cell = POIUtils.getCell(sheet, hColumn + rangeCount, hRow);
+                    cell = POIUtils.getCellForRead(sheet, hColumn + rangeCount, hRow);
                     rangeCount++;
                 }
 
@@ -190,7 +283,7 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
                 rangeCount = 1;
 
                 // 結合しているセルの場合は、はじめのセルだけ取得して、後は結合分スキップする。
-                CellRangeAddress mergedRange = POIUtils.getMergedRegion(sheet, cell.getRowIndex(), cell.getColumnIndex());
+                CellRangeAddress mergedRange = work.getMergedRegionIndex(sheet).getMergedRegion(cell.getRowIndex(), cell.getColumnIndex());
                 if(mergedRange != null) {
                     hColumn = hColumn + (mergedRange.getLastColumn() - mergedRange.getFirstColumn());
                 }
@@ -216,7 +309,7 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
 
         }
 
-        return loadRecords(sheet, headers, anno, startPosition, 0, accessor, recordClass, config, work);
+        return Optional.of(new RecordsTable(headers, startPosition));
 
     }
 
@@ -226,214 +319,371 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
             final FieldAccessor accessor, final Class<?> recordClass,
             final Configuration config, final LoadingWorkObject work) throws XlsMapperException {
 
+        final RecordLoader loader = new RecordLoader(sheet, headers, anno, initPosition, parentMergedSize,
+                accessor, recordClass, config, work, false);
+
         final List<Object> result = new ArrayList<>();
+        Object record;
+        while((record = loader.loadNext()) != null) {
+            result.add(record);
+        }
 
-        final int initColumn = initPosition.getColumn();
-        final int initRow = initPosition.getRow();
+        return result;
+    }
 
-        final int maxRow = initRow + parentMergedSize;
-        int hRow = initRow;
+    /**
+     * 表の見出しとデータ行の開始位置
+     */
+    private static class RecordsTable {
 
-        // Check for columns
-        RecordsProcessorUtil.checkColumns(sheet, recordClass, headers, work.getAnnoReader(), config);
-        RecordsProcessorUtil.checkMapColumns(sheet, recordClass, headers, work.getAnnoReader(), config);
-        RecordsProcessorUtil.checkArrayColumns(sheet, recordClass, headers, work.getAnnoReader(), config);
+        private final List<RecordHeader> headers;
 
-        RecordTerminal terminal = anno.terminal();
-        if(terminal == null){
-            terminal = RecordTerminal.Empty;
+        private final CellPosition startPosition;
+
+        RecordsTable(final List<RecordHeader> headers, final CellPosition startPosition) {
+            this.headers = headers;
+            this.startPosition = startPosition;
         }
+    }
 
-        // 各種レコードのコールバック用メソッドを抽出する
-        final RecordMethodCache methodCache = new RecordMethodFacatory(work.getAnnoReader(), config)
-                .create(recordClass, ProcessCase.Load);
+    /**
+     * 表のレコードを1件ずつ読み込むクラス。
+     * <p>読み込んだレコードは保持しません。</p>
+     *
+     * @since 2.3
+     */
+    private class RecordLoader {
 
-        final int startHeaderIndex = getStartHeaderIndexForLoading(headers, recordClass, work.getAnnoReader(), config);
+        private final Sheet sheet;
 
-        // レコードの見出しに対するカラム情報のキャッシュ
-        final Map<String, List<FieldAccessor>> propertiesCache = new HashMap<>();
+        private final List<RecordHeader> headers;
 
-        // カラムに対するConverterのキャッシュ
-        final Map<String, CellConverter<?>> converterCache = new HashMap<>();
+        private final XlsHorizontalRecords anno;
 
-        // get records
-        while(hRow < POIUtils.getRows(sheet)){
+        private final int initColumn;
 
-            if(parentMergedSize > 0 && hRow >= maxRow) {
-                // ネストしている処理のとき、最大の処理レコード数をチェックする。
-                break;
-            }
+        private final int initRow;
 
-            boolean emptyFlag = true;
-            // recordは、マッピング先のオブジェクトのインスタンス。
-            final Object record = config.createBean(recordClass);
+        private final int parentMergedSize;
 
-            // パスの位置の変更
-            work.getErrors().pushNestedPath(accessor.getName(), result.size());
+        private final int maxRow;
 
-            // execute PreProcess listener
-            methodCache.getListenerClasses().forEach(listenerClass -> {
-                listenerClass.getPreLoadMethods().forEach(method -> {
-                    Utils.invokeNeedProcessMethod(listenerClass.getObject(), method, record, sheet, config, work.getErrors(), ProcessCase.Load);
-                });
-            });
+        private final FieldAccessor accessor;
 
-            // execute PreProcess method
-            methodCache.getPreLoadMethods().forEach(method -> {
-                Utils.invokeNeedProcessMethod(record, method, record, sheet, config, work.getErrors(), ProcessCase.Load);
-            });
+        private final Class<?> recordClass;
 
-            final List<MergedRecord> mergedRecords = new ArrayList<>();
+        private final Configuration config;
 
-            loadMapColumns(sheet, headers, mergedRecords, CellPosition.of(hRow, initColumn), recordClass, record, config, work);
+        private final LoadingWorkObject work;
 
-            loadArrayColumns(sheet, headers, mergedRecords, CellPosition.of(hRow, initColumn), recordClass, record, config, work);
+        /**
+         * trueの場合、エラー情報をレコードごとに作成し、@XlsPostLoadのメソッドを即座に実行する。
+         */
+        private final boolean streaming;
 
-            for(int i=0; i < headers.size() && hRow < POIUtils.getRows(sheet); i++){
-                final RecordHeader headerInfo = headers.get(i);
-                int hColumn = initColumn + headerInfo.getInterval();
-                final Cell cell = POIUtils.getCell(sheet, hColumn, hRow);
+        private final RecordTerminal terminal;
 
-                // find end of the table
-                if(!POIUtils.isEmptyCellContents(cell, config.getCellFormatter())){
-                    emptyFlag = false;
-                }
+        private final RecordMethodCache methodCache;
 
-                if(terminal == RecordTerminal.Border && i == startHeaderIndex){
-                    if(!POIUtils.getBorderLeft(cell).equals(BorderStyle.NONE)){
-                        emptyFlag = false;
-                    } else {
-                        emptyFlag = true;
-                        break;
-                    }
+        private final int startHeaderIndex;
+
+        /**
+         * レコードの見出しに対するカラム情報のキャッシュ
+         */
+        private final Map<String, List<FieldAccessor>> propertiesCache = new HashMap<>();
+
+        /**
+         * 現在の処理対象の行
+         */
+        private int hRow;
+
+        /**
+         * 読み込んだ有効なレコードの件数
+         */
+        private int recordCount;
+
+        private boolean finished;
+
+        /**
+         * 最後に読み込んだレコードのエラー情報
+         */
+        private SheetBindingErrors<Object> recordErrors;
+
+        RecordLoader(final Sheet sheet, final List<RecordHeader> headers, final XlsHorizontalRecords anno,
+                final CellPosition initPosition, final int parentMergedSize,
+                final FieldAccessor accessor, final Class<?> recordClass,
+                final Configuration config, final LoadingWorkObject work, final boolean streaming) {
+
+            this.sheet = sheet;
+            this.headers = headers;
+            this.anno = anno;
+            this.initColumn = initPosition.getColumn();
+            this.initRow = initPosition.getRow();
+            this.parentMergedSize = parentMergedSize;
+            this.maxRow = initRow + parentMergedSize;
+            this.accessor = accessor;
+            this.recordClass = recordClass;
+            this.config = config;
+            this.work = work;
+            this.streaming = streaming;
+            this.hRow = initRow;
+
+            // Check for columns
+            RecordsProcessorUtil.checkColumns(sheet, recordClass, headers, work.getAnnoReader(), config);
+            RecordsProcessorUtil.checkMapColumns(sheet, recordClass, headers, work.getAnnoReader(), config);
+            RecordsProcessorUtil.checkArrayColumns(sheet, recordClass, headers, work.getAnnoReader(), config);
+
+            this.terminal = anno.terminal() != null ? anno.terminal() : RecordTerminal.Empty;
+
+            // 各種レコードのコールバック用メソッドを抽出する
+            this.methodCache = new RecordMethodFacatory(work.getAnnoReader(), config)
+                    .create(recordClass, ProcessCase.Load);
+
+            this.startHeaderIndex = getStartHeaderIndexForLoading(headers, recordClass, work.getAnnoReader(), config);
+
+        }
+
+        /**
+         * 次の有効なレコードを読み込む。
+         * @return 読み込んだレコード。表の終端に達した場合はnullを返す。
+         * @throws XlsMapperException レコードの読み込みに失敗した場合
+         */
+        Object loadNext() throws XlsMapperException {
+
+            // get records
+            while(!finished && hRow < POIUtils.getRows(sheet)){
+
+                if(parentMergedSize > 0 && hRow >= maxRow) {
+                    // ネストしている処理のとき、最大の処理レコード数をチェックする。
+                    break;
                 }
 
-                if(!anno.terminateLabel().equals("")){
-                    if(Utils.matches(POIUtils.getCellContents(cell, config.getCellFormatter()), anno.terminateLabel(), config)){
-                        emptyFlag = true;
-                        break;
-                    }
+                boolean emptyFlag = true;
+                // recordは、マッピング先のオブジェクトのインスタンス。
+                final Object record = config.createBean(recordClass);
+
+                final SheetBindingErrors<?> parentErrors = work.getErrors();
+                if(streaming) {
+                    // エラー情報をレコードごとに分ける
+                    recordErrors = config.getBindingErrorsFactory().create(record);
+                    recordErrors.setSheetName(parentErrors.getSheetName());
+                    recordErrors.setSheetIndex(parentErrors.getSheetIndex());
+                    work.setErrors(recordErrors);
+
+                } else {
+                    // パスの位置の変更
+                    work.getErrors().pushNestedPath(accessor.getName(), recordCount);
                 }
 
-                // mapping from Excel columns to Object properties.
-                final List<FieldAccessor> propeties = propertiesCache.computeIfAbsent(headerInfo.getLabel(), key -> {
-                    return FieldAccessorUtils.getColumnPropertiesByName(
-                            record.getClass(), work.getAnnoReader(), config, key)
-                            .stream()
-                            .filter(p -> p.isWritable())
-                            .collect(Collectors.toList());
-                });
+                final int skipSize;
+                final boolean available;
+                try {
+                    // execute PreProcess listener
+                    methodCache.getListenerClasses().forEach(listenerClass -> {
+                        listenerClass.getPreLoadMethods().forEach(method -> {
+                            Utils.invokeNeedProcessMethod(listenerClass.getObject(), method, record, sheet, config, work.getErrors(), ProcessCase.Load);
+                        });
+                    });
 
-                for(FieldAccessor property : propeties) {
-                    Cell valueCell = cell;
-                    final XlsColumn column = property.getAnnotationNullable(XlsColumn.class);
-                    if(column.headerMerged() > 0) {
-                        hColumn = hColumn + column.headerMerged();
-                        valueCell = POIUtils.getCell(sheet, hColumn, hRow);
-                    }
+                    // execute PreProcess method
+                    methodCache.getPreLoadMethods().forEach(method -> {
+                        Utils.invokeNeedProcessMethod(record, method, record, sheet, config, work.getErrors(), ProcessCase.Load);
+                    });
+
+                    final List<MergedRecord> mergedRecords = new ArrayList<>();
+
+                    loadMapColumns(sheet, headers, mergedRecords, CellPosition.of(hRow, initColumn), recordClass, record, config, work);
 
-                    // for merged cell
-                    if(POIUtils.isEmptyCellContents(valueCell, config.getCellFormatter())) {
-                        if(column.merged() && POIUtils.getBorderTop(valueCell).equals(BorderStyle.NONE)) {
-                            for(int k=hRow-1; k > initRow; k--){
-                                Cell tmpCell = POIUtils.getCell(sheet, hColumn, k);
-                                if(!POIUtils.getBorderBottom(tmpCell).equals(BorderStyle.NONE)){
-                                    break;
+                    loadArrayColumns(sheet, headers, mergedRecords, CellPosition.of(hRow, initColumn), recordClass, record, config, work);
+
+                    for(int i=0; i < headers.size() && hRow < POIUtils.getRows(sheet); i++){
+                        final RecordHeader headerInfo = headers.get(i);
+                        int hColumn = initColumn + headerInfo.getInterval();
+                        final Cell cell = POIUtils.getCellForRead(sheet, hColumn, hRow);
+
+                        // find end of the table
+                        if(!POIUtils.isEmptyCellContents(cell, config.getCellFormatter())){
+                            emptyFlag = false;
+                        }
+
+                        if(terminal == RecordTerminal.Border && i == startHeaderIndex){
+                            if(!POIUtils.getBorderLeft(cell, work.getMergedRegionIndex(sheet)).equals(BorderStyle.NONE)){
+                                emptyFlag = false;
+                            } else {
+                                emptyFlag = true;
+                                break;
+                            }
+                        }
+
+                        if(!anno.terminateLabel().equals("")){
+                            if(Utils.matches(POIUtils.getCellContents(cell, config.getCellFormatter()), anno.terminateLabel(), config)){
+                                emptyFlag = true;
+                                break;
+                            }
+                        }
+
+                        // mapping from Excel columns to Object properties.
+                        final List<FieldAccessor> propeties = propertiesCache.computeIfAbsent(headerInfo.getLabel(), key -> {
+                            return FieldAccessorUtils.getColumnPropertiesByName(
+                                    record.getClass(), work.getAnnoReader(), config, key)
+                                    .stream()
+                                    .filter(p -> p.isWritable())
+                                    .collect(Collectors.toList());
+                        });
+
+                        for(FieldAccessor property : propeties) {
+                            Cell valueCell = cell;
+                            final XlsColumn column = property.getAnnotationNullable(XlsColumn.class);
+                            if(column.headerMerged() > 0) {
+                                hColumn = hColumn + column.headerMerged();
+                                valueCell = POIUtils.getCellForRead(sheet, hColumn, hRow);
+                            }
+
+                            // for merged cell
+                            if(POIUtils.isEmptyCellContents(valueCell, config.getCellFormatter())) {
+                                if(column.merged() && POIUtils.getBorderTop(valueCell, work.getMergedRegionIndex(sheet)).equals(BorderStyle.NONE)) {
+                                    for(int k=hRow-1; k > initRow; k--){
+                                        Cell tmpCell = POIUtils.getCellForRead(sheet, hColumn, k);
+                                        if(!POIUtils.getBorderBottom(tmpCell, work.getMergedRegionIndex(sheet)).equals(BorderStyle.NONE)){
+                                            break;
+                                        }
+                                        if(!POIUtils.isEmptyCellContents(tmpCell, config.getCellFormatter())){
+                                            valueCell = tmpCell;
+                                            break;
+                                        }
+                                    }
                                 }
-                                if(!POIUtils.isEmptyCellContents(tmpCell, config.getCellFormatter())){
-                                    valueCell = tmpCell;
-                                    break;
+                            }
+
+                            if(column.headerMerged() > 0){
+                                hColumn = hColumn - column.headerMerged();
+                            }
+
+                            CellRangeAddress mergedRange = work.getMergedRegionIndex(sheet).getMergedRegion(valueCell.getRowIndex(), valueCell.getColumnIndex());
+                            if(mergedRange != null) {
+                                int mergedSize =  mergedRange.getLastRow() - mergedRange.getFirstRow() + 1;
+                                mergedRecords.add(new MergedRecord(headerInfo, mergedRange, mergedSize));
+                            } else {
+                                mergedRecords.add(new MergedRecord(headerInfo, CellRangeAddress.valueOf(POIUtils.formatCellAddress(valueCell)), 1));
+                            }
+
+                            if(!Utils.isLoadCase(column.cases())) {
+                                continue;
+                            }
+
+                            // set for value
+                            property.setPosition(record, CellPosition.of(valueCell));
+                            property.setLabel(record, headerInfo.getLabel());
+
+                            final Cell tempCommentCell = valueCell;
+                            property.getCommentSetter().ifPresent(setter ->
+                                    config.getCommentOperator().loadCellComment(setter, tempCommentCell, record, property, config));
+
+                            final CellConverter<?> converter = getCellConverter(property, config);
+                            if(converter instanceof FieldFormatter) {
+                                work.getErrors().registerFieldFormatter(property.getName(), property.getType(), (FieldFormatter<?>)converter, true);
+                            }
+
+                            try {
+                                final Object value = converter.toObject(valueCell, work.getFormulaEvaluator(sheet.getWorkbook()));
+                                property.setValue(record, value);
+                            } catch(TypeBindException e) {
+                                work.addTypeBindError(e, valueCell, property.getName(), headerInfo.getLabel());
+                                if(!config.isContinueTypeBindFailure()) {
+                                    throw e;
                                 }
                             }
                         }
-                    }
-
-                    if(column.headerMerged() > 0){
-                        hColumn = hColumn - column.headerMerged();
-                    }
 
-                    CellRangeAddress mergedRange = POIUtils.getMergedRegion(sheet, valueCell.getRowIndex(), valueCell.getColumnIndex());
-                    if(mergedRange != null) {
-                        int mergedSize =  mergedRange.getLastRow() - mergedRange.getFirstRow() + 1;
-                        mergedRecords.add(new MergedRecord(headerInfo, mergedRange, mergedSize));
-                    } else {
-                        mergedRecords.add(new MergedRecord(headerInfo, CellRangeAddress.valueOf(POIUtils.formatCellAddress(valueCell)), 1));
                     }
 
-                    if(!Utils.isLoadCase(column.cases())) {
-                        continue;
+                    // execute nested record
+                    skipSize = loadNestedRecords(sheet, headers, mergedRecords, anno, CellPosition.of(hRow, initColumn), record, config, work);
+                    if(parentMergedSize > 0 && skipSize > 0 && (hRow + skipSize) > maxRow) {
+                        // check over merged cell.
+                        String message = String.format("Over merged size. In sheet '%s' with rowIndex=%d, over the rowIndex=%s.",
+                                sheet.getSheetName(), hRow + skipSize, maxRow);
+                        throw new NestedRecordMergedSizeException(sheet.getSheetName(), skipSize, message);
                     }
 
-                    // set for value
-                    property.setPosition(record, CellPosition.of(valueCell));
-                    property.setLabel(record, headerInfo.getLabel());
-                    
-                    final Cell tempCommentCell = valueCell;
-                    property.getCommentSetter().ifPresent(setter -> 
-                            config.getCommentOperator().loadCellComment(setter, tempCommentCell, record, property, config));
-
-                    final CellConverter<?> converter = converterCache.computeIfAbsent(property.getName(), key -> getCellConverter(property, config));
-                    if(converter instanceof FieldFormatter) {
-                        work.getErrors().registerFieldFormatter(property.getName(), property.getType(), (FieldFormatter<?>)converter, true);
+                    if(emptyFlag){
+                        break;
                     }
 
-                    try {
-                        final Object value = converter.toObject(valueCell);
-                        property.setValue(record, value);
-                    } catch(TypeBindException e) {
-                        work.addTypeBindError(e, valueCell, property.getName(), headerInfo.getLabel());
-                        if(!config.isContinueTypeBindFailure()) {
-                            throw e;
-                        }
-                    }
-                }
+                    available = isAvailabledRecord(methodCache.getIgnoreableMethod(), record);
+                    if(available) {
+                        // 有効なレコードのみ、処理を行う
+                        recordCount++;
 
-            }
+                        if(streaming) {
+                            // execute PostProcess listener
+                            methodCache.getListenerClasses().forEach(listenerClass -> {
+                                listenerClass.getPostLoadMethods().forEach(method -> {
+                                    Utils.invokeNeedProcessMethod(listenerClass.getObject(), method, record, sheet, config, work.getErrors(), ProcessCase.Load);
+                                });
+                            });
 
-            // execute nested record
-            final int skipSize = loadNestedRecords(sheet, headers, mergedRecords, anno, CellPosition.of(hRow, initColumn), record, config, work);
-            if(parentMergedSize > 0 && skipSize > 0 && (hRow + skipSize) > maxRow) {
-                // check over merged cell.
-                String message = String.format("Over merged size. In sheet '%s' with rowIndex=%d, over the rowIndex=%s.",
-                        sheet.getSheetName(), hRow + skipSize, maxRow);
-                throw new NestedRecordMergedSizeException(sheet.getSheetName(), skipSize, message);
-            }
+                            // execute PostProcess method
+                            methodCache.getPostLoadMethods().forEach(method -> {
+                                Utils.invokeNeedProcessMethod(record, method, record, sheet, config, work.getErrors(), ProcessCase.Load);
+                            });
 
-            if(emptyFlag){
-                // パスの位置の変更
-                work.getErrors().popNestedPath();
-                break;
-            }
+                        } else {
+                            // set PostProcess listener
+                            methodCache.getListenerClasses().forEach(listenerClass -> {
+                                listenerClass.getPostLoadMethods().forEach(method -> {
+                                    work.addNeedPostProcess(new NeedProcess(record, listenerClass.getObject(), method));
+                                });
+                            });
+
+                            // set PostProcess method
+                            methodCache.getPostLoadMethods().forEach(method -> {
+                                work.addNeedPostProcess(new NeedProcess(record, record, method));
+                            });
+                        }
 
-            if(isAvailabledRecord(methodCache.getIgnoreableMethod(), record)) {
-                // 有効なレコードのみ、処理を行う
-                result.add(record);
+                    }
 
-                // set PostProcess listener
-                methodCache.getListenerClasses().forEach(listenerClass -> {
-                    listenerClass.getPostLoadMethods().forEach(method -> {
-                        work.addNeedPostProcess(new NeedProcess(record, listenerClass.getObject(), method));
-                    });
-                });
+                } finally {
+                    // パスの位置の変更
+                    restoreErrors(parentErrors);
+                }
 
-                // set PostProcess method
-                methodCache.getPostLoadMethods().forEach(method -> {
-                    work.addNeedPostProcess(new NeedProcess(record, record, method));
-                });
+                if(skipSize > 0) {
+                    hRow += skipSize;
+                } else {
+                    hRow++;
+                }
 
+                if(available) {
+                    return record;
+                }
             }
 
-            // パスの位置の変更
-            work.getErrors().popNestedPath();
+            finished = true;
+            return null;
+        }
 
-            if(skipSize > 0) {
-                hRow += skipSize;
+        /**
+         * レコードの処理前のエラー情報の状態に戻す。
+         * @param parentErrors レコードの処理前のエラー情報
+         */
+        private void restoreErrors(final SheetBindingErrors<?> parentErrors) {
+            if(streaming) {
+                work.setErrors(parentErrors);
             } else {
-                hRow++;
+                work.getErrors().popNestedPath();
             }
         }
 
-        return result;
+        /**
+         * 最後に読み込んだレコードのエラー情報を取得する。
+         * @return レコードごとにエラー情報を作成しない場合はnullを返す。
+         */
+        SheetBindingErrors<Object> getRecordErrors() {
+            return recordErrors;
+        }
+
     }
 
     /**
@@ -443,12 +693,13 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
      * @param anno
      * @param accessor
      * @param config
+     * @param labelIndex ラベルの索引。nullの場合はシートを走査して探す。
      * @return 表の開始位置。指定したラベルが見つからない場合、設定によりnullを返す。
      * @throws AnnotationInvalidException アノテーションの値が不正で、表の開始位置が位置が見つからない場合。
      * @throws CellNotFoundException 指定したラベルが見つからない場合。
      */
     private Optional<CellPosition> getHeaderPosition(final Sheet sheet, final XlsHorizontalRecords anno,
-            final FieldAccessor accessor, final Configuration config) throws AnnotationInvalidException, CellNotFoundException {
+            final FieldAccessor accessor, final Configuration config, final SheetLabelIndex labelIndex) throws AnnotationInvalidException, CellNotFoundException {
 
         if(Utils.isNotEmpty(anno.headerAddress())) {
             try {
@@ -465,7 +716,9 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
 
         } else if(Utils.isNotEmpty(anno.tableLabel())) {
             try {
-                final Cell labelCell = CellFinder.query(sheet, anno.tableLabel(), config).findWhenNotFoundException();
+                final Cell labelCell = CellFinder.query(sheet, anno.tableLabel(), config)
+                        .labelIndex(labelIndex)
+                        .findWhenNotFoundException();
                 int initColumn = labelCell.getColumnIndex();
                 int initRow = labelCell.getRowIndex() + anno.bottom();
 
@@ -583,14 +836,14 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
                 }
 
                 if(foundPreviousColumn){
-                    final Cell cell = POIUtils.getCell(sheet, hColumn, beginPosition.getRow());
+                    final Cell cell = POIUtils.getCellForRead(sheet, hColumn, beginPosition.getRow());
                     property.setMapPosition(record, CellPosition.of(cell), headerInfo.getLabel());
                     property.setMapLabel(record, headerInfo.getLabel(), headerInfo.getLabel());
                     
                     property.getMapCommentSetter().ifPresent(setter -> 
                                 config.getCommentOperator().loadMapCellComment(setter, cell, record, headerInfo.getLabel(), property, config));
 
-                    CellRangeAddress mergedRange = POIUtils.getMergedRegion(sheet, cell.getRowIndex(), cell.getColumnIndex());
+                    CellRangeAddress mergedRange = work.getMergedRegionIndex(sheet).getMergedRegion(cell.getRowIndex(), cell.getColumnIndex());
                     if(mergedRange != null) {
                         int mergedSize =  mergedRange.getLastRow() - mergedRange.getFirstRow() + 1;
                         mergedRecords.add(new MergedRecord(headerInfo, mergedRange, mergedSize));
@@ -599,7 +852,7 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
                     }
 
                     try {
-                        final Object value = converter.toObject(cell);
+                        final Object value = converter.toObject(cell, work.getFormulaEvaluator(sheet.getWorkbook()));
                         map.put(headerInfo.getLabel(), value);
                     } catch(TypeBindException e) {
                         e.setBindClass(valueClass);  // マップの項目のタイプに変更
@@ -867,15 +1120,20 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
 
         RecordsProcessorUtil.checkSavingNestedRecordClass(recordClass, accessor, work.getAnnoReader());
 
+        // 他の処理でセルの結合が変更されている可能性があるため、結合情報の索引を作り直す
+        work.clearMergedRegionIndex();
+
         // get table starting position
-        final Optional<CellPosition> initPosition = getHeaderPosition(sheet, anno, accessor, config);
+        final Optional<CellPosition> initPosition = getHeaderPosition(sheet, anno, accessor, config, work.getLabelIndex(sheet, config));
         if(!initPosition.isPresent()) {
             return;
         }
 
         // ラベルの設定
         if(Utils.isNotEmpty(anno.tableLabel())) {
-            final Optional<Cell> tableLabelCell = CellFinder.query(sheet, anno.tableLabel(), config).findOptional();
+            final Optional<Cell> tableLabelCell = CellFinder.query(sheet, anno.tableLabel(), config)
+                    .labelIndex(work.getLabelIndex(sheet, config))
+                    .findOptional();
             tableLabelCell.ifPresent(c -> {
                 final String label = POIUtils.getCellContents(c, config.getCellFormatter());
                 accessor.setLabel(beansObj, label);
@@ -910,7 +1168,7 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
                 rangeCount = 1;
 
                 // 結合しているセルの場合は、はじめのセルだけ取得して、後は結合分スキップする。
-                CellRangeAddress mergedRange = POIUtils.getMergedRegion(sheet, cell.getRowIndex(), cell.getColumnIndex());
+                CellRangeAddress mergedRange = work.getMergedRegionIndex(sheet).getMergedRegion(cell.getRowIndex(), cell.getColumnIndex());
                 if(mergedRange != null) {
                     hColumn = hColumn + (mergedRange.getLastColumn() - mergedRange.getFirstColumn());
                 }
@@ -936,10 +1194,7 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
         if(recordOptionAnno.overOperation().equals(OverOperation.Insert)
                 || recordOptionAnno.remainedOperation().equals(RemainedOperation.Delete)) {
 
-            final int mergedNum = sheet.getNumMergedRegions();
-            for(int i=0; i < mergedNum; i++) {
-                mergedRegionList.add(sheet.getMergedRegion(i));
-            }
+            mergedRegionList.addAll(sheet.getMergedRegions());
         }
 
         // データ行の開始位置の調整
@@ -954,6 +1209,13 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
 
         }
 
+        // ストリーミング形式で書き込む場合は、全ての処理の後にレコードを追加する
+        if(config.isStreamingSave() && sheet instanceof XSSFSheet) {
+            work.addStreamingRecordsWriter(createStreamingRecordsWriter(sheet, headers, anno, startPosition,
+                    accessor, recordClass, result, config, work));
+            return;
+        }
+
         // 書き込んだセルの範囲などの情報
         final RecordOperation recordOperation = new RecordOperation(recordOptionAnno);
         recordOperation.setupCellPositoin(startPosition);
@@ -962,23 +1224,210 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
         final List<CellRangeAddress> mergedRanges = new ArrayList<>();
 
         saveRecords(sheet, headers, anno, startPosition, new AtomicInteger(0), accessor, recordClass, result, config,
-                work, mergedRanges, recordOperation, new ArrayList<Integer>());
+                work, mergedRanges, recordOperation, new BitSet());
 
         // 書き込むデータがない場合は、1行目の終端を操作範囲とする。
         if(result.isEmpty()) {
             recordOperation.setupCellPositoin(startPosition.getRow(), hColumn-1);
         }
 
-        if(config.isCorrectCellDataValidationOnSave()) {
-            correctDataValidation(sheet, recordOperation);
+        // 入力規則と名前の定義の範囲は、シートの処理の最後にまとめて修正する
+        work.getRecordOperationCorrector().addRowOperation(recordOperation);
+
+        // 結合情報の補完 - POI 3.15以上のときに行う
+        correctMergedCell(sheet, recordOperation, mergedRegionList);
+
+        // 行の追加・削除により位置が変わるため、ラベルの索引を破棄する
+        if(recordOperation.isInsertRecord() || recordOperation.isDeleteRecord()) {
+            work.clearLabelIndex();
+        }
+
+    }
+
+    /**
+     * ストリーミング形式でレコードを書き込む処理を作成する。
+     * <p>テンプレートのデータ行の1行目の書式を、書き込む行の書式として保持しておく。</p>
+     *
+     * @since 2.3
+     * @throws AnnotationInvalidException ストリーミング形式で書き込めないレコードの場合
+     */
+    private StreamingRecordsWriter createStreamingRecordsWriter(final Sheet sheet, final List<RecordHeader> headers,
+            final XlsHorizontalRecords anno, final CellPosition startPosition,
+            final FieldAccessor accessor, final Class<?> recordClass, final List<Object> result,
+            final Configuration config, final SavingWorkObject work) throws XlsMapperException {
+
+        RecordsProcessorUtil.checkColumns(sheet, recordClass, headers, work.getAnnoReader(), config);
+
+        for(Class<? extends Annotation> annoClass : Arrays.asList(XlsMapColumns.class, XlsArrayColumns.class, XlsNestedRecords.class)) {
+            if(!FieldAccessorUtils.getPropertiesWithAnnotation(recordClass, work.getAnnoReader(), annoClass).isEmpty()) {
+                throw new AnnotationInvalidException(anno, MessageBuilder.create("anno.XlsHorizontalRecords.notSupportStreaming")
+                        .var("property", accessor.getNameWithClass())
+                        .varWithAnno("anno", annoClass)
+                        .format());
+            }
         }
 
-        if(config.isCorrectNameRangeOnSave()) {
-            correctNameRange(sheet, recordOperation);
+        final boolean duplicated = work.getStreamingRecordsWriters().stream()
+                .anyMatch(w -> w.getSheetName().equals(sheet.getSheetName()));
+        if(duplicated) {
+            throw new AnnotationInvalidException(anno, MessageBuilder.create("anno.XlsHorizontalRecords.duplicatedStreaming")
+                    .var("property", accessor.getNameWithClass())
+                    .var("sheetName", sheet.getSheetName())
+                    .format());
         }
 
-        // 結合情報の補完 - POI 3.15以上のときに行う
-        correctMergedCell(sheet, recordOperation, mergedRegionList);
+        // テンプレートのデータ行の書式
+        final Map<Integer, CellStyle> templateStyles = new HashMap<>();
+        final Row templateRow = sheet.getRow(startPosition.getRow());
+        if(templateRow != null) {
+            for(Cell cell : templateRow) {
+                if(cell.getColumnIndex() >= startPosition.getColumn()) {
+                    templateStyles.put(cell.getColumnIndex(), cell.getCellStyle());
+                }
+            }
+        }
+        final float templateHeight = templateRow != null ? templateRow.getHeightInPoints() : -1;
+
+        return new StreamingRecordsWriter() {
+
+            @Override
+            public String getSheetName() {
+                return sheet.getSheetName();
+            }
+
+            @Override
+            public void write(final Sheet streamingSheet) throws XlsMapperException {
+                removeTemplateRows(sheet, startPosition.getRow());
+                writeStreamingRecords(streamingSheet, headers, startPosition, templateStyles, templateHeight,
+                        accessor, recordClass, result, config, work);
+            }
+        };
+
+    }
+
+    /**
+     * 表のデータ行の開始位置以降のテンプレートの行を削除する。
+     * <p>{@link org.apache.poi.xssf.streaming.SXSSFSheet}では、既存の行より後にしか行を追加できないため。</p>
+     * @param sheet テンプレートのシート
+     * @param startRow データ行の開始位置
+     */
+    private void removeTemplateRows(final Sheet sheet, final int startRow) {
+
+        for(int i=sheet.getNumMergedRegions()-1; i >= 0; i--) {
+            if(sheet.getMergedRegion(i).getLastRow() >= startRow) {
+                sheet.removeMergedRegion(i);
+            }
+        }
+
+        for(int i=sheet.getLastRowNum(); i >= startRow; i--) {
+            final Row row = sheet.getRow(i);
+            if(row != null) {
+                sheet.removeRow(row);
+            }
+        }
+
+    }
+
+    /**
+     * ストリーミング形式で、レコードを行の順番に書き込む。
+     *
+     * @since 2.3
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void writeStreamingRecords(final Sheet sheet, final List<RecordHeader> headers, final CellPosition startPosition,
+            final Map<Integer, CellStyle> templateStyles, final float templateHeight,
+            final FieldAccessor accessor, final Class<?> recordClass, final List<Object> result,
+            final Configuration config, final SavingWorkObject work) throws XlsMapperException {
+
+        final int initColumn = startPosition.getColumn();
+
+        // 各種レコードのコールバック用メソッドを抽出する
+        final RecordMethodCache methodCache = new RecordMethodFacatory(work.getAnnoReader(), config)
+                .create(recordClass, ProcessCase.Save);
+
+        // レコードの見出しに対するカラム情報のキャッシュ
+        final Map<String, List<FieldAccessor>> propertiesCache = new HashMap<>();
+
+        for(int r=0; r < result.size(); r++) {
+            final Object record = result.get(r);
+            final int hRow = startPosition.getRow() + r;
+
+            // パスの位置の変更
+            work.getErrors().pushNestedPath(accessor.getName(), r);
+
+            // execute PreProcess listner
+            methodCache.getListenerClasses().forEach(listenerClass -> {
+                listenerClass.getPreSaveMethods().forEach(method -> {
+                    Utils.invokeNeedProcessMethod(listenerClass.getObject(), method, record, sheet, config, work.getErrors(), ProcessCase.Save);
+                });
+            });
+
+            // execute PreProcess method
+            methodCache.getPreSaveMethods().forEach(method -> {
+                Utils.invokeNeedProcessMethod(record, method, record, sheet, config, work.getErrors(), ProcessCase.Save);
+            });
+
+            // テンプレートの書式で行を作成する
+            final Row row = sheet.createRow(hRow);
+            if(templateHeight > 0) {
+                row.setHeightInPoints(templateHeight);
+            }
+            templateStyles.forEach((column, style) -> row.createCell(column).setCellStyle(style));
+
+            if(record != null) {
+                for(RecordHeader headerInfo : headers) {
+                    final List<FieldAccessor> propeties = propertiesCache.computeIfAbsent(headerInfo.getLabel(), key -> {
+                        return FieldAccessorUtils.getColumnPropertiesByName(
+                                recordClass, work.getAnnoReader(), config, key)
+                                .stream()
+                                .filter(p -> p.isReadable())
+                                .collect(Collectors.toList());
+                    });
+
+                    for(FieldAccessor property : propeties) {
+                        final XlsColumn column = property.getAnnotationNullable(XlsColumn.class);
+                        if(!Utils.isSaveCase(column.cases())) {
+                            continue;
+                        }
+
+                        final CellPosition valuePosition = CellPosition.of(hRow, initColumn + headerInfo.getInterval() + column.headerMerged());
+
+                        // set for cell value
+                        property.setPosition(record, valuePosition);
+                        property.setLabel(record, headerInfo.getLabel());
+
+                        final CellConverter converter = getCellConverter(property, config);
+                        if(converter instanceof FieldFormatter) {
+                            work.getErrors().registerFieldFormatter(property.getName(), property.getType(), (FieldFormatter<?>)converter, true);
+                        }
+
+                        try {
+                            converter.toCell(property.getValue(record), record, sheet, valuePosition, work.getCellStyleCache(sheet.getWorkbook()));
+                        } catch(TypeBindException e) {
+                            work.addTypeBindError(e, valuePosition, property.getName(), headerInfo.getLabel());
+                            if(!config.isContinueTypeBindFailure()) {
+                                throw e;
+                            }
+                        }
+                    }
+                }
+
+                // execute PostProcess listener
+                methodCache.getListenerClasses().forEach(listenerClass -> {
+                    listenerClass.getPostSaveMethods().forEach(method -> {
+                        Utils.invokeNeedProcessMethod(listenerClass.getObject(), method, record, sheet, config, work.getErrors(), ProcessCase.Save);
+                    });
+                });
+
+                // execute PostProcess method
+                methodCache.getPostSaveMethods().forEach(method -> {
+                    Utils.invokeNeedProcessMethod(record, method, record, sheet, config, work.getErrors(), ProcessCase.Save);
+                });
+            }
+
+            // パスの位置の変更
+            work.getErrors().popNestedPath();
+        }
 
     }
 
@@ -1018,7 +1467,7 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
             final FieldAccessor accessor, final Class<?> recordClass, final List<Object> result,
             final Configuration config, final SavingWorkObject work,
             final List<CellRangeAddress> mergedRanges, final RecordOperation recordOperation,
-            final List<Integer> inserteRowsIdx) throws XlsMapperException {
+            final BitSet insertedRows) throws XlsMapperException {
 
         final int initColumn = initPosition.getColumn();
         final int initRow = initPosition.getRow();
@@ -1049,9 +1498,6 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
         // レコードの見出しに対するカラム情報のキャッシュ
         final Map<String, List<FieldAccessor>> propertiesCache = new HashMap<>();
 
-        // カラムに対するConverterのキャッシュ
-        final Map<String, CellConverter<?>> converterCache = new HashMap<>();
-
         final int startHeaderIndex = getStartHeaderIndexForSaving(headers, recordClass, work.getAnnoReader(), config);
 
         // get records
@@ -1087,7 +1533,7 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
             }
 
             // レコードの各列処理で既に行を追加したかどうかのフラグ。(ネスト先でも参照する)
-            boolean insertRows = inserteRowsIdx.contains(hRow+1);
+            boolean insertRows = insertedRows.get(hRow);
 
             // レコードの各列処理で既に行を削除したかどうかのフラグ。
             boolean deleteRows = false;
@@ -1177,18 +1623,20 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
                             } else if(recordOperation.getAnnotation().overOperation().equals(OverOperation.Insert)) {
                                 // すでに他の列の処理に対して行を追加している場合は行の追加は行わない。
                                 if(!insertRows) {
-                                    // 行を下に追加する
-                                    POIUtils.insertRow(sheet, valueCell.getRowIndex());
+                                    // 残りのレコード分の行を、まとめて下に追加する
+                                    final int rowIndex = valueCell.getRowIndex();
+                                    final int insertSize = (rowIndex == hRow) ? getInsertRowSize(result, r, work.getAnnoReader()) : 1;
+                                    POIUtils.insertRows(sheet, rowIndex, insertSize);
 
-                                    // 現在のセルがずれるため、1つ上のセルを再取得する
-                                    valueCell = POIUtils.getCell(sheet, valueCell.getColumnIndex(), valueCell.getRowIndex()-1);
+                                    // 現在のセルがずれるため、追加した行のセルを再取得する
+                                    valueCell = POIUtils.getCell(sheet, valueCell.getColumnIndex(), rowIndex);
 
                                     insertRows = true;
-                                    recordOperation.incrementInsertRecord();
-                                    inserteRowsIdx.add(valueCell.getRowIndex()+1);
+                                    recordOperation.incrementInsertRecord(insertSize);
+                                    insertedRows.set(rowIndex, rowIndex + insertSize);
 
                                     if(logger.isDebugEnabled()) {
-                                        logger.debug("insert row : sheet name=[{}], row index=[{}]", sheet.getSheetName(), valueCell.getRowIndex()+1);
+                                        logger.debug("insert row : sheet name=[{}], row index=[{}], size=[{}]", sheet.getSheetName(), rowIndex+1, insertSize);
                                     }
                                 }
 
@@ -1214,13 +1662,13 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
                         property.getCommentGetter().ifPresent(getter -> config.getCommentOperator().saveCellComment(
                                 getter, tempCommentCell, record, accessor, config));
 
-                        final CellConverter converter = converterCache.computeIfAbsent(property.getName(), key -> getCellConverter(property, config));
+                        final CellConverter converter = getCellConverter(property, config);
                         if(converter instanceof FieldFormatter) {
                             work.getErrors().registerFieldFormatter(property.getName(), property.getType(), (FieldFormatter<?>)converter, true);
                         }
 
                         try {
-                            converter.toCell(property.getValue(record), record, sheet, CellPosition.of(valueCell));
+                            converter.toCell(property.getValue(record), record, sheet, CellPosition.of(valueCell), work.getCellStyleCache(sheet.getWorkbook()));
                         } catch(TypeBindException e) {
                             work.addTypeBindError(e, valueCell, property.getName(), headerInfo.getLabel());
                             if(!config.isContinueTypeBindFailure()) {
@@ -1282,7 +1730,7 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
             int skipSize = 0;
             if(record != null) {
                 skipSize = saveNestedRecords(sheet, headers, valueCellPositions, anno, CellPosition.of(hRow, initColumn), record,
-                        config, work, mergedRanges, recordOperation, inserteRowsIdx);
+                        config, work, mergedRanges, recordOperation, insertedRows);
                 nestedRecordSize.addAndGet(skipSize);
             }
 
@@ -1326,6 +1774,33 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
 
     }
 
+    /**
+     * 行を追加する際に、まとめて追加する行数を取得する。
+     * <p>残りのレコードが全て1行のみを使用する場合は、残りのレコード数分の行をまとめて追加する。
+     *  ネストしたレコードを持つ場合など、使用する行数が決まらない場合は1行とする。</p>
+     * @param result 書き込むレコード
+     * @param index 現在のレコードのインデックス
+     * @param annoReader AnnotationReader
+     * @return 追加する行数
+     */
+    private int getInsertRowSize(final List<Object> result, final int index, final AnnotationReader annoReader) {
+
+        final Set<Class<?>> checkedClasses = new HashSet<>();
+        for(int i=index; i < result.size(); i++) {
+            final Object record = result.get(i);
+            if(record == null) {
+                return 1;
+            }
+
+            if(checkedClasses.add(record.getClass())
+                    && !FieldAccessorUtils.getPropertiesWithAnnotation(record.getClass(), annoReader, XlsNestedRecords.class).isEmpty()) {
+                return 1;
+            }
+        }
+
+        return Math.max(result.size() - index, 1);
+    }
+
     /**
      * 表の見出しから、レコードのJavaクラスの定義にあるカラムの定義で初めて見つかるリストのインデックスを取得する。
      * <p>カラムの定義とは、アノテーション「@XlsColumn」が付与されたもの。</p>
@@ -1509,7 +1984,7 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
                     
                     try {
                         Object value = property.getValueOfMap(headerInfo.getLabel(), record);
-                        converter.toCell(value, record, sheet, CellPosition.of(cell));
+                        converter.toCell(value, record, sheet, CellPosition.of(cell), work.getCellStyleCache(sheet.getWorkbook()));
 
                     } catch(TypeBindException e) {
 
@@ -1701,7 +2176,7 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
             final Object record,
             final Configuration config, final SavingWorkObject work,
             final List<CellRangeAddress> mergedRanges, final RecordOperation recordOperation,
-            final List<Integer> insertRowsIdx) throws XlsMapperException {
+            final BitSet insertedRows) throws XlsMapperException {
 
         int skipSize = 0;
 
@@ -1737,7 +2212,7 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
                 final List<Object> list = Utils.convertCollectionToList(value);
                 final AtomicInteger nestedRecordSize = new AtomicInteger(0);
                 saveRecords(sheet, headers, anno, beginPositoin, nestedRecordSize, property, recordClass, list,
-                        config, work, mergedRanges, recordOperation, insertRowsIdx);
+                        config, work, mergedRanges, recordOperation, insertedRows);
 
                 if(skipSize < list.size()) {
                     if(nestedRecordSize.get() > 0) {
@@ -1767,7 +2242,7 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
                 final List<Object> list = Arrays.asList(value);
                 final AtomicInteger nestedRecordSize = new AtomicInteger(0);
                 saveRecords(sheet, headers, anno, beginPositoin, nestedRecordSize, property, recordClass, list,
-                        config, work, mergedRanges, recordOperation, insertRowsIdx);
+                        config, work, mergedRanges, recordOperation, insertedRows);
 
                 if(nestedRecordSize.get() > 0) {
                     skipSize = nestedRecordSize.get() - skipSize;
@@ -1794,7 +2269,7 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
                 List<Object> list = Arrays.asList(value);
                 final AtomicInteger nestedRecordSize = new AtomicInteger(0);
                 saveRecords(sheet, headers, anno, beginPositoin, nestedRecordSize, property, recordClass, list,
-                        config, work, mergedRanges, recordOperation, insertRowsIdx);
+                        config, work, mergedRanges, recordOperation, insertedRows);
 
                 if(nestedRecordSize.get() > 0) {
                     skipSize = nestedRecordSize.get() - skipSize;
@@ -1854,129 +2329,6 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
 
     }
 
-    /**
-     * セルの入力規則の範囲を修正する。
-     * @param sheet
-     * @param recordOperation
-     */
-    private void correctDataValidation(final Sheet sheet, final RecordOperation recordOperation) {
-
-        if(recordOperation.isNotExecuteRecordOperation()) {
-            return;
-        }
-
-        //TODO: セルの結合も考慮する
-
-        // 操作をしていないセルの範囲の取得
-        final CellRangeAddress notOperateRange = new CellRangeAddress(
-                recordOperation.getTopLeftPoisitoin().y,
-                recordOperation.getBottomRightPosition().y - recordOperation.getCountInsertRecord(),
-                recordOperation.getTopLeftPoisitoin().x,
-                recordOperation.getBottomRightPosition().x
-                );
-
-        final List<? extends DataValidation> list = sheet.getDataValidations();
-        for(DataValidation validation : list) {
-
-            final CellRangeAddressList region = validation.getRegions().copy();
-            boolean changedRange = false;
-            for(CellRangeAddress range : region.getCellRangeAddresses()) {
-
-                if(notOperateRange.isInRange(range.getFirstRow(), range.getFirstColumn())) {
-                    // 自身のセルの範囲の場合は、行の範囲を広げる
-                    range.setLastRow(recordOperation.getBottomRightPosition().y);
-                    changedRange = true;
-
-                } else if(notOperateRange.getLastRow() < range.getFirstRow()) {
-                    // 自身のセルの範囲より下方にあるセルの範囲の場合、行の挿入や削除に影響を受けているので修正する。
-                    if(recordOperation.isInsertRecord()) {
-                        range.setFirstRow(range.getFirstRow() + recordOperation.getCountInsertRecord());
-                        range.setLastRow(range.getLastRow() + recordOperation.getCountInsertRecord());
-
-                    } else if(recordOperation.isDeleteRecord()) {
-                        range.setFirstRow(range.getFirstRow() - recordOperation.getCountDeleteRecord());
-                        range.setLastRow(range.getLastRow() - recordOperation.getCountDeleteRecord());
-
-                    }
-                    changedRange = true;
-                }
-
-            }
-
-            // 修正した規則を、更新する。
-            if(changedRange) {
-                boolean updated = POIUtils.updateDataValidationRegion(sheet, validation.getRegions(), region);
-                assert updated;
-            }
-        }
-
-    }
-
-    /**
-     * 名前の定義の範囲を修正する。
-     * @param sheet
-     * @param recordOperation
-     */
-    private void correctNameRange(final Sheet sheet, final RecordOperation recordOperation) {
-
-        if(recordOperation.isNotExecuteRecordOperation()) {
-            return;
-        }
-
-        final Workbook workbook = sheet.getWorkbook();
-        final int numName = workbook.getNumberOfNames();
-        if(numName == 0) {
-            return;
-        }
-
-        // 操作をしていないセルの範囲の取得
-        final CellRangeAddress notOperateRange = new CellRangeAddress(
-                recordOperation.getTopLeftPoisitoin().y,
-                recordOperation.getBottomRightPosition().y - recordOperation.getCountInsertRecord(),
-                recordOperation.getTopLeftPoisitoin().x,
-                recordOperation.getBottomRightPosition().x
-                );
-
-        for(Name name : workbook.getAllNames()) {
-
-            if(name.isDeleted() || name.isFunctionName()) {
-                // 削除されている場合、関数の場合はスキップ
-                continue;
-            }
-
-            if(!sheet.getSheetName().equals(name.getSheetName())) {
-                // 自身のシートでない名前は、修正しない。
-                continue;
-            }
-
-            AreaReference areaRef = new AreaReference(name.getRefersToFormula(), POIUtils.getVersion(sheet));
-            CellReference firstCellRef = areaRef.getFirstCell();
-            CellReference lastCellRef = areaRef.getLastCell();
-
-            if(notOperateRange.isInRange(firstCellRef.getRow(), firstCellRef.getCol())) {
-                // 自身のセルの範囲の場合は、行の範囲を広げる。
-
-                lastCellRef= new CellReference(
-                        lastCellRef.getSheetName(),
-                        recordOperation.getBottomRightPosition().y, lastCellRef.getCol(),
-                        lastCellRef.isRowAbsolute(), lastCellRef.isColAbsolute());
-                areaRef = new AreaReference(firstCellRef, lastCellRef, sheet.getWorkbook().getSpreadsheetVersion());
-
-                // 修正した範囲を再設定する
-                name.setRefersToFormula(areaRef.formatAsString());
-
-            } else if(notOperateRange.getLastRow() < firstCellRef.getRow()) {
-                /*
-                 * 名前の定義の場合、自身のセルの範囲より下方にあるセルの範囲の場合、
-                 * 自動的に修正されるため、修正は必要なし。
-                 */
-
-            }
-
-        }
-
-    }
-
     /**
      * 挿入・削除前の情報を元に結合を再設定する
      *
@@ -1999,6 +2351,9 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
                 recordOperation.getBottomRightPosition().x
                 );
 
+        // 結合情報の取得は、シートの全ての結合情報を走査するため、1度だけ取得する
+        final List<CellRangeAddress> existsRegions = new ArrayList<>(sheet.getMergedRegions());
+
         for(CellRangeAddress mergedRange : mergedRegionList) {
 
             if(notOperateRange.getLastRow() >= mergedRange.getFirstRow()) {
@@ -2019,8 +2374,9 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
                             mergedRange.getFirstColumn(),
                             mergedRange.getLastColumn());
 
-                    if(!isOverMergedRegion(sheet, correctedRange)) {
+                    if(!isOverMergedRegion(existsRegions, correctedRange)) {
                         sheet.addMergedRegion(correctedRange);
+                        existsRegions.add(correctedRange);
                     }
 
                 }
@@ -2033,15 +2389,13 @@ public class HorizontalRecordsProcessor extends AbstractFieldProcessor<XlsHorizo
 
     /**
      * 結合する反映が既にシート情報に存在しているかどうか判定する。
-     * @param sheet シート情報
+     * @param existsRegions シートの結合情報
      * @param region 結合領域の情報
      * @return trueの場合、結合情報が既に存在する。
      */
-    private boolean isOverMergedRegion(final Sheet sheet, final CellRangeAddress region) {
+    private boolean isOverMergedRegion(final List<CellRangeAddress> existsRegions, final CellRangeAddress region) {
 
-        final int mergedCount = sheet.getNumMergedRegions();
-        for(int i=0; i < mergedCount; i++) {
-            final CellRangeAddress existsRegion = sheet.getMergedRegion(i);
+        for(CellRangeAddress existsRegion : existsRegions) {
 
             if(POIUtils.intersectsRegion(existsRegion, region) || POIUtils.intersectsRegion(region, existsRegion)) {
                 return true;
@@ -46,7 +46,7 @@ import com.gh.mygreen.xlsmapper.xml.AnnotationReader;
 /**
  * アノテーション{@link XlsIterateTables}を処理する。
  *
- * @version 2.1
+ * @version 2.3
  * @author Naoki Takezoe
  * @author T.TSUCHIE
  *
@@ -128,7 +128,9 @@ public class IterateTablesProcessor extends AbstractFieldProcessor<XlsIterateTab
 
         final String label = iterateTablesAnno.tableLabel();
 
-        currentCell = CellFinder.query(sheet, label, config).find(iterateTablesAnno.optional());
+        currentCell = CellFinder.query(sheet, label, config)
+                .labelIndex(work.getLabelIndex(sheet, config))
+                .find(iterateTablesAnno.optional());
 
         while(currentCell != null) {
             // 1 table object instance
@@ -171,6 +173,7 @@ public class IterateTablesProcessor extends AbstractFieldProcessor<XlsIterateTab
             resultTableList.add(tableObj);
             after = currentCell;
             currentCell = CellFinder.query(sheet, label, config)
+                    .labelIndex(work.getLabelIndex(sheet, config))
                     .startPosition(after)
                     .excludeStartPosition(true)
                     .findOptional()
@@ -246,6 +249,7 @@ public class IterateTablesProcessor extends AbstractFieldProcessor<XlsIterateTab
             Cell titleCell = null;
             try {
                 titleCell = CellFinder.query(sheet, anno.label(), config)
+                        .labelIndex(work.getLabelIndex(sheet, config))
                         .startPosition(headerCell)
                         .excludeStartPosition(true)
                         .findWhenNotFoundException();
@@ -291,6 +295,7 @@ public class IterateTablesProcessor extends AbstractFieldProcessor<XlsIterateTab
             Cell titleCell = null;
             try {
                 titleCell = CellFinder.query(sheet, anno.label(), config)
+                        .labelIndex(work.getLabelIndex(sheet, config))
                         .startPosition(headerCell)
                         .excludeStartPosition(true)
                         .findWhenNotFoundException();
@@ -336,6 +341,7 @@ public class IterateTablesProcessor extends AbstractFieldProcessor<XlsIterateTab
             Cell titleCell = null;
             try {
                 titleCell = CellFinder.query(sheet, anno.label(), config)
+                        .labelIndex(work.getLabelIndex(sheet, config))
                         .startPosition(headerCell)
                         .excludeStartPosition(true)
                         .findWhenNotFoundException();
@@ -518,9 +524,12 @@ public class IterateTablesProcessor extends AbstractFieldProcessor<XlsIterateTab
             });
 
             if(after == null) {
-                currentCell = CellFinder.query(sheet, label, config).find(iterateTablesAnno.optional());
+                currentCell = CellFinder.query(sheet, label, config)
+                        .labelIndex(work.getLabelIndex(sheet, config))
+                        .find(iterateTablesAnno.optional());
             } else {
                 currentCell = CellFinder.query(sheet, label, config)
+                        .labelIndex(work.getLabelIndex(sheet, config))
                         .startPosition(after)
                         .excludeStartPosition(true)
                         .find(iterateTablesAnno.optional());
@@ -588,6 +597,7 @@ public class IterateTablesProcessor extends AbstractFieldProcessor<XlsIterateTab
             Cell titleCell = null;
             try {
                 titleCell = CellFinder.query(sheet, anno.label(), config)
+                        .labelIndex(work.getLabelIndex(sheet, config))
                         .startPosition(headerCell)
                         .excludeStartPosition(true)
                         .findWhenNotFoundException();
@@ -627,6 +637,7 @@ public class IterateTablesProcessor extends AbstractFieldProcessor<XlsIterateTab
             Cell titleCell = null;
             try {
                 titleCell = CellFinder.query(sheet, anno.label(), config)
+                        .labelIndex(work.getLabelIndex(sheet, config))
                         .startPosition(headerCell)
                         .excludeStartPosition(true)
                         .findWhenNotFoundException();
@@ -666,6 +677,7 @@ public class IterateTablesProcessor extends AbstractFieldProcessor<XlsIterateTab
             Cell titleCell = null;
             try {
                 titleCell = CellFinder.query(sheet, anno.label(), config)
+                        .labelIndex(work.getLabelIndex(sheet, config))
                         .startPosition(headerCell)
                         .excludeStartPosition(true)
                         .findWhenNotFoundException();
@@ -97,7 +97,7 @@ public class LabelledArrayCellsProcessor extends AbstractFieldProcessor<XlsLabel
             final LoadingWorkObject work) {
 
         // マッピング対象のセル情報の取得
-        LabelledCellHandler labelHandler = new LabelledCellHandler(accessor, sheet, config);
+        LabelledCellHandler labelHandler = new LabelledCellHandler(accessor, sheet, config, work.getLabelIndex(sheet, config));
         Optional<LabelInfo> labelInfo = labelHandler.handle(anno, ProcessCase.Load);
 
         if(!labelInfo.isPresent()) {
@@ -202,7 +202,7 @@ public class LabelledArrayCellsProcessor extends AbstractFieldProcessor<XlsLabel
             final SavingWorkObject work) throws XlsMapperException {
 
         // マッピング対象のセル情報の取得
-        LabelledCellHandler labelHandler = new LabelledCellHandler(accessor, sheet, config);
+        LabelledCellHandler labelHandler = new LabelledCellHandler(accessor, sheet, config, work.getLabelIndex(sheet, config));
         Optional<LabelInfo> labelInfo = labelHandler.handle(anno, ProcessCase.Save);
 
         if(!labelInfo.isPresent()) {
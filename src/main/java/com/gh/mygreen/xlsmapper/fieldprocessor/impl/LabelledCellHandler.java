@@ -20,12 +20,13 @@ import com.gh.mygreen.xlsmapper.util.CellFinder;
 import com.gh.mygreen.xlsmapper.util.CellPosition;
 import com.gh.mygreen.xlsmapper.util.ClassUtils;
 import com.gh.mygreen.xlsmapper.util.POIUtils;
+import com.gh.mygreen.xlsmapper.util.SheetLabelIndex;
 import com.gh.mygreen.xlsmapper.util.Utils;
 
 /**
  * ラベル付きのセルの開始位置を検索するクラス。
  * 
- * @version 2.1
+ * @version 2.3
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -38,10 +39,29 @@ public class LabelledCellHandler {
 
     private final Configuration config;
 
+    /**
+     * ラベルを検索するためのセルの位置の索引
+     */
+    private final SheetLabelIndex labelIndex;
+
     public LabelledCellHandler(final FieldAccessor field, final Sheet sheet, final Configuration config) {
+        this(field, sheet, config, null);
+    }
+
+    /**
+     * セルの位置の索引を指定するコンストラクタ
+     * @since 2.3
+     * @param field フィールド情報
+     * @param sheet シート情報
+     * @param config システム設定
+     * @param labelIndex ラベルを検索するためのセルの位置の索引。nullの場合は、シートを走査して検索する。
+     */
+    public LabelledCellHandler(final FieldAccessor field, final Sheet sheet, final Configuration config,
+            final SheetLabelIndex labelIndex) {
         this.field = field;
         this.sheet = sheet;
         this.config = config;
+        this.labelIndex = labelIndex;
     }
 
     /**
@@ -217,17 +237,17 @@ public class LabelledCellHandler {
             if(annoProxy.type() == LabelledCellType.Left) {
                 targetPosition.x = column - index;
                 targetPosition.y = row;
-                targetCell = POIUtils.getCell(sheet, targetPosition);
+                targetCell = POIUtils.getCellForRead(sheet, targetPosition);
 
             } else if(annoProxy.type() == LabelledCellType.Right) {
                 targetPosition.x = column + index + mergedColumnSize;
                 targetPosition.y = row;
-                targetCell = POIUtils.getCell(sheet, targetPosition);
+                targetCell = POIUtils.getCellForRead(sheet, targetPosition);
 
             } else if(annoProxy.type() == LabelledCellType.Bottom) {
                 targetPosition.x = column;
                 targetPosition.y = row + index + mergedRowSize;
-                targetCell = POIUtils.getCell(sheet, targetPosition);
+                targetCell = POIUtils.getCellForRead(sheet, targetPosition);
 
             }
 
@@ -247,7 +267,7 @@ public class LabelledCellHandler {
         final LabelInfo info = new LabelInfo();
         info.valueCell = targetCell;
         info.valueAddress = CellPosition.of(targetPosition);
-        info.label = POIUtils.getCellContents(POIUtils.getCell(sheet, column, row), config.getCellFormatter());
+        info.label = POIUtils.getCellContents(POIUtils.getCellForRead(sheet, column, row), config.getCellFormatter());
 
         return Optional.of(info);
     }
@@ -275,14 +295,19 @@ public class LabelledCellHandler {
             // 属性「label」によるラベルの指定がある場合
             try {
                 if(Utils.isNotEmpty(anno.headerLabel())){
-                    Cell headerCell = CellFinder.query(sheet, anno.headerLabel(), config).findWhenNotFoundException();
+                    Cell headerCell = CellFinder.query(sheet, anno.headerLabel(), config)
+                            .labelIndex(labelIndex)
+                            .findWhenNotFoundException();
                     Cell labelCell = CellFinder.query(sheet, anno.label(), config)
+                            .labelIndex(labelIndex)
                             .startPosition(headerCell.getColumnIndex(), headerCell.getRowIndex() + 1)
                             .findWhenNotFoundException();
                     return Optional.of(CellPosition.of(labelCell));
 
                 } else {
-                    Cell labelCell = CellFinder.query(sheet, anno.label(), config).findWhenNotFoundException();
+                    Cell labelCell = CellFinder.query(sheet, anno.label(), config)
+                            .labelIndex(labelIndex)
+                            .findWhenNotFoundException();
                     return Optional.of(CellPosition.of(labelCell));
                 }
             } catch(CellNotFoundException ex){
@@ -23,7 +23,7 @@ import com.gh.mygreen.xlsmapper.validation.fieldvalidation.FieldFormatter;
 /**
  * {@link XlsLabelledCell}を処理するFieldProcessor。
  *
- * @version 2.1
+ * @version 2.3
  * @author Naoki Takezoe
  * @author T.TSUCHIE
  *
@@ -44,7 +44,7 @@ public class LabelledCellProcessor extends AbstractFieldProcessor<XlsLabelledCel
         }
 
         // マッピング対象のセル情報の取得
-        LabelledCellHandler labelHandler = new LabelledCellHandler(accessor, sheet, config);
+        LabelledCellHandler labelHandler = new LabelledCellHandler(accessor, sheet, config, work.getLabelIndex(sheet, config));
         Optional<LabelInfo> labelInfo = labelHandler.handle(anno, ProcessCase.Load);
 
         if(!labelInfo.isPresent()) {
@@ -67,7 +67,7 @@ public class LabelledCellProcessor extends AbstractFieldProcessor<XlsLabelledCel
         }
 
         try {
-            final Object value = converter.toObject(labelInfo.get().valueCell);
+            final Object value = converter.toObject(labelInfo.get().valueCell, work.getFormulaEvaluator(sheet.getWorkbook()));
             accessor.setValue(beansObj, value);
         } catch(TypeBindException e) {
             work.addTypeBindError(e, labelInfo.get().valueAddress, accessor.getName(), labelInfo.get().label);
@@ -92,7 +92,7 @@ public class LabelledCellProcessor extends AbstractFieldProcessor<XlsLabelledCel
         }
 
         // マッピング対象のセル情報の取得
-        LabelledCellHandler labelHandler = new LabelledCellHandler(accessor, sheet, config);
+        LabelledCellHandler labelHandler = new LabelledCellHandler(accessor, sheet, config, work.getLabelIndex(sheet, config));
         Optional<LabelInfo> labelInfo = labelHandler.handle(anno, ProcessCase.Save);
 
         if(!labelInfo.isPresent()) {
@@ -116,7 +116,7 @@ public class LabelledCellProcessor extends AbstractFieldProcessor<XlsLabelledCel
         }
 
         try {
-            converter.toCell(accessor.getValue(targetObj), targetObj, sheet, labelInfo.get().valueAddress);
+            converter.toCell(accessor.getValue(targetObj), targetObj, sheet, labelInfo.get().valueAddress, work.getCellStyleCache(sheet.getWorkbook()));
 
         } catch(TypeBindException e) {
             work.addTypeBindError(e, labelInfo.get().valueAddress, accessor.getName(), labelInfo.get().label);
@@ -44,7 +44,7 @@ public class LabelledCommentProcessor extends AbstractFieldProcessor<XlsLabelled
         validatePropertyType(accessor, anno);
         
         // マッピング対象のセル情報の取得
-        LabelledCellHandler labelHandler = new LabelledCellHandler(accessor, sheet, config);
+        LabelledCellHandler labelHandler = new LabelledCellHandler(accessor, sheet, config, work.getLabelIndex(sheet, config));
         Optional<CellPosition> labelAddress = labelHandler.getLabelPosition(anno);
 
         if(!labelAddress.isPresent()) {
@@ -55,7 +55,7 @@ public class LabelledCommentProcessor extends AbstractFieldProcessor<XlsLabelled
             return;
         }
 
-        final Cell xlsCell = POIUtils.getCell(sheet, labelAddress.get());
+        final Cell xlsCell = POIUtils.getCellForRead(sheet, labelAddress.get());
         accessor.setPosition(beansObj, labelAddress.get());
         accessor.setLabel(beansObj, config.getCellFormatter().format(xlsCell));
         
@@ -100,7 +100,7 @@ public class LabelledCommentProcessor extends AbstractFieldProcessor<XlsLabelled
         validatePropertyType(accessor, anno);
         
         // マッピング対象のセル情報の取得
-        LabelledCellHandler labelHandler = new LabelledCellHandler(accessor, sheet, config);
+        LabelledCellHandler labelHandler = new LabelledCellHandler(accessor, sheet, config, work.getLabelIndex(sheet, config));
         Optional<CellPosition> labelAddress = labelHandler.getLabelPosition(anno);
 
         if(!labelAddress.isPresent()) {
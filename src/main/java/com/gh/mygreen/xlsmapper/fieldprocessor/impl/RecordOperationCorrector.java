@@ -0,0 +1,304 @@
+package com.gh.mygreen.xlsmapper.fieldprocessor.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.poi.ss.usermodel.DataValidation;
+import org.apache.poi.ss.usermodel.Name;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.AreaReference;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.ss.util.CellRangeAddressList;
+import org.apache.poi.ss.util.CellReference;
+
+import com.gh.mygreen.xlsmapper.Configuration;
+import com.gh.mygreen.xlsmapper.util.ArgUtils;
+import com.gh.mygreen.xlsmapper.util.POIUtils;
+
+/**
+ * レコードの操作による、セルの入力規則と名前の定義の範囲の修正を、シートの処理の最後にまとめて行うクラス。
+ * <p>表ごとに修正すると、表の数だけ入力規則と名前の定義を走査して更新するため、
+ *  表の処理では操作の情報を登録しておき、シートの全ての表の処理が終わった後に{@link #correct(Sheet, Configuration)}で1度だけ更新します。</p>
+ * <p>入力規則は、行の挿入・削除によって位置が変わらないため、登録した順に操作を適用します。
+ *  名前の定義は、行の挿入・削除によって位置が変わるため、操作の範囲を後に行った操作の分だけずらして適用します。</p>
+ *
+ * @since 2.3
+ * @author T.TSUCHIE
+ *
+ */
+public class RecordOperationCorrector {
+
+    /**
+     * 登録された順番の操作
+     */
+    private final List<Correction> corrections = new ArrayList<>();
+
+    /**
+     * 行方向のレコードの操作（{@literal @XlsHorizontalRecords}）を登録します。
+     * @param recordOperation レコードの操作情報
+     * @throws IllegalArgumentException {@literal recordOperation == null}
+     */
+    public void addRowOperation(final RecordOperation recordOperation) {
+        ArgUtils.notNull(recordOperation, "recordOperation");
+
+        if(recordOperation.isExecuteRecordOperation()) {
+            corrections.add(new Correction(recordOperation, true));
+        }
+    }
+
+    /**
+     * 列方向のレコードの操作（{@literal @XlsVerticalRecords}）を登録します。
+     * @param recordOperation レコードの操作情報
+     * @throws IllegalArgumentException {@literal recordOperation == null}
+     */
+    public void addColumnOperation(final RecordOperation recordOperation) {
+        ArgUtils.notNull(recordOperation, "recordOperation");
+
+        if(recordOperation.isExecuteRecordOperation()) {
+            corrections.add(new Correction(recordOperation, false));
+        }
+    }
+
+    /**
+     * 登録されている操作を元に、入力規則と名前の定義の範囲を修正します。
+     * <p>修正後は、登録されている操作を破棄します。</p>
+     * @param sheet 処理対象のシート
+     * @param config システム設定
+     * @throws IllegalArgumentException {@literal sheet == null or config == null}
+     */
+    public void correct(final Sheet sheet, final Configuration config) {
+        ArgUtils.notNull(sheet, "sheet");
+        ArgUtils.notNull(config, "config");
+
+        if(corrections.isEmpty()) {
+            return;
+        }
+
+        try {
+            if(config.isCorrectCellDataValidationOnSave()) {
+                correctDataValidation(sheet);
+            }
+
+            if(config.isCorrectNameRangeOnSave()) {
+                correctNameRange(sheet);
+            }
+
+        } finally {
+            corrections.clear();
+        }
+
+    }
+
+    /**
+     * セルの入力規則の範囲を修正する。
+     * @param sheet シート
+     */
+    private void correctDataValidation(final Sheet sheet) {
+
+        //TODO: セルの結合も考慮する
+
+        final List<CellRangeAddressList> oldRegions = new ArrayList<>();
+        final List<CellRangeAddressList> newRegions = new ArrayList<>();
+
+        for(DataValidation validation : sheet.getDataValidations()) {
+
+            final CellRangeAddressList region = validation.getRegions().copy();
+            boolean changedRange = false;
+            for(Correction correction : corrections) {
+                for(CellRangeAddress range : region.getCellRangeAddresses()) {
+                    changedRange |= correction.correctDataValidation(range);
+                }
+            }
+
+            if(changedRange) {
+                oldRegions.add(validation.getRegions());
+                newRegions.add(region);
+            }
+        }
+
+        // 修正した規則を、まとめて更新する。
+        int updated = POIUtils.updateDataValidationRegions(sheet, oldRegions, newRegions);
+        assert updated == oldRegions.size();
+
+    }
+
+    /**
+     * 名前の定義の範囲を修正する。
+     * @param sheet シート
+     */
+    private void correctNameRange(final Sheet sheet) {
+
+        final Workbook workbook = sheet.getWorkbook();
+        if(workbook.getNumberOfNames() == 0) {
+            return;
+        }
+
+        // 操作をしていないセルの範囲を、全ての操作後の位置に変換する
+        final int size = corrections.size();
+        final CellRangeAddress[] notOperateRanges = new CellRangeAddress[size];
+        final int[] bottomRows = new int[size];
+        for(int i=0; i < size; i++) {
+            final CellRangeAddress range = corrections.get(i).getNotOperateRange();
+            notOperateRanges[i] = new CellRangeAddress(
+                    translateRow(range.getFirstRow(), i),
+                    translateRow(range.getLastRow(), i),
+                    range.getFirstColumn(),
+                    range.getLastColumn());
+            bottomRows[i] = translateRow(corrections.get(i).recordOperation.getBottomRightPosition().y, i);
+        }
+
+        for(Name name : workbook.getAllNames()) {
+
+            if(name.isDeleted() || name.isFunctionName()) {
+                // 削除されている場合、関数の場合はスキップ
+                continue;
+            }
+
+            if(!sheet.getSheetName().equals(name.getSheetName())) {
+                // 自身のシートでない名前は、修正しない。
+                continue;
+            }
+
+            final AreaReference areaRef = new AreaReference(name.getRefersToFormula(), POIUtils.getVersion(sheet));
+            final CellReference firstCellRef = areaRef.getFirstCell();
+            CellReference lastCellRef = areaRef.getLastCell();
+            boolean changedRange = false;
+
+            for(int i=0; i < size; i++) {
+                if(!notOperateRanges[i].isInRange(firstCellRef.getRow(), firstCellRef.getCol())) {
+                    /*
+                     * 自身のセルの範囲より下方・右方にあるセルの範囲の場合、
+                     * 自動的に修正されるため、修正は必要なし。
+                     */
+                    continue;
+                }
+
+                // 自身のセルの範囲の場合は、範囲を広げる。
+                final Correction correction = corrections.get(i);
+                lastCellRef = new CellReference(
+                        lastCellRef.getSheetName(),
+                        correction.horizontal ? bottomRows[i] : lastCellRef.getRow(),
+                        correction.horizontal ? lastCellRef.getCol() : correction.recordOperation.getBottomRightPosition().x,
+                        lastCellRef.isRowAbsolute(), lastCellRef.isColAbsolute());
+                changedRange = true;
+            }
+
+            if(changedRange) {
+                // 修正した範囲を再設定する
+                final AreaReference correctedRef = new AreaReference(firstCellRef, lastCellRef, workbook.getSpreadsheetVersion());
+                name.setRefersToFormula(correctedRef.formatAsString());
+            }
+
+        }
+
+    }
+
+    /**
+     * 指定した操作の時点の行番号を、その後に行った行の挿入・削除を反映した行番号に変換する。
+     * @param row 行番号
+     * @param index 操作のインデックス
+     * @return 全ての操作後の行番号
+     */
+    private int translateRow(final int row, final int index) {
+
+        int translated = row;
+        for(int i=index+1; i < corrections.size(); i++) {
+            final Correction correction = corrections.get(i);
+            if(correction.horizontal && correction.getNotOperateRange().getLastRow() < translated) {
+                translated += correction.getShiftRowCount();
+            }
+        }
+
+        return translated;
+    }
+
+    /**
+     * 1つの表に対する操作の情報
+     */
+    private static class Correction {
+
+        private final RecordOperation recordOperation;
+
+        /**
+         * 行方向の操作かどうか
+         */
+        private final boolean horizontal;
+
+        /**
+         * 操作をしていないセルの範囲
+         */
+        private final CellRangeAddress notOperateRange;
+
+        Correction(final RecordOperation recordOperation, final boolean horizontal) {
+            this.recordOperation = recordOperation;
+            this.horizontal = horizontal;
+
+            if(horizontal) {
+                this.notOperateRange = new CellRangeAddress(
+                        recordOperation.getTopLeftPoisitoin().y,
+                        recordOperation.getBottomRightPosition().y - recordOperation.getCountInsertRecord(),
+                        recordOperation.getTopLeftPoisitoin().x,
+                        recordOperation.getBottomRightPosition().x
+                        );
+            } else {
+                this.notOperateRange = new CellRangeAddress(
+                        recordOperation.getTopLeftPoisitoin().y,
+                        recordOperation.getBottomRightPosition().y,
+                        recordOperation.getTopLeftPoisitoin().x,
+                        recordOperation.getBottomRightPosition().x - recordOperation.getCountInsertRecord()
+                        );
+            }
+        }
+
+        CellRangeAddress getNotOperateRange() {
+            return notOperateRange;
+        }
+
+        /**
+         * 行の挿入・削除により、下方のセルがずれた行数を取得する。
+         * @return 挿入した場合は正、削除した場合は負の値。
+         */
+        int getShiftRowCount() {
+            return recordOperation.getCountInsertRecord() - recordOperation.getCountDeleteRecord();
+        }
+
+        /**
+         * 入力規則の範囲を修正する。
+         * @param range 修正対象の範囲
+         * @return 修正した場合はtrueを返す。
+         */
+        boolean correctDataValidation(final CellRangeAddress range) {
+
+            if(notOperateRange.isInRange(range.getFirstRow(), range.getFirstColumn())) {
+                // 自身のセルの範囲の場合は、範囲を広げる
+                if(horizontal) {
+                    range.setLastRow(recordOperation.getBottomRightPosition().y);
+                } else {
+                    range.setLastColumn(recordOperation.getBottomRightPosition().x);
+                }
+                return true;
+
+            } else if(horizontal && notOperateRange.getLastRow() < range.getFirstRow()) {
+                // 自身のセルの範囲より下方にあるセルの範囲の場合、行の挿入や削除に影響を受けているので修正する。
+                if(recordOperation.isInsertRecord()) {
+                    range.setFirstRow(range.getFirstRow() + recordOperation.getCountInsertRecord());
+                    range.setLastRow(range.getLastRow() + recordOperation.getCountInsertRecord());
+
+                } else if(recordOperation.isDeleteRecord()) {
+                    range.setFirstRow(range.getFirstRow() - recordOperation.getCountDeleteRecord());
+                    range.setLastRow(range.getLastRow() - recordOperation.getCountDeleteRecord());
+
+                }
+                return true;
+            }
+
+            /*
+             * VerticalRecordsの場合は、挿入・削除はないので、自身以外の範囲は修正しない。
+             */
+            return false;
+        }
+
+    }
+
+}
@@ -18,14 +18,8 @@ import java.util.stream.Collectors;
 import org.apache.poi.ss.usermodel.BorderStyle;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
-import org.apache.poi.ss.usermodel.DataValidation;
-import org.apache.poi.ss.usermodel.Name;
 import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.ss.util.AreaReference;
 import org.apache.poi.ss.util.CellRangeAddress;
-import org.apache.poi.ss.util.CellRangeAddressList;
-import org.apache.poi.ss.util.CellReference;
 
 import com.gh.mygreen.xlsmapper.AnnotationInvalidException;
 import com.gh.mygreen.xlsmapper.Configuration;
@@ -63,6 +57,7 @@ import com.gh.mygreen.xlsmapper.util.CellFinder;
 import com.gh.mygreen.xlsmapper.util.CellPosition;
 import com.gh.mygreen.xlsmapper.util.FieldAccessorUtils;
 import com.gh.mygreen.xlsmapper.util.POIUtils;
+import com.gh.mygreen.xlsmapper.util.SheetLabelIndex;
 import com.gh.mygreen.xlsmapper.util.Utils;
 import com.gh.mygreen.xlsmapper.validation.fieldvalidation.FieldFormatter;
 import com.gh.mygreen.xlsmapper.xml.AnnotationReadException;
@@ -72,7 +67,7 @@ import com.gh.mygreen.xlsmapper.xml.AnnotationReader;
 /**
  * アノテーション{@link XlsVerticalRecords}を処理するクラス。
  *
- * @version 2.1
+ * @version 2.3
  * @author Naoki Takezoe
  * @author T.TSUCHIE
  *
@@ -138,14 +133,16 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
            final Class<?> recordClass, final Configuration config, final LoadingWorkObject work) throws XlsMapperException {
 
         // get table starting position
-        final Optional<CellPosition> initPosition = getHeaderPosition(sheet, anno, accessor, config);
+        final Optional<CellPosition> initPosition = getHeaderPosition(sheet, anno, accessor, config, work.getLabelIndex(sheet, config));
         if(!initPosition.isPresent()) {
             return null;
         }
 
         // ラベルの設定
         if(Utils.isNotEmpty(anno.tableLabel())) {
-            final Optional<Cell> tableLabelCell = CellFinder.query(sheet, anno.tableLabel(), config).findOptional();
+            final Optional<Cell> tableLabelCell = CellFinder.query(sheet, anno.tableLabel(), config)
+                    .labelIndex(work.getLabelIndex(sheet, config))
+                    .findOptional();
             tableLabelCell.ifPresent(c -> {
                 final String label = POIUtils.getCellContents(c, config.getCellFormatter());
                 accessor.setLabel(beansObj, label);
@@ -164,9 +161,9 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
         int rangeCount = 1;
         while(true){
             try {
-                Cell cell = POIUtils.getCell(sheet, hColumn, hRow);
+                Cell cell = POIUtils.getCellForRead(sheet, hColumn, hRow);
                 while(POIUtils.isEmptyCellContents(cell, config.getCellFormatter()) && rangeCount < anno.range()){
-                    cell = POIUtils.getCell(sheet, hColumn, hRow + rangeCount);
+                    cell = POIUtils.getCellForRead(sheet, hColumn, hRow + rangeCount);
                     rangeCount++;
                 }
 
@@ -175,7 +172,7 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
                     break;
                 } /*else {
                     for(int j=hColumn; j > initColumn; j--){
-                        final Cell tmpCell = POIUtils.getCell(sheet, j, hRow);
+                        final Cell tmpCell = POIUtils.getCellForRead(sheet, j, hRow);
                         if(!POIUtils.isEmptyCellContents(tmpCell, config.getCellFormatter())){
                             cell = tmpCell;
                             break;
@@ -188,7 +185,7 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
                 rangeCount = 1;
 
                 // 結合しているセルの場合は、はじめのセルだけ取得して、後は結合分スキップする。
-                CellRangeAddress mergedRange = POIUtils.getMergedRegion(sheet, cell.getRowIndex(), cell.getColumnIndex());
+                CellRangeAddress mergedRange = work.getMergedRegionIndex(sheet).getMergedRegion(cell.getRowIndex(), cell.getColumnIndex());
                 if(mergedRange != null) {
                     hRow = hRow + (mergedRange.getLastRow() - mergedRange.getFirstRow());
                 }
@@ -248,9 +245,6 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
         // レコードの見出しに対するカラム情報のキャッシュ
         final Map<String, List<FieldAccessor>> propertiesCache = new HashMap<>();
 
-        // カラムに対するConverterのキャッシュ
-        final Map<String, CellConverter<?>> converterCache = new HashMap<>();
-
         final int startHeaderIndex = getStartHeaderIndexForLoading(headers, recordClass, work.getAnnoReader(), config);
 
         // get records
@@ -289,7 +283,7 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
             for(int i=0; i < headers.size() && hColumn < POIUtils.getColumns(sheet); i++){
                 final RecordHeader headerInfo = headers.get(i);
                 int hRow = initRow + headerInfo.getInterval();
-                final Cell cell = POIUtils.getCell(sheet, hColumn, hRow);
+                final Cell cell = POIUtils.getCellForRead(sheet, hColumn, hRow);
 
                 // find end of the table
                 if(!POIUtils.isEmptyCellContents(cell, config.getCellFormatter())){
@@ -297,7 +291,7 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
                 }
 
                 if(terminal==RecordTerminal.Border && i == startHeaderIndex){
-                    if(!POIUtils.getBorderTop(cell).equals(BorderStyle.NONE)){
+                    if(!POIUtils.getBorderTop(cell, work.getMergedRegionIndex(sheet)).equals(BorderStyle.NONE)){
                         emptyFlag = false;
                     } else {
                         emptyFlag = true;
@@ -327,18 +321,18 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
 
                     if(column.headerMerged() > 0){
                         hRow = hRow + column.headerMerged();
-                        valueCell = POIUtils.getCell(sheet, hColumn, hRow);
+                        valueCell = POIUtils.getCellForRead(sheet, hColumn, hRow);
                     }
 
                     // for merged cell
                     if(POIUtils.isEmptyCellContents(valueCell, config.getCellFormatter())){
                         CellStyle valueCellFormat = valueCell.getCellStyle();
-                        if(column.merged() && POIUtils.getBorderRight(valueCell).equals(BorderStyle.NONE)){
+                        if(column.merged() && POIUtils.getBorderRight(valueCell, work.getMergedRegionIndex(sheet)).equals(BorderStyle.NONE)){
                             for(int k=hColumn; k > initColumn; k--){
-                                final Cell tmpCell = POIUtils.getCell(sheet, k, hRow);
+                                final Cell tmpCell = POIUtils.getCellForRead(sheet, k, hRow);
                                 final CellStyle tmpCellFormat = tmpCell.getCellStyle();
 
-                                if(!POIUtils.getBorderLeft(tmpCell).equals(BorderStyle.NONE)){
+                                if(!POIUtils.getBorderLeft(tmpCell, work.getMergedRegionIndex(sheet)).equals(BorderStyle.NONE)){
                                     break;
                                 }
 
@@ -354,7 +348,7 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
                         hRow = hRow - column.headerMerged();
                     }
 
-                    CellRangeAddress mergedRange = POIUtils.getMergedRegion(sheet, valueCell.getRowIndex(), valueCell.getColumnIndex());
+                    CellRangeAddress mergedRange = work.getMergedRegionIndex(sheet).getMergedRegion(valueCell.getRowIndex(), valueCell.getColumnIndex());
                     if(mergedRange != null) {
                         int mergedSize =  mergedRange.getLastColumn() - mergedRange.getFirstColumn() + 1;
                         mergedRecords.add(new MergedRecord(headerInfo, mergedRange, mergedSize));
@@ -374,13 +368,13 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
                     property.getCommentSetter().ifPresent(setter -> 
                             config.getCommentOperator().loadCellComment(setter, tempCommentCell, record, property, config));
                     
-                    final CellConverter<?> converter = converterCache.computeIfAbsent(property.getName(), key -> getCellConverter(property, config));
+                    final CellConverter<?> converter = getCellConverter(property, config);
                     if(converter instanceof FieldFormatter) {
                         work.getErrors().registerFieldFormatter(property.getName(), property.getType(), (FieldFormatter<?>)converter, true);
                     }
 
                     try {
-                        final Object value = converter.toObject(valueCell);
+                        final Object value = converter.toObject(valueCell, work.getFormulaEvaluator(sheet.getWorkbook()));
                         property.setValue(record, value);
                     } catch(TypeBindException e) {
                         work.addTypeBindError(e, valueCell, property.getName(), headerInfo.getLabel());
@@ -446,12 +440,13 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
      * @param anno
      * @param accessor
      * @param config
+     * @param labelIndex ラベルの索引。nullの場合はシートを走査して探す。
      * @return 表の開始位置。指定したラベルが見つからない場合、設定によりnullを返す。
      * @throws AnnotationInvalidException アノテーションの値が不正で、表の開始位置が位置が見つからない場合。
      * @throws CellNotFoundException 指定したラベルが見つからない場合。
      */
     private Optional<CellPosition> getHeaderPosition(final Sheet sheet, final XlsVerticalRecords anno,
-            final FieldAccessor accessor, final Configuration config) throws AnnotationInvalidException, CellNotFoundException {
+            final FieldAccessor accessor, final Configuration config, final SheetLabelIndex labelIndex) throws AnnotationInvalidException, CellNotFoundException {
 
         if(Utils.isNotEmpty(anno.headerAddress())) {
             try {
@@ -469,7 +464,9 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
 
         } else if(Utils.isNotEmpty(anno.tableLabel())) {
             try {
-                final Cell labelCell = CellFinder.query(sheet, anno.tableLabel(), config).findWhenNotFoundException();
+                final Cell labelCell = CellFinder.query(sheet, anno.tableLabel(), config)
+                        .labelIndex(labelIndex)
+                        .findWhenNotFoundException();
 
                 if(anno.tableLabelAbove()) {
                     // 表の見出しが上にある場合、左側に補正する
@@ -592,14 +589,14 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
                 }
 
                 if(foundPreviousColumn){
-                    final Cell cell = POIUtils.getCell(sheet, beginPosition.getColumn(), hRow);
+                    final Cell cell = POIUtils.getCellForRead(sheet, beginPosition.getColumn(), hRow);
                     property.setMapPosition(record, CellPosition.of(cell), headerInfo.getLabel());
                     property.setMapLabel(record, headerInfo.getLabel(), headerInfo.getLabel());
 
                     property.getMapCommentSetter().ifPresent(setter -> 
                     config.getCommentOperator().loadMapCellComment(setter, cell, record, headerInfo.getLabel(), property, config));
                     
-                    CellRangeAddress mergedRange = POIUtils.getMergedRegion(sheet, cell.getRowIndex(), cell.getColumnIndex());
+                    CellRangeAddress mergedRange = work.getMergedRegionIndex(sheet).getMergedRegion(cell.getRowIndex(), cell.getColumnIndex());
                     if(mergedRange != null) {
                         int mergedSize =  mergedRange.getLastColumn() - mergedRange.getFirstColumn() + 1;
                         mergedRecords.add(new MergedRecord(headerInfo, mergedRange, mergedSize));
@@ -608,7 +605,7 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
                     }
 
                     try {
-                        final Object value = converter.toObject(cell);
+                        final Object value = converter.toObject(cell, work.getFormulaEvaluator(sheet.getWorkbook()));
                         map.put(headerInfo.getLabel(), value);
                     } catch(TypeBindException e) {
                         e.setBindClass(valueClass);  // マップの項目のタイプに変更
@@ -874,15 +871,20 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
 
         RecordsProcessorUtil.checkSavingNestedRecordClass(recordClass, accessor, work.getAnnoReader());
 
+        // 他の処理でセルの結合が変更されている可能性があるため、結合情報の索引を作り直す
+        work.clearMergedRegionIndex();
+
         // get table starting position
-        final Optional<CellPosition> initPosition = getHeaderPosition(sheet, anno, accessor, config);
+        final Optional<CellPosition> initPosition = getHeaderPosition(sheet, anno, accessor, config, work.getLabelIndex(sheet, config));
         if(!initPosition.isPresent()) {
             return;
         }
 
         // ラベルの設定
         if(Utils.isNotEmpty(anno.tableLabel())) {
-            final Optional<Cell> tableLabelCell = CellFinder.query(sheet, anno.tableLabel(), config).findOptional();
+            final Optional<Cell> tableLabelCell = CellFinder.query(sheet, anno.tableLabel(), config)
+                    .labelIndex(work.getLabelIndex(sheet, config))
+                    .findOptional();
             tableLabelCell.ifPresent(c -> {
                 final String label = POIUtils.getCellContents(c, config.getCellFormatter());
                 accessor.setLabel(beansObj, label);
@@ -917,7 +919,7 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
                 rangeCount = 1;
 
                 // 結合しているセルの場合は、はじめのセルだけ取得して、後は結合分スキップする。
-                CellRangeAddress mergedRange = POIUtils.getMergedRegion(sheet, cell.getRowIndex(), cell.getColumnIndex());
+                CellRangeAddress mergedRange = work.getMergedRegionIndex(sheet).getMergedRegion(cell.getRowIndex(), cell.getColumnIndex());
                 if(mergedRange != null) {
                     hRow = hRow + (mergedRange.getLastRow() - mergedRange.getFirstRow());
                 }
@@ -965,12 +967,12 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
             recordOperation.setupCellPositoin(hRow-1, startPosition.getColumn());
         }
 
-        if(config.isCorrectCellDataValidationOnSave()) {
-            correctDataValidation(sheet, recordOperation);
-        }
+        // 入力規則と名前の定義の範囲は、シートの処理の最後にまとめて修正する
+        work.getRecordOperationCorrector().addColumnOperation(recordOperation);
 
-        if(config.isCorrectNameRangeOnSave()) {
-            correctNameRange(sheet, recordOperation);
+        // 列の追加・削除により位置が変わるため、ラベルの索引を破棄する
+        if(recordOperation.isInsertRecord() || recordOperation.isDeleteRecord()) {
+            work.clearLabelIndex();
         }
     }
 
@@ -1040,9 +1042,6 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
         // レコードの見出しに対するカラム情報のキャッシュ
         final Map<String, List<FieldAccessor>> propertiesCache = new HashMap<>();
 
-        // カラムに対するConverterのキャッシュ
-        final Map<String, CellConverter<?>> converterCache = new HashMap<>();
-
         final int startHeaderIndex = getStartHeaderIndexForSaving(headers, recordClass, work.getAnnoReader(), config);
 
         // get records
@@ -1200,13 +1199,13 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
                         property.getCommentGetter().ifPresent(getter -> config.getCommentOperator().saveCellComment(
                                 getter, tempCommentCell, record, accessor, config));
 
-                        final CellConverter converter = converterCache.computeIfAbsent(property.getName(), key -> getCellConverter(property, config));
+                        final CellConverter converter = getCellConverter(property, config);
                         if(converter instanceof FieldFormatter) {
                             work.getErrors().registerFieldFormatter(property.getName(), property.getType(), (FieldFormatter<?>)converter, true);
                         }
 
                         try {
-                            converter.toCell(property.getValue(record), record, sheet, CellPosition.of(valueCell));
+                            converter.toCell(property.getValue(record), record, sheet, CellPosition.of(valueCell), work.getCellStyleCache(sheet.getWorkbook()));
                         } catch(TypeBindException e) {
                             work.addTypeBindError(e, valueCell, property.getName(), headerInfo.getLabel());
                             if(!config.isContinueTypeBindFailure()) {
@@ -1480,7 +1479,7 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
 
                     try {
                         Object value = property.getValueOfMap(headerInfo.getLabel(), record);
-                        converter.toCell(value, record, sheet, CellPosition.of(cell));
+                        converter.toCell(value, record, sheet, CellPosition.of(cell), work.getCellStyleCache(sheet.getWorkbook()));
                     } catch(TypeBindException e) {
                         work.addTypeBindError(e, cell, String.format("%s[%s]", property.getName(), headerInfo.getLabel()), headerInfo.getLabel());
                         if(!config.isContinueTypeBindFailure()) {
@@ -1823,119 +1822,4 @@ public class VerticalRecordsProcessor extends AbstractFieldProcessor<XlsVertical
 
     }
 
-    /**
-     * セルの入力規則の範囲を修正する。
-     * @param sheet
-     * @param recordOperation
-     */
-    private void correctDataValidation(final Sheet sheet, final RecordOperation recordOperation) {
-
-        if(recordOperation.isNotExecuteRecordOperation()) {
-            return;
-        }
-
-        //TODO: セルの結合も考慮する
-
-        // 操作をしていないセルの範囲の取得
-        final CellRangeAddress notOperateRange = new CellRangeAddress(
-                recordOperation.getTopLeftPoisitoin().y,
-                recordOperation.getBottomRightPosition().y,
-                recordOperation.getTopLeftPoisitoin().x,
-                recordOperation.getBottomRightPosition().x - recordOperation.getCountInsertRecord()
-                );
-
-        final List<? extends DataValidation> list = sheet.getDataValidations();
-        for(DataValidation validation : list) {
-
-            final CellRangeAddressList region = validation.getRegions().copy();
-            boolean changedRange = false;
-            for(CellRangeAddress range : region.getCellRangeAddresses()) {
-
-                if(notOperateRange.isInRange(range.getFirstRow(), range.getFirstColumn())) {
-                    // 自身のセルの範囲の場合は、行の範囲を広げる
-                    range.setLastColumn(recordOperation.getBottomRightPosition().x);
-                    changedRange = true;
-
-                } else if(notOperateRange.getLastColumn() < range.getFirstColumn()) {
-                    /*
-                     * VerticalRecordsの場合は、挿入・削除はないので、自身以外の範囲は修正しない。
-                     */
-                }
-
-            }
-
-            // 修正した規則を、再度シートに追加する
-            if(changedRange) {
-                boolean updated = POIUtils.updateDataValidationRegion(sheet, validation.getRegions(), region);
-                assert updated == true;
-            }
-        }
-
-    }
-
-    /**
-     * 名前の定義の範囲を修正する。
-     * @param sheet
-     * @param recordOperation
-     */
-    private void correctNameRange(final Sheet sheet, final RecordOperation recordOperation) {
-
-        if(recordOperation.isNotExecuteRecordOperation()) {
-            return;
-        }
-
-        final Workbook workbook = sheet.getWorkbook();
-        final int numName = workbook.getNumberOfNames();
-        if(numName == 0) {
-            return;
-        }
-
-        // 操作をしていないセルの範囲の取得
-        final CellRangeAddress notOperateRange = new CellRangeAddress(
-                recordOperation.getTopLeftPoisitoin().y,
-                recordOperation.getBottomRightPosition().y,
-                recordOperation.getTopLeftPoisitoin().x,
-                recordOperation.getBottomRightPosition().x - recordOperation.getCountInsertRecord()
-                );
-
-        for(Name name : workbook.getAllNames()) {
-
-            if(name.isDeleted() || name.isFunctionName()) {
-                // 削除されている場合、関数の場合はスキップ
-                continue;
-            }
-
-            if(!sheet.getSheetName().equals(name.getSheetName())) {
-                // 自身のシートでない名前は、修正しない。
-                continue;
-            }
-
-            AreaReference areaRef = new AreaReference(name.getRefersToFormula(), POIUtils.getVersion(sheet));
-            CellReference firstCellRef = areaRef.getFirstCell();
-            CellReference lastCellRef = areaRef.getLastCell();
-
-            if(notOperateRange.isInRange(firstCellRef.getRow(), firstCellRef.getCol())) {
-                // 自身のセルの範囲の場合は、行の範囲を広げる。
-
-                lastCellRef= new CellReference(
-                        lastCellRef.getSheetName(),
-                        lastCellRef.getRow(), recordOperation.getBottomRightPosition().x,
-                        lastCellRef.isRowAbsolute(), lastCellRef.isColAbsolute());
-                areaRef = new AreaReference(firstCellRef, lastCellRef, sheet.getWorkbook().getSpreadsheetVersion());
-
-                // 修正した範囲を再設定する
-                name.setRefersToFormula(areaRef.formatAsString());
-
-            } else if(notOperateRange.getLastColumn() < firstCellRef.getCol()) {
-                /*
-                 * 名前の定義の場合、自身のセルノ範囲より右方にあるセルの範囲の場合、
-                 * 自動的に修正されるため、修正は必要なし。
-                 */
-
-            }
-
-        }
-
-    }
-
 }
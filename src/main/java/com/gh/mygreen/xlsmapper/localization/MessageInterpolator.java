@@ -1,8 +1,10 @@
 package com.gh.mygreen.xlsmapper.localization;
 
+import java.util.ArrayList;
 import java.util.Formatter;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -14,6 +16,7 @@ import com.gh.mygreen.xlsmapper.expression.ExpressionEvaluationException;
 import com.gh.mygreen.xlsmapper.expression.ExpressionLanguage;
 import com.gh.mygreen.xlsmapper.expression.ExpressionLanguageJEXLImpl;
 import com.gh.mygreen.xlsmapper.util.ArgUtils;
+import com.gh.mygreen.xlsmapper.util.LruCache;
 import com.gh.mygreen.xlsmapper.util.StackUtils;
 import com.gh.mygreen.xlsmapper.util.Utils;
 
@@ -28,6 +31,7 @@ import com.gh.mygreen.xlsmapper.util.Utils;
  *   <br>ただし、メッセージ変数で指定されている変数が優先される。
  * </p>
  * 
+ * @version 2.3
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -36,8 +40,23 @@ public class MessageInterpolator {
     
     private static final Logger logger = LoggerFactory.getLogger(MessageInterpolator.class);
     
+    /**
+     * 式の開始の形式
+     */
+    private static final String[] EXPRESSION_START = {"$", "{"};
+    
+    /**
+     * 解析済みのメッセージのキャッシュサイズ
+     */
+    private static final int TEMPLATE_CACHE_SIZE = 1000;
+    
     private ExpressionLanguage expressionLanguage;
     
+    /**
+     * メッセージに対する解析済みのメッセージのキャッシュ
+     */
+    private final LruCache<String, MessageTemplate> templateCache = new LruCache<>(TEMPLATE_CACHE_SIZE);
+    
     /**
      * デフォルトのコンストラクタ
      * <p>式言語の処理実装として、JEXLの{@link ExpressionLanguageJEXLImpl} が設定されます。
@@ -100,6 +119,21 @@ public class MessageInterpolator {
         return parse(message, vars, recursive, 0, messageResolver);
     }
     
+    /**
+     * メッセージを解析し、変数の値のみを変えて繰り返しフォーマットできる{@link MessageTemplate}を作成する。
+     * <p>解析済みのメッセージはキャッシュし、同じメッセージの場合は同じインスタンスを返します。</p>
+     * 
+     * @since 2.3
+     * @param message 対象のメッセージ。
+     * @return 解析済みのメッセージ。
+     * @throws IllegalArgumentException {@literal message == null.}
+     * @throws MessageParseException メッセージの解析に失敗した場合。
+     */
+    public MessageTemplate compile(final String message) {
+        ArgUtils.notNull(message, "message");
+        return templateCache.computeIfAbsent(message, key -> new MessageTemplate(this, key, parseSegments(key)));
+    }
+    
     /**
      * メッセージをパースし、変数に値を差し込み、EL式を評価する。
      * @param message 対象のメッセージ。
@@ -112,7 +146,55 @@ public class MessageInterpolator {
     protected String parse(final String message, final Map<String, ?> vars, boolean recursive, final int currentRecursiveDepth,
             final MessageResolver messageResolver) {
         
+        return format(compile(message), vars, recursive, currentRecursiveDepth, messageResolver);
+    }
+    
+    /**
+     * 解析済みのメッセージに、変数に値を差し込み、EL式を評価する。
+     * @param template 解析済みのメッセージ。
+     * @param vars メッセージ中の変数に対する値のマップ。
+     * @param recursive 変換したメッセージに対しても再帰的に処理するかどうか。
+     * @param currentRecursiveDepth 現在の再帰処理回数。
+     * @param messageResolver メッセージを解決するクラス。nullの場合、指定しないと同じ意味になります。
+     * @return 補完したメッセージ。
+     */
+    String format(final MessageTemplate template, final Map<String, ?> vars, final boolean recursive,
+            final int currentRecursiveDepth, final MessageResolver messageResolver) {
+        
         // 評価したメッセージを格納するバッファ。
+        final StringBuilder sb = new StringBuilder(template.getMessage().length());
+        
+        for(MessageTemplate.Segment segment : template.segments) {
+            switch(segment.type) {
+                case TEXT:
+                    sb.append(segment.value);
+                    break;
+                case VARIABLE:
+                    sb.append(evaluateVariable(segment.value, vars, recursive, currentRecursiveDepth, messageResolver));
+                    break;
+                case EXPRESSION:
+                    // EL式を評価する（再帰評価は行わない）
+                    sb.append(evaluateExpression(segment.value, vars));
+                    break;
+                default:
+                    throw new IllegalStateException("not support segment type : " + segment.type);
+            }
+        }
+        
+        return sb.toString();
+    }
+    
+    /**
+     * メッセージを、文字列、変数、EL式の要素に分解する。
+     * @param message 対象のメッセージ。
+     * @return 分解した要素
+     * @throws MessageParseException メッセージの解析に失敗した場合。
+     */
+    private List<MessageTemplate.Segment> parseSegments(final String message) {
+        
+        final List<MessageTemplate.Segment> segments = new ArrayList<>();
+        
+        // 通常の文字列を格納するバッファ。
         final StringBuilder sb = new StringBuilder(message.length());
         
         /*
@@ -150,7 +232,7 @@ public class MessageInterpolator {
                 
             } else if(c == '{') {
                 
-                if(!stack.isEmpty() && !StackUtils.equalsAnyBottomElement(stack, new String[]{"$", "{"})) {
+                if(!stack.isEmpty() && !StackUtils.equalsAnyBottomElement(stack, EXPRESSION_START)) {
                     // スタックの先頭が式の開始形式でない場合
                     throw new MessageParseException(message, "expression not start with '{' or '$'");
                     
@@ -161,15 +243,18 @@ public class MessageInterpolator {
                 
             } else if(c == '}') {
                 
-                if(StackUtils.equalsAnyBottomElement(stack, new String[]{"{", "$"})) {
-                    // 式の終わりの場合は、式を取り出し評価する。
+                if(StackUtils.equalsAnyBottomElement(stack, EXPRESSION_START)) {
+                    // 式の終わりの場合は、式を取り出す。
                     String expression = StackUtils.popupAndConcat(stack) + c;
                     
                     // エスケープを解除する
                     expression = Utils.removeEscapeChar(expression, '\\');
                     
-                    String result = evaluate(expression, vars, recursive, currentRecursiveDepth, messageResolver);
-                    sb.append(result);
+                    if(sb.length() > 0) {
+                        segments.add(new MessageTemplate.Segment(MessageTemplate.SegmentType.TEXT, sb.toString()));
+                        sb.setLength(0);
+                    }
+                    segments.add(createExpressionSegment(expression));
                     
                 } else {
                     sb.append(c);
@@ -195,46 +280,24 @@ public class MessageInterpolator {
             sb.append(val);
         }
         
-        return sb.toString();
+        if(sb.length() > 0) {
+            segments.add(new MessageTemplate.Segment(MessageTemplate.SegmentType.TEXT, sb.toString()));
+        }
+        
+        return segments;
     }
     
-    private String evaluate(final String expression, final Map<String, ?> values, final boolean recursive,
-            final int currentRecursiveDepth, final MessageResolver messageResolver) {
+    private MessageTemplate.Segment createExpressionSegment(final String expression) {
         
         if(expression.startsWith("{")) {
             // 変数の置換の場合
             final String varName = expression.substring(1, expression.length()-1);
-            
-            if(values.containsKey(varName)) {
-                // 該当するキーが存在する場合（再帰評価は行わない）
-                final Object value = values.get(varName);
-                final String eval = (value == null) ? "" : value.toString();
-                return eval;
-                
-            } else if(messageResolver != null) {
-                // メッセージコードをとして解決をする。
-                final Optional<String> eval = messageResolver.getMessage(varName);
-                if(!eval.isPresent()) {
-                    // 該当するキーが存在しない場合は、値をそのまま返す。
-                    return String.format("{%s}", varName);
-                }
-                
-                if(recursivable(recursive, maxRecursiveDepth, currentRecursiveDepth, eval.get())) {
-                    return parse(eval.get(), values, recursive, currentRecursiveDepth + 1, messageResolver);
-                } else {
-                    return eval.get();
-                }
-                
-            } else {
-                // 該当するキーが存在しない場合は、値をそのまま返す。
-                return expression.toString();
-            }
+            return new MessageTemplate.Segment(MessageTemplate.SegmentType.VARIABLE, varName);
             
         } else if(expression.startsWith("${")) {
-            // EL式を評価する（再帰評価は行わない）
+            // EL式の場合
             final String expr = expression.substring(2, expression.length()-1);
-            final String eval = evaluateExpression(expr, values);
-            return eval;
+            return new MessageTemplate.Segment(MessageTemplate.SegmentType.EXPRESSION, expr);
             
         }
         
@@ -242,6 +305,36 @@ public class MessageInterpolator {
         
     }
     
+    private String evaluateVariable(final String varName, final Map<String, ?> values, final boolean recursive,
+            final int currentRecursiveDepth, final MessageResolver messageResolver) {
+        
+        if(values.containsKey(varName)) {
+            // 該当するキーが存在する場合（再帰評価は行わない）
+            final Object value = values.get(varName);
+            final String eval = (value == null) ? "" : value.toString();
+            return eval;
+            
+        } else if(messageResolver != null) {
+            // メッセージコードをとして解決をする。
+            final Optional<String> eval = messageResolver.getMessage(varName);
+            if(!eval.isPresent()) {
+                // 該当するキーが存在しない場合は、値をそのまま返す。
+                return String.format("{%s}", varName);
+            }
+            
+            if(recursivable(recursive, maxRecursiveDepth, currentRecursiveDepth, eval.get())) {
+                return parse(eval.get(), values, recursive, currentRecursiveDepth + 1, messageResolver);
+            } else {
+                return eval.get();
+            }
+            
+        } else {
+            // 該当するキーが存在しない場合は、値をそのまま返す。
+            return String.format("{%s}", varName);
+        }
+        
+    }
+    
     /**
      * 現在の再帰回数が最大回数に達しているかどうか。
      * 
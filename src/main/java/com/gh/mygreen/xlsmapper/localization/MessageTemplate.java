@@ -0,0 +1,108 @@
+package com.gh.mygreen.xlsmapper.localization;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import com.gh.mygreen.xlsmapper.util.ArgUtils;
+
+/**
+ * {@link MessageInterpolator}で解析済みのメッセージ。
+ * <p>{@link MessageInterpolator#compile(String)}で作成します。
+ *  同じメッセージを、変数の値のみを変えて繰り返しフォーマットする場合に、メッセージの解析を1度だけにするために使用します。</p>
+ * <p>作成後は変更されないため、複数のスレッドから参照できます。</p>
+ *
+ * @since 2.3
+ * @author T.TSUCHIE
+ *
+ */
+public class MessageTemplate {
+    
+    private final MessageInterpolator interpolator;
+    
+    private final String message;
+    
+    /**
+     * メッセージを解析した要素
+     */
+    final List<Segment> segments;
+    
+    MessageTemplate(final MessageInterpolator interpolator, final String message, final List<Segment> segments) {
+        this.interpolator = interpolator;
+        this.message = message;
+        this.segments = Collections.unmodifiableList(segments);
+    }
+    
+    /**
+     * メッセージを引数varsで指定した変数で補完する。
+     * 
+     * @param vars メッセージ中の変数に対する値のマップ。
+     * @return 補完したメッセージ。
+     * @throws IllegalArgumentException {@literal vars == null.}
+     */
+    public String format(final Map<String, ?> vars) {
+        return format(vars, false, null);
+    }
+    
+    /**
+     * メッセージを引数varsで指定した変数で補完する。
+     * 
+     * @param vars メッセージ中の変数に対する値のマップ。
+     * @param recursive 変換したメッセージに対しても再帰的に処理するかどうか
+     * @param messageResolver メッセージを解決するクラス。nullの場合、指定しないと同じ意味になります。
+     * @return 補完したメッセージ。
+     * @throws IllegalArgumentException {@literal vars == null.}
+     */
+    public String format(final Map<String, ?> vars, final boolean recursive, final MessageResolver messageResolver) {
+        ArgUtils.notNull(vars, "vars");
+        return interpolator.format(this, vars, recursive, 0, messageResolver);
+    }
+    
+    /**
+     * 作成元の{@link MessageInterpolator}を取得します。
+     * @return 作成元の{@link MessageInterpolator}
+     */
+    public MessageInterpolator getInterpolator() {
+        return interpolator;
+    }
+    
+    /**
+     * 解析元のメッセージを取得します。
+     * @return 解析元のメッセージ
+     */
+    public String getMessage() {
+        return message;
+    }
+    
+    /**
+     * メッセージを解析した要素の種類
+     */
+    enum SegmentType {
+        /** 通常の文字列 */
+        TEXT,
+        /** 変数 <code>{...}</code> */
+        VARIABLE,
+        /** EL式 <code>${...}</code> */
+        EXPRESSION;
+    }
+    
+    /**
+     * メッセージを解析した要素
+     */
+    static class Segment {
+        
+        final SegmentType type;
+        
+        /**
+         * 種類ごとの値。文字列、変数名、EL式のいずれか。
+         */
+        final String value;
+        
+        Segment(final SegmentType type, final String value) {
+            this.type = type;
+            this.value = value;
+        }
+        
+    }
+    
+}
@@ -0,0 +1,65 @@
+package com.gh.mygreen.xlsmapper.streaming;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.streaming.SheetDataWriter;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+
+/**
+ * {@link StreamingWorkbookReader}で読み込んだ、読み込み専用のワークブック。
+ * <p>全ての行をメモリ上に保持し、行を一時ファイルに書き出すことはありません。
+ *  そのため、{@link #dispose()}を呼び出す必要はありません。</p>
+ *
+ * @since 2.3
+ * @author T.TSUCHIE
+ *
+ */
+class ReadOnlySXSSFWorkbook extends SXSSFWorkbook {
+
+    ReadOnlySXSSFWorkbook(final XSSFWorkbook workbook) {
+        // 全ての行をメモリ上に保持するため、ウィンドウサイズは無制限とする
+        super(workbook, -1, false, false);
+    }
+
+    /**
+     * 一時ファイルを作成しないように、書き出し先を破棄するWriterとする。
+     */
+    @Override
+    protected SheetDataWriter createSheetDataWriter() throws IOException {
+        return new SheetDataWriter(new NullWriter());
+    }
+
+    /**
+     * 読み込み専用のため、サポートしません。
+     * @throws UnsupportedOperationException 必ずスローします。
+     */
+    @Override
+    public void write(final OutputStream stream) throws IOException {
+        throw new UnsupportedOperationException("read only workbook can not be written.");
+    }
+
+    /**
+     * 書き込んだ内容を破棄するWriter。
+     */
+    private static class NullWriter extends Writer {
+
+        @Override
+        public void write(final char[] cbuf, final int off, final int len) {
+            // 何もしない
+        }
+
+        @Override
+        public void flush() {
+            // 何もしない
+        }
+
+        @Override
+        public void close() {
+            // 何もしない
+        }
+    }
+
+}
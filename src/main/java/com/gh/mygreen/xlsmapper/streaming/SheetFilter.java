@@ -0,0 +1,26 @@
+package com.gh.mygreen.xlsmapper.streaming;
+
+/**
+ * {@link StreamingWorkbookReader}で、セルの値を読み込むシートを判定するためのインタフェース。
+ *
+ * @since 2.3
+ * @author T.TSUCHIE
+ *
+ */
+@FunctionalInterface
+public interface SheetFilter {
+
+    /**
+     * 全てのシートを読み込む
+     */
+    SheetFilter ALL = (sheetIndex, sheetName) -> true;
+
+    /**
+     * シートのセルの値を読み込むかどうか判定します。
+     * @param sheetIndex 0から始まるシートの番号
+     * @param sheetName シート名
+     * @return trueの場合、シートのセルの値を読み込みます。
+     */
+    boolean accept(int sheetIndex, String sheetName);
+
+}
@@ -0,0 +1,273 @@
+package com.gh.mygreen.xlsmapper.streaming;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.usermodel.FormulaError;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.model.SharedStrings;
+import org.apache.poi.xssf.streaming.SXSSFCell;
+import org.apache.poi.xssf.streaming.SXSSFRow;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.xml.sax.Attributes;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * シートのXML（{@literal xl/worksheets/sheetN.xml}）をSAXで読み込み、{@link SXSSFSheet}に値を設定するハンドラ。
+ * <p>セルの値、書式、結合情報のみを読み込みます。
+ *  数式は、キャッシュされている計算結果の値として読み込みます。</p>
+ *
+ * @since 2.3
+ * @author T.TSUCHIE
+ *
+ */
+class StreamingSheetHandler extends DefaultHandler {
+
+    private final SXSSFSheet sheet;
+
+    private final SharedStrings sharedStrings;
+
+    /**
+     * 読み込み元のスタイルのインデックスに対応する、読み込み先のスタイル
+     */
+    private final CellStyle[] styles;
+
+    private final boolean date1904;
+
+    private SXSSFRow currentRow;
+
+    private int rowIndex = -1;
+
+    private int nextColumnIndex;
+
+    private boolean inCell;
+
+    private int cellColumnIndex;
+
+    private String cellType;
+
+    private int cellStyleIndex;
+
+    private boolean inValue;
+
+    private boolean inInlineString;
+
+    private boolean inInlineText;
+
+    /**
+     * ふりがな（{@literal <rPh>}）の中かどうか
+     */
+    private boolean inPhonetic;
+
+    private boolean hasValue;
+
+    private final StringBuilder text = new StringBuilder();
+
+    StreamingSheetHandler(final SXSSFSheet sheet, final SharedStrings sharedStrings, final CellStyle[] styles,
+            final boolean date1904) {
+        this.sheet = sheet;
+        this.sharedStrings = sharedStrings;
+        this.styles = styles;
+        this.date1904 = date1904;
+    }
+
+    @Override
+    public void startElement(final String uri, final String localName, final String qName, final Attributes attributes) {
+
+        switch(localName) {
+            case "row":
+                final String rowRef = attributes.getValue("r");
+                rowIndex = rowRef != null ? Integer.parseInt(rowRef) - 1 : rowIndex + 1;
+                currentRow = sheet.createRow(rowIndex);
+                nextColumnIndex = 0;
+                break;
+
+            case "c":
+                final String cellRef = attributes.getValue("r");
+                cellColumnIndex = cellRef != null ? parseColumnIndex(cellRef) : nextColumnIndex;
+                cellType = attributes.getValue("t");
+
+                final String styleRef = attributes.getValue("s");
+                cellStyleIndex = styleRef != null ? Integer.parseInt(styleRef) : 0;
+
+                inCell = true;
+                hasValue = false;
+                text.setLength(0);
+                break;
+
+            case "v":
+                if(inCell) {
+                    inValue = true;
+                    text.setLength(0);
+                }
+                break;
+
+            case "is":
+                if(inCell) {
+                    inInlineString = true;
+                    text.setLength(0);
+                }
+                break;
+
+            case "rPh":
+                if(inInlineString) {
+                    inPhonetic = true;
+                }
+                break;
+
+            case "t":
+                // ふりがなの文字列は読み込まない
+                if(inInlineString && !inPhonetic) {
+                    inInlineText = true;
+                }
+                break;
+
+            case "mergeCell":
+                final String ref = attributes.getValue("ref");
+                if(ref != null) {
+                    sheet.addMergedRegionUnsafe(CellRangeAddress.valueOf(ref));
+                }
+                break;
+
+            default:
+                break;
+        }
+
+    }
+
+    @Override
+    public void endElement(final String uri, final String localName, final String qName) {
+
+        switch(localName) {
+            case "v":
+                if(inValue) {
+                    inValue = false;
+                    hasValue = true;
+                }
+                break;
+
+            case "rPh":
+                inPhonetic = false;
+                break;
+
+            case "t":
+                inInlineText = false;
+                break;
+
+            case "is":
+                if(inInlineString) {
+                    inInlineString = false;
+                    hasValue = true;
+                }
+                break;
+
+            case "c":
+                if(inCell) {
+                    createCell();
+                    inCell = false;
+                    nextColumnIndex = cellColumnIndex + 1;
+                }
+                break;
+
+            default:
+                break;
+        }
+
+    }
+
+    @Override
+    public void characters(final char[] ch, final int start, final int length) {
+        if(inValue || inInlineText) {
+            text.append(ch, start, length);
+        }
+    }
+
+    /**
+     * 読み込んだ情報を元にセルを作成する。
+     */
+    private void createCell() {
+
+        final SXSSFCell cell = currentRow.createCell(cellColumnIndex);
+        if(cellStyleIndex > 0 && cellStyleIndex < styles.length) {
+            cell.setCellStyle(styles[cellStyleIndex]);
+        }
+
+        if(!hasValue) {
+            // 値を持たない場合は、空のセルとする
+            return;
+        }
+
+        final String value = text.toString();
+        if(value.isEmpty() && !(cellType != null && (cellType.equals("inlineStr") || cellType.equals("str")))) {
+            // 値が空（<v/>）の場合は、空のセルとする
+            return;
+        }
+
+        if(cellType == null || cellType.equals("n")) {
+            cell.setCellValue(Double.parseDouble(value));
+
+        } else if(cellType.equals("s")) {
+            cell.setCellValue(sharedStrings.getItemAt(Integer.parseInt(value)).getString());
+
+        } else if(cellType.equals("inlineStr") || cellType.equals("str")) {
+            cell.setCellValue(value);
+
+        } else if(cellType.equals("b")) {
+            cell.setCellValue(value.equals("1") || value.equalsIgnoreCase("true"));
+
+        } else if(cellType.equals("e")) {
+            try {
+                cell.setCellErrorValue(FormulaError.forString(value).getCode());
+            } catch(IllegalArgumentException e) {
+                cell.setCellValue(value);
+            }
+
+        } else if(cellType.equals("d")) {
+            setDateValue(cell, value);
+
+        } else {
+            cell.setCellValue(value);
+        }
+
+    }
+
+    /**
+     * ISO8601形式の日時の値を設定する。
+     * @param cell 設定先のセル
+     * @param value ISO8601形式の日時
+     */
+    private void setDateValue(final SXSSFCell cell, final String value) {
+
+        try {
+            final LocalDateTime dateTime = value.contains("T") ? LocalDateTime.parse(value) : LocalDate.parse(value).atStartOfDay();
+            cell.setCellValue(DateUtil.getExcelDate(dateTime, date1904));
+
+        } catch(DateTimeParseException e) {
+            cell.setCellValue(value);
+        }
+    }
+
+    /**
+     * セルの参照（{@literal A1}形式）から列番号を取得する。
+     * @param cellRef セルの参照
+     * @return 0から始まる列番号
+     */
+    private static int parseColumnIndex(final String cellRef) {
+
+        int column = 0;
+        final int length = cellRef.length();
+        for(int i=0; i < length; i++) {
+            final char c = cellRef.charAt(i);
+            if(c < 'A' || c > 'Z') {
+                break;
+            }
+            column = column * 26 + (c - 'A' + 1);
+        }
+
+        return column - 1;
+    }
+
+}
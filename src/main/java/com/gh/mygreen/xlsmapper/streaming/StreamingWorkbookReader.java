@@ -0,0 +1,257 @@
+package com.gh.mygreen.xlsmapper.streaming;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.function.Consumer;
+
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.poifs.filesystem.FileMagic;
+import org.apache.poi.ss.usermodel.BuiltinFormats;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.apache.poi.xssf.usermodel.XSSFColor;
+import org.apache.poi.xssf.usermodel.XSSFDataFormat;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTWorkbook;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import com.gh.mygreen.xlsmapper.util.ArgUtils;
+
+/**
+ * 読み込み専用のワークブックを、SAX（{@link XSSFReader}）を使用して少ないメモリで組み立てるクラス。
+ * <p>{@link WorkbookFactory}で読み込んだ場合は、シートのXML全体をDOM（XMLBeans）として保持するため、
+ *  大きなサイズのシートでは大量のメモリを消費します。
+ *  このクラスでは、シートのXMLをSAXで逐次読み込み、セルの値と書式のみを保持した{@link SXSSFWorkbook}を組み立てます。</p>
+ * <p>ただし、組み立てたワークブックは、解析したシートの全ての行をメモリ上に保持します。
+ *  そのため、メモリ使用量はDOMの場合より少なくなりますが、行数に比例して増加します。</p>
+ *
+ * <p>読み込んだワークブックには、次の制約があります。</p>
+ * <ul>
+ *   <li>セルの値、書式（表示形式、配置、罫線、塗りつぶし）、結合情報のみを読み込みます。</li>
+ *   <li>数式は読み込まず、ファイルに保存されている計算結果の値として読み込みます。</li>
+ *   <li>セルのコメント、ハイパーリンク、入力規則、名前の定義、フォントは読み込みません。
+ *     そのため、{@literal @XlsCommentOption}や{@link java.net.URI}型へのマッピングなどには対応していません。</li>
+ *   <li>ワークブックへの書き込み（{@link Workbook#write(java.io.OutputStream)}）はできません。</li>
+ * </ul>
+ * <p>Excel2007以降の形式（.xlsx）でない場合は、{@link WorkbookFactory}で読み込みます。</p>
+ * <p>{@link SheetFilter}を指定すると、対象外のシートはXMLを解析せずに空のシートとして作成します。
+ *  シートの順番と名前は保持するため、シート番号による参照は変わりません。</p>
+ *
+ * @since 2.3
+ * @author T.TSUCHIE
+ *
+ */
+public class StreamingWorkbookReader {
+
+    /**
+     * ワークブックを読み込みます。
+     *
+     * @param xlsIn 読み込み元のExcelファイルのストリーム。
+     * @return 読み込み専用のワークブック
+     * @throws IllegalArgumentException {@literal xlsIn == null}
+     * @throws IOException ファイルの読み込みに失敗した場合
+     */
+    public Workbook read(final InputStream xlsIn) throws IOException {
+        return read(xlsIn, SheetFilter.ALL);
+    }
+
+    /**
+     * 指定したシートのみ、セルの値を読み込みます。
+     * <p>対象外のシートは、値を持たない空のシートとなります。</p>
+     * <p>Excel2007以降の形式（.xlsx）でない場合は、全てのシートを読み込みます。</p>
+     *
+     * @param xlsIn 読み込み元のExcelファイルのストリーム。
+     * @param sheetFilter セルの値を読み込むシートの条件。
+     * @return 読み込み専用のワークブック
+     * @throws IllegalArgumentException {@literal xlsIn == null or sheetFilter == null}
+     * @throws IOException ファイルの読み込みに失敗した場合
+     */
+    public Workbook read(final InputStream xlsIn, final SheetFilter sheetFilter) throws IOException {
+
+        ArgUtils.notNull(xlsIn, "xlsIn");
+        ArgUtils.notNull(sheetFilter, "sheetFilter");
+
+        final InputStream in = FileMagic.prepareToCheckMagic(xlsIn);
+        if(FileMagic.valueOf(in) != FileMagic.OOXML) {
+            return WorkbookFactory.create(in);
+        }
+
+        // ZIPのエントリを全てメモリ上に展開しないように、一時ファイルを経由して読み込む
+        final Path tempFile = Files.createTempFile("xlsmapper", ".xlsx");
+        try {
+            Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+
+            final OPCPackage pkg = OPCPackage.open(tempFile.toFile(), PackageAccess.READ);
+            try {
+                return read(pkg, sheetFilter);
+
+            } finally {
+                pkg.revert();
+            }
+
+        } catch(OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("fail read workbook with streaming.", e);
+
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+
+    }
+
+    private Workbook read(final OPCPackage pkg, final SheetFilter sheetFilter)
+            throws IOException, OpenXML4JException, SAXException, ParserConfigurationException {
+
+        final XSSFReader reader = new XSSFReader(pkg);
+        // WorkbookFactoryで読み込んだ場合と同じく、ふりがなは含めない
+        final ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg, false);
+
+        final XSSFWorkbook baseBook = new XSSFWorkbook();
+        final boolean date1904 = isDate1904(reader);
+        if(date1904) {
+            final CTWorkbook ctWorkbook = baseBook.getCTWorkbook();
+            if(ctWorkbook.isSetWorkbookPr()) {
+                ctWorkbook.getWorkbookPr().setDate1904(true);
+            } else {
+                ctWorkbook.addNewWorkbookPr().setDate1904(true);
+            }
+        }
+
+        final CellStyle[] styles = copyStyles(reader.getStylesTable(), baseBook);
+
+        final SXSSFWorkbook workbook = new ReadOnlySXSSFWorkbook(baseBook);
+
+        final XSSFReader.SheetIterator itr = (XSSFReader.SheetIterator) reader.getSheetsData();
+        for(int sheetIndex=0; itr.hasNext(); sheetIndex++) {
+            try(InputStream sheetIn = itr.next()) {
+                final SXSSFSheet sheet = workbook.createSheet(itr.getSheetName());
+                if(!sheetFilter.accept(sheetIndex, sheet.getSheetName())) {
+                    // 対象外のシートは、番号を保持するために空のシートのみ作成する
+                    continue;
+                }
+
+                final XMLReader xmlReader = XMLHelper.newXMLReader();
+                xmlReader.setContentHandler(new StreamingSheetHandler(sheet, sharedStrings, styles, date1904));
+                xmlReader.parse(new InputSource(sheetIn));
+            }
+        }
+
+        return workbook;
+    }
+
+    /**
+     * ワークブックの日時の開始日が1904年かどうか判定する。
+     * @param reader ワークブックの読み込み
+     * @return trueの場合、1904年始まり。
+     */
+    private boolean isDate1904(final XSSFReader reader)
+            throws IOException, OpenXML4JException, SAXException, ParserConfigurationException {
+
+        final boolean[] date1904 = {false};
+
+        try(InputStream workbookIn = reader.getWorkbookData()) {
+            final XMLReader xmlReader = XMLHelper.newXMLReader();
+            xmlReader.setContentHandler(new DefaultHandler() {
+
+                @Override
+                public void startElement(final String uri, final String localName, final String qName, final Attributes attributes) {
+                    if(localName.equals("workbookPr")) {
+                        final String value = attributes.getValue("date1904");
+                        date1904[0] = "1".equals(value) || "true".equalsIgnoreCase(value);
+                    }
+                }
+            });
+            xmlReader.parse(new InputSource(workbookIn));
+        }
+
+        return date1904[0];
+    }
+
+    /**
+     * 読み込み元のスタイルを、読み込み先のワークブックにコピーする。
+     * <p>異なるワークブック間では{@link XSSFCellStyle#cloneStyleFrom(CellStyle)}で罫線や塗りつぶしの情報が正しくコピーされないため、
+     *   属性を個別にコピーする。
+     * </p>
+     *
+     * @param stylesTable 読み込み元のスタイル
+     * @param workbook 読み込み先のワークブック
+     * @return 読み込み元のスタイルのインデックスに対応する、読み込み先のスタイル。
+     */
+    private CellStyle[] copyStyles(final StylesTable stylesTable, final XSSFWorkbook workbook) {
+
+        final XSSFDataFormat dataFormat = workbook.createDataFormat();
+
+        final int size = stylesTable.getNumCellStyles();
+        final CellStyle[] styles = new CellStyle[size];
+        for(int i=0; i < size; i++) {
+            final XSSFCellStyle src = stylesTable.getStyleAt(i);
+            final XSSFCellStyle dest = (i == 0) ? workbook.getCellStyleAt(0) : workbook.createCellStyle();
+
+            if(src == null) {
+                styles[i] = dest;
+                continue;
+            }
+
+            // 組み込みの書式の場合は、ロケールによって書式が変わるためインデックスをそのまま設定する
+            final short formatIndex = src.getDataFormat();
+            if(formatIndex < BuiltinFormats.FIRST_USER_DEFINED_FORMAT_INDEX) {
+                dest.setDataFormat(formatIndex);
+            } else {
+                dest.setDataFormat(dataFormat.getFormat(src.getDataFormatString()));
+            }
+
+            dest.setAlignment(src.getAlignment());
+            dest.setVerticalAlignment(src.getVerticalAlignment());
+            dest.setWrapText(src.getWrapText());
+            dest.setIndention(src.getIndention());
+            dest.setRotation(src.getRotation());
+            dest.setShrinkToFit(src.getShrinkToFit());
+            dest.setLocked(src.getLocked());
+            dest.setHidden(src.getHidden());
+            dest.setQuotePrefixed(src.getQuotePrefixed());
+
+            dest.setBorderTop(src.getBorderTop());
+            dest.setBorderBottom(src.getBorderBottom());
+            dest.setBorderLeft(src.getBorderLeft());
+            dest.setBorderRight(src.getBorderRight());
+
+            copyColor(src.getTopBorderXSSFColor(), dest::setTopBorderColor);
+            copyColor(src.getBottomBorderXSSFColor(), dest::setBottomBorderColor);
+            copyColor(src.getLeftBorderXSSFColor(), dest::setLeftBorderColor);
+            copyColor(src.getRightBorderXSSFColor(), dest::setRightBorderColor);
+
+            dest.setFillPattern(src.getFillPattern());
+            copyColor(src.getFillForegroundXSSFColor(), dest::setFillForegroundColor);
+            copyColor(src.getFillBackgroundXSSFColor(), dest::setFillBackgroundColor);
+
+            styles[i] = dest;
+        }
+
+        return styles;
+    }
+
+    private void copyColor(final XSSFColor color, final Consumer<XSSFColor> setter) {
+        if(color != null) {
+            setter.accept(color);
+        }
+    }
+
+}
@@ -0,0 +1,8 @@
+/**
+ * 大きなサイズのExcelファイルを、少ないメモリで処理するための機能を提供します。
+ * 
+ * @since 2.3
+ * @author T.TSUCHIE
+ *
+ */
+package com.gh.mygreen.xlsmapper.streaming;
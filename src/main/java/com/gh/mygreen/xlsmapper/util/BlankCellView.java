@@ -0,0 +1,275 @@
+package com.gh.mygreen.xlsmapper.util;
+
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.Date;
+
+import org.apache.poi.hssf.usermodel.HSSFSheet;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Comment;
+import org.apache.poi.ss.usermodel.Hyperlink;
+import org.apache.poi.ss.usermodel.RichTextString;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.util.CellAddress;
+import org.apache.poi.ss.util.CellRangeAddress;
+
+/**
+ * シート上に存在しないセルを、空のセルとして参照するための読み込み専用のビュー。
+ * <p>{@link POIUtils#getCellForRead(Sheet, int, int)}で、セルが存在しない場合に返します。
+ *  シートには行・セルを追加しないため、読み込み時にワークブックを変更せずに済みます。</p>
+ * <p>値を変更するメソッドを呼び出した場合は、{@link UnsupportedOperationException}をスローします。</p>
+ *
+ * @since 2.3
+ * @author T.TSUCHIE
+ *
+ */
+class BlankCellView implements Cell {
+
+    /**
+     * Excel2003形式（.xls）で、セルを作成したときに設定される書式のインデックス
+     */
+    private static final int HSSF_DEFAULT_STYLE_INDEX = 15;
+
+    private final Sheet sheet;
+
+    private final int rowIndex;
+
+    private final int columnIndex;
+
+    BlankCellView(final Sheet sheet, final int rowIndex, final int columnIndex) {
+        this.sheet = sheet;
+        this.rowIndex = rowIndex;
+        this.columnIndex = columnIndex;
+    }
+
+    @Override
+    public int getColumnIndex() {
+        return columnIndex;
+    }
+
+    @Override
+    public int getRowIndex() {
+        return rowIndex;
+    }
+
+    @Override
+    public Sheet getSheet() {
+        return sheet;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>行が存在しない場合は、nullを返します。</p>
+     */
+    @Override
+    public Row getRow() {
+        return sheet.getRow(rowIndex);
+    }
+
+    @Override
+    public CellType getCellType() {
+        return CellType.BLANK;
+    }
+
+    @Override
+    public CellType getCachedFormulaResultType() {
+        throw new IllegalStateException("Only formula cells have cached results");
+    }
+
+    @Override
+    public String getCellFormula() {
+        throw new IllegalStateException("Cannot get a FORMULA value from a BLANK cell");
+    }
+
+    @Override
+    public double getNumericCellValue() {
+        return 0.0;
+    }
+
+    @Override
+    public Date getDateCellValue() {
+        return null;
+    }
+
+    @Override
+    public LocalDateTime getLocalDateTimeCellValue() {
+        return null;
+    }
+
+    @Override
+    public RichTextString getRichStringCellValue() {
+        return sheet.getWorkbook().getCreationHelper().createRichTextString("");
+    }
+
+    @Override
+    public String getStringCellValue() {
+        return "";
+    }
+
+    @Override
+    public boolean getBooleanCellValue() {
+        return false;
+    }
+
+    @Override
+    public byte getErrorCellValue() {
+        throw new IllegalStateException("Cannot get an ERROR value from a BLANK cell");
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>セルを新たに作成したときに設定される書式を返します。</p>
+     */
+    @Override
+    public CellStyle getCellStyle() {
+
+        final Workbook workbook = sheet.getWorkbook();
+        if(sheet instanceof HSSFSheet) {
+            final CellStyle columnStyle = sheet.getColumnStyle(columnIndex);
+            if(columnStyle != null) {
+                return columnStyle;
+            }
+
+            if(workbook.getNumCellStyles() > HSSF_DEFAULT_STYLE_INDEX) {
+                return workbook.getCellStyleAt(HSSF_DEFAULT_STYLE_INDEX);
+            }
+        }
+
+        return workbook.getCellStyleAt(0);
+    }
+
+    @Override
+    public CellAddress getAddress() {
+        return new CellAddress(rowIndex, columnIndex);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>セルが存在しなくても、コメントは設定されている場合があるため、シートから取得します。</p>
+     */
+    @Override
+    public Comment getCellComment() {
+        return sheet.getCellComment(getAddress());
+    }
+
+    @Override
+    public Hyperlink getHyperlink() {
+        return sheet.getHyperlink(rowIndex, columnIndex);
+    }
+
+    @Override
+    public CellRangeAddress getArrayFormulaRange() {
+        throw new IllegalStateException("Cell " + getAddress().formatAsString() + " is not part of an array formula.");
+    }
+
+    @Override
+    public boolean isPartOfArrayFormulaGroup() {
+        return false;
+    }
+
+    @Deprecated
+    @Override
+    public void setCellType(final CellType cellType) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setBlank() {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCellValue(final double value) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCellValue(final Date value) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCellValue(final LocalDateTime value) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCellValue(final Calendar value) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCellValue(final RichTextString value) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCellValue(final String value) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCellFormula(final String formula) {
+        throw unsupported();
+    }
+
+    @Override
+    public void removeFormula() {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCellValue(final boolean value) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCellErrorValue(final byte value) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCellStyle(final CellStyle style) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setAsActiveCell() {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCellComment(final Comment comment) {
+        throw unsupported();
+    }
+
+    @Override
+    public void removeCellComment() {
+        throw unsupported();
+    }
+
+    @Override
+    public void setHyperlink(final Hyperlink link) {
+        throw unsupported();
+    }
+
+    @Override
+    public void removeHyperlink() {
+        throw unsupported();
+    }
+
+    private UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException(String.format("read only cell '%s' of sheet '%s'.",
+                getAddress().formatAsString(), sheet.getSheetName()));
+    }
+
+    @Override
+    public String toString() {
+        return "";
+    }
+
+}
@@ -0,0 +1,216 @@
+package com.gh.mygreen.xlsmapper.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.poi.hssf.usermodel.HSSFSheet;
+import org.apache.poi.ss.usermodel.Comment;
+import org.apache.poi.ss.usermodel.Hyperlink;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellAddress;
+import org.apache.poi.ss.util.CellRangeAddress;
+
+/**
+ * シートのセルのコメントとハイパーリンクを、セルのアドレスで参照するための索引。
+ * <p>{@link Sheet#getHyperlinkList()}や結合情報の走査は、参照するたびにシート全体を対象とするため、
+ *  コメントやハイパーリンクが多いシートで、セルごとに繰り返し参照する際に使用します。</p>
+ * <p>索引は、最初に参照したときに1度だけ作成します。
+ *  そのため、索引を使用している間にコメントやハイパーリンク、結合情報を変更してはいけません。
+ * </p>
+ * <p>読み込み処理では、{@link CellAnchorIndexRegistry#open(Sheet)}でセッションを開始したシートの索引を、
+ *  {@link POIUtils#getHyperlink(org.apache.poi.ss.usermodel.Cell, CellAnchorIndex)}などに渡して参照します。</p>
+ *
+ * @since 2.3
+ * @author T.TSUCHIE
+ *
+ */
+public class CellAnchorIndex {
+
+    private final Sheet sheet;
+
+    private final MergedRegionIndex mergedRegionIndex;
+
+    /**
+     * セルのアドレスに対するコメント
+     */
+    private volatile Map<Long, Comment> comments;
+
+    /**
+     * 範囲の左上のセルのアドレスに対するハイパーリンク
+     */
+    private volatile Map<Long, Hyperlink> hyperlinks;
+
+    /**
+     * 複数のセルを範囲とするハイパーリンク
+     */
+    private volatile List<Hyperlink> rangedHyperlinks;
+
+    /**
+     * コンストラクタ
+     * @param sheet 索引の対象となるシート
+     * @throws IllegalArgumentException {@literal sheet == null}
+     */
+    public CellAnchorIndex(final Sheet sheet) {
+        ArgUtils.notNull(sheet, "sheet");
+        this.sheet = sheet;
+        this.mergedRegionIndex = new MergedRegionIndex(sheet);
+    }
+
+    /**
+     * 索引の対象となるシートを取得します。
+     * @return シート
+     */
+    public Sheet getSheet() {
+        return sheet;
+    }
+
+    /**
+     * 結合を考慮して、セルのコメントを取得します。
+     * <p>セルにコメントがない場合、結合されている範囲の左上から順に、最初に見つかったコメントを返します。</p>
+     * @param rowIdx 行番号
+     * @param colIdx 列番号
+     * @return コメントが設定されていない場合は、nullを返す。
+     */
+    public Comment getMergedCellComment(final int rowIdx, final int colIdx) {
+
+        Map<Long, Comment> map = comments;
+        if(map == null) {
+            map = buildComments();
+        }
+
+        final Comment comment = map.get(toKey(rowIdx, colIdx));
+        if(comment != null || map.isEmpty()) {
+            return comment;
+        }
+
+        final CellRangeAddress range = mergedRegionIndex.getMergedRegion(rowIdx, colIdx);
+        if(range == null) {
+            return null;
+        }
+
+        for(int row=range.getFirstRow(); row <= range.getLastRow(); row++) {
+            for(int column=range.getFirstColumn(); column <= range.getLastColumn(); column++) {
+                final Comment mergedComment = map.get(toKey(row, column));
+                if(mergedComment != null) {
+                    return mergedComment;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * 結合を考慮して、セルのハイパーリンクを取得します。
+     * <p>ハイパーリンクは、範囲の左上のセルを起点として参照します。
+     *  起点とするハイパーリンクがない場合は、{@link org.apache.poi.ss.usermodel.Cell#getHyperlink()}と同様に、
+     *  範囲にセルを含むハイパーリンクを返します（Excel2003以前の形式（.xls）を除く）。
+     *  さらに見つからない場合は、結合されている範囲の左上のセルを起点とするハイパーリンクを返します。</p>
+     * @param rowIdx 行番号
+     * @param colIdx 列番号
+     * @return ハイパーリンクが設定されていない場合は、nullを返す。
+     */
+    public Hyperlink getHyperlink(final int rowIdx, final int colIdx) {
+
+        Map<Long, Hyperlink> map = hyperlinks;
+        if(map == null) {
+            map = buildHyperlinks();
+        }
+
+        final Hyperlink link = map.get(toKey(rowIdx, colIdx));
+        if(link != null || map.isEmpty()) {
+            return link;
+        }
+
+        for(Hyperlink rangedLink : rangedHyperlinks) {
+            if(rangedLink.getFirstRow() <= rowIdx && rowIdx <= rangedLink.getLastRow()
+                    && rangedLink.getFirstColumn() <= colIdx && colIdx <= rangedLink.getLastColumn()) {
+                return rangedLink;
+            }
+        }
+
+        final CellRangeAddress range = mergedRegionIndex.getMergedRegion(rowIdx, colIdx);
+        if(range == null) {
+            return null;
+        }
+
+        return map.get(toKey(range.getFirstRow(), range.getFirstColumn()));
+    }
+
+    /**
+     * シートのコメントから索引を作成する。
+     * @return セルのアドレスに対するコメント
+     */
+    private synchronized Map<Long, Comment> buildComments() {
+
+        if(comments != null) {
+            return comments;
+        }
+
+        final Map<Long, Comment> map = new HashMap<>();
+        for(Map.Entry<CellAddress, ? extends Comment> entry : sheet.getCellComments().entrySet()) {
+            map.put(toKey(entry.getKey().getRow(), entry.getKey().getColumn()), entry.getValue());
+        }
+
+        this.comments = Collections.unmodifiableMap(map);
+        return comments;
+    }
+
+    /**
+     * シートのハイパーリンクから索引を作成する。
+     * @return 範囲の左上のセルのアドレスに対するハイパーリンク
+     */
+    private synchronized Map<Long, Hyperlink> buildHyperlinks() {
+
+        if(hyperlinks != null) {
+            return hyperlinks;
+        }
+
+        // HSSFCell#getHyperlink()は範囲の左上のセルのみを対象とするため、xls形式では範囲を考慮しない
+        final boolean ranged = !(sheet instanceof HSSFSheet);
+
+        final Map<Long, Hyperlink> map = new HashMap<>();
+        final List<Hyperlink> rangedList = new ArrayList<>();
+        for(Hyperlink link : sheet.getHyperlinkList()) {
+            // 同じセルに複数存在する場合は、シートの定義順で先のものを優先する
+            map.putIfAbsent(toKey(link.getFirstRow(), link.getFirstColumn()), link);
+
+            if(ranged && (link.getFirstRow() != link.getLastRow() || link.getFirstColumn() != link.getLastColumn())) {
+                rangedList.add(link);
+            }
+        }
+
+        // 索引の参照時は、hyperlinksの作成済みを確認するため、先に設定する
+        this.rangedHyperlinks = Collections.unmodifiableList(rangedList);
+        this.hyperlinks = Collections.unmodifiableMap(map);
+        return hyperlinks;
+    }
+
+    /**
+     * 行番号と列番号を1つの値にまとめたキーを作成する。
+     */
+    private static long toKey(final int rowIdx, final int colIdx) {
+        return ((long)rowIdx << 32) | (colIdx & 0xFFFFFFFFL);
+    }
+
+    /**
+     * 索引を参照するセッション。
+     * <p>シートの処理が終了したら{@link #close()}で終了します。</p>
+     *
+     * @since 2.3
+     */
+    @FunctionalInterface
+    public interface Session extends AutoCloseable {
+
+        /**
+         * セッションを終了し、索引を破棄します。
+         */
+        @Override
+        void close();
+
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.gh.mygreen.xlsmapper.util;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.poi.ss.usermodel.Sheet;
+
+/**
+ * 読み込み処理中のシートの{@link CellAnchorIndex}を管理するクラス。
+ * <p>{@link com.gh.mygreen.xlsmapper.Configuration}のインスタンスごとに保持し、
+ *  {@link #open(Sheet)}でセッションを開始したシートの索引を、全てのセッションが終了するまで保持します。</p>
+ *
+ * @since 2.3
+ * @author T.TSUCHIE
+ *
+ */
+public class CellAnchorIndexRegistry {
+
+    /**
+     * セッションを開始しているシートの索引
+     */
+    private final Map<Sheet, OpenedIndex> openedIndexes = new ConcurrentHashMap<>();
+
+    /**
+     * シートに対する索引のセッションを開始します。
+     * <p>同じシートに対して複数のセッションを開始した場合は、索引を共有し、全てのセッションが終了したときに破棄します。</p>
+     * @param sheet 索引の対象となるシート
+     * @return セッション。シートの処理が終了したら{@link CellAnchorIndex.Session#close()}で終了します。
+     * @throws IllegalArgumentException {@literal sheet == null}
+     */
+    public CellAnchorIndex.Session open(final Sheet sheet) {
+        ArgUtils.notNull(sheet, "sheet");
+
+        openedIndexes.compute(sheet, (key, opened) -> {
+            final OpenedIndex current = (opened != null) ? opened : new OpenedIndex(new CellAnchorIndex(key));
+            current.sessionCount++;
+            return current;
+        });
+
+        final AtomicBoolean closed = new AtomicBoolean(false);
+        return () -> {
+            if(closed.compareAndSet(false, true)) {
+                openedIndexes.computeIfPresent(sheet, (key, opened) -> --opened.sessionCount > 0 ? opened : null);
+            }
+        };
+    }
+
+    /**
+     * セッションを開始しているシートの索引を取得します。
+     * @param sheet シート
+     * @return セッションを開始していない場合は空を返す。
+     */
+    public Optional<CellAnchorIndex> find(final Sheet sheet) {
+        if(sheet == null || openedIndexes.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(openedIndexes.get(sheet)).map(opened -> opened.index);
+    }
+
+    /**
+     * セッションを開始している索引と、セッションの数
+     */
+    private static class OpenedIndex {
+
+        private final CellAnchorIndex index;
+
+        /**
+         * 同じシートに対して開始しているセッションの数
+         */
+        private int sessionCount;
+
+        private OpenedIndex(final CellAnchorIndex index) {
+            this.index = index;
+        }
+
+    }
+
+}
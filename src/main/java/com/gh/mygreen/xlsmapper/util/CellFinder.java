@@ -4,7 +4,6 @@ import java.util.Optional;
 
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.ss.usermodel.Row.MissingCellPolicy;
 import org.apache.poi.ss.usermodel.Sheet;
 
 import com.gh.mygreen.xlsmapper.Configuration;
@@ -13,6 +12,7 @@ import com.gh.mygreen.xlsmapper.fieldprocessor.CellNotFoundException;
 /**
  * 指定したラベルを持つセルを検索するクラス。
  *
+ * @version 2.3
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -52,6 +52,12 @@ public class CellFinder {
      */
     private boolean excludeStartPoisition = false;
     
+    /**
+     * セルの位置の索引
+     * ・指定しない場合は、null
+     */
+    private SheetLabelIndex labelIndex;
+    
     /**
      * 検索する際の条件を組み立てる
      * @param sheet 検索対象のシート
@@ -158,6 +164,23 @@ public class CellFinder {
         return this;
     }
     
+    /**
+     * 検索に使用するセルの位置の索引を指定する。
+     * <p>指定した場合は、シート全体を走査せずに索引から検索する。</p>
+     * @since 2.3
+     * @param labelIndex セルの位置の索引。nullの場合は、索引を使用しない。
+     * @return 自身のインスタンス。メソッドチェーンとして続ける。
+     * @throws IllegalArgumentException 索引の対象のシートが、検索対象のシートと異なる場合。
+     */
+    public CellFinder labelIndex(final SheetLabelIndex labelIndex) {
+        if(labelIndex != null && labelIndex.getSheet() != sheet) {
+            throw new IllegalArgumentException("labelIndex should be same sheet.");
+        }
+        
+        this.labelIndex = labelIndex;
+        return this;
+    }
+    
     /**
      * 一致する条件のセルを探す。
      * @return 見つからない場合は、空を返す。
@@ -208,6 +231,13 @@ public class CellFinder {
         final int rowStart = startRow < 0 ? 0 : startRow;
         final int columnStart = startColumn < 0 ? 0 : startColumn;
         
+        if(labelIndex != null && labelIndex.isSupported(label)) {
+            return findCellWithIndex(rowStart, columnStart);
+        }
+        
+        // 正規表現などで空文字に一致するラベルの場合は、存在しないセルも一致する
+        final boolean matchesEmpty = Utils.matches("", label, config);
+        
         final int maxRow = POIUtils.getRows(sheet);
         for(int i=rowStart; i < maxRow; i++) {
             final Row row = sheet.getRow(i);
@@ -223,7 +253,15 @@ public class CellFinder {
                     continue;
                 }
                 
-                final Cell cell = row.getCell(j, MissingCellPolicy.CREATE_NULL_AS_BLANK);
+                final Cell cell = row.getCell(j);
+                if(cell == null) {
+                    if(matchesEmpty) {
+                        // 一致したセルを返すため、ここで初めて作成する
+                        return row.createCell(j);
+                    }
+                    continue;
+                }
+                
                 final String cellValue = POIUtils.getCellContents(cell, config.getCellFormatter());
                 if(Utils.matches(cellValue, label, config)) {
                     return cell;
@@ -235,6 +273,30 @@ public class CellFinder {
         
     }
     
+    /**
+     * 索引を使用して、条件に一致するセルを探す
+     * @param rowStart 検索を開始する行番号
+     * @param columnStart 検索を開始する列番号
+     * @return 見つからない場合は、nullを返す。
+     */
+    private Cell findCellWithIndex(final int rowStart, final int columnStart) {
+        
+        for(CellPosition position : labelIndex.getPositions(label)) {
+            if(position.getRow() < rowStart || position.getColumn() < columnStart) {
+                continue;
+            }
+            
+            if(excludeStartPoisition && includeInStartPosition(position.getColumn(), position.getRow())) {
+                // 開始位置を除外する場合
+                continue;
+            }
+            
+            return POIUtils.getCellForRead(sheet, position);
+        }
+        
+        return null;
+    }
+    
     /**
      * 現在の位置が検索対象の開始位置を含むかどうか判定します。
      * @param currentColumn 現在の列番号
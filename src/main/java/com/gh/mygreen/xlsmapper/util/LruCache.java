@@ -0,0 +1,178 @@
+package com.gh.mygreen.xlsmapper.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * 保持する件数の上限を持ち、上限を超えた場合は最も長く参照されていない値を破棄するキャッシュ。
+ * <p>件数の代わりに、値ごとの重み（バイト数など）の合計の上限を指定することもできます。</p>
+ * <p>複数のスレッドから参照できます。
+ *  値の作成はロックの外で行うため、同じキーに対して同時に値を作成する場合がありますが、その場合は後から作成した値で上書きします。
+ *  そのため、値は同じキーに対して同等の値を作成でき、かつ変更されないものである必要があります。</p>
+ *
+ * @since 2.3
+ * @author T.TSUCHIE
+ *
+ * @param <K> キーのタイプ
+ * @param <V> 値のタイプ
+ */
+public class LruCache<K, V> {
+
+    private final int maxSize;
+
+    private final long maxWeight;
+
+    /**
+     * 値の重みを計算する処理。件数の上限のみの場合はnull。
+     */
+    private final ToLongFunction<? super V> weigher;
+
+    /**
+     * キャッシュしている値の重みの合計
+     */
+    private long totalWeight;
+
+    private final Map<K, V> map;
+
+    /**
+     * コンストラクタ
+     * @param maxSize 保持する件数の上限
+     * @throws IllegalArgumentException {@literal maxSize < 1}
+     */
+    public LruCache(final int maxSize) {
+        this(maxSize, Long.MAX_VALUE, null);
+        ArgUtils.notMin(maxSize, 1, "maxSize");
+    }
+
+    /**
+     * 値の重みの合計の上限を指定するコンストラクタ。
+     * <p>上限を単独で超える値はキャッシュしません。</p>
+     * @param maxWeight 保持する値の重みの合計の上限
+     * @param weigher 値の重みを計算する処理
+     * @throws IllegalArgumentException {@literal maxWeight < 1 or weigher == null}
+     */
+    public LruCache(final long maxWeight, final ToLongFunction<? super V> weigher) {
+        this(Integer.MAX_VALUE, maxWeight, weigher);
+        ArgUtils.notMin(maxWeight, 1L, "maxWeight");
+        ArgUtils.notNull(weigher, "weigher");
+    }
+
+    private LruCache(final int maxSize, final long maxWeight, final ToLongFunction<? super V> weigher) {
+        this.maxSize = maxSize;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.map = new LinkedHashMap<K, V>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+                return size() > LruCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * キーに対する値を取得します。キャッシュしていない場合は、値を作成してキャッシュします。
+     * @param key キー
+     * @param mappingFunction 値を作成する処理
+     * @return キーに対する値
+     * @throws IllegalArgumentException {@literal key == null or mappingFunction == null}
+     */
+    public V computeIfAbsent(final K key, final Function<? super K, ? extends V> mappingFunction) {
+        ArgUtils.notNull(key, "key");
+        ArgUtils.notNull(mappingFunction, "mappingFunction");
+
+        synchronized(map) {
+            final V value = map.get(key);
+            if(value != null) {
+                return value;
+            }
+        }
+
+        final V value = mappingFunction.apply(key);
+        if(value != null && (weigher == null || weigher.applyAsLong(value) <= maxWeight)) {
+            synchronized(map) {
+                final V old = map.put(key, value);
+                if(weigher != null) {
+                    totalWeight += weigher.applyAsLong(value) - (old != null ? weigher.applyAsLong(old) : 0L);
+                    evictByWeight();
+                }
+            }
+        }
+
+        return value;
+    }
+
+    /**
+     * 重みの合計が上限以下になるまで、最も長く参照されていない値から破棄する。
+     */
+    private void evictByWeight() {
+        final Iterator<V> itr = map.values().iterator();
+        while(totalWeight > maxWeight && itr.hasNext()) {
+            totalWeight -= weigher.applyAsLong(itr.next());
+            itr.remove();
+        }
+    }
+
+    /**
+     * キーに対する値を取得します。
+     * @param key キー
+     * @return キャッシュしていない場合は、nullを返します。
+     */
+    public V get(final K key) {
+        synchronized(map) {
+            return map.get(key);
+        }
+    }
+
+    /**
+     * キャッシュしている件数を取得します。
+     * @return キャッシュしている件数
+     */
+    public int size() {
+        synchronized(map) {
+            return map.size();
+        }
+    }
+
+    /**
+     * キャッシュを全て破棄します。
+     */
+    public void clear() {
+        synchronized(map) {
+            map.clear();
+            totalWeight = 0L;
+        }
+    }
+
+    /**
+     * 保持する件数の上限を取得します。
+     * @return 保持する件数の上限
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * 保持する値の重みの合計の上限を取得します。
+     * @return 重みを指定していない場合は、{@link Long#MAX_VALUE}を返します。
+     */
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * キャッシュしている値の重みの合計を取得します。
+     * @return 重みを指定していない場合は、0を返します。
+     */
+    public long getTotalWeight() {
+        synchronized(map) {
+            return totalWeight;
+        }
+    }
+
+}
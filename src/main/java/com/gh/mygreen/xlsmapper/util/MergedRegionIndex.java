@@ -0,0 +1,123 @@
+package com.gh.mygreen.xlsmapper.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellRangeAddress;
+
+/**
+ * シートの結合情報を、行ごとに振り分けた索引。
+ * <p>{@link POIUtils#getMergedRegion(Sheet, int, int)}は呼び出すたびに全ての結合情報を走査するため、
+ *  結合情報が多いシートで繰り返しセルの結合情報を参照する際に使用します。</p>
+ * <p>索引は、最初に参照したときに1度だけ作成します。
+ *  そのため、作成した後にセルの結合・解除や、行・列の挿入・削除を行った場合は、{@link #clear()}で索引を破棄する必要があります。
+ * </p>
+ *
+ * @since 2.3
+ * @author T.TSUCHIE
+ *
+ */
+public class MergedRegionIndex {
+
+    /**
+     * 行ごとに振り分ける結合の行数の上限。
+     * <p>これより多くの行を結合している場合は、行ごとに振り分けずに個別に比較する。</p>
+     */
+    private static final int MAX_BUCKET_ROWS = 100;
+
+    private final Sheet sheet;
+
+    /**
+     * 行番号に対する、その行を含む結合情報
+     */
+    private Map<Integer, List<CellRangeAddress>> rowBuckets;
+
+    /**
+     * 行ごとに振り分けていない、多くの行を結合している結合情報
+     */
+    private List<CellRangeAddress> tallRegions;
+
+    /**
+     * コンストラクタ
+     * @param sheet 索引の対象となるシート
+     * @throws IllegalArgumentException {@literal sheet == null}
+     */
+    public MergedRegionIndex(final Sheet sheet) {
+        ArgUtils.notNull(sheet, "sheet");
+        this.sheet = sheet;
+    }
+
+    /**
+     * 索引の対象となるシートを取得します。
+     * @return シート
+     */
+    public Sheet getSheet() {
+        return sheet;
+    }
+
+    /**
+     * 指定したセルのアドレスの結合情報を取得します。
+     * @param rowIdx 行番号
+     * @param colIdx 列番号
+     * @return 結合していない場合nullを返す。
+     */
+    public CellRangeAddress getMergedRegion(final int rowIdx, final int colIdx) {
+
+        if(rowBuckets == null) {
+            build();
+        }
+
+        final List<CellRangeAddress> bucket = rowBuckets.get(rowIdx);
+        if(bucket != null) {
+            for(CellRangeAddress range : bucket) {
+                if(range.isInRange(rowIdx, colIdx)) {
+                    return range;
+                }
+            }
+        }
+
+        for(CellRangeAddress range : tallRegions) {
+            if(range.isInRange(rowIdx, colIdx)) {
+                return range;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * 作成した索引を破棄します。
+     * <p>次に参照したときに、シートの結合情報から作り直します。</p>
+     */
+    public void clear() {
+        this.rowBuckets = null;
+        this.tallRegions = null;
+    }
+
+    /**
+     * シートの結合情報から索引を作成する。
+     */
+    private void build() {
+
+        final Map<Integer, List<CellRangeAddress>> buckets = new HashMap<>();
+        final List<CellRangeAddress> talls = new ArrayList<>();
+
+        for(CellRangeAddress range : sheet.getMergedRegions()) {
+            if(range.getLastRow() - range.getFirstRow() >= MAX_BUCKET_ROWS) {
+                talls.add(range);
+                continue;
+            }
+
+            for(int row = range.getFirstRow(); row <= range.getLastRow(); row++) {
+                buckets.computeIfAbsent(row, key -> new ArrayList<>()).add(range);
+            }
+        }
+
+        this.rowBuckets = buckets;
+        this.tallRegions = talls;
+    }
+
+}
@@ -4,13 +4,18 @@ import java.awt.Point;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.TimeZone;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.poi.common.usermodel.HyperlinkType;
 import org.apache.poi.hssf.model.InternalSheet;
@@ -39,6 +44,8 @@ import org.apache.poi.ss.util.CellRangeAddress;
 import org.apache.poi.ss.util.CellRangeAddressBase;
 import org.apache.poi.ss.util.CellRangeAddressList;
 import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFSheet;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTDataValidation;
@@ -54,7 +61,7 @@ import com.github.mygreen.cellformatter.lang.ExcelDateUtils;
 /**
  * Apache POIとJExcel APIの差を埋めるユーティリティクラス。
  *
- * @version 2.0
+ * @version 2.3
  * @author T.TSUCHIE
  *
  */
@@ -79,7 +86,7 @@ public class POIUtils {
         if(sheet instanceof HSSFSheet) {
             return SpreadsheetVersion.EXCEL97;
 
-        } else if(sheet instanceof XSSFSheet) {
+        } else if(sheet instanceof XSSFSheet || sheet instanceof SXSSFSheet) {
             return SpreadsheetVersion.EXCEL2007;
         }
 
@@ -181,6 +188,61 @@ public class POIUtils {
         return cell;
     }
 
+    /**
+     * シートから任意アドレスのセルを、シートを変更せずに取得する。
+     * @since 2.3
+     * @param sheet シートオブジェクト
+     * @param address アドレス（Point.x=column, Point.y=row）
+     * @return セル。存在しない場合は、読み込み専用の空のセル。
+     * @throws IllegalArgumentException {@literal sheet == null or address == null.}
+     */
+    public static Cell getCellForRead(final Sheet sheet, final Point address) {
+        ArgUtils.notNull(sheet, "sheet");
+        ArgUtils.notNull(address, "address");
+        return getCellForRead(sheet, address.x, address.y);
+    }
+
+    /**
+     * シートから任意アドレスのセルを、シートを変更せずに取得する。
+     * @since 2.3
+     * @param sheet シートオブジェクト
+     * @param address セルのアドレス
+     * @return セル。存在しない場合は、読み込み専用の空のセル。
+     * @throws IllegalArgumentException {@literal sheet == null or address == null.}
+     */
+    public static Cell getCellForRead(final Sheet sheet, final CellPosition address) {
+        ArgUtils.notNull(sheet, "sheet");
+        ArgUtils.notNull(address, "address");
+        return getCellForRead(sheet, address.getColumn(), address.getRow());
+    }
+
+    /**
+     * シートから任意アドレスのセルを、シートを変更せずに取得する。
+     * <p>{@link #getCell(Sheet, int, int)}と異なり、行・セルが存在しない場合でも作成しません。
+     *  代わりに、値を変更できない空のセルを返します。
+     *  そのため、読み込み時など、セルの値を参照するだけの場合に使用します。
+     * </p>
+     * @since 2.3
+     * @param sheet シートオブジェクト
+     * @param column 列番号（0から始まる）
+     * @param row 行番号（0から始まる）
+     * @return セル。存在しない場合は、読み込み専用の空のセル。
+     * @throws IllegalArgumentException {@literal sheet == null}
+     */
+    public static Cell getCellForRead(final Sheet sheet, final int column, final int row) {
+        ArgUtils.notNull(sheet, "sheet");
+
+        final Row rows = sheet.getRow(row);
+        if(rows != null) {
+            final Cell cell = rows.getCell(column);
+            if(cell != null) {
+                return cell;
+            }
+        }
+
+        return new BlankCellView(sheet, row, column);
+    }
+
     /**
      * 任意の行のセルを全て取得する。
      * <p> {@literal jxl.Seet.getRow(int row)}</p>
@@ -258,6 +320,24 @@ public class POIUtils {
 
     }
 
+    /**
+     * 数式の場合は評価結果を考慮して、セルのタイプを取得する。
+     * @since 2.3
+     * @param cell セル
+     * @return 数式のセルの場合、キャッシュされている評価結果のタイプを返す。
+     * @throws IllegalArgumentException {@literal cell == null.}
+     */
+    public static CellType getEvaluatedCellType(final Cell cell) {
+        ArgUtils.notNull(cell, "cell");
+
+        final CellType cellType = cell.getCellType();
+        if(cellType == CellType.FORMULA) {
+            return cell.getCachedFormulaResultType();
+        }
+
+        return cellType;
+    }
+
     /**
      * 指定してセルの値が空かどうか判定する。
      * <p>ブランクセルなどの判定は優先的に行う。</p>
@@ -375,6 +455,24 @@ public class POIUtils {
         return null;
     }
 
+    /**
+     * 索引を使用して、指定したセルのアドレスの結合情報を取得する。
+     * @param sheet シート情報
+     * @param mergedRegionIndex 結合情報の索引。nullの場合は、シートの結合情報を走査して取得する。
+     * @param rowIdx 行番号
+     * @param colIdx 列番号
+     * @return 結合していない場合nullを返す。
+     */
+    private static CellRangeAddress getMergedRegion(final Sheet sheet, final MergedRegionIndex mergedRegionIndex,
+            final int rowIdx, final int colIdx) {
+
+        if(mergedRegionIndex != null && mergedRegionIndex.getSheet() == sheet) {
+            return mergedRegionIndex.getMergedRegion(rowIdx, colIdx);
+        }
+
+        return getMergedRegion(sheet, rowIdx, colIdx);
+    }
+
     /**
      * 指定した範囲の結合を解除する。
      * @param sheet
@@ -435,9 +533,23 @@ public class POIUtils {
      * @return 追加した行を返す。
      */
     public static Row insertRow(final Sheet sheet, final int rowIndex) {
+        return insertRows(sheet, rowIndex, 1);
+    }
+
+    /**
+     * 指定した行の下に、複数の行をまとめて追加する。
+     * <p>1行ずつ追加する場合と異なり、行をずらす処理は1度のみ行う。</p>
+     * @since 2.3
+     * @param sheet シート
+     * @param rowIndex 追加する位置の行番号（0から始まる）
+     * @param size 追加する行の数
+     * @return 追加した先頭の行を返す。
+     */
+    public static Row insertRows(final Sheet sheet, final int rowIndex, final int size) {
 
         ArgUtils.notNull(sheet, "sheet");
         ArgUtils.notMin(rowIndex, 0, "rowIndex");
+        ArgUtils.notMin(size, 1, "size");
 
         // 最終行を取得する
         int lastRow = sheet.getLastRowNum();
@@ -446,7 +558,7 @@ public class POIUtils {
             return sheet.createRow(rowIndex);
         }
 
-        sheet.shiftRows(rowIndex, lastRow+1, 1);
+        sheet.shiftRows(rowIndex, lastRow+1, size);
         return sheet.createRow(rowIndex);
     }
 
@@ -656,6 +768,125 @@ public class POIUtils {
 
     }
 
+    /**
+     * 複数の入力規則の範囲をまとめて更新する。
+     * <p>{@link #updateDataValidationRegion(Sheet, CellRangeAddressList, CellRangeAddressList)}を繰り返し呼ぶ場合と異なり、
+     *  シートの入力規則の走査は1度だけ行います。</p>
+     * @since 2.3
+     * @param sheet シート
+     * @param oldRegions 更新対象の範囲。
+     * @param newRegions 新しい範囲。更新対象の範囲と同じ順番で指定します。
+     * @return 更新した入力規則の件数。
+     * @throws IllegalArgumentException {@literal oldRegions.size() != newRegions.size()}
+     */
+    public static int updateDataValidationRegions(final Sheet sheet,
+            final List<CellRangeAddressList> oldRegions, final List<CellRangeAddressList> newRegions) {
+
+        ArgUtils.notNull(sheet, "sheet");
+        ArgUtils.notNull(oldRegions, "oldRegions");
+        ArgUtils.notNull(newRegions, "newRegions");
+        if(oldRegions.size() != newRegions.size()) {
+            throw new IllegalArgumentException(String.format("oldRegions size (%d) should be equals newRegions size (%d).",
+                    oldRegions.size(), newRegions.size()));
+        }
+
+        if(oldRegions.isEmpty()) {
+            return 0;
+        }
+
+        // 更新前の範囲に対する、新しい範囲。同じ範囲の規則が複数ある場合は、指定した順に割り当てる。
+        final Map<String, Deque<CellRangeAddressList>> regionMap = new HashMap<>();
+        for(int i=0; i < oldRegions.size(); i++) {
+            regionMap.computeIfAbsent(toSqrefKey(convertSqref(oldRegions.get(i))), key -> new ArrayDeque<>())
+                .add(newRegions.get(i));
+        }
+
+        if(sheet instanceof XSSFSheet) {
+
+            try {
+                final XSSFSheet xssfSheet = (XSSFSheet) sheet;
+                Field fWorksheet = XSSFSheet.class.getDeclaredField("worksheet");
+                fWorksheet.setAccessible(true);
+                CTWorksheet worksheet = (CTWorksheet) fWorksheet.get(xssfSheet);
+
+                CTDataValidations dataValidations = worksheet.getDataValidations();
+                if(dataValidations == null) {
+                    return 0;
+                }
+
+                int updated = 0;
+                for(CTDataValidation dv : dataValidations.getDataValidationArray()) {
+                    @SuppressWarnings("unchecked")
+                    final Deque<CellRangeAddressList> queue = regionMap.get(toSqrefKey(new ArrayList<>(dv.getSqref())));
+                    if(queue == null || queue.isEmpty()) {
+                        continue;
+                    }
+
+                    dv.setSqref(convertSqref(queue.poll()));
+                    updated++;
+                }
+
+                return updated;
+
+            } catch(Exception e) {
+                throw new RuntimeException("fail update DataValidation's Regsion.", e);
+            }
+
+        } else if(sheet instanceof HSSFSheet) {
+
+            final HSSFSheet hssfSheet = (HSSFSheet) sheet;
+            try {
+                Field fWorksheet = HSSFSheet.class.getDeclaredField("_sheet");
+                fWorksheet.setAccessible(true);
+                InternalSheet worksheet = (InternalSheet) fWorksheet.get(hssfSheet);
+
+                DataValidityTable dvt = worksheet.getOrCreateDataValidityTable();
+
+                final AtomicInteger updated = new AtomicInteger(0);
+                dvt.visitContainedRecords(r -> {
+                    if (!(r instanceof DVRecord)) {
+                        return;
+                    }
+
+                    final CellRangeAddressList region = ((DVRecord) r).getCellRangeAddress();
+                    final Deque<CellRangeAddressList> queue = regionMap.get(toSqrefKey(convertSqref(region)));
+                    if(queue == null || queue.isEmpty()) {
+                        return;
+                    }
+
+                    // 既存の範囲を削除して、新しい範囲を追加する。
+                    while(region.countRanges() != 0) {
+                        region.remove(0);
+                    }
+
+                    for(CellRangeAddress newRange : queue.poll().getCellRangeAddresses()) {
+                        region.addCellRangeAddress(newRange);
+                    }
+
+                    updated.incrementAndGet();
+                });
+
+                return updated.get();
+
+            } catch(Exception e) {
+                throw new RuntimeException("fail update DataValidation's Regsion.", e);
+            }
+        } else {
+            throw new UnsupportedOperationException("not supported update dava validation's region for type " + sheet.getClass().getName());
+        }
+
+    }
+
+    /**
+     * 文字列形式のセルの範囲を、順番によらず比較できるキーに変換する。
+     * @param sqref 文字列形式のセルの範囲
+     * @return 並び替えて連結した文字列
+     */
+    private static String toSqrefKey(final List<String> sqref) {
+        Collections.sort(sqref);
+        return String.join(" ", sqref);
+    }
+
     /**
      * CellRangeAddressを文字列形式のリストに変換する。
      * @since 0.5
@@ -896,6 +1127,9 @@ public class POIUtils {
                 return false;
             }
 
+        } else if(workbook instanceof SXSSFWorkbook) {
+            return isDateStart1904(((SXSSFWorkbook) workbook).getXSSFWorkbook());
+
         } else if(workbook instanceof XSSFWorkbook) {
             try {
                 Method method = XSSFWorkbook.class.getDeclaredMethod("isDate1904");
@@ -927,11 +1161,24 @@ public class POIUtils {
      * @throws IllegalArgumentException {@literal cell is null.}
      */
     public static BorderStyle getBorderTop(final Cell cell) {
+        return getBorderTop(cell, null);
+    }
+
+    /**
+     * 結合を考慮してセルの罫線（上部）を取得する。
+     *
+     * @param cell セル
+     * @param mergedRegionIndex 結合情報の索引。nullの場合は、シートの結合情報を走査して取得する。
+     * @return {@literal BorderStyle}
+     * @since 2.3
+     * @throws IllegalArgumentException {@literal cell is null.}
+     */
+    public static BorderStyle getBorderTop(final Cell cell, final MergedRegionIndex mergedRegionIndex) {
 
         ArgUtils.notNull(cell, "cell");
 
         final Sheet sheet = cell.getSheet();
-        CellRangeAddress mergedRegion = getMergedRegion(sheet, cell.getRowIndex(), cell.getColumnIndex());
+        CellRangeAddress mergedRegion = getMergedRegion(sheet, mergedRegionIndex, cell.getRowIndex(), cell.getColumnIndex());
 
         final Cell target;
         if(mergedRegion == null) {
@@ -943,7 +1190,7 @@ public class POIUtils {
                 // 引数のCellが上部のセルの場合
                 target = cell;
             } else {
-                target = getCell(sheet, cell.getColumnIndex(), mergedRegion.getFirstRow());
+                target = getCellForRead(sheet, cell.getColumnIndex(), mergedRegion.getFirstRow());
             }
 
         }
@@ -965,11 +1212,24 @@ public class POIUtils {
      * @throws IllegalArgumentException {@literal cell is null.}
      */
     public static BorderStyle getBorderBottom(final Cell cell) {
+        return getBorderBottom(cell, null);
+    }
+
+    /**
+     * 結合を考慮してセルの罫線（下部）を取得する。
+     *
+     * @param cell セル
+     * @param mergedRegionIndex 結合情報の索引。nullの場合は、シートの結合情報を走査して取得する。
+     * @return {@literal BorderStyle}
+     * @since 2.3
+     * @throws IllegalArgumentException {@literal cell is null.}
+     */
+    public static BorderStyle getBorderBottom(final Cell cell, final MergedRegionIndex mergedRegionIndex) {
 
         ArgUtils.notNull(cell, "cell");
 
         final Sheet sheet = cell.getSheet();
-        CellRangeAddress mergedRegion = getMergedRegion(sheet, cell.getRowIndex(), cell.getColumnIndex());
+        CellRangeAddress mergedRegion = getMergedRegion(sheet, mergedRegionIndex, cell.getRowIndex(), cell.getColumnIndex());
 
         final Cell target;
         if(mergedRegion == null) {
@@ -981,7 +1241,7 @@ public class POIUtils {
                 // 引数のCellが下部のセルの場合
                 target = cell;
             } else {
-                target = getCell(sheet, cell.getColumnIndex(), mergedRegion.getLastRow());
+                target = getCellForRead(sheet, cell.getColumnIndex(), mergedRegion.getLastRow());
             }
 
         }
@@ -1003,11 +1263,24 @@ public class POIUtils {
      * @throws IllegalArgumentException {@literal cell is null.}
      */
     public static BorderStyle getBorderRight(final Cell cell) {
+        return getBorderRight(cell, null);
+    }
+
+    /**
+     * 結合を考慮してセルの罫線（右部）を取得する。
+     *
+     * @param cell セル
+     * @param mergedRegionIndex 結合情報の索引。nullの場合は、シートの結合情報を走査して取得する。
+     * @return {@literal BorderStyle}
+     * @since 2.3
+     * @throws IllegalArgumentException {@literal cell is null.}
+     */
+    public static BorderStyle getBorderRight(final Cell cell, final MergedRegionIndex mergedRegionIndex) {
 
         ArgUtils.notNull(cell, "cell");
 
         final Sheet sheet = cell.getSheet();
-        CellRangeAddress mergedRegion = getMergedRegion(sheet, cell.getRowIndex(), cell.getColumnIndex());
+        CellRangeAddress mergedRegion = getMergedRegion(sheet, mergedRegionIndex, cell.getRowIndex(), cell.getColumnIndex());
 
         final Cell target;
         if(mergedRegion == null) {
@@ -1019,7 +1292,7 @@ public class POIUtils {
                 // 引数のCellが右部のセルの場合
                 target = cell;
             } else {
-                target = getCell(sheet, mergedRegion.getLastColumn(), cell.getRowIndex());
+                target = getCellForRead(sheet, mergedRegion.getLastColumn(), cell.getRowIndex());
             }
 
         }
@@ -1041,11 +1314,24 @@ public class POIUtils {
      * @throws IllegalArgumentException {@literal cell is null.}
      */
     public static BorderStyle getBorderLeft(final Cell cell) {
+        return getBorderLeft(cell, null);
+    }
+
+    /**
+     * 結合を考慮してセルの罫線（左部）を取得する。
+     *
+     * @param cell セル
+     * @param mergedRegionIndex 結合情報の索引。nullの場合は、シートの結合情報を走査して取得する。
+     * @return {@literal BorderStyle}
+     * @since 2.3
+     * @throws IllegalArgumentException {@literal cell is null.}
+     */
+    public static BorderStyle getBorderLeft(final Cell cell, final MergedRegionIndex mergedRegionIndex) {
 
         ArgUtils.notNull(cell, "cell");
 
         final Sheet sheet = cell.getSheet();
-        CellRangeAddress mergedRegion = getMergedRegion(sheet, cell.getRowIndex(), cell.getColumnIndex());
+        CellRangeAddress mergedRegion = getMergedRegion(sheet, mergedRegionIndex, cell.getRowIndex(), cell.getColumnIndex());
 
         final Cell target;
         if(mergedRegion == null) {
@@ -1057,7 +1343,7 @@ public class POIUtils {
                 // 引数のCellが左部のセルの場合
                 target = cell;
             } else {
-                target = getCell(sheet, mergedRegion.getFirstColumn(), cell.getRowIndex());
+                target = getCellForRead(sheet, mergedRegion.getFirstColumn(), cell.getRowIndex());
             }
 
         }
@@ -1079,9 +1365,26 @@ public class POIUtils {
      * @throws IllegalArgumentException {@literal cell is null.}
      */
     public static Hyperlink getHyperlink(final Cell cell) {
+        return getHyperlink(cell, null);
+    }
+
+    /**
+     * 索引を使用して、ハイパーリンクを取得する。
+     * <p>結合されているセルの場合にも対応。
+     * @param cell
+     * @param anchorIndex コメントとハイパーリンクの索引。nullの場合は、シートのハイパーリンクを走査して取得する。
+     * @return 見つからない場合は、nullを返す。
+     * @since 2.3
+     * @throws IllegalArgumentException {@literal cell is null.}
+     */
+    public static Hyperlink getHyperlink(final Cell cell, final CellAnchorIndex anchorIndex) {
 
         ArgUtils.notNull(cell, "cell");
 
+        if(anchorIndex != null && anchorIndex.getSheet() == cell.getSheet()) {
+            return anchorIndex.getHyperlink(cell.getRowIndex(), cell.getColumnIndex());
+        }
+
         Hyperlink link = cell.getHyperlink();
         if(link != null) {
             return link;
@@ -0,0 +1,138 @@
+package com.gh.mygreen.xlsmapper.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+
+import com.gh.mygreen.xlsmapper.Configuration;
+
+/**
+ * シートのセルの値をキーとした、セルの位置の索引。
+ * <p>{@link CellFinder}でラベルを検索する際に、シート全体を毎回走査しないようにするために使用します。</p>
+ * <p>索引は、最初に参照したときにシートを1度だけ走査して作成します。
+ *  セルの値は{@link Utils#normalize(String, Configuration)}で正規化し、セルの位置は行、列の順に並べて保持します。
+ *  そのため、作成した後にシートの行や列を挿入・削除した場合は、索引を作り直す必要があります。
+ *  また、作成した後に書き込んだセルの値は索引に反映されません。
+ * </p>
+ *
+ * @since 2.3
+ * @author T.TSUCHIE
+ *
+ */
+public class SheetLabelIndex {
+
+    /**
+     * 行、列の順に並べるための比較
+     */
+    private static final Comparator<CellPosition> POSITION_ORDER =
+            Comparator.comparingInt(CellPosition::getRow).thenComparingInt(CellPosition::getColumn);
+
+    private final Sheet sheet;
+
+    private final Configuration config;
+
+    /**
+     * 正規化したセルの値に対するセルの位置
+     */
+    private Map<String, List<CellPosition>> positions;
+
+    /**
+     * コンストラクタ
+     * @param sheet 索引の対象となるシート
+     * @param config システム設定
+     * @throws IllegalArgumentException {@literal sheet == null or config == null}
+     */
+    public SheetLabelIndex(final Sheet sheet, final Configuration config) {
+        ArgUtils.notNull(sheet, "sheet");
+        ArgUtils.notNull(config, "config");
+
+        this.sheet = sheet;
+        this.config = config;
+    }
+
+    /**
+     * 索引の対象となるシートを取得します。
+     * @return シート
+     */
+    public Sheet getSheet() {
+        return sheet;
+    }
+
+    /**
+     * 索引を使用してラベルを検索できるかどうか判定します。
+     * <p>空のセルに一致するラベルは、索引に含まれないため検索できません。</p>
+     * @param label 検索するラベル
+     * @return trueの場合、索引を使用して検索できます。
+     */
+    public boolean isSupported(final String label) {
+        return !Utils.matches("", label, config);
+    }
+
+    /**
+     * ラベルに一致するセルの位置を取得します。
+     * @param label 検索するラベル。
+     *        {@link Configuration#isRegexLabelText()}の値がtrueで、{@literal /<ラベル>/}と指定する場合、正規表現による比較を行う。
+     * @return 行、列の順に並んだセルの位置。一致するセルがない場合は、空のリストを返す。
+     */
+    public List<CellPosition> getPositions(final String label) {
+
+        final Map<String, List<CellPosition>> positions = getPositions();
+
+        if(config.isRegexLabelText() && label.startsWith("/") && label.endsWith("/")) {
+            // 正規表現の場合は、キーを順に比較する
+            final List<CellPosition> result = new ArrayList<>();
+            for(Map.Entry<String, List<CellPosition>> entry : positions.entrySet()) {
+                if(Utils.matches(entry.getKey(), label, config)) {
+                    result.addAll(entry.getValue());
+                }
+            }
+
+            result.sort(POSITION_ORDER);
+            return result;
+        }
+
+        return positions.getOrDefault(Utils.normalize(label, config), Collections.emptyList());
+    }
+
+    /**
+     * 索引を取得する。まだ作成していない場合は作成する。
+     * @return 正規化したセルの値に対するセルの位置
+     */
+    private Map<String, List<CellPosition>> getPositions() {
+
+        if(positions != null) {
+            return positions;
+        }
+
+        final Map<String, List<CellPosition>> map = new HashMap<>();
+
+        final int maxRow = POIUtils.getRows(sheet);
+        for(int i=0; i < maxRow; i++) {
+            final Row row = sheet.getRow(i);
+            if(row == null) {
+                continue;
+            }
+
+            for(Cell cell : row) {
+                final String cellValue = POIUtils.getCellContents(cell, config.getCellFormatter());
+                if(Utils.isEmpty(cellValue)) {
+                    continue;
+                }
+
+                map.computeIfAbsent(Utils.normalize(cellValue, config), key -> new ArrayList<>())
+                    .add(CellPosition.of(cell));
+            }
+        }
+
+        this.positions = map;
+        return map;
+    }
+
+}
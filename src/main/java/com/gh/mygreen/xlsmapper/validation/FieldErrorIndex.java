@@ -0,0 +1,171 @@
+package com.gh.mygreen.xlsmapper.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * フィールドエラーを、フィールドのパスごとに振り分けた索引。
+ * <p>パスが一致するフィールドエラーはハッシュマップで、ワイルドカード（{@literal '*'}）で前方一致するフィールドエラーは
+ *  並び替え済みのパスの集合から検索します。
+ *  検索結果は、追加した順番になります。</p>
+ *
+ * @since 2.3
+ * @author T.TSUCHIE
+ *
+ */
+class FieldErrorIndex {
+    
+    /**
+     * パスに対する、追加した順番付きのフィールドエラー
+     */
+    private final Map<String, List<Entry>> pathErrors = new HashMap<>();
+    
+    /**
+     * 前方一致で検索するための、並び替え済みのパス
+     */
+    private final TreeSet<String> sortedPaths = new TreeSet<>();
+    
+    /**
+     * 追加した件数
+     */
+    private int count;
+    
+    /**
+     * フィールドエラーを追加する。
+     * @param error フィールドエラー
+     */
+    void add(final FieldError error) {
+        
+        final String path = error.getField();
+        final List<Entry> entries = pathErrors.computeIfAbsent(path, key -> {
+            sortedPaths.add(key);
+            return new ArrayList<>(1);
+        });
+        
+        entries.add(new Entry(count++, error));
+    }
+    
+    /**
+     * 全てのフィールドエラーを破棄する。
+     */
+    void clear() {
+        this.pathErrors.clear();
+        this.sortedPaths.clear();
+        this.count = 0;
+    }
+    
+    /**
+     * パスに一致するフィールドエラーを取得する。
+     * @param path 最後に'*'を付けるとワイルドカードが指定可能。
+     * @return 追加した順番のフィールドエラー
+     */
+    List<FieldError> find(final String path) {
+        
+        final List<Entry> entries = findEntries(path);
+        final List<FieldError> list = new ArrayList<>(entries.size());
+        for(Entry entry : entries) {
+            list.add(entry.error);
+        }
+        
+        return list;
+    }
+    
+    /**
+     * パスに一致する先頭のフィールドエラーを取得する。
+     * @param path 最後に'*'を付けるとワイルドカードが指定可能。
+     * @return 見つからない場合は空を返す。
+     */
+    Optional<FieldError> findFirst(final String path) {
+        
+        Entry first = getFirstEntry(pathErrors.get(path), null);
+        if(path.endsWith("*")) {
+            final String prefix = path.substring(0, path.length()-1);
+            for(String matchedPath : sortedPaths.tailSet(prefix, true)) {
+                if(!matchedPath.startsWith(prefix)) {
+                    break;
+                }
+                first = getFirstEntry(pathErrors.get(matchedPath), first);
+            }
+        }
+        
+        return first == null ? Optional.empty() : Optional.of(first.error);
+    }
+    
+    /**
+     * パスに一致するフィールドエラーの件数を取得する。
+     * @param path 最後に'*'を付けるとワイルドカードが指定可能。
+     * @return 件数
+     */
+    int count(final String path) {
+        return findEntries(path).size();
+    }
+    
+    private List<Entry> findEntries(final String path) {
+        
+        final List<Entry> exact = pathErrors.get(path);
+        if(!path.endsWith("*")) {
+            return exact == null ? Collections.emptyList() : exact;
+        }
+        
+        final List<Entry> entries = new ArrayList<>();
+        if(exact != null) {
+            entries.addAll(exact);
+        }
+        
+        final String prefix = path.substring(0, path.length()-1);
+        int matchedPathCount = exact == null ? 0 : 1;
+        for(String matchedPath : sortedPaths.tailSet(prefix, true)) {
+            if(!matchedPath.startsWith(prefix)) {
+                break;
+            }
+            
+            if(matchedPath.equals(path)) {
+                // '*'を含むパスに完全一致する場合は、追加済み
+                continue;
+            }
+            
+            entries.addAll(pathErrors.get(matchedPath));
+            matchedPathCount++;
+        }
+        
+        if(matchedPathCount > 1) {
+            // 複数のパスに一致する場合は、追加した順番に並び替える
+            entries.sort(Comparator.comparingInt(entry -> entry.order));
+        }
+        
+        return entries;
+    }
+    
+    private static Entry getFirstEntry(final List<Entry> entries, final Entry current) {
+        
+        if(entries == null || entries.isEmpty()) {
+            return current;
+        }
+        
+        final Entry first = entries.get(0);
+        return (current == null || first.order < current.order) ? first : current;
+    }
+    
+    /**
+     * 追加した順番付きのフィールドエラー
+     */
+    private static class Entry {
+        
+        private final int order;
+        
+        private final FieldError error;
+        
+        private Entry(final int order, final FieldError error) {
+            this.order = order;
+            this.error = error;
+        }
+        
+    }
+    
+}
@@ -6,7 +6,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Stack;
-import java.util.stream.Collectors;
 
 import com.gh.mygreen.xlsmapper.util.PropertyTypeNavigator;
 import com.gh.mygreen.xlsmapper.util.PropertyValueNavigator;
@@ -20,7 +19,7 @@ import com.github.mygreen.cellformatter.lang.ArgUtils;
  * 1シート分のエラー情報を管理するクラス。
  * 
  * @param <P> シートにマッピングするクラスタイプ
- * @version 2.0
+ * @version 2.3
  * @author T.TSUCHIE
  *
  */
@@ -54,18 +53,39 @@ public class SheetBindingErrors<P> {
      * 現在のパス。
      * キャッシュ用。
      */
-    private String currentPath;
+    private String currentPath = "";
     
     /** 
      * 検証対象のオブジェクトの現在のパス
      */
     private Stack<String> nestedPathStack = new Stack<>();
     
+    /**
+     * パスを移動する前の、結合済みのパス。
+     * <p>パスを上位に移動する際に、スタック全体を結合し直さないようにするために使用する。</p>
+     */
+    private Stack<String> parentPathStack = new Stack<>();
+    
     /**
      * エラーオブジェクト
      */
     private final List<ObjectError> errors = new ArrayList<>();
     
+    /**
+     * グローバルエラー
+     */
+    private final List<ObjectError> globalErrors = new ArrayList<>();
+    
+    /**
+     * フィールドエラー
+     */
+    private final List<FieldError> fieldErrors = new ArrayList<>();
+    
+    /**
+     * パスごとのフィールドエラーの索引
+     */
+    private final FieldErrorIndex fieldErrorIndex = new FieldErrorIndex();
+    
     /**
      * フィールドの値のフォーマッタの管理クラス
      */
@@ -250,9 +270,9 @@ public class SheetBindingErrors<P> {
     public void setNestedPath(final String nestedPath) {
         final String canonicalPath = normalizePath(nestedPath);
         this.nestedPathStack.clear();
-        if(canonicalPath.isEmpty()) {
-            this.currentPath = buildPath();
-        } else {
+        this.parentPathStack.clear();
+        this.currentPath = "";
+        if(!canonicalPath.isEmpty()) {
             pushNestedPath(canonicalPath);
         }
     }
@@ -306,7 +326,8 @@ public class SheetBindingErrors<P> {
         ArgUtils.notEmpty(canonicalPath, "canonicalPath");
         
         this.nestedPathStack.push(canonicalPath);
-        this.currentPath = buildPath();
+        this.parentPathStack.push(currentPath);
+        this.currentPath = currentPath.isEmpty() ? canonicalPath : currentPath + PATH_SEPARATOR + canonicalPath;
     }
     
     /**
@@ -320,7 +341,7 @@ public class SheetBindingErrors<P> {
         ArgUtils.notEmpty(subPath, "subPath");
         ArgUtils.notMin(index, -1, "index");
         
-        pushNestedPath(String.format("%s[%d]", canonicalPath, index));
+        pushNestedPath(canonicalPath + "[" + index + "]");
     }
     
     /**
@@ -334,7 +355,7 @@ public class SheetBindingErrors<P> {
         ArgUtils.notEmpty(subPath, "subPath");
         ArgUtils.notEmpty(key, "key");
         
-        pushNestedPath(String.format("%s[%s]", canonicalPath, key));
+        pushNestedPath(canonicalPath + "[" + key + "]");
     }
     
     /**
@@ -349,19 +370,10 @@ public class SheetBindingErrors<P> {
         }
         
         final String subPath = nestedPathStack.pop();
-        this.currentPath = buildPath();
+        this.currentPath = parentPathStack.pop();
         return subPath;
     }
     
-    /**
-     * 現在パスのスタックに積まれているパスを結合し、１つに組み立てる。
-     * <p>ルートの時は空文字を返します。</p>
-     * @return 結合したパス
-     */
-    private String buildPath() {
-        return Utils.join(nestedPathStack, PATH_SEPARATOR);
-    }
-    
     /**
      * 現在のパスを取得します。
      * <p>ルートの時は空文字を返します。</p>
@@ -381,7 +393,7 @@ public class SheetBindingErrors<P> {
         if(Utils.isEmpty(getCurrentPath())) {
             return fieldName;
         } else {
-            return Utils.join(new String[]{getCurrentPath(), fieldName}, PATH_SEPARATOR);
+            return getCurrentPath() + PATH_SEPARATOR + fieldName;
         }
     }
     
@@ -391,6 +403,9 @@ public class SheetBindingErrors<P> {
      */
     public void clearAllErrors() {
         this.errors.clear();
+        this.globalErrors.clear();
+        this.fieldErrors.clear();
+        this.fieldErrorIndex.clear();
     }
     
     /**
@@ -401,6 +416,14 @@ public class SheetBindingErrors<P> {
     public void addError(final ObjectError error) {
         ArgUtils.notNull(error, "error");
         this.errors.add(error);
+        
+        if(error instanceof FieldError) {
+            final FieldError fieldError = (FieldError) error;
+            this.fieldErrors.add(fieldError);
+            this.fieldErrorIndex.add(fieldError);
+        } else {
+            this.globalErrors.add(error);
+        }
     }
     
     /**
@@ -410,7 +433,7 @@ public class SheetBindingErrors<P> {
      */
     public void addAllErrors(final Collection<ObjectError> errors) {
         ArgUtils.notNull(errors, "errors");
-        this.errors.addAll(errors);
+        errors.forEach(this::addError);
     }
     
     /**
@@ -434,9 +457,7 @@ public class SheetBindingErrors<P> {
      * @return エラーがない場合は空のリストを返す
      */
     public List<ObjectError> getGlobalErrors() {
-        return errors.stream()
-                .filter(e -> !(e instanceof FieldError))
-                .collect(Collectors.toList());
+        return new ArrayList<>(globalErrors);
     }
     
     /**
@@ -444,9 +465,7 @@ public class SheetBindingErrors<P> {
      * @return 存在しない場合は、空を返す。
      */
     public Optional<ObjectError> getFirstGlobalError() {
-        return errors.stream()
-                .filter(e -> !(e instanceof FieldError))
-                .findFirst();
+        return globalErrors.isEmpty() ? Optional.empty() : Optional.of(globalErrors.get(0));
         
     }
     
@@ -455,7 +474,7 @@ public class SheetBindingErrors<P> {
      * @return true:グローバルエラーがある。
      */
     public boolean hasGlobalErrors() {
-        return getFirstGlobalError().isPresent();
+        return !globalErrors.isEmpty();
     }
     
     /**
@@ -463,7 +482,7 @@ public class SheetBindingErrors<P> {
      * @return エラーの件数
      */
     public int getGlobalErrorCount() {
-        return getGlobalErrors().size();
+        return globalErrors.size();
     }
     
     /**
@@ -471,10 +490,7 @@ public class SheetBindingErrors<P> {
      * @return エラーがない場合は空のリストを返す
      */
     public List<FieldError> getFieldErrors() {
-        return errors.stream()
-                .filter(e -> e instanceof FieldError)
-                .map(e -> (FieldError)e)
-                .collect(Collectors.toList());
+        return new ArrayList<>(fieldErrors);
         
     }
     
@@ -483,10 +499,7 @@ public class SheetBindingErrors<P> {
      * @return エラーがない場合は空を返す
      */
     public Optional<FieldError> getFirstFieldError() {
-        return errors.stream()
-                .filter(e -> e instanceof FieldError)
-                .map(e -> (FieldError)e)
-                .findFirst();
+        return fieldErrors.isEmpty() ? Optional.empty() : Optional.of(fieldErrors.get(0));
         
     }
     
@@ -495,7 +508,7 @@ public class SheetBindingErrors<P> {
      * @return true:フィールドエラーを持つ。
      */
     public boolean hasFieldErrors() {
-        return getFirstFieldError().isPresent();
+        return !fieldErrors.isEmpty();
     }
     
     /**
@@ -503,7 +516,7 @@ public class SheetBindingErrors<P> {
      * @return フィールドエラーの件数
      */
     public int getFieldErrorCount() {
-        return getFieldErrors().size();
+        return fieldErrors.size();
     }
     
     /**
@@ -514,10 +527,7 @@ public class SheetBindingErrors<P> {
      */
     public List<FieldError> getFieldErrors(final String path) {
         final String fullPath = buildFieldPath(path);
-        
-        return getFieldErrors().stream()
-                .filter(e -> isMatchingFieldError(fullPath, e))
-                .collect(Collectors.toList());
+        return fieldErrorIndex.find(fullPath);
         
     }
     
@@ -529,9 +539,7 @@ public class SheetBindingErrors<P> {
      */
     public Optional<FieldError> getFirstFieldError(final String path) {
         final String fullPath = buildFieldPath(path);
-        return getFieldErrors().stream()
-                .filter(e -> isMatchingFieldError(fullPath, e))
-                .findFirst();
+        return fieldErrorIndex.findFirst(fullPath);
         
     }
     
@@ -550,27 +558,8 @@ public class SheetBindingErrors<P> {
      * @return
      */
     public int getFieldErrorCount(final String path) {
-        return getFieldErrors(path).size();
-    }
-    
-    /**
-     * 指定したパスがフィールドエラーのパスと一致するかチェックするかどうか。
-     * @param path パス
-     * @param fieldError フィールドエラー
-     * @return true: 一致する場合。
-     */
-    private boolean isMatchingFieldError(final String path, final FieldError fieldError) {
-        
-        if (fieldError.getField().equals(path)) {
-            return true;
-        }
-        
-        if(path.endsWith("*")) {
-            String subPath = path.substring(0, path.length()-1);
-            return fieldError.getField().startsWith(subPath);
-        }
-        
-        return false;
+        final String fullPath = buildFieldPath(path);
+        return fieldErrorIndex.count(fullPath);
     }
     
     /**
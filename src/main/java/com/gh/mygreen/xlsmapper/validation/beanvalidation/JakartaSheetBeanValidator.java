@@ -1,20 +1,25 @@
 package com.gh.mygreen.xlsmapper.validation.beanvalidation;
 
+import java.lang.annotation.ElementType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 import org.hibernate.validator.internal.engine.path.NodeImpl;
 import org.hibernate.validator.internal.engine.path.PathImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessor;
 import com.gh.mygreen.xlsmapper.fieldaccessor.LabelGetterFactory;
 import com.gh.mygreen.xlsmapper.fieldaccessor.PositionGetterFactory;
 import com.gh.mygreen.xlsmapper.localization.MessageInterpolator;
@@ -29,6 +34,8 @@ import com.gh.mygreen.xlsmapper.validation.fieldvalidation.FieldFormatter;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Path;
+import jakarta.validation.TraversableResolver;
+import jakarta.validation.Valid;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
 import jakarta.validation.ValidatorFactory;
@@ -62,11 +69,42 @@ public class JakartaSheetBeanValidator implements ObjectValidator<Object> {
     
     private final Validator targetValidator;
     
+    /**
+     * 表のレコードを並列に検証する際に、シートの検証で使用する{@link ValidatorFactory}。
+     */
+    private ValidatorFactory validatorFactory;
+    
+    /**
+     * 表のレコードを並列に検証する{@link Executor}
+     */
+    private Executor recordsExecutor;
+    
+    /**
+     * 表のレコードを並列に検証する際の、1つのタスクで検証するレコードの件数。
+     */
+    private int recordsChunkSize = 1000;
+    
+    private final RecordsValidationSupport recordsValidationSupport = new RecordsValidationSupport(Valid.class);
+    
     public JakartaSheetBeanValidator(final Validator targetValidator) {
         ArgUtils.notNull(targetValidator, "targetValidator");
         this.targetValidator = targetValidator;
     }
     
+    /**
+     * {@link ValidatorFactory}を指定するコンストラクタ。
+     * <p>表のレコードを並列に検証する場合は、このコンストラクタかデフォルトのコンストラクタで作成する必要があります。</p>
+     * 
+     * @since 2.3
+     * @param validatorFactory {@link ValidatorFactory}のインスタンス。
+     * @throws IllegalArgumentException {@literal validatorFactory == null.}
+     */
+    public JakartaSheetBeanValidator(final ValidatorFactory validatorFactory) {
+        ArgUtils.notNull(validatorFactory, "validatorFactory");
+        this.validatorFactory = validatorFactory;
+        this.targetValidator = validatorFactory.getValidator();
+    }
+    
     public JakartaSheetBeanValidator() {
         this.targetValidator = createDefaultValidator();
     }
@@ -83,6 +121,8 @@ public class JakartaSheetBeanValidator implements ObjectValidator<Object> {
         final Validator validator = validatorFactory.usingContext()
                 .getValidator();
         
+        this.validatorFactory = validatorFactory;
+        
         return validator;
     }
     
@@ -94,6 +134,52 @@ public class JakartaSheetBeanValidator implements ObjectValidator<Object> {
         return targetValidator;
     }
     
+    /**
+     * 表のレコードを並列に検証する{@link Executor}を取得します。
+     * 
+     * @since 2.3
+     * @return 設定されていない場合は、空を返します。
+     */
+    public Optional<Executor> getRecordsExecutor() {
+        return Optional.ofNullable(recordsExecutor);
+    }
+    
+    /**
+     * 表のレコードを並列に検証する{@link Executor}を設定します。
+     * <p>{@literal @Valid}が付与されたアノテーション{@literal @XlsHorizontalRecords/@XlsVerticalRecords}のリストまたは配列の要素を、
+     *  チャンクに分割して並列に検証します。
+     *  エラーは並列に検証した場合でも、レコードの順番で追加します。</p>
+     * <p>{@link ValidatorFactory}を指定するコンストラクタ、またはデフォルトのコンストラクタで作成した場合のみ並列に検証します。</p>
+     * 
+     * @since 2.3
+     * @param recordsExecutor 並列に検証する{@link Executor}。nullの場合は、並列に検証しません。
+     */
+    public void setRecordsExecutor(Executor recordsExecutor) {
+        this.recordsExecutor = recordsExecutor;
+    }
+    
+    /**
+     * 表のレコードを並列に検証する際の、1つのタスクで検証するレコードの件数を取得します。
+     * 
+     * @since 2.3
+     * @return 初期値は{@literal 1000}です。
+     */
+    public int getRecordsChunkSize() {
+        return recordsChunkSize;
+    }
+    
+    /**
+     * 表のレコードを並列に検証する際の、1つのタスクで検証するレコードの件数を設定します。
+     * 
+     * @since 2.3
+     * @param recordsChunkSize 1つのタスクで検証するレコードの件数
+     * @throws IllegalArgumentException {@literal recordsChunkSize < 1.}
+     */
+    public void setRecordsChunkSize(int recordsChunkSize) {
+        ArgUtils.notMin(recordsChunkSize, 1, "recordsChunkSize");
+        this.recordsChunkSize = recordsChunkSize;
+    }
+    
     /**
      * グループを指定して検証を実行する。
      * @param targetObj 検証対象のオブジェクト。
@@ -106,10 +192,69 @@ public class JakartaSheetBeanValidator implements ObjectValidator<Object> {
         ArgUtils.notNull(targetObj, "targetObj");
         ArgUtils.notNull(errors, "errors");
         
+        if(recordsExecutor != null) {
+            final List<FieldAccessor> recordsProperties = recordsValidationSupport.getRecordsProperties(targetObj.getClass());
+            if(!recordsProperties.isEmpty() && validatorFactory != null) {
+                validateRecordsInParallel(targetObj, recordsProperties, errors, groups);
+                return;
+            }
+            
+            if(validatorFactory == null) {
+                logger.debug("ValidatorFactory is not specified, so records are validated sequentially.");
+            }
+        }
+        
         processConstraintViolation(getTargetValidator().validate(targetObj, groups), errors);
         
     }
     
+    /**
+     * 表のレコードを並列に検証する。
+     * <p>シートのオブジェクトは、レコードのプロパティの要素を除いて検証し、
+     *  レコードはチャンクに分割して{@link #getRecordsExecutor()}で並列に検証します。
+     *  エラーは、シートのオブジェクト、レコードの順番で追加します。</p>
+     * 
+     * @param targetObj 検証対象のオブジェクト。
+     * @param recordsProperties 並列に検証するレコードのプロパティ
+     * @param errors エラーオブジェクト
+     * @param groups BeanValiationのグループのクラス
+     */
+    private void validateRecordsInParallel(final Object targetObj, final List<FieldAccessor> recordsProperties,
+            final SheetBindingErrors<?> errors, final Class<?>... groups) {
+        
+        final Set<String> recordsNames = recordsProperties.stream()
+                .map(FieldAccessor::getName)
+                .collect(Collectors.toSet());
+        
+        final Validator sheetValidator = validatorFactory.usingContext()
+                .traversableResolver(new RecordsSkippingTraversableResolver(
+                        validatorFactory.getTraversableResolver(), targetObj, recordsNames))
+                .getValidator();
+        
+        processConstraintViolation(sheetValidator.validate(targetObj, groups), errors);
+        
+        for(FieldAccessor property : recordsProperties) {
+            final List<?> records = recordsValidationSupport.getElements(property, targetObj);
+            final List<Set<ConstraintViolation<Object>>> results = recordsValidationSupport.validateInChunks(
+                    records, recordsChunkSize, recordsExecutor, record -> getTargetValidator().validate(record, groups));
+            
+            for(int i=0; i < results.size(); i++) {
+                final Set<ConstraintViolation<Object>> violations = results.get(i);
+                if(violations == null || violations.isEmpty()) {
+                    continue;
+                }
+                
+                errors.pushNestedPath(property.getName(), i);
+                try {
+                    processConstraintViolation(violations, errors);
+                } finally {
+                    errors.popNestedPath();
+                }
+            }
+        }
+        
+    }
+    
     /**
      * BeanValidationの検証結果をSheet用のエラーに変換する
      * @param violations BeanValidationの検証結果
@@ -161,9 +306,9 @@ public class JakartaSheetBeanValidator implements ObjectValidator<Object> {
                 }
                 
                 // フィールドフォーマッタ
-                Class<?> fieldType = errors.getFieldType(nestedPath);
+                Class<?> fieldType = errors.getFieldType(fieldName);
                 if(fieldType != null) {
-                    FieldFormatter<?> fieldFormatter = errors.findFieldFormatter(nestedPath, fieldType);
+                    FieldFormatter<?> fieldFormatter = errors.findFieldFormatter(fieldName, fieldType);
                     if(fieldFormatter != null) {
                         errorVars.putIfAbsent("fieldFormatter", fieldFormatter);
                     }
@@ -273,4 +418,42 @@ public class JakartaSheetBeanValidator implements ObjectValidator<Object> {
         
     }
     
+    /**
+     * シートのオブジェクトのレコードのプロパティのみ、要素を検証しない{@link TraversableResolver}。
+     */
+    private static class RecordsSkippingTraversableResolver implements TraversableResolver {
+        
+        private final TraversableResolver delegate;
+        
+        private final Object rootBean;
+        
+        private final Set<String> recordsNames;
+        
+        RecordsSkippingTraversableResolver(final TraversableResolver delegate, final Object rootBean,
+                final Set<String> recordsNames) {
+            this.delegate = delegate;
+            this.rootBean = rootBean;
+            this.recordsNames = recordsNames;
+        }
+        
+        @Override
+        public boolean isReachable(final Object traversableObject, final Path.Node traversableProperty,
+                final Class<?> rootBeanType, final Path pathToTraversableObject, final ElementType elementType) {
+            return delegate.isReachable(traversableObject, traversableProperty, rootBeanType, pathToTraversableObject, elementType);
+        }
+        
+        @Override
+        public boolean isCascadable(final Object traversableObject, final Path.Node traversableProperty,
+                final Class<?> rootBeanType, final Path pathToTraversableObject, final ElementType elementType) {
+            
+            if(traversableObject == rootBean && recordsNames.contains(traversableProperty.getName())) {
+                // レコードは別途検証する
+                return false;
+            }
+            
+            return delegate.isCascadable(traversableObject, traversableProperty, rootBeanType, pathToTraversableObject, elementType);
+        }
+        
+    }
+    
 }
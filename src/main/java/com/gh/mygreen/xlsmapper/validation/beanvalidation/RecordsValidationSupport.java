@@ -0,0 +1,190 @@
+package com.gh.mygreen.xlsmapper.validation.beanvalidation;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.AnnotatedParameterizedType;
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.gh.mygreen.xlsmapper.annotation.XlsHorizontalRecords;
+import com.gh.mygreen.xlsmapper.annotation.XlsVerticalRecords;
+import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessor;
+import com.gh.mygreen.xlsmapper.util.FieldAccessorUtils;
+import com.gh.mygreen.xlsmapper.xml.AnnotationReader;
+
+/**
+ * 表のレコードを並列に検証するためのサポートクラス。
+ * <p>{@link SheetBeanValidator}と{@link JakartaSheetBeanValidator}で共通の処理を提供します。</p>
+ *
+ * @since 2.3
+ * @author T.TSUCHIE
+ *
+ */
+class RecordsValidationSupport {
+    
+    /**
+     * {@literal @Valid}のアノテーションのクラス。
+     */
+    private final Class<? extends Annotation> validAnnoClass;
+    
+    /**
+     * クラスに対する、並列に検証するレコードのプロパティ
+     */
+    private final Map<Class<?>, List<FieldAccessor>> recordsProperties = new ConcurrentHashMap<>();
+    
+    /**
+     * コンストラクタ
+     * @param validAnnoClass {@literal @Valid}のアノテーションのクラス。
+     */
+    RecordsValidationSupport(final Class<? extends Annotation> validAnnoClass) {
+        this.validAnnoClass = validAnnoClass;
+    }
+    
+    /**
+     * 並列に検証するレコードのプロパティを取得する。
+     * <p>アノテーション{@link XlsHorizontalRecords}/{@link XlsVerticalRecords}が付与され、
+     *  かつ{@literal @Valid}が付与されているリストまたは配列のプロパティが対象です。
+     *  Bean Validationのパスにインデックスが付かない{@link java.util.Set}などは対象外です。</p>
+     * <p>XMLで定義したアノテーションは参照しません。</p>
+     * 
+     * @param beanClass 検証対象のクラス
+     * @return 該当するプロパティ。
+     */
+    List<FieldAccessor> getRecordsProperties(final Class<?> beanClass) {
+        return recordsProperties.computeIfAbsent(beanClass, this::findRecordsProperties);
+    }
+    
+    private List<FieldAccessor> findRecordsProperties(final Class<?> beanClass) {
+        
+        final AnnotationReader annoReader = new AnnotationReader(null);
+        
+        final List<FieldAccessor> list = new ArrayList<>();
+        list.addAll(FieldAccessorUtils.getPropertiesWithAnnotation(beanClass, annoReader, XlsHorizontalRecords.class));
+        list.addAll(FieldAccessorUtils.getPropertiesWithAnnotation(beanClass, annoReader, XlsVerticalRecords.class));
+        
+        return Collections.unmodifiableList(list.stream()
+                .filter(accessor -> List.class.isAssignableFrom(accessor.getType()) || accessor.getType().isArray())
+                .filter(accessor -> accessor.isReadable())
+                .filter(this::isCascaded)
+                .distinct()
+                .collect(Collectors.toList()));
+    }
+    
+    /**
+     * プロパティに{@literal @Valid}が付与され、Bean Validationで要素が検証されるかどうか。
+     * @param accessor プロパティ
+     * @return trueの場合、要素が検証される。
+     */
+    private boolean isCascaded(final FieldAccessor accessor) {
+        
+        final Optional<Field> field = accessor.getField();
+        if(field.isPresent() && isCascaded(field.get(), field.get().getAnnotatedType())) {
+            return true;
+        }
+        
+        final Optional<Method> getter = accessor.getGetter();
+        if(getter.isPresent() && isCascaded(getter.get(), getter.get().getAnnotatedReturnType())) {
+            return true;
+        }
+        
+        return false;
+    }
+    
+    private boolean isCascaded(final AnnotatedElement element, final AnnotatedType type) {
+        
+        if(element.isAnnotationPresent(validAnnoClass)) {
+            return true;
+        }
+        
+        // List<@Valid Record> の場合
+        if(type instanceof AnnotatedParameterizedType) {
+            return Arrays.stream(((AnnotatedParameterizedType) type).getAnnotatedActualTypeArguments())
+                    .anyMatch(arg -> arg.isAnnotationPresent(validAnnoClass));
+        }
+        
+        return false;
+    }
+    
+    /**
+     * レコードのプロパティの値を、要素のリストとして取得する。
+     * @param accessor レコードのプロパティ
+     * @param targetObj 検証対象のオブジェクト
+     * @return 値がnullの場合は、空のリストを返す。
+     */
+    List<?> getElements(final FieldAccessor accessor, final Object targetObj) {
+        
+        final Object value = accessor.getValue(targetObj);
+        if(value == null) {
+            return Collections.emptyList();
+            
+        } else if(value instanceof List) {
+            return (List<?>) value;
+        }
+        
+        final int length = Array.getLength(value);
+        final List<Object> list = new ArrayList<>(length);
+        for(int i=0; i < length; i++) {
+            list.add(Array.get(value, i));
+        }
+        return list;
+    }
+    
+    /**
+     * 要素をチャンクに分割して、並列に検証する。
+     * @param <R> 検証結果のタイプ
+     * @param elements 検証対象の要素
+     * @param chunkSize 1つのチャンクの要素数
+     * @param executor 検証を実行する{@link Executor}
+     * @param validation 要素を検証する処理
+     * @return 要素の順番の検証結果。要素がnullの場合は、nullとなる。
+     */
+    <R> List<R> validateInChunks(final List<?> elements, final int chunkSize, final Executor executor,
+            final Function<Object, R> validation) {
+        
+        final List<CompletableFuture<List<R>>> futures = new ArrayList<>();
+        for(int start=0; start < elements.size(); start += chunkSize) {
+            final List<?> chunk = elements.subList(start, Math.min(start + chunkSize, elements.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                final List<R> results = new ArrayList<>(chunk.size());
+                for(Object element : chunk) {
+                    results.add(element == null ? null : validation.apply(element));
+                }
+                return results;
+            }, executor));
+        }
+        
+        final List<R> results = new ArrayList<>(elements.size());
+        for(CompletableFuture<List<R>> future : futures) {
+            try {
+                results.addAll(future.join());
+                
+            } catch(CompletionException e) {
+                // 検証処理でスローされた例外をそのままスローする
+                final Throwable cause = e.getCause();
+                if(cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                } else if(cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw e;
+            }
+        }
+        
+        return results;
+    }
+    
+}
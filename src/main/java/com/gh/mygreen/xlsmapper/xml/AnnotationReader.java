@@ -1,10 +1,16 @@
 package com.gh.mygreen.xlsmapper.xml;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.gh.mygreen.xlsmapper.xml.bind.AnnotationInfo;
 import com.gh.mygreen.xlsmapper.xml.bind.ClassInfo;
@@ -16,8 +22,10 @@ import com.gh.mygreen.xlsmapper.xml.bind.AnnotationMappingInfo;
 /**
  * フィールド、メソッドのアノテーションへアクセスするためのクラス。
  * <p>Javaソースに直接アノテーションを付与する場合と、XMLで定義する方法の両方をサポートする。
+ * <p>XMLで定義したアノテーションは、クラスごとに1度だけ組み立ててキャッシュします。
+ *  そのため、インスタンスを作成した後にXMLの定義情報を変更しても反映されません。</p>
  * 
- * @version 2.0
+ * @version 2.3
  * @author Naoki Takezoe
  * @author T.TSUCHIE
  *
@@ -35,6 +43,20 @@ public class AnnotationReader {
      */
     private DynamicAnnotationBuilder annotationBuilder = DynamicAnnotationBuilder.getInstance();
     
+    /**
+     * XMLで定義したアノテーションを、クラスごとに組み立てたもののキャッシュ。
+     * ・key = クラスタイプ
+     * ・value = 組み立てたアノテーション。XMLに定義がない場合は空。
+     */
+    private final Map<Class<?>, Optional<XmlClassAnnotations>> xmlAnnotationCache = new ConcurrentHashMap<>();
+    
+    /**
+     * XMLとJavaソースの定義をマージした、全てのアノテーションのキャッシュ。
+     * ・key = クラス、メソッド、フィールド
+     * ・value = 全てのアノテーション
+     */
+    private final Map<AnnotatedElement, Annotation[]> mergedAnnotationCache = new ConcurrentHashMap<>();
+    
     /**
      * XMLで定義した情報を指定するコンストラクタ。
      * @param xmlInfo XMLで定義したアノテーションの情報。{@link XmlIO}で読み込んで取得した値。指定しない場合はnull。
@@ -52,26 +74,9 @@ public class AnnotationReader {
      */
     public Annotation[] getAnnotations(final Class<?> clazz) throws AnnotationReadException {
         
-        if(xmlInfo != null && xmlInfo.containsClassInfo(clazz.getName())) {
-            final ClassInfo classInfo = xmlInfo.getClassInfo(clazz.getName());
-            final Map<String, Annotation> map = new HashMap<>();
-            
-            if(classInfo.isOverride()) {
-                for(Annotation ann : clazz.getAnnotations()) {
-                    map.put(ann.annotationType().getName(), ann);
-                }
-            }
-            
-            for(AnnotationInfo annInfo: classInfo.getAnnotationInfos()) {
-                try {
-                    map.put(annInfo.getClassName(),
-                            annotationBuilder.buildAnnotation(Class.forName(annInfo.getClassName()), annInfo));
-                } catch (ClassNotFoundException e) {
-                    throw new AnnotationReadException(String.format("not found class '%s'", annInfo.getClassName()), e);
-                }
-            }
-            
-            return map.values().toArray(new Annotation[map.size()]);
+        final Optional<XmlClassAnnotations> xmlAnnos = getXmlClassAnnotations(clazz);
+        if(xmlAnnos.isPresent()) {
+            return getMergedAnnotations(clazz, xmlAnnos.get().classAnnotations);
         }
         
         return clazz.getAnnotations();
@@ -86,22 +91,13 @@ public class AnnotationReader {
      * @return the target class's annotation for the specified annotation type if present on this element, else null
      * @throws AnnotationReadException 
      */
-    @SuppressWarnings("unchecked")
     public <A extends Annotation> A getAnnotation(final Class<?> clazz, final Class<A> annClass) throws AnnotationReadException {
-        if(xmlInfo != null && xmlInfo.containsClassInfo(clazz.getName())) {
-            final ClassInfo classInfo = xmlInfo.getClassInfo(clazz.getName());
-            
-            if(classInfo.containsAnnotationInfo(annClass.getName())) {
-                AnnotationInfo annInfo = classInfo.getAnnotationInfo(annClass.getName());
-                try {
-                    return (A)annotationBuilder.buildAnnotation(Class.forName(annInfo.getClassName()), annInfo);
-                } catch (ClassNotFoundException e) {
-                    throw new AnnotationReadException(String.format("not found class '%s'", annInfo.getClassName()), e);
-                }
-            }
-        }
         
-        return clazz.getAnnotation(annClass);
+        final XmlAnnotations xmlAnnos = getXmlClassAnnotations(clazz)
+                .map(c -> c.classAnnotations)
+                .orElse(null);
+        
+        return getAnnotation(clazz, xmlAnnos, annClass);
     }
     
     /**
@@ -112,27 +108,13 @@ public class AnnotationReader {
      * @return
      * @throws AnnotationReadException
      */
-    @SuppressWarnings("unchecked")
     public <A extends Annotation> A getAnnotation(final Method method, final Class<A> annClas) throws AnnotationReadException {
         
-        final Class<?> clazz = method.getDeclaringClass();
+        final XmlAnnotations xmlAnnos = getXmlClassAnnotations(method.getDeclaringClass())
+                .map(c -> c.methodAnnotations.get(method.getName()))
+                .orElse(null);
         
-        if(xmlInfo != null && xmlInfo.containsClassInfo(clazz.getName())) {
-            final ClassInfo classInfo = xmlInfo.getClassInfo(clazz.getName());
-            
-            if(classInfo.containsMethodInfo(method.getName())) {
-                MethodInfo methodInfo = classInfo.getMethodInfo(method.getName());
-                if(methodInfo != null && methodInfo.containsAnnotationInfo(annClas.getName())) {
-                    AnnotationInfo annInfo = methodInfo.getAnnotationInfo(annClas.getName());
-                    try {
-                        return (A)annotationBuilder.buildAnnotation(Class.forName(annInfo.getClassName()), annInfo);
-                    } catch (ClassNotFoundException e) {
-                        throw new AnnotationReadException(String.format("not found class '%s'", annInfo.getClassName()), e);
-                    }
-                }
-            }
-        }
-        return method.getAnnotation(annClas);
+        return getAnnotation(method, xmlAnnos, annClas);
     }
     
     /**
@@ -155,33 +137,14 @@ public class AnnotationReader {
      */
     public Annotation[] getAnnotations(final Method method) throws AnnotationReadException {
         
-        final Class<?> clazz = method.getDeclaringClass();
+        final XmlAnnotations xmlAnnos = getXmlClassAnnotations(method.getDeclaringClass())
+                .map(c -> c.methodAnnotations.get(method.getName()))
+                .orElse(null);
         
-        if(xmlInfo != null && xmlInfo.containsClassInfo(clazz.getName())) {
-            final ClassInfo classInfo = xmlInfo.getClassInfo(clazz.getName());
-            
-            if(classInfo.containsMethodInfo(method.getName())) {
-                final MethodInfo methodInfo = classInfo.getMethodInfo(method.getName());
-                final Map<String, Annotation> map = new HashMap<>();
-                
-                if(methodInfo.isOverride()) {
-                    for(Annotation ann : method.getAnnotations()) {
-                        map.put(ann.annotationType().getName(), ann);
-                    }
-                }
-                
-                for(AnnotationInfo annInfo: methodInfo.getAnnotationInfos()){
-                    try {
-                        map.put(annInfo.getClassName(),
-                                annotationBuilder.buildAnnotation(Class.forName(annInfo.getClassName()), annInfo));
-                    } catch (ClassNotFoundException e) {
-                        throw new AnnotationReadException(String.format("not found class '%s'", annInfo.getClassName()), e);
-                    }
-                }
-                
-                return map.values().toArray(new Annotation[map.size()]);
-            }
+        if(xmlAnnos != null) {
+            return getMergedAnnotations(method, xmlAnnos);
         }
+        
         return method.getAnnotations();
     }
     
@@ -192,27 +155,13 @@ public class AnnotationReader {
      * @return
      * @throws AnnotationReadException
      */
-    @SuppressWarnings("unchecked")
     public <A extends Annotation> A getAnnotation(final Field field, final Class<A> annClass) throws AnnotationReadException {
         
-        final Class<?> clazz = field.getDeclaringClass();
+        final XmlAnnotations xmlAnnos = getXmlClassAnnotations(field.getDeclaringClass())
+                .map(c -> c.fieldAnnotations.get(field.getName()))
+                .orElse(null);
         
-        if(xmlInfo != null && xmlInfo.containsClassInfo(clazz.getName())) {
-            final ClassInfo classInfo = xmlInfo.getClassInfo(clazz.getName());
-            
-            if(classInfo.containsFieldInfo(field.getName())) {
-                FieldInfo fieldInfo = classInfo.getFieldInfo(field.getName());
-                if(fieldInfo != null && fieldInfo.containsAnnotationInfo(annClass.getName())){
-                    AnnotationInfo annInfo = fieldInfo.getAnnotationInfo(annClass.getName());
-                    try {
-                        return (A)annotationBuilder.buildAnnotation(Class.forName(annInfo.getClassName()), annInfo);
-                    } catch (ClassNotFoundException e) {
-                        throw new AnnotationReadException(String.format("not found class '%s'", annInfo.getClassName()), e);
-                    }
-                }
-            }
-        }
-        return field.getAnnotation(annClass);
+        return getAnnotation(field, xmlAnnos, annClass);
     }
     
     /**
@@ -234,33 +183,133 @@ public class AnnotationReader {
      */
     public Annotation[] getAnnotations(final Field field) throws AnnotationReadException {
         
-        final Class<?> clazz = field.getDeclaringClass();
+        final XmlAnnotations xmlAnnos = getXmlClassAnnotations(field.getDeclaringClass())
+                .map(c -> c.fieldAnnotations.get(field.getName()))
+                .orElse(null);
+        
+        if(xmlAnnos != null) {
+            return getMergedAnnotations(field, xmlAnnos);
+        }
         
-        if(xmlInfo != null && xmlInfo.containsClassInfo(clazz.getName())) {
-            final ClassInfo classInfo = xmlInfo.getClassInfo(clazz.getName());
+        return field.getAnnotations();
+    }
+    
+    /**
+     * XMLで定義したアノテーションを優先して、指定したアノテーションを取得する。
+     * @param element 取得対象の要素
+     * @param xmlAnnos XMLで定義したアノテーション。定義がない場合はnull。
+     * @param annClass アノテーションのタイプ
+     * @return 見つからない場合は、nullを返す。
+     */
+    @SuppressWarnings("unchecked")
+    private <A extends Annotation> A getAnnotation(final AnnotatedElement element, final XmlAnnotations xmlAnnos,
+            final Class<A> annClass) {
+        
+        if(xmlAnnos != null) {
+            final Annotation anno = xmlAnnos.annotations.get(annClass.getName());
+            if(anno != null) {
+                return (A) anno;
+            }
+        }
+        
+        return element.getAnnotation(annClass);
+    }
+    
+    /**
+     * XMLとJavaソースの定義をマージした、全てのアノテーションを取得する。
+     * @param element 取得対象の要素
+     * @param xmlAnnos XMLで定義したアノテーション
+     * @return 全てのアノテーション
+     */
+    private Annotation[] getMergedAnnotations(final AnnotatedElement element, final XmlAnnotations xmlAnnos) {
+        
+        final Annotation[] annos = mergedAnnotationCache.computeIfAbsent(element, key -> {
+            final Map<String, Annotation> map = new LinkedHashMap<>();
             
-            if(classInfo.containsFieldInfo(field.getName())) {
-                final FieldInfo fieldInfo = classInfo.getFieldInfo(field.getName());
-                final Map<String, Annotation> map = new HashMap<>();
-                
-                if(fieldInfo.isOverride()) {
-                    for(Annotation ann : field.getAnnotations()) {
-                        map.put(ann.annotationType().getName(), ann);
-                    }
-                }
-                
-                for(AnnotationInfo annInfo: fieldInfo.getAnnotationInfos()){
-                    try {
-                        map.put(annInfo.getClassName(), 
-                                annotationBuilder.buildAnnotation(Class.forName(annInfo.getClassName()), annInfo));
-                    } catch (ClassNotFoundException e) {
-                        throw new AnnotationReadException(String.format("not found class '%s'", annInfo.getClassName()), e);
-                    }
+            if(xmlAnnos.override) {
+                for(Annotation ann : key.getAnnotations()) {
+                    map.put(ann.annotationType().getName(), ann);
                 }
-                return map.values().toArray(new Annotation[map.size()]);
             }
+            
+            map.putAll(xmlAnnos.annotations);
+            
+            return map.values().toArray(new Annotation[map.size()]);
+        });
+        
+        // 呼び出し元で変更されてもよいように複製する
+        return annos.clone();
+    }
+    
+    /**
+     * XMLで定義したクラスのアノテーションを取得する。
+     * @param clazz 取得対象のクラス
+     * @return XMLに定義がない場合は空を返す。
+     * @throws AnnotationReadException アノテーションの組み立てに失敗した場合
+     */
+    private Optional<XmlClassAnnotations> getXmlClassAnnotations(final Class<?> clazz) throws AnnotationReadException {
+        
+        if(xmlInfo == null) {
+            return Optional.empty();
         }
-        return field.getAnnotations();
+        
+        return xmlAnnotationCache.computeIfAbsent(clazz, key -> {
+            final ClassInfo classInfo = xmlInfo.getClassInfo(key.getName());
+            if(classInfo == null) {
+                return Optional.empty();
+            }
+            
+            return Optional.of(createXmlClassAnnotations(classInfo));
+        });
+        
+    }
+    
+    /**
+     * XMLのクラス情報を元に、アノテーションを組み立てる。
+     * @param classInfo XMLのクラス情報
+     * @return 組み立てたアノテーション
+     * @throws AnnotationReadException アノテーションの組み立てに失敗した場合
+     */
+    private XmlClassAnnotations createXmlClassAnnotations(final ClassInfo classInfo) throws AnnotationReadException {
+        
+        final XmlAnnotations classAnnotations = createXmlAnnotations(classInfo.isOverride(), classInfo.getAnnotationInfos());
+        
+        final Map<String, XmlAnnotations> methodAnnotations = new HashMap<>();
+        for(MethodInfo methodInfo : classInfo.getMethodInfos()) {
+            methodAnnotations.put(methodInfo.getMethodName(),
+                    createXmlAnnotations(methodInfo.isOverride(), methodInfo.getAnnotationInfos()));
+        }
+        
+        final Map<String, XmlAnnotations> fieldAnnotations = new HashMap<>();
+        for(FieldInfo fieldInfo : classInfo.getFieldInfos()) {
+            fieldAnnotations.put(fieldInfo.getFieldName(),
+                    createXmlAnnotations(fieldInfo.isOverride(), fieldInfo.getAnnotationInfos()));
+        }
+        
+        return new XmlClassAnnotations(classAnnotations, methodAnnotations, fieldAnnotations);
+    }
+    
+    /**
+     * XMLのアノテーション情報を元に、アノテーションのインスタンスを組み立てる。
+     * @param override 既存の定義を上書きするかどうか
+     * @param annotationInfos XMLのアノテーション情報
+     * @return 組み立てたアノテーション
+     * @throws AnnotationReadException アノテーションの組み立てに失敗した場合
+     */
+    private XmlAnnotations createXmlAnnotations(final boolean override, final List<AnnotationInfo> annotationInfos)
+            throws AnnotationReadException {
+        
+        final Map<String, Annotation> annotations = new LinkedHashMap<>();
+        for(AnnotationInfo annInfo : annotationInfos) {
+            try {
+                annotations.put(annInfo.getClassName(),
+                        annotationBuilder.buildAnnotation(Class.forName(annInfo.getClassName()), annInfo));
+            } catch (ClassNotFoundException e) {
+                throw new AnnotationReadException(String.format("not found class '%s'", annInfo.getClassName()), e);
+            }
+        }
+        
+        return new XmlAnnotations(override, annotations);
     }
     
     public DynamicAnnotationBuilder getAnnotationBuilder() {
@@ -269,6 +318,66 @@ public class AnnotationReader {
     
     public void setAnnotationBuilder(DynamicAnnotationBuilder annotationBuilder) {
         this.annotationBuilder = annotationBuilder;
+        
+        // 組み立て済みのアノテーションを破棄する
+        xmlAnnotationCache.clear();
+        mergedAnnotationCache.clear();
+    }
+    
+    /**
+     * XMLで定義した、クラス、メソッド、フィールドの1つの要素に対するアノテーション。
+     *
+     * @since 2.3
+     */
+    private static class XmlAnnotations {
+        
+        /**
+         * 既存の定義を上書きするかどうか
+         */
+        private final boolean override;
+        
+        /**
+         * 組み立てたアノテーション。
+         * ・key = アノテーションのクラス名(FQCN)
+         */
+        private final Map<String, Annotation> annotations;
+        
+        private XmlAnnotations(final boolean override, final Map<String, Annotation> annotations) {
+            this.override = override;
+            this.annotations = Collections.unmodifiableMap(annotations);
+        }
+        
+    }
+    
+    /**
+     * XMLで定義した、1つのクラスに対するアノテーション。
+     * <p>メソッドとフィールドは、名前で参照できるようにしておく。</p>
+     *
+     * @since 2.3
+     */
+    private static class XmlClassAnnotations {
+        
+        private final XmlAnnotations classAnnotations;
+        
+        /**
+         * メソッドのアノテーション。
+         * ・key = メソッド名
+         */
+        private final Map<String, XmlAnnotations> methodAnnotations;
+        
+        /**
+         * フィールドのアノテーション。
+         * ・key = フィールド名
+         */
+        private final Map<String, XmlAnnotations> fieldAnnotations;
+        
+        private XmlClassAnnotations(final XmlAnnotations classAnnotations, final Map<String, XmlAnnotations> methodAnnotations,
+                final Map<String, XmlAnnotations> fieldAnnotations) {
+            this.classAnnotations = classAnnotations;
+            this.methodAnnotations = methodAnnotations;
+            this.fieldAnnotations = fieldAnnotations;
+        }
+        
     }
     
 }
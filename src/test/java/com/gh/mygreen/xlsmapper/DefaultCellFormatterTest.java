@@ -0,0 +1,153 @@
+package com.gh.mygreen.xlsmapper;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Locale;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gh.mygreen.xlsmapper.util.POIUtils;
+
+/**
+ * {@link DefaultCellFormatter}のテスタ
+ *
+ * @since 2.3
+ * @author T.TSUCHIE
+ *
+ */
+public class DefaultCellFormatterTest {
+
+    private DefaultCellFormatter formatter;
+
+    @Before
+    public void setUp() throws Exception {
+        this.formatter = new DefaultCellFormatter();
+    }
+
+    /**
+     * セッションの間だけ値をキャッシュすること
+     */
+    @Test
+    public void testOpenSession() throws Exception {
+
+        try(Workbook workbook = new XSSFWorkbook()) {
+            final Sheet sheet = workbook.createSheet("test");
+            final Cell cell = POIUtils.getCell(sheet, 0, 0);
+            cell.setCellValue("abc");
+
+            try(CellFormatterSession session = formatter.openSession(sheet, true)) {
+                assertThat(formatter.format(cell)).isEqualTo("abc");
+
+                cell.setCellValue("def");
+                assertThat(formatter.format(cell)).isEqualTo("abc");
+            }
+
+            assertThat(formatter.format(cell)).isEqualTo("def");
+        }
+
+    }
+
+    /**
+     * キャッシュしない場合
+     */
+    @Test
+    public void testOpenSession_notCached() throws Exception {
+
+        try(Workbook workbook = new XSSFWorkbook()) {
+            final Sheet sheet = workbook.createSheet("test");
+            final Cell cell = POIUtils.getCell(sheet, 0, 0);
+            cell.setCellValue("abc");
+
+            try(CellFormatterSession session = formatter.openSession(sheet, false)) {
+                assertThat(formatter.format(cell)).isEqualTo("abc");
+
+                cell.setCellValue("def");
+                assertThat(formatter.format(cell)).isEqualTo("def");
+            }
+        }
+
+    }
+
+    /**
+     * 異なるワークブックの同じ名前のシートは、キャッシュを共有しないこと
+     */
+    @Test
+    public void testOpenSession_sameSheetName() throws Exception {
+
+        try(Workbook workbook1 = new XSSFWorkbook(); Workbook workbook2 = new XSSFWorkbook()) {
+            final Sheet sheet1 = workbook1.createSheet("test");
+            final Cell cell1 = POIUtils.getCell(sheet1, 0, 0);
+            cell1.setCellValue("abc");
+
+            final Sheet sheet2 = workbook2.createSheet("test");
+            final Cell cell2 = POIUtils.getCell(sheet2, 0, 0);
+            cell2.setCellValue("def");
+
+            try(CellFormatterSession session1 = formatter.openSession(sheet1, true)) {
+                assertThat(formatter.format(cell1)).isEqualTo("abc");
+
+                try(CellFormatterSession session2 = formatter.openSession(sheet2, true)) {
+                    assertThat(formatter.format(cell2)).isEqualTo("def");
+                }
+
+                // 他のセッションを終了しても、キャッシュは破棄されない
+                cell1.setCellValue("ghi");
+                assertThat(formatter.format(cell1)).isEqualTo("abc");
+            }
+        }
+
+    }
+
+    /**
+     * 多数のセルと書式、ロケールごとにキャッシュすること
+     */
+    @Test
+    public void testOpenSession_manyCells() throws Exception {
+
+        try(Workbook workbook = new XSSFWorkbook()) {
+            final Sheet sheet = workbook.createSheet("test");
+
+            final CellStyle style = workbook.createCellStyle();
+            style.setDataFormat(workbook.createDataFormat().getFormat("#,##0.0"));
+
+            for(int row=0; row < 100; row++) {
+                for(int column=0; column < 10; column++) {
+                    final Cell cell = POIUtils.getCell(sheet, column, row);
+                    cell.setCellValue(row * 1000 + column);
+                    if(column % 2 == 0) {
+                        cell.setCellStyle(style);
+                    }
+                }
+            }
+
+            try(CellFormatterSession session = formatter.openSession(sheet, true)) {
+                for(int row=0; row < 100; row++) {
+                    for(int column=0; column < 10; column++) {
+                        final Cell cell = POIUtils.getCell(sheet, column, row);
+                        final int value = row * 1000 + column;
+                        final String expected = (column % 2 == 0) ? String.format(Locale.US, "%,d.0", value) : String.valueOf(value);
+                        assertThat(formatter.format(cell)).isEqualTo(expected);
+                        assertThat(formatter.format(cell, Locale.US)).isEqualTo(expected);
+                    }
+                }
+
+                // キャッシュした値を返す
+                final Cell cell = POIUtils.getCell(sheet, 0, 99);
+                cell.setCellValue(1);
+                assertThat(formatter.format(cell)).isEqualTo("99,000.0");
+                assertThat(formatter.format(cell, Locale.US)).isEqualTo("99,000.0");
+
+                formatter.clearCacheData();
+                assertThat(formatter.format(cell)).isEqualTo("1.0");
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,296 @@
+package com.gh.mygreen.xlsmapper;
+
+import static com.gh.mygreen.xlsmapper.TestUtils.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.gh.mygreen.xlsmapper.annotation.LabelledCellType;
+import com.gh.mygreen.xlsmapper.annotation.XlsColumn;
+import com.gh.mygreen.xlsmapper.annotation.XlsHorizontalRecords;
+import com.gh.mygreen.xlsmapper.annotation.XlsLabelledCell;
+import com.gh.mygreen.xlsmapper.annotation.XlsSheet;
+import com.gh.mygreen.xlsmapper.util.POIUtils;
+
+/**
+ * {@link WorkbookTemplateCache}のテスタ
+ *
+ * @since 2.3
+ * @author T.TSUCHIE
+ *
+ */
+public class WorkbookTemplateCacheTest {
+
+    /**
+     * テスト結果ファイルの出力ディレクトリ
+     */
+    private static File OUT_DIR;
+
+    private static final File TEMPLATE_FILE = new File("src/test/data/sample_template.xlsx");
+
+    @BeforeClass
+    public static void setUpBeforeClass() throws Exception {
+        OUT_DIR = createOutDir();
+    }
+
+    /**
+     * 同じ内容のテンプレートは共有し、ワークブックは共有しないこと - xlsx形式
+     */
+    @Test
+    public void testCreateWorkbook_xlsx() throws Exception {
+
+        WorkbookTemplateCache cache = new WorkbookTemplateCache();
+
+        try(Workbook workbook1 = createWorkbook(cache, TEMPLATE_FILE);
+                Workbook workbook2 = createWorkbook(cache, TEMPLATE_FILE);
+                InputStream expectedIn = new FileInputStream(TEMPLATE_FILE);
+                Workbook expected = WorkbookFactory.create(expectedIn)) {
+
+            assertThat(cache.size()).isEqualTo(1);
+            assertThat(workbook1).isInstanceOf(XSSFWorkbook.class);
+            assertThat(workbook1.getNumberOfSheets()).isEqualTo(expected.getNumberOfSheets());
+
+            // 一方のワークブックの変更が、他方に影響しないこと
+            final Sheet sheet1 = workbook1.getSheet("List");
+            final Sheet sheet2 = workbook2.getSheet("List");
+            final String value = POIUtils.getCellContents(POIUtils.getCell(sheet2, 0, 0), new DefaultCellFormatter());
+            POIUtils.getCell(sheet1, 0, 0).setCellValue("changed");
+
+            assertThat(POIUtils.getCellContents(POIUtils.getCell(sheet2, 0, 0), new DefaultCellFormatter())).isEqualTo(value);
+
+            // 書き込んだファイルが読み込めること
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            workbook1.write(out);
+            try(Workbook written = WorkbookFactory.create(new ByteArrayInputStream(out.toByteArray()))) {
+                assertThat(POIUtils.getCellContents(POIUtils.getCell(written.getSheet("List"), 0, 0), new DefaultCellFormatter()))
+                    .isEqualTo("changed");
+            }
+        }
+
+    }
+
+    /**
+     * 同じ内容のテンプレートは共有すること - xls形式
+     */
+    @Test
+    public void testCreateWorkbook_xls() throws Exception {
+
+        WorkbookTemplateCache cache = new WorkbookTemplateCache();
+        File templateFile = new File("src/test/data/utils.xls");
+
+        try(Workbook workbook1 = createWorkbook(cache, templateFile);
+                Workbook workbook2 = createWorkbook(cache, templateFile)) {
+
+            assertThat(cache.size()).isEqualTo(1);
+            assertThat(workbook1).isInstanceOf(HSSFWorkbook.class);
+            assertThat(workbook1).isNotSameAs(workbook2);
+        }
+
+    }
+
+    /**
+     * バイト数の上限を超えた場合、テンプレートを破棄すること
+     */
+    @Test
+    public void testMaxBytes() throws Exception {
+
+        WorkbookTemplateCache sizing = new WorkbookTemplateCache();
+        createWorkbook(sizing, TEMPLATE_FILE).close();
+        final long templateBytes = sizing.getByteSize();
+        assertThat(templateBytes).isGreaterThan(0L);
+
+        // テンプレート1つ分の上限
+        WorkbookTemplateCache cache = new WorkbookTemplateCache(templateBytes);
+
+        createWorkbook(cache, TEMPLATE_FILE).close();
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getByteSize()).isEqualTo(templateBytes);
+
+        createWorkbook(cache, new File("src/test/data/utils.xlsx")).close();
+        assertThat(cache.size()).isLessThanOrEqualTo(1);
+        assertThat(cache.getByteSize()).isLessThanOrEqualTo(templateBytes);
+
+        // 上限を単独で超えるテンプレートは保持しないが、ワークブックは作成できること
+        WorkbookTemplateCache small = new WorkbookTemplateCache(1L);
+        try(Workbook workbook = createWorkbook(small, TEMPLATE_FILE)) {
+            assertThat(workbook.getSheet("List")).isNotNull();
+        }
+        assertThat(small.size()).isEqualTo(0);
+
+        cache.clear();
+        assertThat(cache.size()).isEqualTo(0);
+        assertThat(cache.getByteSize()).isEqualTo(0L);
+
+    }
+
+    /**
+     * IDを指定して登録したテンプレートから、ワークブックを作成できること
+     */
+    @Test
+    public void testRegister() throws Exception {
+
+        WorkbookTemplateCache cache = new WorkbookTemplateCache(1L);
+        try(InputStream in = new FileInputStream(TEMPLATE_FILE)) {
+            cache.register("sample", in);
+        }
+
+        // 登録したテンプレートは、上限による破棄の対象外
+        assertThat(cache.isRegistered("sample")).isTrue();
+        assertThat(cache.size()).isEqualTo(1);
+
+        try(Workbook workbook1 = cache.createWorkbook("sample");
+                Workbook workbook2 = cache.createWorkbook("sample")) {
+            assertThat(workbook1).isInstanceOf(XSSFWorkbook.class);
+            assertThat(workbook1).isNotSameAs(workbook2);
+            assertThat(workbook1.getSheet("List")).isNotNull();
+        }
+
+        assertThatThrownBy(() -> cache.createWorkbook("unknown"))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(cache.unregister("sample")).isTrue();
+        assertThat(cache.isRegistered("sample")).isFalse();
+        assertThat(cache.size()).isEqualTo(0);
+
+    }
+
+    /**
+     * キャッシュしたテンプレートから、繰り返し書き込めること
+     */
+    @Test
+    public void testSave() throws Exception {
+
+        XlsMapper mapper = new XlsMapper();
+        mapper.getConfiguration().setWorkbookTemplateCache(new WorkbookTemplateCache());
+
+        for(int count=1; count <= 2; count++) {
+            // 2回目は、ストリーミング形式でレコードを追加して書き込む
+            mapper.getConfiguration().setStreamingSave(count == 2);
+            final int recordSize = (count == 2) ? 20 : 1;
+
+            SampleSheet sheet = new SampleSheet();
+            sheet.createDate = "2016/3/" + count;
+            sheet.users = new ArrayList<>();
+            for(int i=1; i <= recordSize; i++) {
+                SampleRecord record = new SampleRecord();
+                record.no = i;
+                record.className = "A";
+                record.name = "name" + i;
+                sheet.users.add(record);
+            }
+
+            File outFile = new File(OUT_DIR, "template_cache_out" + count + ".xlsx");
+            try(InputStream template = new FileInputStream(TEMPLATE_FILE);
+                    OutputStream out = new FileOutputStream(outFile)) {
+                mapper.save(template, out, sheet);
+            }
+
+            try(InputStream in = new FileInputStream(outFile)) {
+                SampleSheet loaded = mapper.load(in, SampleSheet.class);
+                assertThat(loaded.createDate).isEqualTo("2016/3/" + count);
+                assertThat(loaded.users).hasSize(recordSize);
+                assertThat(loaded.users.get(0).name).isEqualTo("name1");
+            }
+        }
+
+        assertThat(mapper.getConfiguration().getWorkbookTemplateCache().get().size()).isEqualTo(1);
+
+    }
+
+    /**
+     * 登録したテンプレートのIDを指定して、繰り返し書き込めること
+     */
+    @Test
+    public void testSave_templateId() throws Exception {
+
+        XlsMapper mapper = new XlsMapper();
+
+        SampleSheet sheet = new SampleSheet();
+        sheet.createDate = "2016/3/1";
+        sheet.users = new ArrayList<>();
+        SampleRecord record = new SampleRecord();
+        record.no = 1;
+        record.className = "A";
+        record.name = "name1";
+        sheet.users.add(record);
+
+        // キャッシュが設定されていない場合
+        assertThatThrownBy(() -> mapper.save("sample", new ByteArrayOutputStream(), sheet))
+            .isInstanceOf(IllegalStateException.class);
+
+        WorkbookTemplateCache cache = new WorkbookTemplateCache();
+        mapper.getConfiguration().setWorkbookTemplateCache(cache);
+
+        // 登録していない場合
+        assertThatThrownBy(() -> mapper.save("sample", new ByteArrayOutputStream(), sheet))
+            .isInstanceOf(IllegalStateException.class);
+
+        try(InputStream in = new FileInputStream(TEMPLATE_FILE)) {
+            cache.register("sample", in);
+        }
+
+        for(int count=1; count <= 2; count++) {
+            File outFile = new File(OUT_DIR, "template_cache_id_out" + count + ".xlsx");
+            try(OutputStream out = new FileOutputStream(outFile)) {
+                mapper.save("sample", out, sheet);
+            }
+
+            try(InputStream in = new FileInputStream(outFile)) {
+                SampleSheet loaded = mapper.load(in, SampleSheet.class);
+                assertThat(loaded.createDate).isEqualTo("2016/3/1");
+                assertThat(loaded.users).hasSize(1);
+                assertThat(loaded.users.get(0).name).isEqualTo("name1");
+            }
+        }
+
+        assertThat(cache.size()).isEqualTo(1);
+
+    }
+
+    private Workbook createWorkbook(final WorkbookTemplateCache cache, final File file) throws Exception {
+        try(InputStream in = new FileInputStream(file)) {
+            return cache.createWorkbook(in);
+        }
+    }
+
+    @XlsSheet(name="List")
+    private static class SampleSheet {
+
+        @XlsLabelledCell(label="Date", type=LabelledCellType.Right)
+        private String createDate;
+
+        @XlsHorizontalRecords(tableLabel="User List")
+        private List<SampleRecord> users;
+
+    }
+
+    private static class SampleRecord {
+
+        @XlsColumn(columnName="ID")
+        private int no;
+
+        @XlsColumn(columnName="Class", merged=true)
+        private String className;
+
+        @XlsColumn(columnName="Name")
+        private String name;
+
+    }
+
+}
@@ -15,8 +15,11 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.validation.constraints.Pattern;
 
@@ -27,8 +30,14 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 
 import com.gh.mygreen.xlsmapper.annotation.LabelledCellType;
+import com.gh.mygreen.xlsmapper.annotation.XlsColumn;
 import com.gh.mygreen.xlsmapper.annotation.XlsFieldProcessor;
+import com.gh.mygreen.xlsmapper.annotation.XlsHorizontalRecords;
 import com.gh.mygreen.xlsmapper.annotation.XlsLabelledCell;
+import com.gh.mygreen.xlsmapper.annotation.XlsListener;
+import com.gh.mygreen.xlsmapper.annotation.XlsPostLoad;
+import com.gh.mygreen.xlsmapper.annotation.XlsPostSave;
+import com.gh.mygreen.xlsmapper.annotation.XlsPreLoad;
 import com.gh.mygreen.xlsmapper.annotation.XlsSheet;
 import com.gh.mygreen.xlsmapper.annotation.XlsSheetName;
 import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessor;
@@ -465,6 +474,190 @@ public class XlsMapperTest {
         
     }
     
+    /**
+     * クラスの解析結果のキャッシュ
+     */
+    @Test
+    public void testMappingPlan_cache() throws Exception {
+        
+        Configuration config = mapper.getConfiguration();
+        
+        SheetMappingPlan plan = config.getMappingPlan(SampleSheet.class);
+        assertThat(plan.getBeanClass()).isEqualTo(SampleSheet.class);
+        assertThat(plan.getAccessorProxies()).hasSize(1);
+        assertThat(config.getMappingPlan(SampleSheet.class)).isSameAs(plan);
+        
+        // 設定の変更によりキャッシュがクリアされる
+        config.setAnnotationMapping(null);
+        assertThat(config.getMappingPlan(SampleSheet.class)).isNotSameAs(plan);
+        
+        // キャッシュを無効にした場合
+        config.setCacheMappingPlan(false);
+        plan = config.getMappingPlan(SampleSheet.class);
+        assertThat(config.getMappingPlan(SampleSheet.class)).isNotSameAs(plan);
+        
+    }
+    
+    /**
+     * リスナークラスのメソッドは、インスタンスの実際のクラスから取得する
+     */
+    @Test
+    public void testMappingPlan_listenerRuntimeClass() throws Exception {
+        
+        Configuration config = mapper.getConfiguration();
+        
+        SheetMappingPlan plan = config.getMappingPlan(ListenerSheet.class);
+        assertThat(plan.getListeners()).hasSize(1);
+        
+        SheetMappingPlan.ListenerMethods listener = plan.getListeners().get(0);
+        assertThat(listener.getListenerClass()).isEqualTo(SampleListener.class);
+        assertThat(listener.getPreLoadMethods()).hasSize(1);
+        assertThat(listener.getPostLoadMethods()).isEmpty();
+        
+        // 同じクラスの場合
+        assertThat(listener.resolve(new SampleListener())).isSameAs(listener);
+        
+        // サブクラスのインスタンスの場合
+        SheetMappingPlan.ListenerMethods resolved = listener.resolve(new ExtendedSampleListener());
+        assertThat(resolved.getListenerClass()).isEqualTo(ExtendedSampleListener.class);
+        assertThat(resolved.getPreLoadMethods()).hasSize(1);
+        assertThat(resolved.getPostLoadMethods()).hasSize(1)
+            .allMatch(m -> m.getName().equals("postLoad"));
+        assertThat(listener.resolve(new ExtendedSampleListener())).isSameAs(resolved);
+        
+    }
+    
+    /**
+     * レコード単位での読み込み
+     */
+    @Test
+    public void testStreamRecords() throws Exception {
+        
+        try(InputStream in = new FileInputStream("src/test/data/sample.xlsx");
+                Stream<StreamUserRecord> stream = mapper.streamRecords(in, StreamUserSheet.class, "users")) {
+            
+            List<StreamUserRecord> records = stream.collect(Collectors.toList());
+            assertThat(records).extracting(r -> r.name).containsExactly("Ichiro", "Hanako", "Taro", "Jiro");
+            assertThat(records).extracting(r -> r.className).containsExactly("A", "A", "A", "B");
+            
+            // @XlsPostLoadはレコードごとに実行される
+            assertThat(records).allMatch(r -> r.postLoaded);
+        }
+        
+    }
+    
+    /**
+     * レコード単位での読み込み - Streamを閉じなくても、最後まで読み込んだ場合は索引を破棄する
+     */
+    @Test
+    public void testStreamRecords_consumedWithoutClose() throws Exception {
+        
+        final List<StreamUserRecord> records = new ArrayList<>();
+        try(InputStream in = new FileInputStream("src/test/data/sample.xlsx")) {
+            mapper.<StreamUserRecord>streamRecords(in, StreamUserSheet.class, "users")
+                .forEach(records::add);
+        }
+        
+        assertThat(records).hasSize(4);
+        
+        // 読み込み中は索引を保持している
+        assertThat(records).allMatch(r -> r.anchorIndexOpened);
+        
+        final Sheet sheet = records.get(0).sheet;
+        assertThat(mapper.getConfiguration().getCellAnchorIndexRegistry().find(sheet)).isEmpty();
+        
+    }
+    
+    /**
+     * レコード単位での読み込み - 型変換エラーはレコードごとに保持される
+     */
+    @Test
+    public void testStreamRecordsDetail_typeBindError() throws Exception {
+        
+        mapper.getConfiguration().setContinueTypeBindFailure(true);
+        
+        try(InputStream in = new FileInputStream("src/test/data/sample.xlsx");
+                Stream<SheetBindingErrors<StreamErrorRecord>> stream = mapper.streamRecordsDetail(in, StreamUserSheet.class, "errorUsers")) {
+            
+            List<SheetBindingErrors<StreamErrorRecord>> results = stream.collect(Collectors.toList());
+            assertThat(results).hasSize(4);
+            for(SheetBindingErrors<StreamErrorRecord> errors : results) {
+                assertThat(errors.getSheetName()).isEqualTo("List");
+                assertThat(errors.getFieldErrorCount()).isEqualTo(1);
+                assertThat(errors.getFirstFieldError("name")).isPresent();
+                assertThat(errors.getTarget().no).isGreaterThan(0);
+            }
+        }
+        
+    }
+    
+    /**
+     * レコード単位での読み込み - 表のフィールドではない場合
+     */
+    @Test
+    public void testStreamRecords_notRecordsField() throws Exception {
+        
+        try(InputStream in = new FileInputStream("src/test/data/sample.xlsx")) {
+            assertThatThrownBy(() -> mapper.streamRecords(in, StreamUserSheet.class, "createDate"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("createDate");
+        }
+        
+    }
+    
+    /**
+     * ストリーミング形式での書き込み
+     */
+    @Test
+    public void testSave_streaming() throws Exception {
+        
+        mapper.getConfiguration().setStreamingSave(true)
+            .setStreamingSaveWindowSize(10);
+        
+        StreamSaveSheet sheet = new StreamSaveSheet();
+        sheet.createDate = "2016/3/8";
+        sheet.users = new ArrayList<>();
+        for(int i=1; i <= 500; i++) {
+            StreamUserRecord record = new StreamUserRecord();
+            record.no = i;
+            record.className = "A";
+            record.name = "name" + i;
+            sheet.users.add(record);
+        }
+        
+        File outFile = new File(OUT_DIR, "stream_save_out.xlsx");
+        try(InputStream template = new FileInputStream("src/test/data/sample_template.xlsx");
+                OutputStream out = new FileOutputStream(outFile)) {
+            mapper.save(template, out, sheet);
+        }
+        
+        // レコードごとに@XlsPostSaveが実行される
+        assertThat(sheet.users).allMatch(r -> r.postSaved);
+        
+        // 書き込んだファイルの読み込み
+        mapper.getConfiguration().setStreamingSave(false);
+        try(InputStream in = new FileInputStream(outFile)) {
+            StreamSaveSheet loaded = mapper.load(in, StreamSaveSheet.class);
+            assertThat(loaded.createDate).isEqualTo("2016/3/8");
+            assertThat(loaded.users).hasSize(500);
+            assertThat(loaded.users.get(0).name).isEqualTo("name1");
+            assertThat(loaded.users.get(499).no).isEqualTo(500);
+        }
+        
+    }
+    
+    /**
+     * ストリーミング形式での書き込み - 保持する行数に不正な値を指定
+     */
+    @Test
+    public void testSave_streamingInvalidWindowSize() throws Exception {
+        
+        assertThatThrownBy(() -> mapper.getConfiguration().setStreamingSaveWindowSize(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("streamingSaveWindowSize");
+        
+    }
+    
     /**
      * アノテーション{@literal @XlsSheet}の付与がない
      *
@@ -484,6 +677,99 @@ public class XlsMapperTest {
         
     }
     
+    @XlsSheet(name="テスト")
+    @XlsListener(SampleListener.class)
+    private static class ListenerSheet {
+        
+        @XlsSheetName
+        private String sheetName;
+        
+    }
+    
+    public static class SampleListener {
+        
+        @XlsPreLoad
+        public void preLoad(final ListenerSheet sheet) {
+        }
+        
+    }
+    
+    public static class ExtendedSampleListener extends SampleListener {
+        
+        @XlsPostLoad
+        public void postLoad(final ListenerSheet sheet) {
+        }
+        
+    }
+    
+    @XlsSheet(name="List")
+    private static class StreamUserSheet {
+        
+        @XlsLabelledCell(label="Date", type=LabelledCellType.Right)
+        private String createDate;
+        
+        @XlsHorizontalRecords(tableLabel="User List")
+        private List<StreamUserRecord> users;
+        
+        @XlsHorizontalRecords(tableLabel="User List")
+        private List<StreamErrorRecord> errorUsers;
+        
+    }
+    
+    @XlsSheet(name="List")
+    private static class StreamSaveSheet {
+        
+        @XlsLabelledCell(label="Date", type=LabelledCellType.Right)
+        private String createDate;
+        
+        @XlsHorizontalRecords(tableLabel="User List")
+        private List<StreamUserRecord> users;
+        
+    }
+    
+    private static class StreamUserRecord {
+        
+        @XlsColumn(columnName="ID")
+        private int no;
+        
+        @XlsColumn(columnName="Class", merged=true)
+        private String className;
+        
+        @XlsColumn(columnName="Name")
+        private String name;
+        
+        private boolean postLoaded;
+        
+        private boolean postSaved;
+        
+        private Sheet sheet;
+        
+        private boolean anchorIndexOpened;
+        
+        @XlsPostLoad
+        public void postLoad(final Sheet sheet, final Configuration config) {
+            this.postLoaded = true;
+            this.sheet = sheet;
+            this.anchorIndexOpened = config.getCellAnchorIndexRegistry().find(sheet).isPresent();
+        }
+        
+        @XlsPostSave
+        public void postSave() {
+            this.postSaved = true;
+        }
+        
+    }
+    
+    private static class StreamErrorRecord {
+        
+        @XlsColumn(columnName="ID")
+        private int no;
+        
+        @XlsColumn(columnName="Name")
+        private Integer name;
+        
+    }
+    
     /**
      * 独自のアノテーションのマッピング
      *
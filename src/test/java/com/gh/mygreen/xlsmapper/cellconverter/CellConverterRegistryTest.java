@@ -0,0 +1,102 @@
+package com.gh.mygreen.xlsmapper.cellconverter;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gh.mygreen.xlsmapper.Configuration;
+import com.gh.mygreen.xlsmapper.cellconverter.impl.StringCellConverterFactory;
+import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessor;
+import com.gh.mygreen.xlsmapper.fieldaccessor.FieldAccessorFactory;
+import com.gh.mygreen.xlsmapper.xml.AnnotationReader;
+
+/**
+ * {@link CellConverterRegistry}のテスト
+ *
+ * @since 2.3
+ * @author T.TSUCHIE
+ *
+ */
+public class CellConverterRegistryTest {
+    
+    private Configuration config;
+    
+    private CellConverterRegistry registry;
+    
+    private FieldAccessor accessor;
+    
+    private AtomicInteger count;
+    
+    @Before
+    public void setUp() throws Exception {
+        this.config = new Configuration();
+        this.registry = config.getConverterRegistry();
+        this.accessor = new FieldAccessorFactory(new AnnotationReader(null))
+                .create(SampleBean.class.getDeclaredField("name"));
+        this.count = new AtomicInteger();
+    }
+    
+    private CellConverter<?> createConverter() {
+        count.incrementAndGet();
+        return new StringCellConverterFactory().create(accessor, config);
+    }
+    
+    /**
+     * 同じフィールドの場合は、キャッシュしたインスタンスを返すこと
+     */
+    @Test
+    public void testGetCellConverter_cache() {
+        
+        CellConverter<?> converter1 = registry.getCellConverter(accessor, String.class, config, this::createConverter);
+        CellConverter<?> converter2 = registry.getCellConverter(accessor, String.class, config, this::createConverter);
+        
+        assertThat(converter1).isSameAs(converter2);
+        assertThat(count.get()).isEqualTo(1);
+        
+        // 設定情報が異なる場合
+        registry.getCellConverter(accessor, String.class, new Configuration(), this::createConverter);
+        assertThat(count.get()).isEqualTo(2);
+        
+    }
+    
+    /**
+     * Factoryを登録し直したときは、キャッシュがクリアされること
+     */
+    @Test
+    public void testGetCellConverter_register() {
+        
+        CellConverter<?> converter1 = registry.getCellConverter(accessor, String.class, config, this::createConverter);
+        
+        registry.registerConverter(String.class, new StringCellConverterFactory());
+        
+        CellConverter<?> converter2 = registry.getCellConverter(accessor, String.class, config, this::createConverter);
+        
+        assertThat(converter1).isNotSameAs(converter2);
+        assertThat(count.get()).isEqualTo(2);
+        
+    }
+    
+    /**
+     * キャッシュを無効にしているときは、毎回作成すること
+     */
+    @Test
+    public void testGetCellConverter_noCache() {
+        
+        config.setCacheMappingPlan(false);
+        
+        registry.getCellConverter(accessor, String.class, config, this::createConverter);
+        registry.getCellConverter(accessor, String.class, config, this::createConverter);
+        
+        assertThat(count.get()).isEqualTo(2);
+        
+    }
+    
+    private static class SampleBean {
+        
+        private String name;
+        
+    }
+}
@@ -0,0 +1,133 @@
+package com.gh.mygreen.xlsmapper.cellconverter;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.gh.mygreen.xlsmapper.util.POIUtils;
+
+/**
+ * {@link CellStyleProxy}のテスト
+ *
+ * @since 2.3
+ * @author T.TSUCHIE
+ *
+ */
+public class CellStyleProxyTest {
+    
+    private Workbook workbook;
+    
+    private Sheet sheet;
+    
+    @Before
+    public void setupBefore() throws Exception {
+        this.workbook = new XSSFWorkbook();
+        this.sheet = workbook.createSheet("test");
+    }
+    
+    /**
+     * 同じ変更を行う場合は、スタイルを共有すること
+     */
+    @Test
+    public void testUpdateStyle_shared() {
+        
+        final int initStyleNum = workbook.getNumCellStyles();
+        final CellStyleCache styleCache = new CellStyleCache(workbook);
+        
+        for(int i=0; i < 100; i++) {
+            Cell cell = POIUtils.getCell(sheet, 0, i);
+            CellStyleProxy cellStyle = new CellStyleProxy(cell, styleCache);
+            cellStyle.setWrapText();
+            cellStyle.setHorizontalAlignment(HorizontalAlignment.RIGHT);
+        }
+        
+        // 折り返しの変更、横位置の変更の2つのみ作成される
+        assertThat(workbook.getNumCellStyles()).isEqualTo(initStyleNum + 2);
+        
+        CellStyle style = POIUtils.getCell(sheet, 0, 0).getCellStyle();
+        assertThat(style.getWrapText()).isTrue();
+        assertThat(style.getAlignment()).isEqualTo(HorizontalAlignment.RIGHT);
+        
+        assertThat(POIUtils.getCell(sheet, 0, 99).getCellStyle().getIndex()).isEqualTo(style.getIndex());
+        
+    }
+    
+    /**
+     * 元のスタイルが異なる場合は、別のスタイルを作成すること
+     */
+    @Test
+    public void testUpdateStyle_differentSource() {
+        
+        CellStyle indentStyle = workbook.createCellStyle();
+        indentStyle.setIndention((short)2);
+        
+        Cell cell1 = POIUtils.getCell(sheet, 0, 0);
+        Cell cell2 = POIUtils.getCell(sheet, 0, 1);
+        cell2.setCellStyle(indentStyle);
+        
+        final CellStyleCache styleCache = new CellStyleCache(workbook);
+        new CellStyleProxy(cell1, styleCache).setShrinkToFit();
+        new CellStyleProxy(cell2, styleCache).setShrinkToFit();
+        
+        assertThat(cell1.getCellStyle().getIndex()).isNotEqualTo(cell2.getCellStyle().getIndex());
+        assertThat(cell1.getCellStyle().getShrinkToFit()).isTrue();
+        assertThat(cell2.getCellStyle().getShrinkToFit()).isTrue();
+        assertThat(cell2.getCellStyle().getIndention()).isEqualTo((short)2);
+        
+        // 元のスタイルは変更されないこと
+        assertThat(indentStyle.getShrinkToFit()).isFalse();
+        
+    }
+    
+    /**
+     * キャッシュを指定しない場合は、セルごとにスタイルを作成すること
+     */
+    @Test
+    public void testUpdateStyle_noCache() {
+        
+        final int initStyleNum = workbook.getNumCellStyles();
+        
+        for(int i=0; i < 10; i++) {
+            Cell cell = POIUtils.getCell(sheet, 0, i);
+            CellStyleProxy cellStyle = new CellStyleProxy(cell);
+            cellStyle.setWrapText();
+            cellStyle.setHorizontalAlignment(HorizontalAlignment.RIGHT);
+        }
+        
+        // 1つのセルに対して1つのみ作成される
+        assertThat(workbook.getNumCellStyles()).isEqualTo(initStyleNum + 10);
+        
+        // スタイルを変更しても、他のセルには反映されないこと
+        POIUtils.getCell(sheet, 0, 0).getCellStyle().setIndention((short)3);
+        assertThat(POIUtils.getCell(sheet, 0, 1).getCellStyle().getIndention()).isEqualTo((short)0);
+        
+    }
+    
+    /**
+     * キャッシュが異なる場合は、スタイルを共有しないこと
+     */
+    @Test
+    public void testUpdateStyle_otherCache() {
+        
+        Cell cell1 = POIUtils.getCell(sheet, 0, 0);
+        Cell cell2 = POIUtils.getCell(sheet, 0, 1);
+        
+        new CellStyleProxy(cell1, new CellStyleCache(workbook)).setWrapText();
+        new CellStyleProxy(cell2, new CellStyleCache(workbook)).setWrapText();
+        
+        assertThat(cell1.getCellStyle().getIndex()).isNotEqualTo(cell2.getCellStyle().getIndex());
+        
+        // 異なるワークブックのキャッシュは指定できないこと
+        assertThatThrownBy(() -> new CellStyleProxy(cell1, new CellStyleCache(new XSSFWorkbook())))
+            .isInstanceOf(IllegalArgumentException.class);
+        
+    }
+    
+}
@@ -118,6 +118,30 @@ public class NumberCellConverterTest {
 
     }
 
+    /**
+     * 数値型の読み込みテスト - 数式のセルを上書きしない場合
+     * @since 2.3
+     */
+    @Test
+    public void test_load_number_keepFormula() throws Exception {
+
+        XlsMapper mapper = new XlsMapper();
+        mapper.getConfiguration().setContinueTypeBindFailure(true)
+            .setKeepFormulaOnLoad(true);
+
+        try(InputStream in = new FileInputStream("src/test/data/convert.xlsx")) {
+            SheetBindingErrors<NumberSheet> errors = mapper.loadDetail(in, NumberSheet.class);
+            NumberSheet sheet = errors.getTarget();
+
+            assertThat(sheet.formulaRecords, hasSize(3));
+            for(FormulaRecord record : sheet.formulaRecords) {
+                assertRecord(record, errors);
+            }
+
+        }
+
+    }
+
     /**
      * プリミティブ型の値のチェック
      * @param record
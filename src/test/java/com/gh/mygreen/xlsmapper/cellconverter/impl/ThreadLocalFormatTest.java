@@ -0,0 +1,86 @@
+package com.gh.mygreen.xlsmapper.cellconverter.impl;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.text.DateFormat;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+/**
+ * {@link ThreadLocalFormat}と{@link FormatterCache}のテスト
+ *
+ * @since 2.3
+ * @author T.TSUCHIE
+ *
+ */
+public class ThreadLocalFormatTest {
+    
+    /**
+     * 同じキーの場合は、キャッシュしたフォーマッタを返すこと
+     */
+    @Test
+    public void testFormatterCache() {
+        
+        SimpleDateFormat formatter1 = FormatterCache.get(SimpleDateFormat.class,
+                () -> new SimpleDateFormat("yyyy/MM/dd", Locale.JAPANESE), "yyyy/MM/dd", Locale.JAPANESE);
+        SimpleDateFormat formatter2 = FormatterCache.get(SimpleDateFormat.class,
+                () -> new SimpleDateFormat("yyyy/MM/dd", Locale.JAPANESE), "yyyy/MM/dd", Locale.JAPANESE);
+        SimpleDateFormat formatter3 = FormatterCache.get(SimpleDateFormat.class,
+                () -> new SimpleDateFormat("yyyy-MM-dd", Locale.JAPANESE), "yyyy-MM-dd", Locale.JAPANESE);
+        
+        assertThat(formatter1).isSameAs(formatter2);
+        assertThat(formatter1).isNotSameAs(formatter3);
+        
+    }
+    
+    /**
+     * 複数のスレッドから同時に使用しても、正しく変換できること
+     */
+    @Test
+    public void testGet_multiThread() throws Exception {
+        
+        final ThreadLocalFormat<DateFormat> format = new ThreadLocalFormat<>(new SimpleDateFormat("yyyy/MM/dd HH:mm:ss"));
+        
+        // 同じスレッドでは、同じインスタンスを返すこと
+        assertThat(format.get()).isSameAs(format.get());
+        
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Boolean>> results = new ArrayList<>();
+            for(int i=0; i < 8; i++) {
+                final int day = i + 1;
+                results.add(executor.submit(() -> {
+                    Calendar cal = Calendar.getInstance();
+                    cal.clear();
+                    cal.set(2020, Calendar.JANUARY, day, 10, 20, 30);
+                    final Date date = cal.getTime();
+                    
+                    for(int j=0; j < 500; j++) {
+                        String text = format.get().format(date);
+                        if(!date.equals(format.get().parse(text))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            
+            for(Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+            
+        } finally {
+            executor.shutdown();
+        }
+        
+    }
+}
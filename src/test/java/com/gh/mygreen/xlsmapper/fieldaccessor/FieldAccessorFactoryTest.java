@@ -213,6 +213,75 @@ public class FieldAccessorFactoryTest {
             
         }
         
+        /**
+         * getter/setterメソッドを関数経由で呼び出す場合
+         * @since 2.3
+         */
+        @Test
+        public void testGetAndSetValue_methodFunction() throws Exception {
+            
+            Field field = BasicClass.class.getDeclaredField("primitiveBool");
+            
+            FieldAccessor accessor = accessorFactory.create(field);
+            
+            assertThat(accessor.getterFunction).isNotEmpty();
+            assertThat(accessor.setterFunction).isNotEmpty();
+            
+            BasicClass bean = new BasicClass();
+            accessor.setValue(bean, true);
+            assertThat(bean.isPrimitiveBool()).isTrue();
+            assertThat(accessor.getValue(bean)).isEqualTo(true);
+            
+            // プリミティブ型にnullは設定できない
+            assertThatThrownBy(() -> accessor.setValue(bean, null))
+                .isInstanceOf(FieldAccessException.class);
+            
+            // 型が異なる値は設定できない
+            assertThatThrownBy(() -> accessor.setValue(bean, "abc"))
+                .isInstanceOf(FieldAccessException.class);
+            
+        }
+        
+        /**
+         * 公開されていないクラスのgetter/setterメソッドは、リフレクションで呼び出す場合
+         * @since 2.3
+         */
+        @Test
+        public void testGetAndSetValue_notPublicClass() throws Exception {
+            
+            Field field = NotPublicClass.class.getDeclaredField("value");
+            
+            FieldAccessor accessor = accessorFactory.create(field);
+            
+            assertThat(accessor.getterFunction).isEmpty();
+            assertThat(accessor.setterFunction).isEmpty();
+            
+            NotPublicClass bean = new NotPublicClass();
+            accessor.setValue(bean, "abc");
+            assertThat(bean.getValue()).isEqualTo("abc");
+            assertThat(accessor.getValue(bean)).isEqualTo("abc");
+            
+        }
+        
+        /**
+         * 公開されていないクラス
+         *
+         */
+        private static class NotPublicClass {
+            
+            @XlsCell(address="A1")
+            private String value;
+            
+            public String getValue() {
+                return value;
+            }
+            
+            public void setValue(String value) {
+                this.value = value;
+            }
+            
+        }
+        
         /**
          * 基本情報をテストするためのクラス
          *
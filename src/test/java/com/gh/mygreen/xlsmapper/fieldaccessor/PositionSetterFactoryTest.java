@@ -298,6 +298,35 @@ public class PositionSetterFactoryTest {
             
         }
         
+        /**
+         * 公開されているクラスのメソッドの場合
+         * @since 2.3
+         */
+        @Test
+        public void testCreateWithPublicMethod() throws Exception {
+            
+            // リフレクションではなく、関数経由で呼び出す
+            assertThat(MethodAccessorFactory.createSetter(PublicRecord.class.getMethod("setTestPosition", CellPosition.class)))
+                .isNotEmpty();
+            
+            Optional<PositionSetter> positionSetter = setterFactory.create(PublicRecord.class, "test");
+            assertThat(positionSetter).isNotEmpty();
+            
+            PositionSetter accessor = positionSetter.get();
+            CellPosition position = CellPosition.of("B24");
+            
+            PublicRecord record = new PublicRecord();
+            accessor.set(record, position);
+            assertThat(record.address).isEqualTo(position);
+            
+            // 例外はラップして投げられる
+            assertThatThrownBy(() -> accessor.set(new PublicRecord(), CellPosition.of("A1")))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("fail access position field.")
+                .hasRootCauseInstanceOf(IllegalArgumentException.class);
+            
+        }
+        
         private static class CellAddressRecord {
             
             private CellPosition address;
@@ -308,6 +337,19 @@ public class PositionSetterFactoryTest {
             
         }
         
+        public static class PublicRecord {
+            
+            private CellPosition address;
+            
+            public void setTestPosition(CellPosition address) {
+                if(address.getRow() == 0) {
+                    throw new IllegalArgumentException("row should be greater than 0.");
+                }
+                this.address = address;
+            }
+            
+        }
+        
         private static class PointRecord {
             
             private Point address;
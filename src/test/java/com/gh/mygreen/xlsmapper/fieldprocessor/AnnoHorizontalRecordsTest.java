@@ -25,9 +25,13 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.ss.util.CellRangeAddress;
 import org.apache.poi.ss.util.CellReference;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -2876,6 +2880,89 @@ public class AnnoHorizontalRecordsTest {
 
     }
 
+    /**
+     * 書き込みのテスト - 入力規則と名前の定義の範囲の補正
+     * <p>同じシートにレコードの挿入・削除を行う表が複数ある場合でも、
+     *  表ごとに補正した場合と同じ範囲になること。</p>
+     * @since 2.3
+     */
+    @Test
+    public void test_save_hr_option_dataValidation_correctRange() throws Exception {
+
+        // テストデータの作成
+        final ValidationRuleSheet outSheet = new ValidationRuleSheet();
+
+        // 入力規則（レコードの挿入）
+        outSheet.addInsert(new DataValidationRecord().selectRule(true).refRule("ユーザ管理").addCategory("A", true).addCategory("B", false));
+        outSheet.addInsert(new DataValidationRecord().selectRule(false).refRule("ファイルアップロード").addCategory("A", null).addCategory("B", true));
+        outSheet.addInsert(new DataValidationRecord().selectRule(true).refRule("データ管理").addCategory("A", false).addCategory("B", null));
+        outSheet.addInsert(new DataValidationRecord());
+
+        // 名前の定義
+        outSheet.add(new NameDefRecord().functionName("ユーザ管理"));
+        outSheet.add(new NameDefRecord().functionName("ファイルアップロード"));
+        outSheet.add(new NameDefRecord().functionName("データ管理"));
+        outSheet.add(new NameDefRecord().functionName("帳票出力"));
+        outSheet.add(new NameDefRecord().functionName("参照"));
+        outSheet.add(new NameDefRecord());
+
+        // 入力規則（レコードの削除）
+        outSheet.addDelete(new DataValidationRecord().selectRule(true).refRule("作成").addCategory("A", true).addCategory("B", true));
+
+        // 入力規則（レコードの削除）（データなし）
+        outSheet.nonDeleteValidationRecrods = new ArrayList<>();
+
+        // 入力規則（レコードのコピー）
+        outSheet.addCopy(new DataValidationRecord().selectRule(true).refRule("参照").addCategory("A", null).addCategory("B", null));
+        outSheet.addCopy(new DataValidationRecord().selectRule(false).refRule("更新").addCategory("A", true).addCategory("B", true));
+        outSheet.addCopy(new DataValidationRecord().selectRule(true).refRule("削除").addCategory("A", false).addCategory("B", false));
+        outSheet.addCopy(new DataValidationRecord());
+
+        // ファイルへの書き込み
+        XlsMapper mapper = new XlsMapper();
+        mapper.getConfiguration().setContinueTypeBindFailure(true)
+            .setCorrectCellDataValidationOnSave(true)
+            .setCorrectNameRangeOnSave(true);
+
+        File outFile = new File(OUT_DIR, outFilename);
+        try(InputStream template = new FileInputStream(templateFile);
+                OutputStream out = new FileOutputStream(outFile)) {
+
+            mapper.save(template, out, outSheet);
+        }
+
+        // 書き込んだファイルの入力規則と名前の定義の範囲を検証する。
+        try(InputStream in = new FileInputStream(outFile);
+                Workbook book = WorkbookFactory.create(in)) {
+
+            Sheet sheet = book.getSheet("オプション設定（入力規則）");
+
+            List<String> validations = sheet.getDataValidations().stream()
+                    .map(validation -> Arrays.stream(validation.getRegions().getCellRangeAddresses())
+                            .map(CellRangeAddress::formatAsString)
+                            .collect(Collectors.joining(" ")))
+                    .sorted()
+                    .collect(Collectors.toList());
+            // 表ごとに補正していたときの範囲
+            assertThat(validations, contains(
+                    "B5:B8 B40:B43 B22 B27",
+                    "C40:C43 C22 C27",
+                    "C5:C8",
+                    "D5:E8 D22:E22 D40:E43 D27:E27"));
+
+            List<String> names = book.getAllNames().stream()
+                    .map(name -> name.getNameName() + "=" + name.getRefersToFormula())
+                    .sorted()
+                    .collect(Collectors.toList());
+            assertThat(names, contains(
+                    "操作='オプション設定（入力規則）'!$C$32:$C$35",
+                    "機能名='[1]オプション設定（入力規則）'!$C$12:$C$16",
+                    "機能名='オプション設定（入力規則）'!$C$13:$C$18"));
+
+        }
+
+    }
+
     /**
      * 書き込みのテスト - コメント
      */
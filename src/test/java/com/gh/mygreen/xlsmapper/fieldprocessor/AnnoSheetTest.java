@@ -6,12 +6,20 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.Before;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -19,6 +27,7 @@ import org.junit.Test;
 import com.gh.mygreen.xlsmapper.AnnotationInvalidException;
 import com.gh.mygreen.xlsmapper.SheetNotFoundException;
 import com.gh.mygreen.xlsmapper.XlsMapper;
+import com.gh.mygreen.xlsmapper.annotation.XlsCell;
 import com.gh.mygreen.xlsmapper.annotation.XlsSheet;
 import com.gh.mygreen.xlsmapper.annotation.XlsSheetName;
 import com.gh.mygreen.xlsmapper.validation.MultipleSheetBindingErrors;
@@ -288,6 +297,81 @@ public class AnnoSheetTest {
 
     }
 
+    /**
+     * 正規表現指定 - シート複数を並列に読み込む
+     * @since 2.3
+     */
+    @Test
+    public void test_load_sheetName_regexp_multiple_parallel() throws Exception {
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        XlsMapper mapper = new XlsMapper();
+        mapper.getConfiguration().setContinueTypeBindFailure(true)
+            .setLoadSheetExecutor(executor);
+
+        try(InputStream in = new FileInputStream(inputFile)) {
+            MultipleSheetBindingErrors<RegexpSheet> errors = mapper.loadMultipleDetail(in, RegexpSheet.class);
+
+            assertThat(errors.getAll()).hasSize(2);
+            assertThat(errors.getAll().get(0).getTarget().sheetName, is("編集条件（1）"));
+            assertThat(errors.getAll().get(1).getTarget().sheetName, is("編集条件（2）"));
+
+        } finally {
+            executor.shutdown();
+        }
+
+    }
+
+    /**
+     * 正規表現指定 - 他のシートの数式を参照する数式のセルを、並列に読み込む
+     * @since 2.3
+     */
+    @Test
+    public void test_load_sheetName_regexp_multiple_parallel_formula() throws Exception {
+
+        // 各シートのB1は、次のシートのB1の数式を参照する
+        final int sheetSize = 6;
+        final byte[] data;
+        try(Workbook book = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for(int i=1; i <= sheetSize; i++) {
+                Sheet sheet = book.createSheet("数式" + i);
+                Row row = sheet.createRow(0);
+                row.createCell(0).setCellValue(i);
+                row.createCell(1).setCellFormula(i < sheetSize ? "'数式" + (i+1) + "'!B1+A1" : "A1");
+            }
+            book.write(out);
+            data = out.toByteArray();
+        }
+
+        for(boolean keepFormula : new boolean[]{false, true}) {
+
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+
+            XlsMapper mapper = new XlsMapper();
+            mapper.getConfiguration().setContinueTypeBindFailure(true)
+                .setKeepFormulaOnLoad(keepFormula)
+                .setLoadSheetExecutor(executor);
+
+            try(InputStream in = new ByteArrayInputStream(data)) {
+                MultipleSheetBindingErrors<FormulaSheet> errors = mapper.loadMultipleDetail(in, FormulaSheet.class);
+
+                assertThat(errors.getAll()).hasSize(sheetSize);
+                for(int i=1; i <= sheetSize; i++) {
+                    SheetBindingErrors<FormulaSheet> sheetErrors = errors.getAll().get(i-1);
+                    assertThat(sheetErrors.hasErrors(), is(false));
+                    assertThat(sheetErrors.getTarget().sheetName, is("数式" + i));
+                    // i + (i+1) + ... + sheetSize
+                    assertThat(sheetErrors.getTarget().total, is((i + sheetSize) * (sheetSize - i + 1) / 2));
+                }
+
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+    }
+
     /**
      * アノテーションにシートの指定がない場合
      */
@@ -804,6 +888,21 @@ public class AnnoSheetTest {
 
     }
 
+    /**
+     * 正規表現によるシート指定 - 他のシートを参照する数式
+     * @since 2.3
+     */
+    @XlsSheet(regex="数式.+")
+    private static class FormulaSheet {
+
+        @XlsSheetName
+        private String sheetName;
+
+        @XlsCell(address="B1")
+        private int total;
+
+    }
+
     /**
      * 正規表現によるシート指定 - 存在しない名前
      *
@@ -266,5 +266,54 @@ public class MessageInterpolatorTest {
         
     }
     
-   
+    /**
+     * 解析済みのメッセージを、変数の値を変えて繰り返しフォーマットする
+     */
+    @Test
+    public void testCompile() {
+        
+        MessageInterpolator interpolator = new MessageInterpolator();
+        
+        String message = "SUM(\\${columnAlpha}1:{columnAlpha}${rowNumber-1}) {noDefine}";
+        
+        MessageTemplate template = interpolator.compile(message);
+        assertThat(template.getMessage(), is(message));
+        assertThat(template.getInterpolator(), is(sameInstance(interpolator)));
+        
+        // 同じメッセージの場合はキャッシュしたインスタンスを返す
+        assertThat(interpolator.compile(message), is(sameInstance(template)));
+        
+        for(int i=2; i <= 5; i++) {
+            Map<String, Object> vars = new HashMap<>();
+            vars.put("columnAlpha", "B");
+            vars.put("rowNumber", i);
+            
+            String actual = template.format(vars);
+            assertThat(actual, is(interpolator.interpolate(message, vars)));
+            assertThat(actual, is("SUM($B1:B" + (i-1) + ") {noDefine}"));
+        }
+        
+    }
+    
+    /**
+     * 解析済みのメッセージ - メッセージコードを再帰的に解決する
+     */
+    @Test
+    public void testCompile_recursive() {
+        
+        MessageInterpolator interpolator = new MessageInterpolator();
+        
+        String message = "{validatedValue}は、{javax.validation.constraints.DecimalMax.message}";
+        
+        Map<String, Object> vars = new HashMap<>();
+        vars.put("validatedValue", 3);
+        vars.put("inclusive", true);
+        vars.put("value", 10);
+        
+        String actual = interpolator.compile(message).format(vars, true, testMessageResolver);
+        assertThat(actual, is(interpolator.interpolate(message, vars, true, testMessageResolver)));
+        assertThat(actual, containsString("10以下の値を設定してください。"));
+        
+    }
+    
 }
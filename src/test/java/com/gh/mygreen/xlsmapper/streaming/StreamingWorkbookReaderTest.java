@@ -0,0 +1,213 @@
+package com.gh.mygreen.xlsmapper.streaming;
+
+import static com.gh.mygreen.xlsmapper.TestUtils.*;
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+
+import javax.xml.parsers.SAXParserFactory;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.junit.Test;
+
+import com.gh.mygreen.xlsmapper.CellFormatter;
+import com.gh.mygreen.xlsmapper.DefaultCellFormatter;
+import com.gh.mygreen.xlsmapper.XlsMapper;
+import com.gh.mygreen.xlsmapper.annotation.LabelledCellType;
+import com.gh.mygreen.xlsmapper.annotation.XlsColumn;
+import com.gh.mygreen.xlsmapper.annotation.XlsHorizontalRecords;
+import com.gh.mygreen.xlsmapper.annotation.XlsLabelledCell;
+import com.gh.mygreen.xlsmapper.annotation.XlsSheet;
+import com.gh.mygreen.xlsmapper.util.POIUtils;
+
+/**
+ * {@link StreamingWorkbookReader}のテスタ
+ *
+ * @since 2.3
+ * @author T.TSUCHIE
+ *
+ */
+public class StreamingWorkbookReaderTest {
+    
+    /**
+     * 通常の読み込みと、セルの値・書式・結合情報が一致すること
+     */
+    @Test
+    public void testRead_sameAsWorkbookFactory() throws Exception {
+        
+        final String[] files = {
+                "src/test/data/sample.xlsx",
+                "src/test/data/anno_HorizonalRecords.xlsx",
+                "src/test/data/anno_LabelledCell.xlsx",
+                "src/test/data/convert.xlsx"
+        };
+        
+        final CellFormatter formatter = new DefaultCellFormatter();
+        
+        for(String file : files) {
+            try(InputStream in1 = new FileInputStream(new File(file));
+                    InputStream in2 = new FileInputStream(new File(file));
+                    Workbook expected = WorkbookFactory.create(in1)) {
+                
+                final Workbook actual = new StreamingWorkbookReader().read(in2);
+                assertThat(actual.getNumberOfSheets()).as(file).isEqualTo(expected.getNumberOfSheets());
+                
+                for(int i=0; i < expected.getNumberOfSheets(); i++) {
+                    final Sheet expectedSheet = expected.getSheetAt(i);
+                    final Sheet actualSheet = actual.getSheetAt(i);
+                    
+                    assertThat(actualSheet.getSheetName()).isEqualTo(expectedSheet.getSheetName());
+                    assertThat(actualSheet.getNumMergedRegions()).isEqualTo(expectedSheet.getNumMergedRegions());
+                    
+                    for(Row row : expectedSheet) {
+                        for(Cell cell : row) {
+                            final String address = file + "#" + expectedSheet.getSheetName() + "!" + cell.getAddress();
+                            final Cell actualCell = POIUtils.getCell(actualSheet, cell.getColumnIndex(), cell.getRowIndex());
+                            
+                            assertThat(formatter.format(actualCell)).as(address).isEqualTo(formatter.format(cell));
+                            assertThat(POIUtils.getBorderBottom(actualCell)).as(address).isEqualTo(POIUtils.getBorderBottom(cell));
+                            assertThat(POIUtils.getBorderRight(actualCell)).as(address).isEqualTo(POIUtils.getBorderRight(cell));
+                        }
+                    }
+                }
+            }
+        }
+    }
+    
+    /**
+     * ストリーミングモードでのマッピング
+     */
+    @Test
+    public void testLoad_streaming() throws Exception {
+        
+        final XlsMapper mapper = new XlsMapper();
+        mapper.getConfiguration().setStreamingLoad(true);
+        
+        try(InputStream in = new FileInputStream(new File("src/test/data/sample.xlsx"))) {
+            UserSheet sheet = mapper.load(in, UserSheet.class);
+            
+            assertThat(sheet.createDate).isEqualTo(toUtilDate(toTimestamp("2016-03-08 00:00:00.000")));
+            assertThat(sheet.users).hasSize(4);
+            assertThat(sheet.users).extracting("name").containsExactly("Ichiro", "Hanako", "Taro", "Jiro");
+            assertThat(sheet.users).extracting("className").containsExactly("A", "A", "A", "B");
+        }
+    }
+    
+    /**
+     * 対象外のシートは、空のシートとして読み込むこと
+     */
+    @Test
+    public void testRead_sheetFilter() throws Exception {
+        
+        try(InputStream in1 = new FileInputStream(new File("src/test/data/sample.xlsx"));
+                InputStream in2 = new FileInputStream(new File("src/test/data/sample.xlsx"));
+                Workbook expected = WorkbookFactory.create(in1)) {
+            
+            final Workbook actual = new StreamingWorkbookReader().read(in2, (sheetIndex, sheetName) -> sheetName.equals("List"));
+            assertThat(actual.getNumberOfSheets()).isEqualTo(expected.getNumberOfSheets());
+            
+            for(int i=0; i < expected.getNumberOfSheets(); i++) {
+                final Sheet expectedSheet = expected.getSheetAt(i);
+                final Sheet actualSheet = actual.getSheetAt(i);
+                
+                assertThat(actualSheet.getSheetName()).isEqualTo(expectedSheet.getSheetName());
+                if(actualSheet.getSheetName().equals("List")) {
+                    assertThat(actualSheet.getLastRowNum()).isEqualTo(expectedSheet.getLastRowNum());
+                } else {
+                    assertThat(actualSheet.getPhysicalNumberOfRows()).isEqualTo(0);
+                }
+            }
+        }
+    }
+    
+    /**
+     * 読み込み対象のシートのみを解析するモードでのマッピング
+     */
+    @Test
+    public void testLoad_streamingTargetSheetOnly() throws Exception {
+        
+        final XlsMapper mapper = new XlsMapper();
+        mapper.getConfiguration()
+            .setStreamingLoad(true)
+            .setStreamingLoadTargetSheetOnly(true);
+        
+        try(InputStream in = new FileInputStream(new File("src/test/data/sample.xlsx"))) {
+            UserSheet sheet = mapper.load(in, UserSheet.class);
+            
+            assertThat(sheet.createDate).isEqualTo(toUtilDate(toTimestamp("2016-03-08 00:00:00.000")));
+            assertThat(sheet.users).extracting("name").containsExactly("Ichiro", "Hanako", "Taro", "Jiro");
+        }
+    }
+    
+    /**
+     * 空の値とふりがなを含むシートのXMLの読み込み
+     */
+    @Test
+    public void testSheetHandler_emptyValueAndPhonetic() throws Exception {
+        
+        final String xml = "<worksheet xmlns=\"http://schemas.openxmlformats.org/spreadsheetml/2006/main\"><sheetData>"
+                + "<row r=\"1\">"
+                + "<c r=\"A1\"><v/></c>"
+                + "<c r=\"B1\" t=\"b\"><v></v></c>"
+                + "<c r=\"C1\"><v>12.5</v></c>"
+                + "<c r=\"D1\" t=\"inlineStr\"><is><r><t>漢字</t></r><rPh sb=\"0\" eb=\"2\"><t>カンジ</t></rPh></is></c>"
+                + "<c r=\"E1\" t=\"inlineStr\"><is><t>abc</t><rPh sb=\"0\" eb=\"3\"><t>エービーシー</t></rPh></is></c>"
+                + "</row>"
+                + "</sheetData></worksheet>";
+        
+        try(SXSSFWorkbook workbook = new SXSSFWorkbook(-1)) {
+            final SXSSFSheet sheet = workbook.createSheet("test");
+            
+            final SAXParserFactory factory = SAXParserFactory.newInstance();
+            factory.setNamespaceAware(true);
+            factory.newSAXParser().parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)),
+                    new StreamingSheetHandler(sheet, null, new CellStyle[0], false));
+            
+            final Row row = sheet.getRow(0);
+            assertThat(row.getCell(0).getCellType()).isEqualTo(CellType.BLANK);
+            assertThat(row.getCell(1).getCellType()).isEqualTo(CellType.BLANK);
+            assertThat(row.getCell(2).getNumericCellValue()).isEqualTo(12.5d);
+            assertThat(row.getCell(3).getStringCellValue()).isEqualTo("漢字");
+            assertThat(row.getCell(4).getStringCellValue()).isEqualTo("abc");
+        }
+    }
+    
+    @XlsSheet(name="List")
+    private static class UserSheet {
+        
+        @XlsLabelledCell(label="Date", type=LabelledCellType.Right)
+        Date createDate;
+        
+        @XlsHorizontalRecords(tableLabel="User List")
+        List<UserRecord> users;
+        
+    }
+    
+    private static class UserRecord {
+        
+        @XlsColumn(columnName="ID")
+        int no;
+        
+        @XlsColumn(columnName="Class", merged=true)
+        String className;
+        
+        @XlsColumn(columnName="Name")
+        String name;
+        
+    }
+    
+}
@@ -0,0 +1,168 @@
+package com.gh.mygreen.xlsmapper.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.apache.poi.common.usermodel.HyperlinkType;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.ClientAnchor;
+import org.apache.poi.ss.usermodel.Comment;
+import org.apache.poi.ss.usermodel.CreationHelper;
+import org.apache.poi.ss.usermodel.Drawing;
+import org.apache.poi.ss.usermodel.Hyperlink;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.usermodel.XSSFHyperlink;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * {@link CellAnchorIndex}のテスト
+ *
+ * @since 2.3
+ * @author T.TSUCHIE
+ *
+ */
+public class CellAnchorIndexTest {
+    
+    private Sheet sheet;
+    
+    @Before
+    public void setupBefore() throws Exception {
+        this.sheet = new XSSFWorkbook().createSheet("test");
+        
+        sheet.addMergedRegion(CellRangeAddress.valueOf("B2:C3"));
+        sheet.addMergedRegion(CellRangeAddress.valueOf("E2:E5"));
+        
+        for(int row=0; row < 10; row++) {
+            for(int column=0; column < 10; column++) {
+                POIUtils.getCell(sheet, column, row);
+            }
+        }
+        
+        // 結合の左上以外のセルのコメント
+        setComment("C3", "comment-C3");
+        setComment("G7", "comment-G7");
+        
+        // 結合の左上のセルのハイパーリンク
+        setHyperlink("E2", "https://example.com/E2");
+        setHyperlink("H8", "https://example.com/H8");
+        
+        // 結合されていない複数セルの範囲のハイパーリンク
+        setRangedHyperlink("G2:I4", "https://example.com/G2");
+    }
+    
+    private void setComment(final String address, final String text) {
+        final CellPosition position = CellPosition.of(address);
+        final Cell cell = POIUtils.getCell(sheet, position);
+        
+        final CreationHelper helper = sheet.getWorkbook().getCreationHelper();
+        final Drawing<?> drawing = sheet.createDrawingPatriarch();
+        final ClientAnchor anchor = helper.createClientAnchor();
+        anchor.setRow1(position.getRow());
+        anchor.setCol1(position.getColumn());
+        anchor.setRow2(position.getRow() + 2);
+        anchor.setCol2(position.getColumn() + 2);
+        
+        final Comment comment = drawing.createCellComment(anchor);
+        comment.setString(helper.createRichTextString(text));
+        cell.setCellComment(comment);
+    }
+    
+    private void setHyperlink(final String address, final String url) {
+        final Cell cell = POIUtils.getCell(sheet, CellPosition.of(address));
+        
+        final Hyperlink link = sheet.getWorkbook().getCreationHelper().createHyperlink(HyperlinkType.URL);
+        link.setAddress(url);
+        cell.setHyperlink(link);
+    }
+    
+    private void setRangedHyperlink(final String range, final String url) {
+        final CellRangeAddress address = CellRangeAddress.valueOf(range);
+        
+        final XSSFHyperlink link = (XSSFHyperlink)sheet.getWorkbook().getCreationHelper().createHyperlink(HyperlinkType.URL);
+        link.setAddress(url);
+        link.setFirstRow(address.getFirstRow());
+        link.setLastRow(address.getLastRow());
+        link.setFirstColumn(address.getFirstColumn());
+        link.setLastColumn(address.getLastColumn());
+        ((XSSFSheet)sheet).addHyperlink(link);
+    }
+    
+    /**
+     * 索引を使用しない場合と同じハイパーリンクが取得できること
+     */
+    @Test
+    public void testGetHyperlink() {
+        
+        final Hyperlink[][] expected = new Hyperlink[10][10];
+        for(int row=0; row < 10; row++) {
+            for(int column=0; column < 10; column++) {
+                expected[row][column] = POIUtils.getHyperlink(POIUtils.getCell(sheet, column, row));
+            }
+        }
+        
+        final CellAnchorIndexRegistry registry = new CellAnchorIndexRegistry();
+        try(CellAnchorIndex.Session session = registry.open(sheet)) {
+            final CellAnchorIndex index = registry.find(sheet).get();
+            for(int row=0; row < 10; row++) {
+                for(int column=0; column < 10; column++) {
+                    assertThat(POIUtils.getHyperlink(POIUtils.getCell(sheet, column, row), index))
+                        .as("row=%d, column=%d", row, column)
+                        .isEqualTo(expected[row][column]);
+                }
+            }
+            
+            assertThat(index.getHyperlink(4, 4).getAddress()).isEqualTo("https://example.com/E2");
+            assertThat(index.getHyperlink(7, 7).getAddress()).isEqualTo("https://example.com/H8");
+            assertThat(index.getHyperlink(2, 7).getAddress()).isEqualTo("https://example.com/G2");
+            assertThat(index.getHyperlink(3, 8).getAddress()).isEqualTo("https://example.com/G2");
+            assertThat(index.getHyperlink(4, 8)).isNull();
+            assertThat(index.getHyperlink(0, 0)).isNull();
+        }
+        
+    }
+    
+    /**
+     * 結合されているセルのコメントが取得できること
+     */
+    @Test
+    public void testGetMergedCellComment() {
+        
+        final CellAnchorIndex index = new CellAnchorIndex(sheet);
+        
+        assertThat(index.getMergedCellComment(1, 1).getString().getString()).isEqualTo("comment-C3");
+        assertThat(index.getMergedCellComment(2, 2).getString().getString()).isEqualTo("comment-C3");
+        assertThat(index.getMergedCellComment(6, 6).getString().getString()).isEqualTo("comment-G7");
+        assertThat(index.getMergedCellComment(1, 4)).isNull();
+        assertThat(index.getMergedCellComment(0, 0)).isNull();
+        
+    }
+    
+    /**
+     * セッションを全て終了した場合、索引が破棄されること
+     */
+    @Test
+    public void testOpen() {
+        
+        final CellAnchorIndexRegistry registry = new CellAnchorIndexRegistry();
+        assertThat(registry.find(sheet)).isEmpty();
+        
+        final CellAnchorIndex.Session session1 = registry.open(sheet);
+        final CellAnchorIndex.Session session2 = registry.open(sheet);
+        final CellAnchorIndex index = registry.find(sheet).get();
+        
+        // 索引は、セッションを開始したインスタンスのみで保持する
+        assertThat(new CellAnchorIndexRegistry().find(sheet)).isEmpty();
+        
+        session1.close();
+        session1.close();
+        assertThat(registry.find(sheet)).containsSame(index);
+        
+        session2.close();
+        assertThat(registry.find(sheet)).isEmpty();
+        
+    }
+    
+}
@@ -7,9 +7,11 @@ import java.io.FileInputStream;
 import java.util.Optional;
 
 import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.usermodel.WorkbookFactory;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -149,6 +151,146 @@ public class CellFinderTest {
         
     }
     
+    /**
+     * 検索時に空のセルを作成しないこと
+     * @since 2.3
+     */
+    @Test
+    public void testFind_notCreateCell() {
+        
+        final int cellCount = countCells(sheet);
+        
+        Optional<Cell> cell = CellFinder.query(sheet, "あいう", config).findOptional();
+        assertThat(cell).isEmpty();
+        
+        assertThat(countCells(sheet)).isEqualTo(cellCount);
+        
+    }
+    
+    /**
+     * 空文字に一致するラベルの場合、存在しないセルも一致すること
+     * @since 2.3
+     */
+    @Test
+    public void testFind_emptyLabel_missingCell() throws Exception {
+        
+        try(Workbook workbook = new XSSFWorkbook()) {
+            final Sheet emptySheet = workbook.createSheet("empty");
+            emptySheet.createRow(0).createCell(1).setCellValue("x");
+            
+            config.setRegexLabelText(true);
+            
+            Optional<Cell> cell = CellFinder.query(emptySheet, "/^$/", config).findOptional();
+            assertThat(cell).isNotEmpty();
+            assertThat(CellPosition.of(cell.get()).toString()).isEqualTo("A1");
+        }
+        
+    }
+    
+    private static int countCells(final Sheet sheet) {
+        int count = 0;
+        for(Row row : sheet) {
+            count += row.getPhysicalNumberOfCells();
+        }
+        return count;
+    }
+    
+    /**
+     * ラベルの索引を使用した検索
+     * @since 2.3
+     */
+    @Test
+    public void testFind_labelIndex() {
+        
+        SheetLabelIndex labelIndex = new SheetLabelIndex(sheet, config);
+        
+        {
+            Optional<Cell> cell = CellFinder.query(sheet, "テスト", config)
+                    .labelIndex(labelIndex)
+                    .findOptional();
+            
+            assertThat(cell).isNotEmpty();
+            assertThat(CellPosition.of(cell.get()).toString()).isEqualTo("B4");
+        }
+        
+        {
+            // 開始位置を含まない場合
+            Optional<Cell> cell = CellFinder.query(sheet, "テスト", config)
+                    .labelIndex(labelIndex)
+                    .startPosition(CellPosition.of("B4"))
+                    .excludeStartPosition(true)
+                    .findOptional();
+            
+            assertThat(cell).isEmpty();
+        }
+        
+        {
+            // セルが見つからない場合
+            assertThatThrownBy(() -> CellFinder.query(sheet, "あいう", config)
+                        .labelIndex(labelIndex)
+                        .findWhenNotFoundException())
+                .isInstanceOf(CellNotFoundException.class);
+        }
+        
+    }
+    
+    /**
+     * ラベルの索引を使用した検索 - 正規化+正規表現による検索が有効
+     * @since 2.3
+     */
+    @Test
+    public void testFind_labelIndex_regex_normalized() {
+        
+        config.setNormalizeLabelText(true)
+            .setRegexLabelText(true);
+        
+        SheetLabelIndex labelIndex = new SheetLabelIndex(sheet, config);
+        
+        {
+            Optional<Cell> cell = CellFinder.query(sheet, "/テスト.+/", config)
+                    .labelIndex(labelIndex)
+                    .findOptional();
+            
+            assertThat(cell).isNotEmpty();
+            assertThat(CellPosition.of(cell.get()).toString()).isEqualTo("C5");
+        }
+        
+        {
+            Optional<Cell> cell = CellFinder.query(sheet, "/テスト.+/", config)
+                    .labelIndex(labelIndex)
+                    .startPosition(CellPosition.of("C8"))
+                    .findOptional();
+            
+            assertThat(cell).isNotEmpty();
+            assertThat(CellPosition.of(cell.get()).toString()).isEqualTo("C9");
+        }
+        
+        {
+            Optional<Cell> cell = CellFinder.query(sheet, "ABCefg", config)
+                    .labelIndex(labelIndex)
+                    .findOptional();
+            
+            assertThat(cell).isNotEmpty();
+            assertThat(CellPosition.of(cell.get()).toString()).isEqualTo("B8");
+        }
+        
+    }
+    
+    /**
+     * 異なるシートの索引を指定した場合
+     * @since 2.3
+     */
+    @Test
+    public void testFind_labelIndex_otherSheet() {
+        
+        Sheet otherSheet = sheet.getWorkbook().createSheet("other");
+        SheetLabelIndex labelIndex = new SheetLabelIndex(otherSheet, config);
+        
+        assertThatThrownBy(() -> CellFinder.query(sheet, "テスト", config).labelIndex(labelIndex))
+            .isInstanceOf(IllegalArgumentException.class);
+        
+    }
+    
     private String getCellContents(final Cell cell) {
         return POIUtils.getCellContents(cell, config.getCellFormatter());
     }
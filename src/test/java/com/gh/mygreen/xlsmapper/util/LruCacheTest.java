@@ -0,0 +1,110 @@
+package com.gh.mygreen.xlsmapper.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * {@link LruCache}のテスト
+ *
+ * @since 2.3
+ * @author T.TSUCHIE
+ *
+ */
+public class LruCacheTest {
+    
+    /**
+     * キャッシュしている場合は、値を作成しないこと
+     */
+    @Test
+    public void testComputeIfAbsent() {
+        
+        LruCache<String, String> cache = new LruCache<>(10);
+        AtomicInteger count = new AtomicInteger();
+        
+        assertThat(cache.computeIfAbsent("a", key -> key + count.incrementAndGet())).isEqualTo("a1");
+        assertThat(cache.computeIfAbsent("a", key -> key + count.incrementAndGet())).isEqualTo("a1");
+        assertThat(count.get()).isEqualTo(1);
+        
+        // nullの場合はキャッシュしない
+        assertThat(cache.computeIfAbsent("b", key -> null)).isNull();
+        assertThat(cache.size()).isEqualTo(1);
+        
+    }
+    
+    /**
+     * 上限を超えた場合は、最も長く参照されていない値を破棄すること
+     */
+    @Test
+    public void testEviction() {
+        
+        LruCache<String, String> cache = new LruCache<>(2);
+        
+        cache.computeIfAbsent("a", key -> "A");
+        cache.computeIfAbsent("b", key -> "B");
+        
+        // 参照して、最近使用したものにする
+        cache.computeIfAbsent("a", key -> "A");
+        
+        cache.computeIfAbsent("c", key -> "C");
+        
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("a")).isEqualTo("A");
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isEqualTo("C");
+        
+        cache.clear();
+        assertThat(cache.size()).isEqualTo(0);
+        
+    }
+    
+    /**
+     * 重みの合計が上限を超えた場合は、最も長く参照されていない値から破棄すること
+     */
+    @Test
+    public void testEviction_weight() {
+        
+        LruCache<String, String> cache = new LruCache<>(5L, String::length);
+        
+        cache.computeIfAbsent("a", key -> "AA");
+        cache.computeIfAbsent("b", key -> "BB");
+        assertThat(cache.getTotalWeight()).isEqualTo(4L);
+        
+        // 参照して、最近使用したものにする
+        cache.computeIfAbsent("a", key -> "AA");
+        
+        cache.computeIfAbsent("c", key -> "CCC");
+        
+        assertThat(cache.get("a")).isEqualTo("AA");
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isEqualTo("CCC");
+        assertThat(cache.getTotalWeight()).isEqualTo(5L);
+        
+        // 上限を単独で超える値はキャッシュしない
+        assertThat(cache.computeIfAbsent("d", key -> "DDDDDD")).isEqualTo("DDDDDD");
+        assertThat(cache.get("d")).isNull();
+        assertThat(cache.get("c")).isEqualTo("CCC");
+        assertThat(cache.getTotalWeight()).isEqualTo(5L);
+        
+        cache.clear();
+        assertThat(cache.getTotalWeight()).isEqualTo(0L);
+        
+    }
+    
+    /**
+     * 上限が不正な場合
+     */
+    @Test
+    public void testConstructor_invalidMaxSize() {
+        
+        assertThatThrownBy(() -> new LruCache<>(0))
+            .isInstanceOf(IllegalArgumentException.class);
+        
+        assertThatThrownBy(() -> new LruCache<String, String>(0L, String::length))
+            .isInstanceOf(IllegalArgumentException.class);
+        
+    }
+    
+}
@@ -0,0 +1,73 @@
+package com.gh.mygreen.xlsmapper.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * {@link MergedRegionIndex}のテスト
+ *
+ * @since 2.3
+ * @author T.TSUCHIE
+ *
+ */
+public class MergedRegionIndexTest {
+    
+    private Sheet sheet;
+    
+    @Before
+    public void setupBefore() throws Exception {
+        this.sheet = new XSSFWorkbook().createSheet("test");
+        
+        sheet.addMergedRegion(CellRangeAddress.valueOf("B2:C3"));
+        sheet.addMergedRegion(CellRangeAddress.valueOf("E2:E5"));
+        sheet.addMergedRegion(CellRangeAddress.valueOf("B5:D5"));
+        
+        // 行ごとに振り分けない、多くの行を結合している場合
+        sheet.addMergedRegion(CellRangeAddress.valueOf("G1:G300"));
+    }
+    
+    /**
+     * 結合情報を走査した場合と同じ結果となること
+     */
+    @Test
+    public void testGetMergedRegion() {
+        
+        MergedRegionIndex index = new MergedRegionIndex(sheet);
+        
+        for(int row=0; row < 310; row++) {
+            for(int column=0; column < 10; column++) {
+                assertThat(index.getMergedRegion(row, column))
+                    .as("row=%d, column=%d", row, column)
+                    .isEqualTo(POIUtils.getMergedRegion(sheet, row, column));
+            }
+        }
+        
+        assertThat(index.getMergedRegion(2, 2)).isEqualTo(CellRangeAddress.valueOf("B2:C3"));
+        assertThat(index.getMergedRegion(199, 6)).isEqualTo(CellRangeAddress.valueOf("G1:G300"));
+        assertThat(index.getMergedRegion(0, 0)).isNull();
+        
+    }
+    
+    /**
+     * 索引を破棄した場合、結合の変更が反映されること
+     */
+    @Test
+    public void testClear() {
+        
+        MergedRegionIndex index = new MergedRegionIndex(sheet);
+        assertThat(index.getMergedRegion(7, 1)).isNull();
+        
+        sheet.addMergedRegion(CellRangeAddress.valueOf("A8:B8"));
+        assertThat(index.getMergedRegion(7, 1)).isNull();
+        
+        index.clear();
+        assertThat(index.getMergedRegion(7, 1)).isEqualTo(CellRangeAddress.valueOf("A8:B8"));
+        
+    }
+    
+}
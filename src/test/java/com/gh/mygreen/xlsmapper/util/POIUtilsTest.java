@@ -3,19 +3,24 @@ package com.gh.mygreen.xlsmapper.util;
 import static com.gh.mygreen.xlsmapper.TestUtils.*;
 import static org.hamcrest.MatcherAssert.*;
 import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.fail;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.util.Arrays;
 import java.util.List;
 
 import org.apache.poi.common.usermodel.HyperlinkType;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
 import org.apache.poi.ss.usermodel.DataValidation;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.ss.usermodel.WorkbookFactory;
 import org.apache.poi.ss.util.CellRangeAddress;
 import org.apache.poi.ss.util.CellRangeAddressList;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
@@ -56,6 +61,70 @@ public class POIUtilsTest {
         
     }
     
+    /**
+     * {@link POIUtils#insertRows(Sheet, int, int)}
+     * @since 2.3
+     */
+    @Test
+    public void testInsertRows() throws Exception {
+        
+        try(Workbook workbook = new XSSFWorkbook()) {
+            Sheet sheet = workbook.createSheet("test");
+            for(int i=0; i < 5; i++) {
+                POIUtils.getCell(sheet, 0, i).setCellValue("row" + i);
+            }
+            
+            POIUtils.insertRows(sheet, 2, 3);
+            
+            assertThat(POIUtils.getCell(sheet, 0, 1).getStringCellValue(), is("row1"));
+            assertThat(POIUtils.isEmptyCellContents(POIUtils.getCell(sheet, 0, 2)), is(true));
+            assertThat(POIUtils.isEmptyCellContents(POIUtils.getCell(sheet, 0, 4)), is(true));
+            assertThat(POIUtils.getCell(sheet, 0, 5).getStringCellValue(), is("row2"));
+            assertThat(POIUtils.getCell(sheet, 0, 7).getStringCellValue(), is("row4"));
+        }
+        
+    }
+    
+    /**
+     * {@link POIUtils#getCellForRead(Sheet, int, int)}
+     * ・存在しないセルを取得しても、行・セルを作成しないこと
+     * @since 2.3
+     */
+    @Test
+    public void testGetCellForRead() throws Exception {
+        
+        try(Workbook workbook = new XSSFWorkbook()) {
+            Sheet sheet = workbook.createSheet("test");
+            POIUtils.getCell(sheet, 1, 1).setCellValue("abc");
+            
+            // 存在するセル
+            Cell cell = POIUtils.getCellForRead(sheet, 1, 1);
+            assertThat(cell.getStringCellValue(), is("abc"));
+            
+            // 存在しない行のセル
+            Cell blankCell = POIUtils.getCellForRead(sheet, 2, 5);
+            assertThat(blankCell.getCellType(), is(CellType.BLANK));
+            assertThat(blankCell.getRowIndex(), is(5));
+            assertThat(blankCell.getColumnIndex(), is(2));
+            assertThat(POIUtils.isEmptyCellContents(blankCell), is(true));
+            assertThat(blankCell.getCellStyle().getIndex(), is((short)0));
+            assertThat(sheet.getRow(5), is(nullValue()));
+            
+            // 存在する行の、存在しないセル
+            POIUtils.getCellForRead(sheet, 3, 1);
+            assertThat(sheet.getRow(1).getCell(3), is(nullValue()));
+            assertThat(sheet.getLastRowNum(), is(1));
+            
+            try {
+                blankCell.setCellValue("def");
+                fail();
+            } catch(UnsupportedOperationException e) {
+                assertThat(sheet.getRow(5), is(nullValue()));
+            }
+        }
+        
+    }
+    
     /**
      * {@link POIUtils#updateDataValidationRegion(Sheet, CellRangeAddressList, CellRangeAddressList)}
      * ・XSSF形式、縦方向
@@ -197,6 +266,85 @@ public class POIUtilsTest {
         
     }
     
+    /**
+     * {@link POIUtils#updateDataValidationRegions(Sheet, List, List)}
+     * ・XSSF形式
+     * @since 2.3
+     */
+    @Test
+    public void testUpdateDataValidationRegions_xssf() throws Exception {
+        
+        Workbook workbook = WorkbookFactory.create(new FileInputStream("src/test/data/utils.xlsx"));
+        Sheet sheet = workbook.getSheet("入力規則");
+        
+        CellRangeAddressList oldRegion1 = new CellRangeAddressList();
+        oldRegion1.addCellRangeAddress(new CellRangeAddress(4, 5, 2, 2));
+        
+        CellRangeAddressList newRegion1 = new CellRangeAddressList();
+        newRegion1.addCellRangeAddress(new CellRangeAddress(4, 7, 2, 2));
+        
+        CellRangeAddressList oldRegion2 = new CellRangeAddressList();
+        oldRegion2.addCellRangeAddress(new CellRangeAddress(12, 12, 4, 5));
+        
+        CellRangeAddressList newRegion2 = new CellRangeAddressList();
+        newRegion2.addCellRangeAddress(new CellRangeAddress(12, 12, 4, 7));
+        
+        int updated = POIUtils.updateDataValidationRegions(sheet,
+                Arrays.asList(oldRegion1, oldRegion2), Arrays.asList(newRegion1, newRegion2));
+        
+        assertThat(updated, is(2));
+        
+        // 書き換わったかどうか確認する
+        int found = 0;
+        for(DataValidation dv : sheet.getDataValidations()) {
+            CellRangeAddressList region = dv.getRegions();
+            if(POIUtils.equalsRegion(region, newRegion1) || POIUtils.equalsRegion(region, newRegion2)) {
+                found++;
+            }
+        }
+        
+        assertThat(found, is(2));
+        
+    }
+    
+    /**
+     * {@link POIUtils#updateDataValidationRegions(Sheet, List, List)}
+     * ・HSSF形式、存在しない範囲を含む場合
+     * @since 2.3
+     */
+    @Test
+    public void testUpdateDataValidationRegions_hssf() throws Exception {
+        
+        Workbook workbook = WorkbookFactory.create(new FileInputStream("src/test/data/utils.xls"));
+        Sheet sheet = workbook.getSheet("入力規則");
+        
+        CellRangeAddressList oldRegion1 = new CellRangeAddressList();
+        oldRegion1.addCellRangeAddress(new CellRangeAddress(4, 5, 2, 2));
+        
+        CellRangeAddressList newRegion1 = new CellRangeAddressList();
+        newRegion1.addCellRangeAddress(new CellRangeAddress(4, 7, 2, 2));
+        
+        CellRangeAddressList notExistRegion = new CellRangeAddressList();
+        notExistRegion.addCellRangeAddress(new CellRangeAddress(20, 20, 4, 5));
+        
+        int updated = POIUtils.updateDataValidationRegions(sheet,
+                Arrays.asList(oldRegion1, notExistRegion), Arrays.asList(newRegion1, notExistRegion));
+        
+        assertThat(updated, is(1));
+        
+        // 書き換わったかどうか確認する
+        boolean found = false;
+        for(DataValidation dv : sheet.getDataValidations()) {
+            if(POIUtils.equalsRegion(dv.getRegions(), newRegion1)) {
+                found = true;
+                break;
+            }
+        }
+        
+        assertThat(found, is(true));
+        
+    }
+    
 //    /**
 //     * {@link POIUtils#removeDataValidationRegion(Sheet, CellRangeAddressList)}
 //     * ・HSSF形式
@@ -286,6 +286,52 @@ public class SheetBindingErrorsTest {
         
     }
     
+    /**
+     * ワイルドカードで複数のパスに一致する場合は、追加した順番で取得すること
+     */
+    @Test
+    public void test_getFieldErrors_wildcard_order() {
+        
+        SampleSheet sheet = new SampleSheet();
+        SheetBindingErrors<SampleSheet> errors = new SheetBindingErrors<>(sheet);
+        
+        errors.addError(new FieldErrorBuilder(errors.getObjectName(), "list[1].f02", new String[]{"e01"}).build());
+        errors.addError(new FieldErrorBuilder(errors.getObjectName(), "list[0].f01", new String[]{"e02"}).build());
+        errors.addError(new FieldErrorBuilder(errors.getObjectName(), "list[1].f01", new String[]{"e03"}).build());
+        errors.addError(new FieldErrorBuilder(errors.getObjectName(), "list[1].f02", new String[]{"e04"}).build());
+        errors.addError(new FieldErrorBuilder(errors.getObjectName(), "listA", new String[]{"e05"}).build());
+        errors.addError(new FieldErrorBuilder(errors.getObjectName(), "map[a01].f01", new String[]{"e06"}).build());
+        
+        assertThat(errors.getFieldErrors("list[1].*"))
+            .extracting(e -> e.getCodes()[0])
+            .containsExactly("e01", "e03", "e04");
+        
+        assertThat(errors.getFieldErrors("list*"))
+            .extracting(e -> e.getCodes()[0])
+            .containsExactly("e01", "e02", "e03", "e04", "e05");
+        
+        assertThat(errors.getFirstFieldError("list[1].*").get().getCodes()[0]).isEqualTo("e01");
+        assertThat(errors.getFieldErrors("list[1].f02"))
+            .extracting(e -> e.getCodes()[0])
+            .containsExactly("e01", "e04");
+        
+        assertThat(errors.hasFieldErrors("list[2].*")).isFalse();
+        assertThat(errors.getFirstFieldError("list[2].*")).isEmpty();
+        assertThat(errors.getFieldErrorCount("map*")).isEqualTo(1);
+        
+        // 現在のパスを付与して検索する
+        errors.pushNestedPath("list", 1);
+        assertThat(errors.getFieldErrorCount("*")).isEqualTo(3);
+        assertThat(errors.getFieldErrorCount("f01")).isEqualTo(1);
+        errors.popNestedPath();
+        
+        // リセット
+        errors.clearAllErrors();
+        assertThat(errors.hasFieldErrors("list*")).isFalse();
+        assertThat(errors.getFieldErrors("list[1].f02")).isEmpty();
+        
+    }
+    
 //    
 //    
 //    /**
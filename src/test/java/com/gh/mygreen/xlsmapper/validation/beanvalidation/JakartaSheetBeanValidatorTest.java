@@ -11,6 +11,10 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import org.hibernate.validator.constraints.Length;
 import org.hibernate.validator.constraints.Range;
@@ -37,6 +41,7 @@ import com.gh.mygreen.xlsmapper.validation.FieldError;
 import com.gh.mygreen.xlsmapper.validation.ObjectError;
 import com.gh.mygreen.xlsmapper.validation.SheetBindingErrors;
 import com.gh.mygreen.xlsmapper.validation.SheetErrorFormatter;
+import com.gh.mygreen.xlsmapper.validation.fieldvalidation.FieldFormatter;
 
 import jakarta.validation.Valid;
 import jakarta.validation.Validation;
@@ -278,6 +283,122 @@ public class JakartaSheetBeanValidatorTest {
         }
     }
     
+    /**
+     * リストなBeanのテスト - レコードを並列に検証する
+     */
+    @Test
+    public void test_list_error_parallel() throws Exception {
+        
+        XlsMapper mapper = new XlsMapper();
+        mapper.getConfiguration().setContinueTypeBindFailure(true);
+        
+        // シートの読み込み
+        SheetBindingErrors<ListBeanSheet> expectedErrors;
+        SheetBindingErrors<ListBeanSheet> errors;
+        try(InputStream in = new FileInputStream("src/test/data/validator_bean.xlsx")) {
+            expectedErrors = mapper.loadDetail(in, ListBeanSheet.class);
+        }
+        
+        try(InputStream in = new FileInputStream("src/test/data/validator_bean.xlsx")) {
+            errors = mapper.loadDetail(in, ListBeanSheet.class);
+        }
+        
+        // データの書き換え
+        for(ListBeanSheet sheet : new ListBeanSheet[]{expectedErrors.getTarget(), errors.getTarget()}) {
+            sheet.className = null;
+            sheet.list.get(1).email = "test";
+            sheet.list.get(2).birthday = getDateByDay(new Date(), 1);
+            sheet.list.get(2).email = null;
+        }
+        
+        // 入力値検証 - 並列に検証しない場合
+        new JakartaSheetBeanValidator(getBeanValidator()).validate(expectedErrors.getTarget(), expectedErrors);
+        
+        // 入力値検証 - 並列に検証する場合
+        ValidatorFactory validatorFactory = Validation.byDefaultProvider().configure()
+                .messageInterpolator(new JakartaMessageInterpolatorAdapter(
+                        new ResourceBundleMessageResolver(), new MessageInterpolator()))
+                .buildValidatorFactory();
+        
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        AtomicInteger taskCount = new AtomicInteger();
+        try {
+            JakartaSheetBeanValidator sheetValidator = new JakartaSheetBeanValidator(validatorFactory);
+            sheetValidator.setRecordsExecutor(command -> {
+                taskCount.incrementAndGet();
+                executor.execute(command);
+            });
+            sheetValidator.setRecordsChunkSize(1);
+            sheetValidator.validate(errors.getTarget(), errors);
+            
+        } finally {
+            executor.shutdown();
+        }
+        
+        printErrors(errors);
+        
+        // レコードごとにタスクが実行される
+        assertThat(taskCount.get(), is(errors.getTarget().list.size()));
+        
+        List<String> expectedMessages = errorFormatter.format(expectedErrors.getAllErrors());
+        List<String> messages = errorFormatter.format(errors.getAllErrors());
+        assertThat(messages, containsInAnyOrder(expectedMessages.toArray()));
+        
+        // シート、レコードの順番でエラーが追加される
+        List<String> fields = errors.getFieldErrors().stream()
+                .map(FieldError::getField)
+                .map(field -> field.replaceAll("\\..*", ""))
+                .collect(Collectors.toList());
+        assertThat(fields, contains("className", "list[1]", "list[2]", "list[2]"));
+        
+    }
+    
+    /**
+     * ネストしたパスで検証する場合のフィールドのフォーマッタ
+     * @since 2.3
+     */
+    @Test
+    public void test_nestedPath_fieldFormatter() throws Exception {
+        
+        XlsMapper mapper = new XlsMapper();
+        mapper.getConfiguration().setContinueTypeBindFailure(true);
+        
+        // シートの読み込み
+        SheetBindingErrors<ListBeanSheet> errors;
+        ListBeanSheet sheet;
+        try(InputStream in = new FileInputStream("src/test/data/validator_bean.xlsx")) {
+            errors = mapper.loadDetail(in, ListBeanSheet.class);
+            sheet = errors.getTarget();
+        }
+        
+        // データの書き換え
+        PersonRecord record = sheet.list.get(1);
+        record.email = "test";
+        
+        FieldFormatter<String> formatter = value -> "<" + value + ">";
+        errors.registerFieldFormatter("list[1].email", String.class, formatter);
+        
+        // 入力値検証 - レコードのパスから、レコードのみを検証する
+        try {
+            errors.pushNestedPath("list", 1);
+            
+            JakartaSheetBeanValidator sheetValidator = new JakartaSheetBeanValidator(getBeanValidator());
+            sheetValidator.validate(record, errors);
+            
+            printErrors(errors);
+            
+            // フォーマッタは、現在のパスからの相対的なフィールド名で取得する
+            FieldError fieldError = errors.getFirstFieldError("email").get();
+            assertThat(fieldError.getCodes(), hasItemInArray("Email"));
+            assertThat(fieldError.getVariables(), hasEntry("fieldFormatter", (Object)formatter));
+            
+        } finally {
+            errors.popNestedPath();
+        }
+        
+    }
+    
+
     /**
      * メッセージ処理系を独自のものにする。
      * ・式言語処理を独自のものにする。
@@ -3,6 +3,7 @@ package com.gh.mygreen.xlsmapper.xml;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
+import static com.gh.mygreen.xlsmapper.xml.XmlBuilder.*;
 
 import java.awt.Point;
 import java.io.File;
@@ -307,6 +308,55 @@ public class AnnotationReaderTest {
 
     }
 
+    /**
+     * XMLで定義したアノテーションは、1度だけ組み立ててキャッシュすること。
+     * @since 2.3
+     * @throws Exception
+     */
+    @Test
+    public void test_readAnnotation_cache() throws Exception {
+
+        AnnotationMappingInfo xmlInfo = createXml()
+                .classInfo(createClass(OrverrideSheet.class)
+                        .override(true)
+                        .annotation(createAnnotation(XlsSheet.class)
+                                .attribute("name", "書き換えたシート")
+                                .buildAnnotation())
+                        .field(createField("name")
+                                .override(true)
+                                .annotation(createAnnotation(XlsDefaultValue.class)
+                                        .attribute("value", "なし")
+                                        .buildAnnotation())
+                                .buildField())
+                        .buildClass())
+                .buildXml();
+
+        AnnotationReader reader = new AnnotationReader(xmlInfo);
+
+        // クラス定義の読み込み
+        XlsSheet sheetAnno = reader.getAnnotation(OrverrideSheet.class, XlsSheet.class);
+        assertThat(sheetAnno.name(), is("書き換えたシート"));
+        assertThat(reader.getAnnotation(OrverrideSheet.class, XlsSheet.class), is(sameInstance(sheetAnno)));
+        assertThat(select(reader.getAnnotations(OrverrideSheet.class), XlsSheet.class), is(sameInstance(sheetAnno)));
+
+        // フィールド定義の読み込み
+        Annotation[] nameAnnos = reader.getAnnotations(OrverrideSheet.class.getDeclaredField("name"));
+        assertThat(nameAnnos, arrayWithSize(5));
+
+        XlsDefaultValue defaultValueAnno = select(nameAnnos, XlsDefaultValue.class);
+        assertThat(defaultValueAnno.value(), is("なし"));
+        assertThat(reader.getAnnotation(OrverrideSheet.class.getDeclaredField("name"), XlsDefaultValue.class),
+                is(sameInstance(defaultValueAnno)));
+
+        // 取得した配列を変更しても、キャッシュに影響しないこと
+        nameAnnos[0] = null;
+        assertThat(reader.getAnnotations(OrverrideSheet.class.getDeclaredField("name")), not(hasItemInArray(nullValue())));
+
+        // XMLに定義がないフィールドは、Javaソースの定義を返すこと
+        assertThat(reader.getAnnotation(OrverrideSheet.class.getDeclaredField("sheetName"), XlsSheetName.class), is(not(nullValue())));
+
+    }
+
     @SuppressWarnings("unchecked")
     private <A extends Annotation> A select(Annotation[] annos, Class<A> clazz) {
 